@@ -1,18 +1,27 @@
 package com.playprobie.api.domain.analytics.api;
 
+import java.util.Map;
 import java.util.UUID;
 
+import org.springframework.http.CacheControl;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import com.playprobie.api.domain.analytics.application.AnalyticsService;
 import com.playprobie.api.domain.analytics.application.AnalyticsSseService;
+import com.playprobie.api.domain.analytics.application.AnswerQualityReportService;
+import com.playprobie.api.domain.analytics.application.DemographicCubeService;
+import com.playprobie.api.domain.analytics.application.VersionComparisonService;
 import com.playprobie.api.domain.analytics.dto.AnalyticsResponse;
+import com.playprobie.api.domain.analytics.dto.AnswerQualityReportResponse;
+import com.playprobie.api.domain.analytics.dto.DemographicCountResponse;
+import com.playprobie.api.domain.analytics.dto.VersionComparisonResponse;
 
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -28,6 +37,9 @@ public class AnalyticsController {
 
 	private final AnalyticsService analyticsService;
 	private final AnalyticsSseService analyticsSseService;
+	private final DemographicCubeService demographicCubeService;
+	private final AnswerQualityReportService answerQualityReportService;
+	private final VersionComparisonService versionComparisonService;
 
 	/**
 	 * 설문 분석 결과 조회 (REST API)
@@ -38,17 +50,64 @@ public class AnalyticsController {
 	public ResponseEntity<AnalyticsResponse> getSurveyAnalysis(
 		@PathVariable
 		UUID surveyUuid,
-		@org.springframework.web.bind.annotation.RequestParam(required = false)
-		java.util.Map<String, String> filters) {
+		@RequestParam(required = false)
+		Map<String, String> filters) {
 		log.info("📊 분석 결과 조회 요청: surveyUuid={}, filters={}", surveyUuid, filters);
 
 		AnalyticsResponse response = analyticsService.getSurveyAnalysis(surveyUuid, filters);
 
 		return ResponseEntity.ok()
-			.cacheControl(org.springframework.http.CacheControl.noCache())
+			.cacheControl(CacheControl.noCache())
 			.body(response);
 	}
 
+	/**
+	 * 인구통계 필터별 참여자 수 조회
+	 * GET /api/analytics/{surveyUuid}/demographics?ageGroup=&gender=&preferGenre=
+	 */
+	@GetMapping("/{surveyUuid}/demographics")
+	@Operation(summary = "인구통계 필터 카운트 조회", description = "연령대/성별/선호 장르 조합별 완료 참여자 수를 반환합니다. "
+		+ "지정하지 않은 차원은 전체로 집계됩니다.")
+	public ResponseEntity<DemographicCountResponse> getDemographicCounts(
+		@PathVariable
+		UUID surveyUuid,
+		@RequestParam(required = false)
+		String ageGroup,
+		@RequestParam(required = false)
+		String gender,
+		@RequestParam(required = false)
+		String preferGenre) {
+		return ResponseEntity.ok()
+			.cacheControl(CacheControl.noCache())
+			.body(demographicCubeService.getCounts(surveyUuid, ageGroup, gender, preferGenre));
+	}
+
+	/**
+	 * 응답 유효성/품질 분포 리포트 조회
+	 * GET /api/analytics/{surveyUuid}/quality
+	 */
+	@GetMapping("/{surveyUuid}/quality")
+	@Operation(summary = "응답 품질 리포트 조회", description = "질문별/설문 전체 응답 유효성·품질 분포와 꼬리질문 품질 개선율을 반환합니다.")
+	public ResponseEntity<AnswerQualityReportResponse> getQualityReport(@PathVariable
+	UUID surveyUuid) {
+		return ResponseEntity.ok()
+			.cacheControl(CacheControl.noCache())
+			.body(answerQualityReportService.getReport(surveyUuid));
+	}
+
+	/**
+	 * 게임 설문 버전 비교 조회
+	 * GET /api/analytics/games/{gameUuid}/comparison
+	 */
+	@GetMapping("/games/{gameUuid}/comparison")
+	@Operation(summary = "설문 버전 비교 조회", description = "게임의 설문들을 질문 순서로 정렬하여 GEQ 점수, 감정 분포, 키워드 변화를 비교합니다.")
+	public ResponseEntity<VersionComparisonResponse> compareVersions(@PathVariable
+	UUID gameUuid) {
+		return ResponseEntity.ok()
+			.cacheControl(CacheControl.noCache())
+			.body(versionComparisonService.compare(gameUuid));
+	}
+
 	@GetMapping(value = "/{surveyUuid}/subscribe", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
 	@Operation(summary = "분석 업데이트 구독 (SSE)")
 	public SseEmitter subscribeToUpdates(@PathVariable
@@ -11,6 +11,7 @@ import java.util.UUID;
 import java.util.stream.Collectors;
 
 import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.http.codec.ServerSentEvent;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.transaction.support.TransactionTemplate;
@@ -20,6 +21,7 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.playprobie.api.domain.analytics.dao.QuestionResponseAnalysisRepository;
 import com.playprobie.api.domain.analytics.domain.AnalysisStatus;
 import com.playprobie.api.domain.analytics.domain.QuestionResponseAnalysis;
+import com.playprobie.api.domain.analytics.dto.AnalysisProgressPayload;
 import com.playprobie.api.domain.analytics.dto.AnalyticsResponse;
 import com.playprobie.api.domain.analytics.dto.QuestionResponseAnalysisWrapper;
 import com.playprobie.api.domain.analytics.dto.analysis.AnswerProfile;
@@ -62,6 +64,8 @@ public class AnalyticsService {
 	private final ObjectMapper objectMapper;
 
 	private final ApplicationEventPublisher eventPublisher;
+	private final AnalyticsSseService analyticsSseService;
+	private final VersionComparisonService versionComparisonService;
 
 	private final TransactionTemplate transactionTemplate;
 
@@ -379,6 +383,8 @@ public class AnalyticsService {
 		markAsInProgressWithTransaction(question, currentCount);
 
 		return aiClient.streamQuestionAnalysis(surveyUuid.toString(), question.getId(), null)
+			.doOnNext(sse -> relayPartialResult(surveyUuid, question.getId(), null, sse))
+			.doFinally(signal -> analyticsSseService.clearProgress(surveyUuid, question.getId(), null))
 			.filter(sse -> "done".equals(sse.event()))
 			.next()
 			.map(sse -> {
@@ -618,6 +624,7 @@ public class AnalyticsService {
 						question.getSurveyId(),
 						json,
 						count)));
+			versionComparisonService.refreshAggregate(question, json);
 			// 이벤트 발행은 triggerAnalytics()의 doOnComplete()에서 설문 단위로 한 번만 수행
 		});
 	}
@@ -645,6 +652,8 @@ public class AnalyticsService {
 			fixedQuestionId, filters, remainingCount.get());
 
 		aiClient.streamQuestionAnalysis(surveyUuidStr, fixedQuestionId, filters)
+			.doOnNext(sse -> relayPartialResult(surveyUuid, fixedQuestionId, filterSignature, sse))
+			.doFinally(signal -> analyticsSseService.clearProgress(surveyUuid, fixedQuestionId, filterSignature))
 			.filter(sse -> "done".equals(sse.event()))
 			.next()
 			.subscribe(sse -> {
@@ -667,6 +676,39 @@ public class AnalyticsService {
 			});
 	}
 
+	/**
+	 * AI 분석 스트림의 중간 이벤트(progress, clusters, sentiment)를 구독 중인 대시보드로 전달
+	 * <p>
+	 * 구독자가 없으면 파싱 없이 건너뛰며, 전송 실패는 분석 흐름에 영향을 주지 않습니다.
+	 */
+	private void relayPartialResult(UUID surveyUuid, Long fixedQuestionId, String filterSignature,
+		ServerSentEvent<String> sse) {
+		Optional<AnalysisProgressPayload.Type> type = AnalysisProgressPayload.Type.fromEvent(sse.event());
+		if (type.isEmpty() || !analyticsSseService.hasSubscribers(surveyUuid)) {
+			return;
+		}
+		try {
+			com.fasterxml.jackson.databind.JsonNode data = parsePartialData(sse.data());
+			String step = data.hasNonNull("step") ? data.get("step").asText() : null;
+			analyticsSseService.notifyProgress(surveyUuid,
+				new AnalysisProgressPayload(fixedQuestionId, filterSignature, type.get(), step, data));
+		} catch (Exception e) {
+			log.debug("Failed to relay partial analysis event: qId={}, event={}", fixedQuestionId, sse.event(), e);
+		}
+	}
+
+	private com.fasterxml.jackson.databind.JsonNode parsePartialData(String data) {
+		if (data == null || data.isBlank()) {
+			return objectMapper.createObjectNode();
+		}
+		try {
+			return objectMapper.readTree(data);
+		} catch (JsonProcessingException e) {
+			// JSON이 아닌 단순 텍스트 진행 메시지
+			return objectMapper.getNodeFactory().textNode(data);
+		}
+	}
+
 	private void saveFilteredResult(Long fixedQuestionId, String filterSignature, String resultJson,
 		AtomicInteger remainingCount, UUID surveyUuid) {
 		transactionTemplate.executeWithoutResult(status -> {
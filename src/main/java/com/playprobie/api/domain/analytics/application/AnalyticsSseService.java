@@ -1,5 +1,7 @@
 package com.playprobie.api.domain.analytics.application;
 
+import com.playprobie.api.domain.analytics.dto.AnalysisProgressPayload;
+import com.playprobie.api.global.constants.AiConstants;
 import com.playprobie.api.infra.sse.repository.AnalyticsSseRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -9,7 +11,9 @@ import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.io.IOException;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
 
 @Slf4j
 @Service
@@ -18,6 +22,10 @@ public class AnalyticsSseService {
 
 	private final AnalyticsSseRepository analyticsSseRepository;
 	private static final Long DEFAULT_TIMEOUT = 600000L; // 10분
+	private static final long PROGRESS_THROTTLE_MS = 500L; // 같은 질문/유형의 중간 결과 최소 전송 간격
+
+	// 중간 결과 마지막 전송 시각 (Throttle용)
+	private final Map<ProgressKey, Long> lastProgressSentAt = new ConcurrentHashMap<>();
 
 	public SseEmitter subscribe(UUID surveyUuid) {
 		SseEmitter emitter = new SseEmitter(DEFAULT_TIMEOUT);
@@ -59,6 +67,53 @@ public class AnalyticsSseService {
 		});
 	}
 
+	public boolean hasSubscribers(UUID surveyUuid) {
+		return !analyticsSseRepository.findAllBySurveyUuid(surveyUuid).isEmpty();
+	}
+
+	/**
+	 * 분석 중간 결과 전송 (Throttled)
+	 * <p>
+	 * 같은 질문/필터/유형의 이벤트는 {@value #PROGRESS_THROTTLE_MS}ms 이내 재전송하지 않습니다.
+	 * 최종 결과는 notifyUpdate의 refresh 이벤트로 전달되므로 누락된 중간 결과는 보정됩니다.
+	 */
+	public void notifyProgress(UUID surveyUuid, AnalysisProgressPayload payload) {
+		List<SseEmitter> emitters = analyticsSseRepository.findAllBySurveyUuid(surveyUuid);
+		if (emitters.isEmpty())
+			return;
+
+		ProgressKey key = new ProgressKey(surveyUuid, payload.fixedQuestionId(), payload.filterSignature(),
+			payload.type());
+		long now = System.currentTimeMillis();
+		Long previous = lastProgressSentAt.get(key);
+		if (previous != null && now - previous < PROGRESS_THROTTLE_MS) {
+			return;
+		}
+		// 동시에 도착한 이벤트 중 하나만 전송
+		boolean acquired = previous == null
+			? lastProgressSentAt.putIfAbsent(key, now) == null
+			: lastProgressSentAt.replace(key, previous, now);
+		if (!acquired)
+			return;
+
+		emitters.forEach(emitter -> {
+			try {
+				emitter.send(SseEmitter.event().name(AiConstants.EVENT_PROGRESS).data(payload));
+			} catch (Exception e) {
+				analyticsSseRepository.remove(surveyUuid, emitter);
+			}
+		});
+	}
+
+	/**
+	 * 질문 분석 종료 시 Throttle 상태 정리
+	 */
+	public void clearProgress(UUID surveyUuid, Long fixedQuestionId, String filterSignature) {
+		for (AnalysisProgressPayload.Type type : AnalysisProgressPayload.Type.values()) {
+			lastProgressSentAt.remove(new ProgressKey(surveyUuid, fixedQuestionId, filterSignature, type));
+		}
+	}
+
 	@Scheduled(fixedRate = 30000) // 30초마다 Heartbeat 전송
 	public void sendHeartbeat() {
 		analyticsSseRepository.forEach((uuid, emitter) -> {
@@ -69,4 +124,8 @@ public class AnalyticsSseService {
 			}
 		});
 	}
+
+	private record ProgressKey(UUID surveyUuid, Long fixedQuestionId, String filterSignature,
+		AnalysisProgressPayload.Type type) {
+	}
 }
@@ -0,0 +1,165 @@
+package com.playprobie.api.domain.analytics.application;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.playprobie.api.domain.analytics.dao.QuestionQualityStatRepository;
+import com.playprobie.api.domain.analytics.domain.QuestionQualityStat;
+import com.playprobie.api.domain.analytics.dto.AnswerQualityReportResponse;
+import com.playprobie.api.domain.interview.dao.InterviewLogRepository;
+import com.playprobie.api.domain.interview.domain.AnswerQuality;
+import com.playprobie.api.domain.interview.domain.AnswerValidity;
+import com.playprobie.api.domain.interview.dto.AnswerEvaluationCount;
+import com.playprobie.api.domain.interview.dto.TailImprovementCount;
+import com.playprobie.api.domain.survey.dao.FixedQuestionRepository;
+import com.playprobie.api.domain.survey.dao.SurveyRepository;
+import com.playprobie.api.domain.survey.domain.FixedQuestion;
+import com.playprobie.api.domain.survey.domain.Survey;
+import com.playprobie.api.global.error.exception.EntityNotFoundException;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 응답 유효성/품질 분포 리포트 서비스
+ * <p>
+ * 질문별 롤업(question_quality_stat)을 DB 집계 쿼리로 갱신하고,
+ * 리포트 조회 시에는 롤업만 읽습니다.
+ * <ul>
+ * <li>평가 결과가 갱신된 질문은 dirty로 표시되어 주기적으로 재집계됩니다.</li>
+ * <li>롤업이 없는 질문은 조회 시점에 1회 집계합니다.</li>
+ * <li>같은 질문의 롤업을 동시에 처음 만들다 PK가 충돌하면 기존 행을 갱신하도록 다시 집계합니다.</li>
+ * </ul>
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class AnswerQualityReportService {
+
+	private final SurveyRepository surveyRepository;
+	private final FixedQuestionRepository fixedQuestionRepository;
+	private final InterviewLogRepository interviewLogRepository;
+	private final QuestionQualityStatRepository questionQualityStatRepository;
+	private final TransactionTemplate transactionTemplate;
+
+	/** 재집계 대상 질문 (fixedQuestionId → surveyId) */
+	private final Map<Long, Long> dirtyQuestions = new ConcurrentHashMap<>();
+
+	/**
+	 * 설문 품질 리포트 조회
+	 */
+	public AnswerQualityReportResponse getReport(UUID surveyUuid) {
+		Survey survey = surveyRepository.findByUuid(surveyUuid)
+			.orElseThrow(EntityNotFoundException::new);
+		Long surveyId = survey.getId();
+
+		List<FixedQuestion> questions = fixedQuestionRepository.findBySurveyIdOrderByOrderAsc(surveyId);
+		Map<Long, QuestionQualityStat> stats = questionQualityStatRepository.findAllBySurveyId(surveyId).stream()
+			.collect(Collectors.toMap(QuestionQualityStat::getFixedQuestionId, Function.identity()));
+
+		List<AnswerQualityReportResponse.Distribution> distributions = new ArrayList<>();
+		for (FixedQuestion question : questions) {
+			QuestionQualityStat stat = stats.get(question.getId());
+			if (stat == null || dirtyQuestions.remove(question.getId()) != null) {
+				stat = refresh(question.getId(), surveyId);
+			}
+			distributions.add(AnswerQualityReportResponse.Distribution.from(stat));
+		}
+		return AnswerQualityReportResponse.of(distributions);
+	}
+
+	/**
+	 * 질문 롤업을 재집계 대상으로 표시
+	 * <p>
+	 * 트랜잭션 안에서 호출되면 커밋 이후에 표시하여 커밋 전 데이터로 집계되지 않도록 합니다.
+	 */
+	public void markDirty(Long surveyId, Long fixedQuestionId) {
+		if (TransactionSynchronizationManager.isSynchronizationActive()) {
+			TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+				@Override
+				public void afterCommit() {
+					dirtyQuestions.put(fixedQuestionId, surveyId);
+				}
+			});
+			return;
+		}
+		dirtyQuestions.put(fixedQuestionId, surveyId);
+	}
+
+	/**
+	 * dirty 질문 롤업 주기적 재집계
+	 */
+	@Scheduled(fixedDelay = 30000, initialDelay = 30000)
+	public void refreshDirtyQuestions() {
+		if (dirtyQuestions.isEmpty()) {
+			return;
+		}
+		for (Long fixedQuestionId : List.copyOf(dirtyQuestions.keySet())) {
+			Long surveyId = dirtyQuestions.remove(fixedQuestionId);
+			if (surveyId == null) {
+				continue;
+			}
+			try {
+				refresh(fixedQuestionId, surveyId);
+			} catch (Exception e) {
+				log.warn("⚠️ 품질 롤업 갱신 실패: fixedQuestionId={}", fixedQuestionId, e);
+				dirtyQuestions.putIfAbsent(fixedQuestionId, surveyId);
+			}
+		}
+	}
+
+	/**
+	 * 질문 롤업 재집계
+	 * <p>
+	 * 스케줄러와 조회(또는 다른 노드)가 같은 질문의 롤업을 동시에 처음 만들면 한쪽은 PK 중복으로 실패합니다.
+	 * 이 경우 먼저 만들어진 행을 갱신하도록 새 트랜잭션에서 한 번 더 집계합니다.
+	 */
+	private QuestionQualityStat refresh(Long fixedQuestionId, Long surveyId) {
+		try {
+			return aggregate(fixedQuestionId, surveyId);
+		} catch (DataIntegrityViolationException e) {
+			log.debug("품질 롤업 동시 생성 감지, 재집계: fixedQuestionId={}", fixedQuestionId);
+			return aggregate(fixedQuestionId, surveyId);
+		}
+	}
+
+	private QuestionQualityStat aggregate(Long fixedQuestionId, Long surveyId) {
+		return transactionTemplate.execute(status -> {
+			Map<AnswerValidity, Long> validityCounts = new EnumMap<>(AnswerValidity.class);
+			Map<AnswerQuality, Long> qualityCounts = new EnumMap<>(AnswerQuality.class);
+			long total = 0;
+			List<AnswerEvaluationCount> rows = interviewLogRepository.countEvaluationsByFixedQuestionId(fixedQuestionId);
+			for (AnswerEvaluationCount row : rows) {
+				total += row.count();
+				if (row.validity() != null) {
+					validityCounts.merge(row.validity(), row.count(), Long::sum);
+				}
+				if (row.quality() != null) {
+					qualityCounts.merge(row.quality(), row.count(), Long::sum);
+				}
+			}
+
+			TailImprovementCount tail = interviewLogRepository.countTailImprovementByFixedQuestionId(fixedQuestionId);
+			long tailed = tail != null && tail.getTailedCount() != null ? tail.getTailedCount() : 0L;
+			long improved = tail != null && tail.getImprovedCount() != null ? tail.getImprovedCount() : 0L;
+
+			QuestionQualityStat stat = questionQualityStatRepository.findById(fixedQuestionId)
+				.orElseGet(() -> new QuestionQualityStat(fixedQuestionId, surveyId));
+			stat.refresh(total, validityCounts, qualityCounts, tailed, improved);
+			return questionQualityStatRepository.save(stat);
+		});
+	}
+}
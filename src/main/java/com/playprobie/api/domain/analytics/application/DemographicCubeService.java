@@ -0,0 +1,149 @@
+package com.playprobie.api.domain.analytics.application;
+
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.playprobie.api.domain.analytics.domain.DemographicCube;
+import com.playprobie.api.domain.analytics.dto.DemographicCountResponse;
+import com.playprobie.api.domain.interview.dao.SurveySessionRepository;
+import com.playprobie.api.domain.interview.domain.SessionStatus;
+import com.playprobie.api.domain.interview.domain.TesterProfile;
+import com.playprobie.api.domain.interview.dto.TesterDemographicCount;
+import com.playprobie.api.domain.survey.dao.SurveyRepository;
+import com.playprobie.api.domain.survey.domain.Survey;
+import com.playprobie.api.global.error.exception.EntityNotFoundException;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 설문별 인구통계 카운트 큐브 관리 서비스
+ * <p>
+ * 설문 최초 조회 시 GROUP BY 집계 1회로 큐브를 적재하고,
+ * 이후에는 세션 완료 시점마다 증분 갱신합니다.
+ * <p>
+ * 적재 쿼리가 커밋 직전/직후의 완료를 포함했는지 알 수 없으므로,
+ * 적재하는 동안 커밋 중이거나 반영된 완료가 있으면 그 큐브는 캐시하지 않고 다음 조회에서 다시 적재합니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class DemographicCubeService {
+
+	private final SurveyRepository surveyRepository;
+	private final SurveySessionRepository surveySessionRepository;
+
+	private final Map<Long, DemographicCube> cubes = new ConcurrentHashMap<>();
+	private final Map<Long, Completions> completions = new ConcurrentHashMap<>();
+
+	/**
+	 * 인구통계 슬라이스/롤업 조회
+	 * <p>
+	 * null 파라미터는 해당 차원 전체(롤업)를 의미합니다.
+	 */
+	public DemographicCountResponse getCounts(UUID surveyUuid, String ageGroup, String gender, String preferGenre) {
+		Survey survey = surveyRepository.findByUuid(surveyUuid)
+			.orElseThrow(EntityNotFoundException::new);
+
+		DemographicCube cube = getOrLoad(survey.getId());
+		return DemographicCountResponse.from(cube.slice(ageGroup, gender, preferGenre));
+	}
+
+	/**
+	 * 세션 완료 반영
+	 * <p>
+	 * 트랜잭션 안에서 호출되면 커밋 이후에 반영하여 롤백된 완료가 집계되지 않도록 합니다.
+	 * 커밋을 기다리는 동안에는 같은 설문의 큐브 적재 결과를 캐시하지 않습니다.
+	 */
+	public void recordCompletion(Long surveyId, TesterProfile profile) {
+		if (TransactionSynchronizationManager.isSynchronizationActive()) {
+			Completions state = completionsOf(surveyId);
+			state.inFlight.incrementAndGet();
+			TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+				@Override
+				public void afterCompletion(int status) {
+					try {
+						if (status == STATUS_COMMITTED) {
+							increment(surveyId, profile);
+						}
+					} finally {
+						state.inFlight.decrementAndGet();
+					}
+				}
+			});
+			return;
+		}
+		increment(surveyId, profile);
+	}
+
+	/**
+	 * 설문 큐브 무효화 (다음 조회 시 재적재)
+	 */
+	public void evict(Long surveyId) {
+		cubes.remove(surveyId);
+	}
+
+	private void increment(Long surveyId, TesterProfile profile) {
+		completionsOf(surveyId).applied.incrementAndGet();
+		// 아직 적재되지 않은 설문은 다음 조회 시 DB 집계에 이번 완료가 포함됩니다.
+		cubes.computeIfPresent(surveyId, (id, cube) -> {
+			if (profile == null) {
+				cube.increment(null, null, null);
+			} else {
+				cube.increment(profile.getAgeGroup(), profile.getGender(), profile.getPreferGenre());
+			}
+			return cube;
+		});
+	}
+
+	private DemographicCube getOrLoad(Long surveyId) {
+		DemographicCube cached = cubes.get(surveyId);
+		if (cached != null) {
+			return cached;
+		}
+
+		Completions state = completionsOf(surveyId);
+		long appliedBefore = state.applied.get();
+		DemographicCube loaded = load(surveyId);
+		DemographicCube existing = cubes.putIfAbsent(surveyId, loaded);
+		if (existing != null) {
+			return existing;
+		}
+		// 적재 중에 커밋된 완료는 스냅샷 포함 여부를 알 수 없으므로 캐시에서 내리고 다음 조회에서 다시 적재
+		if (state.applied.get() != appliedBefore || state.inFlight.get() > 0) {
+			cubes.remove(surveyId, loaded);
+			log.debug("인구통계 큐브 적재 중 완료 반영, 캐시하지 않음: surveyId={}", surveyId);
+		}
+		return loaded;
+	}
+
+	private DemographicCube load(Long surveyId) {
+		DemographicCube cube = new DemographicCube();
+		for (TesterDemographicCount row : surveySessionRepository
+			.countDemographicsBySurveyIdAndStatus(surveyId, SessionStatus.COMPLETED)) {
+			cube.add(row.ageGroup(), row.gender(), row.preferGenre(), row.count().intValue());
+		}
+		log.info("📦 인구통계 큐브 적재 완료: surveyId={}, participants={}", surveyId, cube.getTotal());
+		return cube;
+	}
+
+	private Completions completionsOf(Long surveyId) {
+		return completions.computeIfAbsent(surveyId, id -> new Completions());
+	}
+
+	/**
+	 * 설문별 완료 반영 상태 (커밋 대기 중인 완료 수, 반영된 완료 수)
+	 */
+	private static final class Completions {
+
+		private final AtomicInteger inFlight = new AtomicInteger();
+		private final AtomicLong applied = new AtomicLong();
+	}
+}
@@ -0,0 +1,239 @@
+package com.playprobie.api.domain.analytics.application;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.playprobie.api.domain.analytics.dao.QuestionAnalysisAggregateRepository;
+import com.playprobie.api.domain.analytics.dao.QuestionResponseAnalysisRepository;
+import com.playprobie.api.domain.analytics.domain.QuestionAnalysisAggregate;
+import com.playprobie.api.domain.analytics.domain.QuestionResponseAnalysis;
+import com.playprobie.api.domain.analytics.dto.VersionComparisonResponse;
+import com.playprobie.api.domain.analytics.dto.VersionComparisonResponse.Delta;
+import com.playprobie.api.domain.analytics.dto.VersionComparisonResponse.Geq;
+import com.playprobie.api.domain.analytics.dto.VersionComparisonResponse.QuestionComparison;
+import com.playprobie.api.domain.analytics.dto.VersionComparisonResponse.QuestionVersion;
+import com.playprobie.api.domain.analytics.dto.VersionComparisonResponse.Sentiment;
+import com.playprobie.api.domain.analytics.dto.VersionComparisonResponse.SurveyVersion;
+import com.playprobie.api.domain.analytics.dto.analysis.ClusterInfo;
+import com.playprobie.api.domain.analytics.dto.analysis.GEQScores;
+import com.playprobie.api.domain.analytics.dto.analysis.QuestionAnalysisOutput;
+import com.playprobie.api.domain.analytics.dto.analysis.SentimentInfo;
+import com.playprobie.api.domain.survey.dao.FixedQuestionRepository;
+import com.playprobie.api.domain.survey.dao.SurveyRepository;
+import com.playprobie.api.domain.survey.domain.FixedQuestion;
+import com.playprobie.api.domain.survey.domain.Survey;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 게임 설문 버전 간 분석 결과 비교 서비스
+ * <p>
+ * 질문 분석 결과 저장 시 {@link QuestionAnalysisAggregate}를 함께 갱신하고,
+ * 비교 조회는 집계 테이블만 읽어 result_json을 다시 파싱하지 않습니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class VersionComparisonService {
+
+	private static final int MAX_KEYWORDS = 50;
+
+	private final SurveyRepository surveyRepository;
+	private final FixedQuestionRepository fixedQuestionRepository;
+	private final QuestionResponseAnalysisRepository questionResponseAnalysisRepository;
+	private final QuestionAnalysisAggregateRepository questionAnalysisAggregateRepository;
+	private final ObjectMapper objectMapper;
+	private final TransactionTemplate transactionTemplate;
+
+	/**
+	 * 게임의 설문 버전 비교
+	 * <p>
+	 * 설문은 생성 순서(ID)로 정렬되며, 각 버전은 같은 질문 순서를 가진 직전 버전과 비교됩니다.
+	 */
+	public VersionComparisonResponse compare(UUID gameUuid) {
+		List<Survey> surveys = surveyRepository.findByGameUuid(gameUuid).stream()
+			.sorted(Comparator.comparing(Survey::getId))
+			.toList();
+		if (surveys.isEmpty()) {
+			return new VersionComparisonResponse(gameUuid, List.of(), List.of());
+		}
+
+		Map<Long, Survey> surveyById = surveys.stream()
+			.collect(Collectors.toMap(Survey::getId, Function.identity()));
+		List<QuestionAnalysisAggregate> aggregates = loadAggregates(surveyById.keySet());
+
+		// 질문 순서 → (설문 ID 순) 집계
+		Map<Integer, List<QuestionAnalysisAggregate>> byOrder = new TreeMap<>();
+		aggregates.stream()
+			.sorted(Comparator.comparing(QuestionAnalysisAggregate::getSurveyId))
+			.forEach(aggregate -> byOrder.computeIfAbsent(aggregate.getQuestionOrder(), k -> new ArrayList<>())
+				.add(aggregate));
+
+		List<QuestionComparison> questions = byOrder.entrySet().stream()
+			.map(entry -> new QuestionComparison(entry.getKey(), toVersions(entry.getValue(), surveyById)))
+			.toList();
+
+		List<SurveyVersion> versions = surveys.stream()
+			.map(survey -> new SurveyVersion(survey.getUuid(), survey.getName()))
+			.toList();
+		return new VersionComparisonResponse(gameUuid, versions, questions);
+	}
+
+	/**
+	 * 질문 분석 결과로부터 비교용 집계 갱신
+	 * <p>
+	 * 분석 결과 저장 트랜잭션 안에서 호출됩니다.
+	 */
+	public void refreshAggregate(FixedQuestion question, String resultJson) {
+		if (resultJson == null) {
+			return;
+		}
+		try {
+			QuestionAnalysisOutput output = objectMapper.readValue(resultJson, QuestionAnalysisOutput.class);
+			QuestionAnalysisAggregate aggregate = questionAnalysisAggregateRepository.findById(question.getId())
+				.orElseGet(() -> QuestionAnalysisAggregate.builder()
+					.fixedQuestionId(question.getId())
+					.surveyId(question.getSurveyId())
+					.questionOrder(question.getOrder())
+					.build());
+			apply(aggregate, output);
+			questionAnalysisAggregateRepository.save(aggregate);
+		} catch (JsonProcessingException e) {
+			log.warn("⚠️ 비교용 집계 생성 실패 (JSON 파싱): fixedQuestionId={}", question.getId(), e);
+		}
+	}
+
+	/**
+	 * 집계가 없는 설문은 기존 분석 결과로 1회 백필합니다.
+	 */
+	private List<QuestionAnalysisAggregate> loadAggregates(Set<Long> surveyIds) {
+		List<QuestionAnalysisAggregate> aggregates = questionAnalysisAggregateRepository.findAllBySurveyIdIn(
+			surveyIds);
+		Set<Long> aggregated = aggregates.stream()
+			.map(QuestionAnalysisAggregate::getSurveyId)
+			.collect(Collectors.toSet());
+
+		List<Long> missing = surveyIds.stream().filter(id -> !aggregated.contains(id)).toList();
+		if (missing.isEmpty()) {
+			return aggregates;
+		}
+
+		transactionTemplate.executeWithoutResult(status -> {
+			for (Long surveyId : missing) {
+				List<QuestionResponseAnalysis> analyses = questionResponseAnalysisRepository
+					.findAllBySurveyId(surveyId);
+				if (analyses.isEmpty()) {
+					continue;
+				}
+				Map<Long, FixedQuestion> questionById = fixedQuestionRepository.findBySurveyIdOrderByOrderAsc(surveyId)
+					.stream()
+					.collect(Collectors.toMap(FixedQuestion::getId, Function.identity()));
+				for (QuestionResponseAnalysis analysis : analyses) {
+					FixedQuestion question = questionById.get(analysis.getFixedQuestionId());
+					if (question != null && analysis.isCompleted()) {
+						refreshAggregate(question, analysis.getResultJson());
+					}
+				}
+				log.info("📦 비교용 집계 백필 완료: surveyId={}, questions={}", surveyId, analyses.size());
+			}
+		});
+		return questionAnalysisAggregateRepository.findAllBySurveyIdIn(surveyIds);
+	}
+
+	private List<QuestionVersion> toVersions(List<QuestionAnalysisAggregate> aggregates, Map<Long, Survey> surveyById) {
+		List<QuestionVersion> versions = new ArrayList<>();
+		QuestionVersion previous = null;
+		for (QuestionAnalysisAggregate aggregate : aggregates) {
+			Geq geq = new Geq(aggregate.getCompetence(), aggregate.getImmersion(), aggregate.getFlow(),
+				aggregate.getTension(), aggregate.getChallenge(), aggregate.getPositiveAffect(),
+				aggregate.getNegativeAffect());
+			Sentiment sentiment = new Sentiment(aggregate.getSentimentScore(), aggregate.getSentimentPositive(),
+				aggregate.getSentimentNeutral(), aggregate.getSentimentNegative());
+			List<String> keywords = aggregate.getKeywordList();
+
+			Delta delta = previous == null ? null : delta(previous, geq, sentiment, keywords);
+			QuestionVersion version = new QuestionVersion(
+				surveyById.get(aggregate.getSurveyId()).getUuid(),
+				aggregate.getFixedQuestionId(),
+				aggregate.getAnswerCount(),
+				geq, sentiment, keywords, delta);
+			versions.add(version);
+			previous = version;
+		}
+		return versions;
+	}
+
+	private Delta delta(QuestionVersion previous, Geq geq, Sentiment sentiment, List<String> keywords) {
+		Set<String> before = new LinkedHashSet<>(previous.keywords());
+		Set<String> after = new LinkedHashSet<>(keywords);
+
+		List<String> shared = after.stream().filter(before::contains).toList();
+		List<String> added = after.stream().filter(k -> !before.contains(k)).toList();
+		List<String> removed = before.stream().filter(k -> !after.contains(k)).toList();
+
+		int union = shared.size() + added.size() + removed.size();
+		double overlap = union == 0 ? 0.0 : (double)shared.size() / union;
+
+		return new Delta(geq.minus(previous.geq()), sentiment.minus(previous.sentiment()),
+			overlap, shared, added, removed);
+	}
+
+	private void apply(QuestionAnalysisAggregate aggregate, QuestionAnalysisOutput output) {
+		double[] geqSum = new double[7];
+		long weightSum = 0;
+		Set<String> keywords = new LinkedHashSet<>();
+
+		if (output.getClusters() != null) {
+			for (ClusterInfo cluster : output.getClusters()) {
+				int weight = Math.max(cluster.getCount(), 1);
+				GEQScores scores = cluster.getGeqScores();
+				if (scores != null) {
+					geqSum[0] += (double)scores.getCompetence() * weight;
+					geqSum[1] += (double)scores.getImmersion() * weight;
+					geqSum[2] += (double)scores.getFlow() * weight;
+					geqSum[3] += (double)scores.getTension() * weight;
+					geqSum[4] += (double)scores.getChallenge() * weight;
+					geqSum[5] += (double)scores.getPositiveAffect() * weight;
+					geqSum[6] += (double)scores.getNegativeAffect() * weight;
+					weightSum += weight;
+				}
+				if (cluster.getKeywords() != null) {
+					cluster.getKeywords().stream()
+						.filter(k -> k != null && !k.isBlank())
+						.map(k -> k.replace(",", " ").trim().toLowerCase())
+						.forEach(keywords::add);
+				}
+			}
+		}
+
+		if (weightSum > 0) {
+			aggregate.updateGeq(geqSum[0] / weightSum, geqSum[1] / weightSum, geqSum[2] / weightSum,
+				geqSum[3] / weightSum, geqSum[4] / weightSum, geqSum[5] / weightSum, geqSum[6] / weightSum);
+		}
+
+		SentimentInfo sentiment = output.getSentiment();
+		if (sentiment != null && sentiment.getDistribution() != null) {
+			SentimentInfo.Distribution distribution = sentiment.getDistribution();
+			aggregate.updateSentiment(sentiment.getScore(), distribution.getPositive(), distribution.getNeutral(),
+				distribution.getNegative());
+		} else if (sentiment != null) {
+			aggregate.updateSentiment(sentiment.getScore(), 0.0, 0.0, 0.0);
+		}
+
+		aggregate.updateSummary(output.getTotalAnswers(), keywords.stream().limit(MAX_KEYWORDS).toList());
+	}
+}
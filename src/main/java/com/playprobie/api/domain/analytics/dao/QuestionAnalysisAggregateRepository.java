@@ -0,0 +1,13 @@
+package com.playprobie.api.domain.analytics.dao;
+
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import com.playprobie.api.domain.analytics.domain.QuestionAnalysisAggregate;
+
+public interface QuestionAnalysisAggregateRepository extends JpaRepository<QuestionAnalysisAggregate, Long> {
+
+	List<QuestionAnalysisAggregate> findAllBySurveyIdIn(Collection<Long> surveyIds);
+}
@@ -0,0 +1,12 @@
+package com.playprobie.api.domain.analytics.dao;
+
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import com.playprobie.api.domain.analytics.domain.QuestionQualityStat;
+
+public interface QuestionQualityStatRepository extends JpaRepository<QuestionQualityStat, Long> {
+
+	List<QuestionQualityStat> findAllBySurveyId(Long surveyId);
+}
@@ -0,0 +1,224 @@
+package com.playprobie.api.domain.analytics.domain;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 설문별 참여자 인구통계 카운트 큐브 (ageGroup × gender × preferGenre)
+ * <p>
+ * 각 차원 값은 사전(Dictionary) 인코딩되어 정수 코드로 변환되고,
+ * 카운트는 1차원 {@code int[]}에 (age, gender, genre) 순서의 stride로 저장됩니다.
+ * <p>
+ * 세션 완료 시 {@link #increment}로 O(1) 갱신되며, 슬라이스/롤업 조회는
+ * 셀 수에 비례하는 메모리 연산만 수행합니다 (DB/AI 호출 없음).
+ * <p>
+ * <b>Thread-safety</b>: 모든 public 메서드는 인스턴스 단위로 동기화됩니다.
+ */
+public class DemographicCube {
+
+	public static final String UNKNOWN = "Unknown";
+
+	private static final int AGE = 0;
+	private static final int GENDER = 1;
+	private static final int GENRE = 2;
+	private static final int DIMENSIONS = 3;
+	private static final int INITIAL_CAPACITY = 8;
+
+	private final Dictionary[] dictionaries = new Dictionary[DIMENSIONS];
+	private final int[] capacities = new int[DIMENSIONS];
+	private int[] counts;
+	private int total;
+
+	public DemographicCube() {
+		for (int d = 0; d < DIMENSIONS; d++) {
+			dictionaries[d] = new Dictionary();
+			capacities[d] = INITIAL_CAPACITY;
+		}
+		this.counts = new int[INITIAL_CAPACITY * INITIAL_CAPACITY * INITIAL_CAPACITY];
+	}
+
+	/**
+	 * 단일 참여자 카운트 증가
+	 */
+	public synchronized void increment(String ageGroup, String gender, String preferGenre) {
+		add(ageGroup, gender, preferGenre, 1);
+	}
+
+	/**
+	 * 집계된 카운트 일괄 반영 (초기 적재용)
+	 */
+	public synchronized void add(String ageGroup, String gender, String preferGenre, int count) {
+		int a = encode(AGE, ageGroup);
+		int g = encode(GENDER, gender);
+		int r = encode(GENRE, preferGenre);
+		counts[offset(a, g, r)] += count;
+		total += count;
+	}
+
+	/**
+	 * 슬라이스 조회
+	 * <p>
+	 * 각 인자가 null이면 해당 차원은 전체(롤업)로 취급합니다.
+	 * 사전에 없는 값이 지정되면 0을 반환합니다.
+	 */
+	public synchronized Slice slice(String ageGroup, String gender, String preferGenre) {
+		int[] filter = {lookup(AGE, ageGroup), lookup(GENDER, gender), lookup(GENRE, preferGenre)};
+
+		int matched = 0;
+		int[][] facets = new int[DIMENSIONS][];
+		for (int d = 0; d < DIMENSIONS; d++) {
+			facets[d] = new int[dictionaries[d].size()];
+		}
+
+		int ageSize = dictionaries[AGE].size();
+		int genderSize = dictionaries[GENDER].size();
+		int genreSize = dictionaries[GENRE].size();
+		for (int a = 0; a < ageSize; a++) {
+			boolean ageMatch = matches(filter[AGE], a);
+			for (int g = 0; g < genderSize; g++) {
+				boolean genderMatch = matches(filter[GENDER], g);
+				for (int r = 0; r < genreSize; r++) {
+					int count = counts[offset(a, g, r)];
+					if (count == 0) {
+						continue;
+					}
+					boolean genreMatch = matches(filter[GENRE], r);
+
+					// 패싯 카운트: 자기 차원을 제외한 나머지 필터만 적용
+					if (genderMatch && genreMatch) {
+						facets[AGE][a] += count;
+					}
+					if (ageMatch && genreMatch) {
+						facets[GENDER][g] += count;
+					}
+					if (ageMatch && genderMatch) {
+						facets[GENRE][r] += count;
+					}
+					if (ageMatch && genderMatch && genreMatch) {
+						matched += count;
+					}
+				}
+			}
+		}
+
+		return new Slice(matched, total,
+			decode(AGE, facets[AGE]),
+			decode(GENDER, facets[GENDER]),
+			decode(GENRE, facets[GENRE]));
+	}
+
+	public synchronized int getTotal() {
+		return total;
+	}
+
+	private static boolean matches(int filterCode, int code) {
+		return filterCode == Dictionary.ANY || filterCode == code;
+	}
+
+	private int lookup(int dimension, String value) {
+		if (value == null || value.isBlank()) {
+			return Dictionary.ANY;
+		}
+		return dictionaries[dimension].codeOf(value);
+	}
+
+	private int encode(int dimension, String value) {
+		String normalized = (value == null || value.isBlank()) ? UNKNOWN : value;
+		int code = dictionaries[dimension].intern(normalized);
+		if (code >= capacities[dimension]) {
+			grow(dimension);
+		}
+		return code;
+	}
+
+	private int offset(int a, int g, int r) {
+		return (a * capacities[GENDER] + g) * capacities[GENRE] + r;
+	}
+
+	/**
+	 * 차원 용량이 부족하면 2배로 확장하고 기존 셀을 새 stride로 재배치합니다.
+	 */
+	private void grow(int dimension) {
+		int[] oldCapacities = capacities.clone();
+		int[] oldCounts = counts;
+
+		capacities[dimension] = oldCapacities[dimension] * 2;
+		counts = new int[capacities[AGE] * capacities[GENDER] * capacities[GENRE]];
+
+		for (int a = 0; a < oldCapacities[AGE]; a++) {
+			for (int g = 0; g < oldCapacities[GENDER]; g++) {
+				for (int r = 0; r < oldCapacities[GENRE]; r++) {
+					int count = oldCounts[(a * oldCapacities[GENDER] + g) * oldCapacities[GENRE] + r];
+					if (count != 0) {
+						counts[offset(a, g, r)] = count;
+					}
+				}
+			}
+		}
+	}
+
+	private Map<String, Integer> decode(int dimension, int[] facet) {
+		Map<String, Integer> result = new LinkedHashMap<>();
+		for (int code = 0; code < facet.length; code++) {
+			if (facet[code] > 0) {
+				result.put(dictionaries[dimension].valueOf(code), facet[code]);
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * 슬라이스 조회 결과
+	 *
+	 * @param count      모든 필터를 만족하는 참여자 수
+	 * @param total      설문 전체 참여자 수
+	 * @param ageGroups  연령대별 패싯 카운트 (연령대 필터 제외)
+	 * @param genders    성별별 패싯 카운트 (성별 필터 제외)
+	 * @param genres     선호 장르별 패싯 카운트 (장르 필터 제외)
+	 */
+	public record Slice(
+		int count,
+		int total,
+		Map<String, Integer> ageGroups,
+		Map<String, Integer> genders,
+		Map<String, Integer> genres) {
+	}
+
+	/**
+	 * 문자열 ↔ 정수 코드 사전
+	 */
+	private static final class Dictionary {
+
+		static final int ANY = -1;
+		static final int ABSENT = -2;
+
+		private final Map<String, Integer> codes = new HashMap<>();
+		private final List<String> values = new ArrayList<>();
+
+		int intern(String value) {
+			Integer code = codes.get(value);
+			if (code != null) {
+				return code;
+			}
+			int newCode = values.size();
+			codes.put(value, newCode);
+			values.add(value);
+			return newCode;
+		}
+
+		int codeOf(String value) {
+			return codes.getOrDefault(value, ABSENT);
+		}
+
+		String valueOf(int code) {
+			return values.get(code);
+		}
+
+		int size() {
+			return values.size();
+		}
+	}
+}
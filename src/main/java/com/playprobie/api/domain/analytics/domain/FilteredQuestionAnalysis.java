@@ -8,6 +8,7 @@ import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.Index;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
 import lombok.AccessLevel;
 import lombok.Builder;
@@ -30,7 +31,8 @@ import lombok.NoArgsConstructor;
 public class FilteredQuestionAnalysis {
 
 	@Id
-	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	@GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "filtered_question_analysis_seq")
+	@SequenceGenerator(name = "filtered_question_analysis_seq", sequenceName = "filtered_question_analysis_seq")
 	@Column(name = "id")
 	private Long id;
 
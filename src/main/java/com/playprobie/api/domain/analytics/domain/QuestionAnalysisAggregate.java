@@ -0,0 +1,138 @@
+package com.playprobie.api.domain.analytics.domain;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 질문별 AI 분석 결과 요약 집계 (버전 비교용)
+ * Primary Key: fixed_q_id
+ * <p>
+ * 분석 결과 저장 시점에 result_json에서 GEQ 평균, 감정 분포, 클러스터 키워드를 한 번만 추출해 저장합니다.
+ */
+@Entity
+@Table(name = "question_analysis_aggregate", indexes = {
+	@Index(name = "idx_question_analysis_aggregate_survey", columnList = "survey_id")
+})
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Getter
+public class QuestionAnalysisAggregate {
+
+	private static final String KEYWORD_DELIMITER = ",";
+	private static final int KEYWORDS_MAX_LENGTH = 2000;
+
+	@Id
+	@Column(name = "fixed_q_id")
+	private Long fixedQuestionId;
+
+	@Column(name = "survey_id", nullable = false)
+	private Long surveyId;
+
+	@Column(name = "q_order", nullable = false)
+	private Integer questionOrder;
+
+	@Column(name = "answer_count", nullable = false)
+	private int answerCount;
+
+	// GEQ 점수 (클러스터 응답 수 가중 평균)
+	@Column(name = "geq_competence", nullable = false)
+	private double competence;
+
+	@Column(name = "geq_immersion", nullable = false)
+	private double immersion;
+
+	@Column(name = "geq_flow", nullable = false)
+	private double flow;
+
+	@Column(name = "geq_tension", nullable = false)
+	private double tension;
+
+	@Column(name = "geq_challenge", nullable = false)
+	private double challenge;
+
+	@Column(name = "geq_positive_affect", nullable = false)
+	private double positiveAffect;
+
+	@Column(name = "geq_negative_affect", nullable = false)
+	private double negativeAffect;
+
+	// 감정 분포
+	@Column(name = "sentiment_score", nullable = false)
+	private int sentimentScore;
+
+	@Column(name = "sentiment_positive", nullable = false)
+	private double sentimentPositive;
+
+	@Column(name = "sentiment_neutral", nullable = false)
+	private double sentimentNeutral;
+
+	@Column(name = "sentiment_negative", nullable = false)
+	private double sentimentNegative;
+
+	// 클러스터 키워드 (소문자, 중복 제거, 쉼표 구분)
+	@Column(name = "keywords", length = KEYWORDS_MAX_LENGTH)
+	private String keywords;
+
+	@Column(name = "aggregated_at")
+	private LocalDateTime aggregatedAt;
+
+	@Builder
+	public QuestionAnalysisAggregate(Long fixedQuestionId, Long surveyId, Integer questionOrder) {
+		this.fixedQuestionId = Objects.requireNonNull(fixedQuestionId, "fixedQuestionId는 필수입니다");
+		this.surveyId = Objects.requireNonNull(surveyId, "surveyId는 필수입니다");
+		this.questionOrder = Objects.requireNonNull(questionOrder, "questionOrder는 필수입니다");
+	}
+
+	public void updateGeq(double competence, double immersion, double flow, double tension, double challenge,
+		double positiveAffect, double negativeAffect) {
+		this.competence = competence;
+		this.immersion = immersion;
+		this.flow = flow;
+		this.tension = tension;
+		this.challenge = challenge;
+		this.positiveAffect = positiveAffect;
+		this.negativeAffect = negativeAffect;
+	}
+
+	public void updateSentiment(int score, double positive, double neutral, double negative) {
+		this.sentimentScore = score;
+		this.sentimentPositive = positive;
+		this.sentimentNeutral = neutral;
+		this.sentimentNegative = negative;
+	}
+
+	public void updateSummary(int answerCount, List<String> keywords) {
+		this.answerCount = answerCount;
+		StringBuilder joined = new StringBuilder();
+		for (String keyword : keywords) {
+			int separator = joined.isEmpty() ? 0 : KEYWORD_DELIMITER.length();
+			if (joined.length() + separator + keyword.length() > KEYWORDS_MAX_LENGTH) {
+				break;
+			}
+			if (separator > 0) {
+				joined.append(KEYWORD_DELIMITER);
+			}
+			joined.append(keyword);
+		}
+		this.keywords = joined.toString();
+		this.aggregatedAt = LocalDateTime.now();
+	}
+
+	public List<String> getKeywordList() {
+		if (keywords == null || keywords.isBlank()) {
+			return List.of();
+		}
+		return Arrays.asList(keywords.split(KEYWORD_DELIMITER));
+	}
+}
@@ -0,0 +1,105 @@
+package com.playprobie.api.domain.analytics.domain;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.Objects;
+
+import com.playprobie.api.domain.interview.domain.AnswerQuality;
+import com.playprobie.api.domain.interview.domain.AnswerValidity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 질문별 응답 유효성/품질 분포 롤업
+ * Primary Key: fixed_q_id
+ * <p>
+ * interview_log에 대한 GROUP BY 집계 결과를 저장하며, 평가 결과가 갱신된 질문만 다시 집계합니다.
+ */
+@Entity
+@Table(name = "question_quality_stat", indexes = {
+	@Index(name = "idx_question_quality_stat_survey", columnList = "survey_id")
+})
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Getter
+public class QuestionQualityStat {
+
+	@Id
+	@Column(name = "fixed_q_id")
+	private Long fixedQuestionId;
+
+	@Column(name = "survey_id", nullable = false)
+	private Long surveyId;
+
+	@Column(name = "total_count", nullable = false)
+	private long totalCount;
+
+	@Column(name = "valid_count", nullable = false)
+	private long validCount;
+
+	@Column(name = "off_topic_count", nullable = false)
+	private long offTopicCount;
+
+	@Column(name = "ambiguous_count", nullable = false)
+	private long ambiguousCount;
+
+	@Column(name = "refusal_count", nullable = false)
+	private long refusalCount;
+
+	@Column(name = "unintelligible_count", nullable = false)
+	private long unintelligibleCount;
+
+	@Column(name = "empty_count", nullable = false)
+	private long emptyCount;
+
+	@Column(name = "grounded_count", nullable = false)
+	private long groundedCount;
+
+	@Column(name = "floating_count", nullable = false)
+	private long floatingCount;
+
+	@Column(name = "full_count", nullable = false)
+	private long fullCount;
+
+	/** 꼬리질문이 1회 이상 진행된 (세션, 질문) 수 */
+	@Column(name = "tailed_count", nullable = false)
+	private long tailedCount;
+
+	/** 꼬리질문 최고 품질이 고정질문 품질보다 높아진 (세션, 질문) 수 */
+	@Column(name = "tail_improved_count", nullable = false)
+	private long tailImprovedCount;
+
+	@Column(name = "refreshed_at")
+	private LocalDateTime refreshedAt;
+
+	public QuestionQualityStat(Long fixedQuestionId, Long surveyId) {
+		this.fixedQuestionId = Objects.requireNonNull(fixedQuestionId, "fixedQuestionId는 필수입니다");
+		this.surveyId = Objects.requireNonNull(surveyId, "surveyId는 필수입니다");
+	}
+
+	/**
+	 * 집계 결과로 롤업 갱신
+	 */
+	public void refresh(long totalCount, Map<AnswerValidity, Long> validityCounts,
+		Map<AnswerQuality, Long> qualityCounts, long tailedCount, long tailImprovedCount) {
+		this.totalCount = totalCount;
+		this.validCount = validityCounts.getOrDefault(AnswerValidity.VALID, 0L);
+		this.offTopicCount = validityCounts.getOrDefault(AnswerValidity.OFF_TOPIC, 0L);
+		this.ambiguousCount = validityCounts.getOrDefault(AnswerValidity.AMBIGUOUS, 0L);
+		this.refusalCount = validityCounts.getOrDefault(AnswerValidity.REFUSAL, 0L);
+		this.unintelligibleCount = validityCounts.getOrDefault(AnswerValidity.UNINTELLIGIBLE, 0L);
+		this.emptyCount = qualityCounts.getOrDefault(AnswerQuality.EMPTY, 0L);
+		this.groundedCount = qualityCounts.getOrDefault(AnswerQuality.GROUNDED, 0L);
+		this.floatingCount = qualityCounts.getOrDefault(AnswerQuality.FLOATING, 0L);
+		this.fullCount = qualityCounts.getOrDefault(AnswerQuality.FULL, 0L);
+		this.tailedCount = tailedCount;
+		this.tailImprovedCount = tailImprovedCount;
+		this.refreshedAt = LocalDateTime.now();
+	}
+}
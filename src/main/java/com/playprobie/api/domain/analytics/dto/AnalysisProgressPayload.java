@@ -0,0 +1,44 @@
+package com.playprobie.api.domain.analytics.dto;
+
+import java.util.Optional;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.PropertyNamingStrategies;
+import com.fasterxml.jackson.databind.annotation.JsonNaming;
+import com.playprobie.api.global.constants.AiConstants;
+
+/**
+ * 질문 분석 중간 결과 SSE Payload
+ *
+ * @param fixedQuestionId 분석 중인 고정 질문 ID
+ * @param filterSignature 필터 분석 시그니처 (전체 분석은 null)
+ * @param type            중간 결과 유형
+ * @param step            분석 단계 (loading, clustering 등, 없으면 null)
+ * @param data            AI 서버가 보낸 중간 결과 원본
+ */
+@JsonNaming(PropertyNamingStrategies.SnakeCaseStrategy.class)
+public record AnalysisProgressPayload(
+	Long fixedQuestionId,
+	String filterSignature,
+	Type type,
+	String step,
+	JsonNode data) {
+
+	public enum Type {
+		PROGRESS, // 진행 단계/진행률
+		CLUSTERS, // 형성된 클러스터
+		SENTIMENT; // 감정 분석 결과
+
+		public static Optional<Type> fromEvent(String event) {
+			if (event == null) {
+				return Optional.empty();
+			}
+			return switch (event) {
+				case AiConstants.EVENT_PROGRESS -> Optional.of(PROGRESS);
+				case AiConstants.EVENT_CLUSTERS -> Optional.of(CLUSTERS);
+				case AiConstants.EVENT_SENTIMENT -> Optional.of(SENTIMENT);
+				default -> Optional.empty();
+			};
+		}
+	}
+}
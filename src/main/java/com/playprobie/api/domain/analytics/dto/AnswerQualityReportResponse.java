@@ -0,0 +1,90 @@
+package com.playprobie.api.domain.analytics.dto;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.fasterxml.jackson.databind.PropertyNamingStrategies;
+import com.fasterxml.jackson.databind.annotation.JsonNaming;
+import com.playprobie.api.domain.analytics.domain.QuestionQualityStat;
+import com.playprobie.api.domain.interview.domain.AnswerQuality;
+import com.playprobie.api.domain.interview.domain.AnswerValidity;
+
+/**
+ * 응답 유효성/품질 분포 리포트 응답 DTO
+ *
+ * @param survey    설문 전체 분포 (질문별 롤업 합계)
+ * @param questions 질문별 분포 (질문 순서)
+ */
+@JsonNaming(PropertyNamingStrategies.SnakeCaseStrategy.class)
+public record AnswerQualityReportResponse(
+	Distribution survey,
+	List<Distribution> questions) {
+
+	public static AnswerQualityReportResponse of(List<Distribution> questions) {
+		Distribution total = questions.stream()
+			.reduce(Distribution.empty(), Distribution::merge);
+		return new AnswerQualityReportResponse(total, questions);
+	}
+
+	/**
+	 * 유효성/품질 분포
+	 *
+	 * @param fixedQuestionId     고정 질문 ID (설문 합계는 null)
+	 * @param totalCount          답변이 존재하는 로그 수
+	 * @param validity            유효성별 로그 수
+	 * @param quality             품질별 로그 수
+	 * @param tailedCount         꼬리질문이 진행된 (세션, 질문) 수
+	 * @param tailImprovedCount   꼬리질문으로 품질이 개선된 (세션, 질문) 수
+	 * @param tailImprovementRate 꼬리질문 품질 개선율 (0.0 ~ 1.0)
+	 */
+	@JsonNaming(PropertyNamingStrategies.SnakeCaseStrategy.class)
+	public record Distribution(
+		Long fixedQuestionId,
+		long totalCount,
+		Map<AnswerValidity, Long> validity,
+		Map<AnswerQuality, Long> quality,
+		long tailedCount,
+		long tailImprovedCount,
+		double tailImprovementRate) {
+
+		public static Distribution from(QuestionQualityStat stat) {
+			Map<AnswerValidity, Long> validity = new LinkedHashMap<>();
+			validity.put(AnswerValidity.VALID, stat.getValidCount());
+			validity.put(AnswerValidity.OFF_TOPIC, stat.getOffTopicCount());
+			validity.put(AnswerValidity.AMBIGUOUS, stat.getAmbiguousCount());
+			validity.put(AnswerValidity.REFUSAL, stat.getRefusalCount());
+			validity.put(AnswerValidity.UNINTELLIGIBLE, stat.getUnintelligibleCount());
+
+			Map<AnswerQuality, Long> quality = new LinkedHashMap<>();
+			quality.put(AnswerQuality.EMPTY, stat.getEmptyCount());
+			quality.put(AnswerQuality.GROUNDED, stat.getGroundedCount());
+			quality.put(AnswerQuality.FLOATING, stat.getFloatingCount());
+			quality.put(AnswerQuality.FULL, stat.getFullCount());
+
+			return new Distribution(stat.getFixedQuestionId(), stat.getTotalCount(), validity, quality,
+				stat.getTailedCount(), stat.getTailImprovedCount(),
+				rate(stat.getTailImprovedCount(), stat.getTailedCount()));
+		}
+
+		static Distribution empty() {
+			return new Distribution(null, 0, new LinkedHashMap<>(), new LinkedHashMap<>(), 0, 0, 0.0);
+		}
+
+		Distribution merge(Distribution other) {
+			Map<AnswerValidity, Long> mergedValidity = new LinkedHashMap<>(validity);
+			other.validity().forEach((key, count) -> mergedValidity.merge(key, count, Long::sum));
+			Map<AnswerQuality, Long> mergedQuality = new LinkedHashMap<>(quality);
+			other.quality().forEach((key, count) -> mergedQuality.merge(key, count, Long::sum));
+
+			long tailed = tailedCount + other.tailedCount();
+			long improved = tailImprovedCount + other.tailImprovedCount();
+			return new Distribution(null, totalCount + other.totalCount(), mergedValidity, mergedQuality,
+				tailed, improved, rate(improved, tailed));
+		}
+
+		private static double rate(long numerator, long denominator) {
+			return denominator == 0 ? 0.0 : (double)numerator / denominator;
+		}
+	}
+}
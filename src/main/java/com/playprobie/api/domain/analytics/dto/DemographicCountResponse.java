@@ -0,0 +1,34 @@
+package com.playprobie.api.domain.analytics.dto;
+
+import java.util.Map;
+
+import com.fasterxml.jackson.databind.PropertyNamingStrategies;
+import com.fasterxml.jackson.databind.annotation.JsonNaming;
+import com.playprobie.api.domain.analytics.domain.DemographicCube;
+
+/**
+ * 인구통계 필터 카운트 응답 DTO
+ *
+ * @param count             요청한 필터를 모두 만족하는 완료 세션 수
+ * @param totalParticipants 설문 전체 완료 세션 수
+ * @param ageGroups         연령대별 참여자 수 (연령대 외 필터 적용)
+ * @param genders           성별별 참여자 수 (성별 외 필터 적용)
+ * @param genres            선호 장르별 참여자 수 (장르 외 필터 적용)
+ */
+@JsonNaming(PropertyNamingStrategies.SnakeCaseStrategy.class)
+public record DemographicCountResponse(
+	int count,
+	int totalParticipants,
+	Map<String, Integer> ageGroups,
+	Map<String, Integer> genders,
+	Map<String, Integer> genres) {
+
+	public static DemographicCountResponse from(DemographicCube.Slice slice) {
+		return new DemographicCountResponse(
+			slice.count(),
+			slice.total(),
+			slice.ageGroups(),
+			slice.genders(),
+			slice.genres());
+	}
+}
@@ -0,0 +1,119 @@
+package com.playprobie.api.domain.analytics.dto;
+
+import java.util.List;
+import java.util.UUID;
+
+import com.fasterxml.jackson.databind.PropertyNamingStrategies;
+import com.fasterxml.jackson.databind.annotation.JsonNaming;
+
+/**
+ * 게임 설문 버전 간 비교 응답 DTO
+ *
+ * @param gameUuid  게임 UUID
+ * @param surveys   비교 대상 설문 (생성 순서)
+ * @param questions 질문 순서(q_order) 기준으로 정렬된 질문별 비교 결과
+ */
+@JsonNaming(PropertyNamingStrategies.SnakeCaseStrategy.class)
+public record VersionComparisonResponse(
+	UUID gameUuid,
+	List<SurveyVersion> surveys,
+	List<QuestionComparison> questions) {
+
+	@JsonNaming(PropertyNamingStrategies.SnakeCaseStrategy.class)
+	public record SurveyVersion(
+		UUID surveyUuid,
+		String surveyName) {
+	}
+
+	/**
+	 * 같은 순서의 질문에 대한 버전별 값
+	 *
+	 * @param questionOrder 질문 순서
+	 * @param versions      설문 버전별 집계 (분석 결과가 없는 버전은 제외)
+	 */
+	@JsonNaming(PropertyNamingStrategies.SnakeCaseStrategy.class)
+	public record QuestionComparison(
+		int questionOrder,
+		List<QuestionVersion> versions) {
+	}
+
+	/**
+	 * 한 설문 버전의 질문 집계와 직전 버전 대비 변화량
+	 *
+	 * @param surveyUuid      설문 UUID
+	 * @param fixedQuestionId 고정 질문 ID
+	 * @param answerCount     분석된 응답 수
+	 * @param geq             GEQ 점수 (클러스터 응답 수 가중 평균)
+	 * @param sentiment       감정 점수/분포
+	 * @param keywords        클러스터 키워드
+	 * @param delta           직전 버전 대비 변화 (첫 버전은 null)
+	 */
+	@JsonNaming(PropertyNamingStrategies.SnakeCaseStrategy.class)
+	public record QuestionVersion(
+		UUID surveyUuid,
+		Long fixedQuestionId,
+		int answerCount,
+		Geq geq,
+		Sentiment sentiment,
+		List<String> keywords,
+		Delta delta) {
+	}
+
+	@JsonNaming(PropertyNamingStrategies.SnakeCaseStrategy.class)
+	public record Geq(
+		double competence,
+		double immersion,
+		double flow,
+		double tension,
+		double challenge,
+		double positiveAffect,
+		double negativeAffect) {
+
+		public Geq minus(Geq other) {
+			return new Geq(
+				competence - other.competence,
+				immersion - other.immersion,
+				flow - other.flow,
+				tension - other.tension,
+				challenge - other.challenge,
+				positiveAffect - other.positiveAffect,
+				negativeAffect - other.negativeAffect);
+		}
+	}
+
+	@JsonNaming(PropertyNamingStrategies.SnakeCaseStrategy.class)
+	public record Sentiment(
+		double score,
+		double positive,
+		double neutral,
+		double negative) {
+
+		public Sentiment minus(Sentiment other) {
+			return new Sentiment(
+				score - other.score,
+				positive - other.positive,
+				neutral - other.neutral,
+				negative - other.negative);
+		}
+	}
+
+	/**
+	 * 직전 버전 대비 변화
+	 *
+	 * @param geq             GEQ 점수 변화량
+	 * @param sentiment       감정 점수/분포 변화량
+	 * @param keywordOverlap  키워드 Jaccard 유사도 (0.0 ~ 1.0)
+	 * @param sharedKeywords  두 버전 공통 키워드
+	 * @param addedKeywords   새로 등장한 키워드
+	 * @param removedKeywords 사라진 키워드
+	 */
+	@JsonNaming(PropertyNamingStrategies.SnakeCaseStrategy.class)
+	public record Delta(
+		Geq geq,
+		Sentiment sentiment,
+		double keywordOverlap,
+		List<String> sharedKeywords,
+		List<String> addedKeywords,
+		List<String> removedKeywords) {
+	}
+}
@@ -1,24 +1,31 @@
 package com.playprobie.api.domain.interview.api;
 
 import java.util.UUID;
+import java.util.concurrent.atomic.AtomicReference;
 
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import com.playprobie.api.domain.interview.application.AnswerIdempotencyService;
 import com.playprobie.api.domain.interview.application.InterviewService;
+import com.playprobie.api.domain.interview.dto.AnswerSubmitResult;
 import com.playprobie.api.domain.interview.dto.InterviewCreateResponse;
 import com.playprobie.api.domain.interview.dto.InterviewHistoryResponse;
+import com.playprobie.api.domain.interview.dto.SessionAiContext;
 import com.playprobie.api.domain.interview.dto.TesterProfileRequest;
 import com.playprobie.api.domain.interview.dto.UserAnswerRequest;
 import com.playprobie.api.domain.interview.dto.UserAnswerResponse;
 import com.playprobie.api.domain.survey.dto.FixedQuestionResponse;
 import com.playprobie.api.global.common.response.CommonResponse;
+import com.playprobie.api.global.error.exception.SessionStateConflictException;
 import com.playprobie.api.infra.ai.AiClient;
 import com.playprobie.api.infra.sse.service.SseEmitterService;
 
@@ -26,6 +33,7 @@ import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import reactor.core.Disposable;
 
 @Slf4j
 @RequiredArgsConstructor
@@ -36,6 +44,7 @@ public class InterviewController {
 	private final AiClient fastApiClient;
 	private final SseEmitterService sseEmitterService;
 	private final InterviewService interviewService;
+	private final AnswerIdempotencyService answerIdempotencyService;
 
 	@PostMapping("/interview/{surveyUuid}")
 	@Operation(summary = "인터뷰 세션 생성", description = "설문 UUID로 새로운 인터뷰 세션을 생성합니다.")
@@ -44,8 +53,13 @@ public class InterviewController {
 		java.util.UUID surveyUuid,
 		@RequestBody(required = false)
 		TesterProfileRequest profileRequest) {
-		return ResponseEntity.status(201)
-			.body(CommonResponse.of(interviewService.createSession(surveyUuid, profileRequest)));
+		InterviewCreateResponse response = interviewService.createSession(surveyUuid, profileRequest);
+
+		// 새 세션이면 SSE 연결을 기다리지 않고 오프닝 생성을 시작 (연결 시 버퍼에서 전달)
+		if (profileRequest == null || profileRequest.getSessionUuid() == null) {
+			startOpeningEagerly(response.getSession().getSessionUuid().toString());
+		}
+		return ResponseEntity.status(201).body(CommonResponse.of(response));
 	}
 
 	@GetMapping("/interview/{surveyUuid}/{sessionUuid}")
@@ -62,28 +76,56 @@ public class InterviewController {
 	@Operation(summary = "인터뷰 SSE 스트림 연결", description = "SSE를 통해 실시간 질문을 수신합니다.")
 	public SseEmitter stream(@PathVariable
 	UUID sessionUuid) {
-		SseEmitter emitter = sseEmitterService.connect(sessionUuid);
-
-		// SSE 연결 후 AI 오프닝 요청 (Phase 2: 인사말 + 오프닝 질문)
 		String sessionId = sessionUuid.toString();
 
-		// AI 서버에 세션 시작 요청 (비동기 SSE 스트리밍)
-		// 게임 정보와 테스터 프로필은 InterviewService에서 조회하여 전달
-		com.playprobie.api.domain.interview.dto.SessionAiContext context = interviewService
-			.getSessionAiContext(sessionId);
-		fastApiClient.streamOpening(sessionId, context.gameInfo(), context.testerProfile());
+		// 세션 생성 시 선행 시작된 오프닝이 있으면 버퍼를 전달하고, 없으면(또는 만료됐으면) 지금 AI 오프닝 요청
+		// (Phase 2: 인사말 + 오프닝 질문, 게임 정보와 테스터 프로필은 InterviewService에서 조회하여 전달)
+		return sseEmitterService.connect(sessionUuid, () -> {
+			SessionAiContext context = interviewService.getSessionAiContext(sessionId);
+			fastApiClient.streamOpening(sessionId, context.gameInfo(), context.testerProfile());
+		});
+	}
 
-		return emitter;
+	/**
+	 * SSE 연결 전에 오프닝 스트림을 시작합니다.
+	 * 이벤트는 세션별 버퍼에 쌓였다가 연결 시 전달되며, 제한 시간 안에 연결되지 않으면 스트림을 취소합니다.
+	 * 실패해도 세션 생성은 유지되고, 오프닝은 SSE 연결 시점에 다시 시작됩니다.
+	 */
+	private void startOpeningEagerly(String sessionId) {
+		AtomicReference<Disposable> subscription = new AtomicReference<>();
+		boolean opened = sseEmitterService.openPendingBuffer(sessionId, () -> {
+			Disposable disposable = subscription.get();
+			if (disposable != null) {
+				disposable.dispose();
+			}
+		});
+		if (!opened) {
+			return;
+		}
+
+		try {
+			SessionAiContext context = interviewService.getSessionAiContext(sessionId);
+			subscription.set(fastApiClient.streamOpening(sessionId, context.gameInfo(), context.testerProfile()));
+			log.info("[OPENING_EAGER] Opening stream started before SSE connection. sessionId={}", sessionId);
+		} catch (RuntimeException e) {
+			log.warn("[OPENING_EAGER] Failed to start opening eagerly. sessionId={}, error={}", sessionId,
+				e.getMessage());
+			sseEmitterService.discardPendingBuffer(sessionId);
+		}
 	}
 
 	@PostMapping("/interview/{sessionUuid}/messages")
-	@Operation(summary = "사용자 응답 전송", description = "사용자의 응답을 전송하고 AI 후속 질문을 스트리밍합니다.")
+	@Operation(summary = "사용자 응답 전송", description = "사용자의 응답을 전송하고 AI 후속 질문을 스트리밍합니다. "
+		+ "Idempotency-Key 헤더가 같은 재전송은 최초 응답을 그대로 반환하며 AI 스트리밍을 다시 시작하지 않습니다.")
 	public ResponseEntity<CommonResponse<UserAnswerResponse>> receiveAnswer(
 		@PathVariable
 		UUID sessionUuid,
+		@RequestHeader(value = AnswerIdempotencyService.HEADER, required = false)
+		String idempotencyKey,
 		@RequestBody
 		UserAnswerRequest request) {
 		String sessionId = sessionUuid.toString();
+		String key = AnswerIdempotencyService.normalizeKey(idempotencyKey);
 		log.info("[ANSWER_RECEIVED] sessionId={}, client: fixedQuestionId={}, turnNum={}, answer={}",
 			sessionId, request.getFixedQId(), request.getTurnNum(), request.getAnswerText());
 
@@ -91,7 +133,20 @@ public class InterviewController {
 		FixedQuestionResponse currentQuestion = interviewService.getQuestionById(request.getFixedQId());
 
 		// 1. [State Authority] 질문과 응답 저장 (여기서 검증 및 교정이 일어남)
-		UserAnswerResponse savedResponse = interviewService.saveInterviewLog(sessionId, request, currentQuestion);
+		AnswerSubmitResult result;
+		try {
+			result = interviewService.submitAnswer(sessionId, request, currentQuestion, key);
+		} catch (SessionStateConflictException | DataIntegrityViolationException e) {
+			// 다른 노드가 같은 키를 먼저 처리한 경우 그 응답을 재사용
+			result = answerIdempotencyService.find(sessionUuid, key)
+				.map(AnswerSubmitResult::replayed)
+				.orElseThrow(() -> e);
+		}
+		UserAnswerResponse savedResponse = result.response();
+		if (result.replayed()) {
+			log.info("[ANSWER_REPLAYED] sessionId={}, key={}. Skipping AI streaming.", sessionId, key);
+			return ResponseEntity.status(201).body(CommonResponse.of(savedResponse));
+		}
 
 		log.info("[ANSWER_VALIDATED] sessionId={}, actual: fixedQuestionId={}, turnNum={}",
 			sessionId, savedResponse.fixedQId(), savedResponse.turnNum());
@@ -0,0 +1,166 @@
+package com.playprobie.api.domain.interview.application;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.playprobie.api.domain.interview.dao.AnswerIdempotencyRecordRepository;
+import com.playprobie.api.domain.interview.domain.AnswerIdempotencyRecord;
+import com.playprobie.api.domain.interview.dto.UserAnswerResponse;
+import com.playprobie.api.global.error.exception.InvalidValueException;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 답변 제출 Idempotency-Key 저장소
+ * <p>
+ * 처리된 키의 응답을 크기 제한이 있는 인메모리 캐시(TTL)에 두고, DB(answer_idempotency)를 다중 노드용 폴백으로 사용합니다.
+ * <ul>
+ * <li>조회: 캐시 → DB 순서이며, DB에서 찾은 응답은 캐시에 적재합니다.</li>
+ * <li>기록: 답변 저장 트랜잭션 안에서 DB에 insert하고, 커밋 이후 캐시에 반영합니다.</li>
+ * </ul>
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class AnswerIdempotencyService {
+
+	public static final String HEADER = "Idempotency-Key";
+
+	private static final int MAX_KEY_LENGTH = 100;
+	private static final int MAX_CACHED_KEYS = 10_000;
+	private static final Duration CACHE_TTL = Duration.ofMinutes(10);
+	private static final Duration RECORD_TTL = Duration.ofHours(24);
+
+	private final AnswerIdempotencyRecordRepository answerIdempotencyRecordRepository;
+	private final ObjectMapper objectMapper;
+
+	/** "세션UUID:키" → 응답 (삽입 순서, 용량 초과 시 가장 오래된 키부터 제거) */
+	private final Map<String, CachedResponse> cache = new LinkedHashMap<>(256, 0.75f, false) {
+		@Override
+		protected boolean removeEldestEntry(Map.Entry<String, CachedResponse> eldest) {
+			return size() > MAX_CACHED_KEYS;
+		}
+	};
+
+	/**
+	 * 헤더 값 검증 (비어 있으면 null = 멱등성 미사용)
+	 *
+	 * @throws InvalidValueException 최대 길이를 넘는 경우
+	 */
+	public static String normalizeKey(String idempotencyKey) {
+		if (idempotencyKey == null || idempotencyKey.isBlank()) {
+			return null;
+		}
+		String key = idempotencyKey.trim();
+		if (key.length() > MAX_KEY_LENGTH) {
+			throw new InvalidValueException(key);
+		}
+		return key;
+	}
+
+	/**
+	 * 이미 처리된 키의 응답 조회
+	 */
+	public Optional<UserAnswerResponse> find(UUID sessionUuid, String idempotencyKey) {
+		if (idempotencyKey == null) {
+			return Optional.empty();
+		}
+		String cacheKey = cacheKey(sessionUuid, idempotencyKey);
+		long now = System.currentTimeMillis();
+		synchronized (cache) {
+			CachedResponse cached = cache.get(cacheKey);
+			if (cached != null && cached.expiresAt() > now) {
+				return Optional.of(cached.response());
+			}
+		}
+
+		Optional<UserAnswerResponse> stored = answerIdempotencyRecordRepository
+			.findBySessionUuidAndIdempotencyKey(sessionUuid, idempotencyKey)
+			.flatMap(this::readResponse);
+		stored.ifPresent(response -> put(cacheKey, response));
+		return stored;
+	}
+
+	/**
+	 * 처리 완료된 키 기록
+	 * <p>
+	 * 답변 저장 트랜잭션 안에서 호출합니다. 다른 노드가 같은 키를 먼저 커밋했다면 유니크 제약 위반으로 트랜잭션이 롤백됩니다.
+	 */
+	public void record(UUID sessionUuid, String idempotencyKey, UserAnswerResponse response) {
+		String json;
+		try {
+			json = objectMapper.writeValueAsString(response);
+		} catch (JsonProcessingException e) {
+			throw new IllegalStateException("답변 응답 직렬화 실패", e);
+		}
+		answerIdempotencyRecordRepository.saveAndFlush(AnswerIdempotencyRecord.builder()
+			.sessionUuid(sessionUuid)
+			.idempotencyKey(idempotencyKey)
+			.responseJson(json)
+			.build());
+
+		String cacheKey = cacheKey(sessionUuid, idempotencyKey);
+		if (TransactionSynchronizationManager.isSynchronizationActive()) {
+			TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+				@Override
+				public void afterCommit() {
+					put(cacheKey, response);
+				}
+			});
+			return;
+		}
+		put(cacheKey, response);
+	}
+
+	/**
+	 * 만료된 캐시 항목과 보관 기간이 지난 DB 키 정리
+	 */
+	@Scheduled(fixedDelay = 600000, initialDelay = 600000)
+	@Transactional
+	public void purgeExpired() {
+		long now = System.currentTimeMillis();
+		synchronized (cache) {
+			cache.values().removeIf(cached -> cached.expiresAt() <= now);
+		}
+		int deleted = answerIdempotencyRecordRepository.deleteCreatedBefore(LocalDateTime.now().minus(RECORD_TTL));
+		if (deleted > 0) {
+			log.info("🧹 만료된 답변 멱등성 키 삭제: {}건", deleted);
+		}
+	}
+
+	private Optional<UserAnswerResponse> readResponse(AnswerIdempotencyRecord record) {
+		try {
+			return Optional.of(objectMapper.readValue(record.getResponseJson(), UserAnswerResponse.class));
+		} catch (JsonProcessingException e) {
+			log.warn("⚠️ 멱등성 키 응답 역직렬화 실패: id={}", record.getId(), e);
+			return Optional.empty();
+		}
+	}
+
+	private void put(String cacheKey, UserAnswerResponse response) {
+		long expiresAt = System.currentTimeMillis() + CACHE_TTL.toMillis();
+		synchronized (cache) {
+			cache.put(cacheKey, new CachedResponse(response, expiresAt));
+		}
+	}
+
+	private static String cacheKey(UUID sessionUuid, String idempotencyKey) {
+		return sessionUuid + ":" + idempotencyKey;
+	}
+
+	private record CachedResponse(UserAnswerResponse response, long expiresAt) {
+	}
+}
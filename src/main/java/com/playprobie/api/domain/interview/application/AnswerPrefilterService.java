@@ -0,0 +1,154 @@
+package com.playprobie.api.domain.interview.application;
+
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import com.playprobie.api.domain.interview.domain.AnswerFingerprint;
+import com.playprobie.api.domain.interview.domain.AnswerValidity;
+import com.playprobie.api.domain.interview.dto.AnswerPrefilterVerdict;
+import com.playprobie.api.domain.interview.dto.AnswerPrefilterVerdict.Reason;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * AI 호출 전 답변 사전 필터
+ * <p>
+ * 명백히 내용이 없거나 복제된 답변을 로컬에서 판정하여 LLM 호출(/surveys/interaction)을 생략합니다.
+ * <ul>
+ * <li>질문별로 최근 답변 지문(MinHash)을 고정 크기 링 버퍼에 보관합니다.</li>
+ * <li>같은 세션의 반복은 같은 질문 문구에 대한 답변끼리만 비교하고, 짧은 답변은 완전 일치여도 반복으로 보지 않습니다.</li>
+ * <li>판정되지 않은 답변만 AI 서버로 전달되며, 모든 답변은 이후 비교를 위해 기록됩니다.</li>
+ * </ul>
+ */
+@Slf4j
+@Service
+public class AnswerPrefilterService {
+
+	private static final int SIGNATURES_PER_QUESTION = 512;
+	private static final int NEAR_DUPLICATE_MIN_LENGTH = 10;
+	private static final double NEAR_DUPLICATE_MIN_SIMILARITY = 0.7;
+	private static final int CROSS_SESSION_MIN_LENGTH = 20;
+	private static final int CROSS_SESSION_THRESHOLD = 2; // 다른 세션 n개 이상과 중복이면 판정
+	private static final long IDLE_EVICT_MILLIS = 6 * 60 * 60 * 1000L;
+
+	private static final Map<Reason, String> RETRY_MESSAGES = Map.of(
+		Reason.LOW_CONTENT, "조금만 더 자세히 이야기해 주실 수 있을까요? 어떤 점이 그렇게 느껴졌는지 궁금해요!",
+		Reason.QUESTION_ECHO, "질문을 그대로 적어주신 것 같아요 😊 직접 플레이하면서 느끼신 점을 편하게 말씀해 주세요!",
+		Reason.REPEATED, "앞서 말씀해 주신 내용과 비슷한 것 같아요. 다른 관점이나 구체적인 장면을 하나 들려주시겠어요?",
+		Reason.CROSS_SESSION_DUPLICATE, "혹시 직접 플레이하면서 느끼신 점을 본인의 말로 한 번 더 들려주실 수 있을까요?");
+
+	/** fixedQuestionId → 최근 답변 지문 */
+	private final Map<Long, QuestionSignatures> signatures = new ConcurrentHashMap<>();
+
+	/**
+	 * 답변 판정 및 지문 기록
+	 *
+	 * @param sessionId       세션 UUID 문자열
+	 * @param fixedQuestionId 고정 질문 ID
+	 * @param turnNum         답변이 저장된 턴 번호
+	 * @param questionText    답변 대상 질문 문구
+	 * @param answerText      답변
+	 * @return 로컬 판정 결과 (AI 판정이 필요하면 empty)
+	 */
+	public Optional<AnswerPrefilterVerdict> evaluate(String sessionId, Long fixedQuestionId, int turnNum,
+		String questionText, String answerText) {
+		AnswerFingerprint answer = AnswerFingerprint.of(answerText);
+		if (answer.isLowContent()) {
+			return verdict(AnswerValidity.UNINTELLIGIBLE, Reason.LOW_CONTENT, sessionId, fixedQuestionId);
+		}
+
+		AnswerFingerprint question = AnswerFingerprint.of(questionText);
+		if (answer.length() >= NEAR_DUPLICATE_MIN_LENGTH
+			&& answer.isNearDuplicateOf(question, NEAR_DUPLICATE_MIN_LENGTH, NEAR_DUPLICATE_MIN_SIMILARITY)) {
+			return verdict(AnswerValidity.OFF_TOPIC, Reason.QUESTION_ECHO, sessionId, fixedQuestionId);
+		}
+
+		QuestionSignatures store = signatures.computeIfAbsent(fixedQuestionId, k -> new QuestionSignatures());
+		Reason reason = store.checkAndRecord(sessionId.hashCode(), turnNum, question, answer);
+		if (reason == Reason.REPEATED) {
+			return verdict(AnswerValidity.AMBIGUOUS, reason, sessionId, fixedQuestionId);
+		}
+		if (reason == Reason.CROSS_SESSION_DUPLICATE) {
+			return verdict(AnswerValidity.OFF_TOPIC, reason, sessionId, fixedQuestionId);
+		}
+		return Optional.empty();
+	}
+
+	/**
+	 * 오래 사용되지 않은 질문의 지문 정리
+	 */
+	@Scheduled(fixedDelay = 60 * 60 * 1000L, initialDelay = 60 * 60 * 1000L)
+	public void evictIdleQuestions() {
+		long threshold = System.currentTimeMillis() - IDLE_EVICT_MILLIS;
+		signatures.entrySet().removeIf(entry -> entry.getValue().lastUsedAt() < threshold);
+	}
+
+	private Optional<AnswerPrefilterVerdict> verdict(AnswerValidity validity, Reason reason, String sessionId,
+		Long fixedQuestionId) {
+		log.info("🧹 [PREFILTER] sessionId={}, fixedQuestionId={}, reason={}, validity={}",
+			sessionId, fixedQuestionId, reason, validity);
+		return Optional.of(new AnswerPrefilterVerdict(validity, reason, RETRY_MESSAGES.get(reason)));
+	}
+
+	/**
+	 * 질문별 최근 답변 지문 링 버퍼
+	 */
+	private static final class QuestionSignatures {
+
+		private final int[] sessionKeys = new int[SIGNATURES_PER_QUESTION];
+		private final int[] turnNums = new int[SIGNATURES_PER_QUESTION];
+		private final AnswerFingerprint[] questions = new AnswerFingerprint[SIGNATURES_PER_QUESTION];
+		private final AnswerFingerprint[] fingerprints = new AnswerFingerprint[SIGNATURES_PER_QUESTION];
+		private int next;
+		private int size;
+		private volatile long lastUsedAt = System.currentTimeMillis();
+
+		synchronized Reason checkAndRecord(int sessionKey, int turnNum, AnswerFingerprint question,
+			AnswerFingerprint answer) {
+			lastUsedAt = System.currentTimeMillis();
+			boolean repeated = false;
+			Set<Integer> duplicatedSessions = null;
+
+			for (int i = 0; i < size; i++) {
+				AnswerFingerprint previous = fingerprints[i];
+				if (sessionKeys[i] == sessionKey) {
+					// 같은 턴 재전송(네트워크 재시도)과 다른 꼬리 질문에 대한 같은 답변은 반복으로 보지 않음
+					if (turnNums[i] != turnNum && question.isSameText(questions[i])
+						&& answer.isNearDuplicateOf(previous, NEAR_DUPLICATE_MIN_LENGTH,
+							NEAR_DUPLICATE_MIN_SIMILARITY)) {
+						repeated = true;
+					}
+				} else if (answer.length() >= CROSS_SESSION_MIN_LENGTH
+					&& answer.isNearDuplicateOf(previous, CROSS_SESSION_MIN_LENGTH, NEAR_DUPLICATE_MIN_SIMILARITY)) {
+					if (duplicatedSessions == null) {
+						duplicatedSessions = new HashSet<>();
+					}
+					duplicatedSessions.add(sessionKeys[i]);
+				}
+			}
+
+			sessionKeys[next] = sessionKey;
+			turnNums[next] = turnNum;
+			questions[next] = question;
+			fingerprints[next] = answer;
+			next = (next + 1) % SIGNATURES_PER_QUESTION;
+			size = Math.min(size + 1, SIGNATURES_PER_QUESTION);
+
+			if (repeated) {
+				return Reason.REPEATED;
+			}
+			return duplicatedSessions != null && duplicatedSessions.size() >= CROSS_SESSION_THRESHOLD
+				? Reason.CROSS_SESSION_DUPLICATE : null;
+		}
+
+		long lastUsedAt() {
+			return lastUsedAt;
+		}
+	}
+}
@@ -8,6 +8,8 @@ import java.util.stream.Collectors;
 
 import org.springframework.stereotype.Service;
 
+import com.playprobie.api.domain.analytics.application.AnswerQualityReportService;
+import com.playprobie.api.domain.analytics.application.DemographicCubeService;
 import com.playprobie.api.domain.interview.dao.InterviewLogRepository;
 import com.playprobie.api.domain.interview.dao.SurveySessionRepository;
 import com.playprobie.api.domain.interview.domain.AnswerQuality;
@@ -15,12 +17,16 @@ import com.playprobie.api.domain.interview.domain.AnswerValidity;
 import com.playprobie.api.domain.interview.domain.InterviewLog;
 import com.playprobie.api.domain.interview.domain.QuestionType;
 import com.playprobie.api.domain.interview.domain.SurveySession;
+import com.playprobie.api.domain.interview.dto.AnswerSubmitResult;
+import com.playprobie.api.domain.interview.dto.AnswerUpsertResult;
 import com.playprobie.api.domain.interview.dto.InterviewCreateResponse;
 import com.playprobie.api.domain.interview.dto.InterviewHistoryResponse;
 import com.playprobie.api.domain.interview.dto.TesterProfileRequest;
 import com.playprobie.api.domain.interview.dto.UserAnswerRequest;
 import com.playprobie.api.domain.interview.dto.UserAnswerResponse;
 import com.playprobie.api.domain.interview.dto.common.SessionInfo;
+import com.playprobie.api.domain.replay.application.InputLogAnalyzer;
+import com.playprobie.api.domain.search.application.InterviewSearchService;
 import com.playprobie.api.domain.survey.dao.FixedQuestionRepository;
 import com.playprobie.api.domain.survey.dao.SurveyRepository;
 import com.playprobie.api.domain.survey.domain.Survey;
@@ -28,6 +34,7 @@ import com.playprobie.api.domain.survey.dto.FixedQuestionResponse;
 import com.playprobie.api.global.error.exception.EntityNotFoundException;
 import com.playprobie.api.global.error.exception.SessionClosedException;
 import com.playprobie.api.global.error.exception.SessionNotFoundException;
+import com.playprobie.api.global.error.exception.SessionStateConflictException;
 import com.playprobie.api.global.util.InterviewUrlProvider;
 
 import jakarta.transaction.Transactional;
@@ -44,6 +51,12 @@ public class InterviewService {
 	private final SurveySessionRepository surveySessionRepository;
 	private final FixedQuestionRepository fixedQuestionRepository;
 	private final com.fasterxml.jackson.databind.ObjectMapper objectMapper;
+	private final DemographicCubeService demographicCubeService;
+	private final AnswerQualityReportService answerQualityReportService;
+	private final InterviewSearchService interviewSearchService;
+	private final SessionStateLock sessionStateLock;
+	private final AnswerIdempotencyService answerIdempotencyService;
+	private final InputLogAnalyzer inputLogAnalyzer;
 
 	@Transactional
 	public InterviewCreateResponse createSession(UUID surveyUuid,
@@ -109,6 +122,7 @@ public class InterviewService {
 	@Transactional
 	public FixedQuestionResponse getFirstQuestion(String sessionUuid) {
 		UUID uuid = UUID.fromString(sessionUuid);
+		sessionStateLock.lockUntilCompletion(uuid);
 
 		SurveySession session = surveySessionRepository.findByUuid(uuid)
 			.orElseThrow(SessionNotFoundException::new);
@@ -118,9 +132,13 @@ public class InterviewService {
 			.map(FixedQuestionResponse::from)
 			.orElseThrow(EntityNotFoundException::new);
 
-		// Initialize Session State
-		session.updateInterviewState(firstQuestion.fixedQId(), firstQuestion.qOrder(), 1);
-		surveySessionRepository.save(session);
+		// Initialize Session State (조회한 버전 기준 CAS)
+		int updated = surveySessionRepository.restartInterview(session.getId(), session.getVersion(),
+			firstQuestion.fixedQId(), firstQuestion.qOrder());
+		if (updated == 0) {
+			log.warn("[STATE_CONFLICT] Session state changed while initializing: sessionId={}", sessionUuid);
+			throw new SessionStateConflictException();
+		}
 		log.info("Initialized session state: sessionId={}, fixedQuestionId={}, order={}", sessionUuid,
 			firstQuestion.fixedQId(), firstQuestion.qOrder());
 
@@ -141,25 +159,54 @@ public class InterviewService {
 		return (int)fixedQuestionRepository.countBySurveyId(surveyId);
 	}
 
+	/**
+	 * 현재 고정 질문(currentOrder) 다음 질문으로 세션 상태를 전이합니다.
+	 *
+	 * @throws SessionStateConflictException 다른 요청이 이미 현재 질문에서 벗어난 경우 (중복 PASS_TO_NEXT 등)
+	 */
+	@Transactional
 	public Optional<FixedQuestionResponse> getNextQuestion(String sessionId, int currentOrder) {
 		UUID uuid = UUID.fromString(sessionId);
+		sessionStateLock.lockUntilCompletion(uuid);
 		SurveySession session = surveySessionRepository.findByUuid(uuid)
 			.orElseThrow(SessionNotFoundException::new);
 
-		Optional<FixedQuestionResponse> nextQuestionOpt = fixedQuestionRepository
-			.findFirstBySurveyIdAndOrderGreaterThanOrderByOrderAsc(
-				session.getSurvey().getId(), currentOrder)
+		// 다음 질문 존재하면 session-state 업데이트
+		Optional<FixedQuestionResponse> nextQuestionOpt = findNextQuestion(session.getSurvey().getId(), currentOrder);
+		nextQuestionOpt.ifPresent(nextQuestion -> moveToNextQuestion(sessionId, currentOrder, nextQuestion));
+		return nextQuestionOpt;
+	}
+
+	/**
+	 * 다음 고정 질문을 조회합니다. 세션 상태는 바꾸지 않습니다.
+	 * AI가 답변을 분석하는 동안 다음 질문을 미리 준비하는 용도입니다.
+	 */
+	public Optional<FixedQuestionResponse> findNextQuestion(Long surveyId, int currentOrder) {
+		return fixedQuestionRepository.findFirstBySurveyIdAndOrderGreaterThanOrderByOrderAsc(surveyId, currentOrder)
 			.map(FixedQuestionResponse::from);
+	}
 
-		// 다음 질문 존재하면 session-state 업데이트
-		nextQuestionOpt.ifPresent(nextQuestion -> {
-			session.moveToNextQuestion(nextQuestion.fixedQId(), nextQuestion.qOrder());
-			surveySessionRepository.save(session);
-			log.info("Moved to next question: sessionId={}, nextFixedQId={}, nextOrder={}", sessionId,
-				nextQuestion.fixedQId(), nextQuestion.qOrder());
-		});
+	/**
+	 * 미리 조회한 다음 질문으로 세션 상태를 전이합니다. (결정 시점에는 상태 전이만 커밋)
+	 *
+	 * @throws SessionStateConflictException 다른 요청이 이미 현재 질문에서 벗어난 경우
+	 */
+	@Transactional
+	public void moveToNextQuestion(String sessionId, int currentOrder, FixedQuestionResponse nextQuestion) {
+		UUID uuid = UUID.fromString(sessionId);
+		sessionStateLock.lockUntilCompletion(uuid);
+		SurveySession session = surveySessionRepository.findByUuid(uuid)
+			.orElseThrow(SessionNotFoundException::new);
 
-		return nextQuestionOpt;
+		int updated = surveySessionRepository.moveToNextQuestion(session.getId(), currentOrder,
+			nextQuestion.fixedQId(), nextQuestion.qOrder());
+		if (updated == 0) {
+			log.warn("[STATE_CONFLICT] sessionId={}, expectedOrder={}, serverOrder={}. Transition rejected.",
+				sessionId, currentOrder, session.getCurrentFixedQOrder());
+			throw new SessionStateConflictException();
+		}
+		log.info("Moved to next question: sessionId={}, nextFixedQId={}, nextOrder={}", sessionId,
+			nextQuestion.fixedQId(), nextQuestion.qOrder());
 	}
 
 	/**
@@ -192,15 +239,43 @@ public class InterviewService {
 			nextTurnNum);
 	}
 
+	/**
+	 * Idempotency-Key를 적용하여 사용자 답변을 저장합니다.
+	 * 세션 락을 잡은 뒤 키를 확인하므로, 같은 노드에 동시에 들어온 재시도는 최초 처리 결과를 그대로 돌려받습니다.
+	 *
+	 * @param idempotencyKey 검증된 키 (null이면 멱등성 미적용)
+	 */
+	@Transactional
+	public AnswerSubmitResult submitAnswer(String sessionId, UserAnswerRequest request,
+		FixedQuestionResponse currentQuestion, String idempotencyKey) {
+		if (idempotencyKey == null) {
+			return AnswerSubmitResult.created(saveInterviewLog(sessionId, request, currentQuestion));
+		}
+
+		UUID uuid = UUID.fromString(sessionId);
+		sessionStateLock.lockUntilCompletion(uuid);
+		Optional<UserAnswerResponse> previous = answerIdempotencyService.find(uuid, idempotencyKey);
+		if (previous.isPresent()) {
+			log.info("[IDEMPOTENT_REPLAY] sessionId={}, key={}", sessionId, idempotencyKey);
+			return AnswerSubmitResult.replayed(previous.get());
+		}
+
+		UserAnswerResponse saved = saveInterviewLog(sessionId, request, currentQuestion);
+		answerIdempotencyService.record(uuid, idempotencyKey, saved);
+		return AnswerSubmitResult.created(saved);
+	}
+
 	/**
 	 * 사용자 답변을 InterviewLog에 저장합니다.
 	 * - 고정질문 응답(turnNum=1): 새 레코드 생성
 	 * - 꼬리질문 응답(turnNum>1): 기존 레코드 업데이트 또는 새 레코드 생성
+	 * - 서버 진행 상태와 다른 질문/턴에 대한 답변: SessionStateConflictException (409)
 	 */
 	@Transactional
 	public UserAnswerResponse saveInterviewLog(String sessionId, UserAnswerRequest request,
 		FixedQuestionResponse currentQuestion) {
 		UUID uuid = UUID.fromString(sessionId);
+		sessionStateLock.lockUntilCompletion(uuid);
 		SurveySession session = surveySessionRepository.findByUuid(uuid)
 			.orElseThrow(() -> new RuntimeException("Session not found"));
 
@@ -222,7 +297,8 @@ public class InterviewService {
 			if (request.getFixedQId() != null) {
 				expectedFixedQId = request.getFixedQId(); // Trust request for legacy fallback
 				expectedTurnNum = request.getTurnNum();
-				session.updateInterviewState(expectedFixedQId, 1, expectedTurnNum); // Order is unknown, assume 1? Or just don't set order
+				surveySessionRepository.initializeInterviewState(session.getId(), expectedFixedQId,
+					currentQuestion.qOrder(), expectedTurnNum);
 				log.info("[LEGACY_INIT] Set state to fixedQuestionId={}, turnNum={}", expectedFixedQId,
 					expectedTurnNum);
 			}
@@ -231,73 +307,66 @@ public class InterviewService {
 		Long actualFixedQId = request.getFixedQId();
 		Integer actualTurnNum = request.getTurnNum();
 
-		// FixedQId 불일치 수정
-		if (expectedFixedQId != null && !expectedFixedQId.equals(actualFixedQId)) {
-			log.warn(
-				"[STATE_MISMATCH] sessionId={}, fixedQuestionId: client={}, server={}. Correcting to SERVER value.",
-				sessionId, actualFixedQId, expectedFixedQId);
-			actualFixedQId = expectedFixedQId;
+		// 클라이언트가 보낸 턴이 서버 상태와 다르면 이미 지나간(또는 아직 오지 않은) 턴에 대한 답변이므로 거부합니다.
+		// 서버 값으로 보정하면 같은 턴의 재전송이 다음 턴 답변으로 저장되고 턴이 한 번 더 증가합니다.
+		if (isStaleState(actualFixedQId, expectedFixedQId) || isStaleState(actualTurnNum, expectedTurnNum)) {
+			log.warn("[STATE_MISMATCH] sessionId={}, client=(fixedQuestionId={}, turnNum={}), "
+					+ "server=(fixedQuestionId={}, turnNum={}). Rejecting stale answer.",
+				sessionId, actualFixedQId, actualTurnNum, expectedFixedQId, expectedTurnNum);
+			throw new SessionStateConflictException();
 		}
 
-		// TurnNum 불일치 수정
-		if (expectedTurnNum != null && !expectedTurnNum.equals(actualTurnNum)) {
-			log.warn("[STATE_MISMATCH] sessionId={}, turnNum: client={}, server={}. Correcting to SERVER value.",
-				sessionId, actualTurnNum, expectedTurnNum);
+		// 클라이언트가 상태를 보내지 않은 경우에만 서버 값을 사용
+		if (actualFixedQId == null) {
+			actualFixedQId = expectedFixedQId;
+		}
+		if (actualTurnNum == null) {
 			actualTurnNum = expectedTurnNum;
 		}
 
 		log.info("[ANSWER_SAVE] sessionId={}, fixedQuestionId={}, turnNum={}, answer={}", sessionId, actualFixedQId,
 			actualTurnNum, request.getAnswerText());
 
-		// 2.[멱등성] upsert 로직
-		Optional<InterviewLog> existingLog = interviewLogRepository.findBySessionIdAndFixedQuestionIdAndTurnNum(
-			session.getId(), actualFixedQId, actualTurnNum);
-
-		InterviewLog savedLog;
-		if (existingLog.isPresent()) {
-			// 로그 업데이트
-			InterviewLog tailLog = existingLog.get();
-			tailLog.updateAnswer(request.getAnswerText());
-			savedLog = interviewLogRepository.save(tailLog);
-			log.info("[LOG_UPDATE] Updated existing log: id={}, turnNum={}", savedLog.getId(), savedLog.getTurnNum());
-		} else {
-			// 새 로그 생성
-			QuestionType type = (actualTurnNum == 1) ? QuestionType.FIXED : QuestionType.TAIL;
-			String qText = (actualTurnNum == 1) ? currentQuestion.qContent() : request.getQuestionText();
-
-			InterviewLog newLog = InterviewLog.builder()
-				.session(session)
-				.fixedQuestionId(actualFixedQId)
-				.turnNum(actualTurnNum)
-				.type(type)
-				.questionText(qText)
-				.answerText(request.getAnswerText())
-				.build();
-			savedLog = interviewLogRepository.save(newLog);
-			log.info("[LOG_CREATE] Created new log: id={}, turnNum={}", savedLog.getId(), savedLog.getTurnNum());
-
+		// 2.[멱등성] (session, fixedQ, turn) 유니크 인덱스 기반 upsert - 조회 없이 한 번의 쿼리로 생성/갱신
+		QuestionType type = (actualTurnNum == 1) ? QuestionType.FIXED : QuestionType.TAIL;
+		String qText = (actualTurnNum == 1) ? currentQuestion.qContent() : request.getQuestionText();
+		AnswerUpsertResult saved = interviewLogRepository.upsertAnswer(session.getId(), actualFixedQId, actualTurnNum,
+			type, qText, request.getAnswerText());
+		log.info("[{}] log id={}, turnNum={}", saved.inserted() ? "LOG_CREATE" : "LOG_UPDATE", saved.logId(),
+			actualTurnNum);
+		interviewSearchService.indexAnswer(session, saved.logId(), actualFixedQId, saved.type(), saved.questionText(),
+			request.getAnswerText());
+
+		// 3.[상태 업데이트] 유효한 답변 처리 후 항상 턴 번호를 증가시킵니다. (읽은 상태 기준 CAS - 실패 시 트랜잭션 롤백)
+		if (surveySessionRepository.advanceTurn(session.getId(), actualFixedQId, actualTurnNum) == 0) {
+			log.warn("[STATE_CONFLICT] sessionId={}, fixedQuestionId={}, turnNum={}. Session state already moved.",
+				sessionId, actualFixedQId, actualTurnNum);
+			throw new SessionStateConflictException();
 		}
-
-		// 3.[상태 업데이트] 유효한 답변 처리 후 항상 턴 번호를 증가시킵니다.
-		session.incrementTurnNum();
-		surveySessionRepository.save(session);
-		log.info("[STATE_UPDATE] Incremented session turnNum to {}", session.getCurrentTurnNum());
+		log.info("[STATE_UPDATE] Incremented session turnNum to {}", actualTurnNum + 1);
 
 		return UserAnswerResponse.of(
-			savedLog.getTurnNum(),
-			String.valueOf(savedLog.getType()),
-			savedLog.getFixedQuestionId(),
-			savedLog.getQuestionText(),
-			savedLog.getAnswerText());
+			actualTurnNum,
+			String.valueOf(saved.type()),
+			actualFixedQId,
+			saved.questionText(),
+			request.getAnswerText());
+	}
+
+	private static boolean isStaleState(Object clientValue, Object serverValue) {
+		return clientValue != null && serverValue != null && !serverValue.equals(clientValue);
 	}
 
 	@Transactional
 	public void completeSession(String sessionUuid) {
 		UUID uuid = UUID.fromString(sessionUuid);
+		sessionStateLock.lockUntilCompletion(uuid);
 		SurveySession session = surveySessionRepository.findByUuid(uuid)
 			.orElseThrow(SessionNotFoundException::new);
 
 		session.complete();
+		demographicCubeService.recordCompletion(session.getSurvey().getId(), session.getTesterProfile());
+		inputLogAnalyzer.release(uuid);
 		log.info("Session completed: {}", sessionUuid);
 	}
 
@@ -418,6 +487,8 @@ public class InterviewService {
 		InterviewLog targetLog = logOpt.get();
 		targetLog.updateValidityAndQuality(validity, quality);
 		interviewLogRepository.save(targetLog);
+		answerQualityReportService.markDirty(session.getSurvey().getId(), fixedQuestionId);
+		interviewSearchService.updateEvaluation(session.getSurvey().getId(), targetLog.getId(), validity, quality);
 
 		log.info(
 			"[VALIDITY_QUALITY] Updated log: sessionId={}, fixedQuestionId={}, turnNum={}, logId={}, validity={}, quality={}",
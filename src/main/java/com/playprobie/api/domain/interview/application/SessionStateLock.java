@@ -0,0 +1,76 @@
+package com.playprobie.api.domain.interview.application;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.playprobie.api.global.error.exception.SessionStateConflictException;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 세션 단위 인터뷰 상태 전이용 스트라이프 락
+ * <p>
+ * 같은 노드에서 동시에 들어온 상태 전이(중복 답변 제출, AI의 PASS_TO_NEXT 등)를 JVM 안에서 직렬화하여
+ * DB CAS 실패 없이 순서대로 처리되도록 합니다. 다른 노드와의 경합은 CAS 갱신과 @Version이 처리합니다.
+ * <ul>
+ * <li>세션 UUID 해시로 고정 개수의 락 중 하나를 선택하므로 세션 수와 무관하게 메모리 사용량이 일정합니다.</li>
+ * <li>락은 현재 트랜잭션이 끝난 뒤(커밋/롤백) 해제되어, 다음 요청은 항상 커밋된 상태를 읽습니다.</li>
+ * </ul>
+ */
+@Slf4j
+@Component
+public class SessionStateLock {
+
+	private static final int STRIPES = 256; // 2의 거듭제곱
+	private static final long WAIT_MILLIS = 3000;
+
+	private final ReentrantLock[] locks = new ReentrantLock[STRIPES];
+
+	public SessionStateLock() {
+		for (int i = 0; i < STRIPES; i++) {
+			locks[i] = new ReentrantLock();
+		}
+	}
+
+	/**
+	 * 현재 트랜잭션이 끝날 때까지 세션 락 획득
+	 * <p>
+	 * 상태를 조회하기 전에 호출해야 합니다. 같은 스레드의 중첩 호출은 재진입으로 처리됩니다.
+	 *
+	 * @throws IllegalStateException         트랜잭션 밖에서 호출한 경우
+	 * @throws SessionStateConflictException 대기 시간 안에 락을 얻지 못한 경우
+	 */
+	public void lockUntilCompletion(UUID sessionUuid) {
+		if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+			throw new IllegalStateException("세션 상태 락은 트랜잭션 안에서만 사용할 수 있습니다.");
+		}
+
+		ReentrantLock lock = stripe(sessionUuid);
+		try {
+			if (!lock.tryLock(WAIT_MILLIS, TimeUnit.MILLISECONDS)) {
+				log.warn("⚠️ 세션 상태 락 대기 시간 초과: sessionId={}", sessionUuid);
+				throw new SessionStateConflictException();
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new SessionStateConflictException();
+		}
+
+		TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+			@Override
+			public void afterCompletion(int status) {
+				lock.unlock();
+			}
+		});
+	}
+
+	private ReentrantLock stripe(UUID sessionUuid) {
+		int hash = sessionUuid.hashCode();
+		return locks[(hash ^ (hash >>> 16)) & (STRIPES - 1)];
+	}
+}
@@ -0,0 +1,25 @@
+package com.playprobie.api.domain.interview.dao;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.UUID;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import com.playprobie.api.domain.interview.domain.AnswerIdempotencyRecord;
+
+public interface AnswerIdempotencyRecordRepository extends JpaRepository<AnswerIdempotencyRecord, Long> {
+
+	Optional<AnswerIdempotencyRecord> findBySessionUuidAndIdempotencyKey(UUID sessionUuid, String idempotencyKey);
+
+	/**
+	 * 보관 기간이 지난 멱등성 키 삭제
+	 */
+	@Modifying
+	@Query("DELETE FROM AnswerIdempotencyRecord r WHERE r.createdAt < :threshold")
+	int deleteCreatedBefore(@Param("threshold")
+	LocalDateTime threshold);
+}
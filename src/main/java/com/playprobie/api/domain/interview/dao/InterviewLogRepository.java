@@ -6,8 +6,10 @@ import java.util.UUID;
 import org.springframework.data.jpa.repository.JpaRepository;
 
 import com.playprobie.api.domain.interview.domain.InterviewLog;
+import com.playprobie.api.domain.interview.dto.AnswerEvaluationCount;
+import com.playprobie.api.domain.interview.dto.TailImprovementCount;
 
-public interface InterviewLogRepository extends JpaRepository<InterviewLog, Long> {
+public interface InterviewLogRepository extends JpaRepository<InterviewLog, Long>, InterviewLogUpsertRepository {
 
 	List<InterviewLog> findBySessionIdOrderByTurnNumAsc(Long sessionId);
 
@@ -48,4 +50,52 @@ public interface InterviewLogRepository extends JpaRepository<InterviewLog, Long
 		UUID sessionUuid,
 		@org.springframework.data.repository.query.Param("fixedQuestionId")
 		Long fixedQuestionId);
+
+	/**
+	 * 특정 고정 질문의 답변을 유효성 × 품질 조합별로 집계 (품질 리포트 롤업용)
+	 */
+	@org.springframework.data.jpa.repository.Query("""
+		SELECT new com.playprobie.api.domain.interview.dto.AnswerEvaluationCount(
+			il.analysis.validity, il.analysis.quality, COUNT(il))
+		FROM InterviewLog il
+		WHERE il.fixedQuestionId = :fixedQuestionId AND il.answerText IS NOT NULL
+		GROUP BY il.analysis.validity, il.analysis.quality
+		""")
+	List<AnswerEvaluationCount> countEvaluationsByFixedQuestionId(
+		@org.springframework.data.repository.query.Param("fixedQuestionId")
+		Long fixedQuestionId);
+
+	/**
+	 * 특정 고정 질문에서 꼬리질문으로 품질이 개선된 빈도 집계
+	 * <p>
+	 * 세션별 꼬리질문 최고 품질(ordinal)과 고정질문 품질을 DB에서 비교합니다.
+	 */
+	@org.springframework.data.jpa.repository.Query(value = """
+		SELECT COUNT(*) AS tailedCount,
+			COALESCE(SUM(CASE WHEN t.best_rank > (CASE f.quality
+				WHEN 'EMPTY' THEN 0 WHEN 'GROUNDED' THEN 1 WHEN 'FLOATING' THEN 2 WHEN 'FULL' THEN 3
+				ELSE -1 END) THEN 1 ELSE 0 END), 0) AS improvedCount
+		FROM interview_log f
+		JOIN (
+			SELECT session_id, MAX(CASE quality
+				WHEN 'EMPTY' THEN 0 WHEN 'GROUNDED' THEN 1 WHEN 'FLOATING' THEN 2 WHEN 'FULL' THEN 3
+				ELSE -1 END) AS best_rank
+			FROM interview_log
+			WHERE fixed_q_id = :fixedQuestionId AND q_type = 'TAIL'
+			GROUP BY session_id
+		) t ON t.session_id = f.session_id
+		WHERE f.fixed_q_id = :fixedQuestionId AND f.q_type = 'FIXED'
+		""", nativeQuery = true)
+	TailImprovementCount countTailImprovementByFixedQuestionId(
+		@org.springframework.data.repository.query.Param("fixedQuestionId")
+		Long fixedQuestionId);
+
+	/**
+	 * ID 목록으로 로그와 세션을 함께 조회 (검색 결과 표시용)
+	 */
+	@org.springframework.data.jpa.repository.Query("SELECT il FROM InterviewLog il JOIN FETCH il.session " +
+		"WHERE il.id IN :ids")
+	List<InterviewLog> findAllWithSessionByIdIn(
+		@org.springframework.data.repository.query.Param("ids")
+		java.util.Collection<Long> ids);
 }
@@ -0,0 +1,18 @@
+package com.playprobie.api.domain.interview.dao;
+
+import com.playprobie.api.domain.interview.domain.QuestionType;
+import com.playprobie.api.domain.interview.dto.AnswerUpsertResult;
+
+/**
+ * InterviewLog 답변 upsert (네이티브 쿼리)
+ */
+public interface InterviewLogUpsertRepository {
+
+	/**
+	 * (session_id, fixed_q_id, turn_num) 기준 답변 upsert
+	 * <p>
+	 * 로그가 없으면 질문 유형/텍스트와 함께 생성하고, 이미 있으면(꼬리/재질문 로그) 답변만 갱신합니다.
+	 */
+	AnswerUpsertResult upsertAnswer(Long sessionId, Long fixedQuestionId, int turnNum, QuestionType type,
+		String questionText, String answerText);
+}
@@ -0,0 +1,125 @@
+package com.playprobie.api.domain.interview.dao;
+
+import java.sql.PreparedStatement;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+
+import com.playprobie.api.domain.interview.domain.QuestionType;
+import com.playprobie.api.domain.interview.dto.AnswerUpsertResult;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * {@link InterviewLogUpsertRepository} 구현
+ * <p>
+ * uk_interview_log_session_fixed_q_turn 유니크 인덱스를 기준으로 DB별 upsert 구문을 사용합니다.
+ * <ul>
+ * <li>MariaDB: INSERT ... ON DUPLICATE KEY UPDATE (LAST_INSERT_ID로 기존 행 ID까지 한 번에 반환)</li>
+ * <li>H2: MERGE INTO ... USING</li>
+ * </ul>
+ * 신규 ID는 interview_log_seq에서 직접 받습니다. 시퀀스 값 하나는 pooled 옵티마이저의 한 블록(상한값)에 해당하므로
+ * Hibernate가 할당하는 ID와 겹치지 않으며, 블록의 나머지 값은 사용하지 않습니다.
+ */
+@RequiredArgsConstructor
+public class InterviewLogUpsertRepositoryImpl implements InterviewLogUpsertRepository {
+
+	private static final String MYSQL_UPSERT_SQL = """
+		INSERT INTO interview_log
+			(log_id, session_id, fixed_q_id, turn_num, q_type, question_text, answer_text, created_at, updated_at)
+		VALUES (LAST_INSERT_ID(NEXT VALUE FOR interview_log_seq), ?, ?, ?, ?, ?, ?, ?, ?)
+		ON DUPLICATE KEY UPDATE
+			log_id = LAST_INSERT_ID(log_id),
+			answer_text = VALUES(answer_text),
+			updated_at = VALUES(updated_at)
+		""";
+
+	private static final String H2_MERGE_SQL = """
+		MERGE INTO interview_log t
+		USING (SELECT CAST(? AS BIGINT) AS session_id, CAST(? AS BIGINT) AS fixed_q_id,
+			CAST(? AS INTEGER) AS turn_num) s
+		ON t.session_id = s.session_id AND t.fixed_q_id = s.fixed_q_id AND t.turn_num = s.turn_num
+		WHEN MATCHED THEN UPDATE SET answer_text = ?, updated_at = ?
+		WHEN NOT MATCHED THEN INSERT
+			(log_id, session_id, fixed_q_id, turn_num, q_type, question_text, answer_text, created_at, updated_at)
+			VALUES (NEXT VALUE FOR interview_log_seq, s.session_id, s.fixed_q_id, s.turn_num, ?, ?, ?, ?, ?)
+		""";
+
+	private static final String SELECT_BY_KEY_SQL = """
+		SELECT log_id, created_at = updated_at AS inserted, q_type, question_text
+		FROM interview_log
+		WHERE session_id = ? AND fixed_q_id = ? AND turn_num = ?
+		""";
+
+	private static final String SELECT_BY_ID_SQL = "SELECT q_type, question_text FROM interview_log WHERE log_id = ?";
+
+	private final JdbcTemplate jdbcTemplate;
+
+	private volatile Boolean h2;
+
+	@Override
+	public AnswerUpsertResult upsertAnswer(Long sessionId, Long fixedQuestionId, int turnNum, QuestionType type,
+		String questionText, String answerText) {
+		Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+		return isH2()
+			? mergeH2(sessionId, fixedQuestionId, turnNum, type, questionText, answerText, now)
+			: upsertMySql(sessionId, fixedQuestionId, turnNum, type, questionText, answerText, now);
+	}
+
+	private AnswerUpsertResult upsertMySql(Long sessionId, Long fixedQuestionId, int turnNum, QuestionType type,
+		String questionText, String answerText, Timestamp now) {
+		KeyHolder keyHolder = new GeneratedKeyHolder();
+		int affected = jdbcTemplate.update(connection -> {
+			PreparedStatement statement = connection.prepareStatement(MYSQL_UPSERT_SQL,
+				Statement.RETURN_GENERATED_KEYS);
+			statement.setLong(1, sessionId);
+			statement.setLong(2, fixedQuestionId);
+			statement.setInt(3, turnNum);
+			statement.setString(4, type.name());
+			statement.setString(5, questionText);
+			statement.setString(6, answerText);
+			statement.setTimestamp(7, now);
+			statement.setTimestamp(8, now);
+			return statement;
+		}, keyHolder);
+		long logId = keyHolder.getKeyAs(Number.class).longValue();
+
+		// affected rows: 1 = 신규 생성, 2 = 기존 행 갱신
+		if (affected == 1) {
+			return new AnswerUpsertResult(logId, true, type, questionText);
+		}
+		return jdbcTemplate.queryForObject(SELECT_BY_ID_SQL,
+			(rs, rowNum) -> new AnswerUpsertResult(logId, false, toType(rs.getString(1)), rs.getString(2)),
+			logId);
+	}
+
+	private AnswerUpsertResult mergeH2(Long sessionId, Long fixedQuestionId, int turnNum, QuestionType type,
+		String questionText, String answerText, Timestamp now) {
+		jdbcTemplate.update(H2_MERGE_SQL, sessionId, fixedQuestionId, turnNum, answerText, now,
+			type.name(), questionText, answerText, now, now);
+		return jdbcTemplate.queryForObject(SELECT_BY_KEY_SQL,
+			(rs, rowNum) -> new AnswerUpsertResult(rs.getLong(1), rs.getBoolean(2),
+				toType(rs.getString(3)), rs.getString(4)),
+			sessionId, fixedQuestionId, turnNum);
+	}
+
+	private static QuestionType toType(String value) {
+		return value != null ? QuestionType.valueOf(value) : null;
+	}
+
+	private boolean isH2() {
+		Boolean cached = h2;
+		if (cached == null) {
+			String productName = jdbcTemplate.execute(
+				(ConnectionCallback<String>)connection -> connection.getMetaData().getDatabaseProductName());
+			cached = "H2".equalsIgnoreCase(productName);
+			h2 = cached;
+		}
+		return cached;
+	}
+}
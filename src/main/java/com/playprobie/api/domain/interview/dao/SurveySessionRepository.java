@@ -6,16 +6,20 @@ import java.util.UUID;
 
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
 import com.playprobie.api.domain.interview.domain.SessionStatus;
 import com.playprobie.api.domain.interview.domain.SurveySession;
+import com.playprobie.api.domain.interview.dto.TesterDemographicCount;
 
 public interface SurveySessionRepository extends JpaRepository<SurveySession, Long> {
 
 	Optional<SurveySession> findByUuid(UUID uuid);
 
+	boolean existsByUuid(UUID uuid);
+
 	@Query("SELECT ss FROM SurveySession ss JOIN FETCH ss.survey WHERE ss.uuid IN :uuids")
 	List<SurveySession> findAllByUuidIn(@Param("uuids")
 	java.util.Collection<UUID> uuids);
@@ -46,6 +50,24 @@ public interface SurveySessionRepository extends JpaRepository<SurveySession, Lo
 
 	long countBySurveyIdAndStatus(Long surveyId, SessionStatus status);
 
+	/**
+	 * 설문의 특정 상태 세션을 테스터 인구통계 조합별로 집계합니다.
+	 * <p>
+	 * 인구통계 큐브 초기 적재용입니다.
+	 */
+	@Query("""
+		SELECT new com.playprobie.api.domain.interview.dto.TesterDemographicCount(
+			ss.testerProfile.ageGroup, ss.testerProfile.gender, ss.testerProfile.preferGenre, COUNT(ss))
+		FROM SurveySession ss
+		WHERE ss.survey.id = :surveyId AND ss.status = :status
+		GROUP BY ss.testerProfile.ageGroup, ss.testerProfile.gender, ss.testerProfile.preferGenre
+		""")
+	List<TesterDemographicCount> countDemographicsBySurveyIdAndStatus(
+		@Param("surveyId")
+		Long surveyId,
+		@Param("status")
+		SessionStatus status);
+
 	@Query("""
 		SELECT ss FROM SurveySession ss
 		JOIN FETCH ss.survey s
@@ -76,4 +98,85 @@ public interface SurveySessionRepository extends JpaRepository<SurveySession, Lo
 		@Param("cursor")
 		Long cursor,
 		Pageable pageable);
+
+	// ========== Interview State CAS (Compare-And-Set) ==========
+	// 기대한 상태일 때만 전이하고 version을 함께 증가시킵니다. 반환값이 0이면 다른 요청이 먼저 상태를 바꾼 것입니다.
+	// 벌크 갱신이므로 같은 트랜잭션에서 이미 조회한 엔티티에는 반영되지 않습니다.
+
+	/**
+	 * 상태가 없는(레거시) 세션의 인터뷰 상태 초기화
+	 */
+	@Modifying
+	@Query("""
+		UPDATE SurveySession ss
+		SET ss.currentFixedQId = :fixedQId, ss.currentFixedQOrder = :order, ss.currentTurnNum = :turnNum,
+			ss.version = ss.version + 1
+		WHERE ss.id = :id AND ss.currentFixedQId IS NULL
+		""")
+	int initializeInterviewState(
+		@Param("id")
+		Long id,
+		@Param("fixedQId")
+		Long fixedQId,
+		@Param("order")
+		Integer order,
+		@Param("turnNum")
+		Integer turnNum);
+
+	/**
+	 * 첫 번째 고정 질문으로 인터뷰 상태 재설정 (조회한 버전 기준)
+	 */
+	@Modifying
+	@Query("""
+		UPDATE SurveySession ss
+		SET ss.currentFixedQId = :fixedQId, ss.currentFixedQOrder = :order, ss.currentTurnNum = 1,
+			ss.version = ss.version + 1
+		WHERE ss.id = :id AND ss.version = :expectedVersion
+		""")
+	int restartInterview(
+		@Param("id")
+		Long id,
+		@Param("expectedVersion")
+		Long expectedVersion,
+		@Param("fixedQId")
+		Long fixedQId,
+		@Param("order")
+		Integer order);
+
+	/**
+	 * 답변 저장 후 턴 번호 증가 (현재 고정 질문과 턴 번호가 기대값일 때만)
+	 */
+	@Modifying
+	@Query("""
+		UPDATE SurveySession ss
+		SET ss.currentTurnNum = ss.currentTurnNum + 1, ss.version = ss.version + 1
+		WHERE ss.id = :id AND ss.currentFixedQId = :fixedQId AND ss.currentTurnNum = :turnNum
+		""")
+	int advanceTurn(
+		@Param("id")
+		Long id,
+		@Param("fixedQId")
+		Long fixedQId,
+		@Param("turnNum")
+		Integer turnNum);
+
+	/**
+	 * 다음 고정 질문으로 전이 (현재 질문 순서가 기대값일 때만, 턴 번호는 1로 초기화)
+	 */
+	@Modifying
+	@Query("""
+		UPDATE SurveySession ss
+		SET ss.currentFixedQId = :nextFixedQId, ss.currentFixedQOrder = :nextOrder, ss.currentTurnNum = 1,
+			ss.version = ss.version + 1
+		WHERE ss.id = :id AND ss.currentFixedQOrder = :expectedOrder
+		""")
+	int moveToNextQuestion(
+		@Param("id")
+		Long id,
+		@Param("expectedOrder")
+		Integer expectedOrder,
+		@Param("nextFixedQId")
+		Long nextFixedQId,
+		@Param("nextOrder")
+		Integer nextOrder);
 }
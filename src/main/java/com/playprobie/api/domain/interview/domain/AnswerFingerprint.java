@@ -0,0 +1,154 @@
+package com.playprobie.api.domain.interview.domain;
+
+import java.text.Normalizer;
+import java.util.Arrays;
+import java.util.Locale;
+
+/**
+ * 답변 텍스트 지문 (정규화 텍스트 해시 + MinHash)
+ * <p>
+ * 공백/문장부호/대소문자를 제거한 정규화 텍스트를 기준으로 계산합니다.
+ * <ul>
+ * <li>exactHash: 정규화 텍스트가 완전히 같은지 비교</li>
+ * <li>minHash: 문자 bigram 집합의 MinHash 서명, 일치 비율로 Jaccard 유사도를 추정</li>
+ * </ul>
+ * 어미만 바뀐 짧은 한국어 문장에서도 유사도가 안정적이도록 SimHash 대신 bigram MinHash를 사용합니다.
+ */
+public final class AnswerFingerprint {
+
+	private static final int SIGNATURE_SIZE = 32;
+	private static final long FNV_OFFSET = 0xcbf29ce484222325L;
+	private static final long FNV_PRIME = 0x100000001b3L;
+	private static final long GOLDEN_GAMMA = 0x9e3779b97f4a7c15L;
+
+	private final String normalized;
+	private final long exactHash;
+	private final int[] minHash;
+
+	private AnswerFingerprint(String normalized) {
+		this.normalized = normalized;
+		this.exactHash = hash(normalized, 0, normalized.length());
+		this.minHash = minHash(normalized);
+	}
+
+	public static AnswerFingerprint of(String text) {
+		return new AnswerFingerprint(normalize(text));
+	}
+
+	public int length() {
+		return normalized.length();
+	}
+
+	/**
+	 * 한글 음절이나 영문/숫자가 하나도 없거나, 같은 글자만 반복된 답변 (예: "ㅇㅇ", "...", "아아아")
+	 */
+	public boolean isLowContent() {
+		if (normalized.isEmpty()) {
+			return true;
+		}
+		boolean meaningful = false;
+		boolean repeated = true;
+		for (int i = 0; i < normalized.length(); i++) {
+			char c = normalized.charAt(i);
+			if ((c >= '가' && c <= '힣') || (Character.isLetterOrDigit(c) && !isJamo(c))) {
+				meaningful = true;
+			}
+			if (c != normalized.charAt(0)) {
+				repeated = false;
+			}
+		}
+		return !meaningful || (repeated && normalized.length() >= 3);
+	}
+
+	/**
+	 * 추정 Jaccard 유사도 (bigram 집합 기준, 0.0 ~ 1.0)
+	 */
+	public double similarity(AnswerFingerprint other) {
+		int matches = 0;
+		for (int i = 0; i < SIGNATURE_SIZE; i++) {
+			if (minHash[i] == other.minHash[i]) {
+				matches++;
+			}
+		}
+		return (double)matches / SIGNATURE_SIZE;
+	}
+
+	/**
+	 * 정규화 텍스트가 완전히 같은지 여부
+	 */
+	public boolean isSameText(AnswerFingerprint other) {
+		return exactHash == other.exactHash && normalized.length() == other.normalized.length();
+	}
+
+	/**
+	 * 두 텍스트 모두 minLength 이상이면서, 완전히 같거나 추정 유사도가 임계값 이상인지 여부
+	 * <p>
+	 * "네", "좋아요" 같은 짧은 답변은 서로 다른 질문에 똑같이 답해도 자연스러우므로 완전 일치여도 중복으로 보지 않습니다.
+	 */
+	public boolean isNearDuplicateOf(AnswerFingerprint other, int minLength, double minSimilarity) {
+		if (normalized.length() < minLength || other.normalized.length() < minLength) {
+			return false;
+		}
+		return isSameText(other) || similarity(other) >= minSimilarity;
+	}
+
+	static String normalize(String text) {
+		if (text == null || text.isBlank()) {
+			return "";
+		}
+		String value = Normalizer.normalize(text, Normalizer.Form.NFKC).toLowerCase(Locale.ROOT);
+		StringBuilder builder = new StringBuilder(value.length());
+		for (int i = 0; i < value.length(); i++) {
+			char c = value.charAt(i);
+			if (Character.isLetterOrDigit(c)) {
+				builder.append(c);
+			}
+		}
+		return builder.toString();
+	}
+
+	private static int[] minHash(String normalized) {
+		int[] signature = new int[SIGNATURE_SIZE];
+		Arrays.fill(signature, Integer.MAX_VALUE);
+		if (normalized.isEmpty()) {
+			return signature;
+		}
+		int shingle = normalized.length() == 1 ? 1 : 2;
+		for (int i = 0; i + shingle <= normalized.length(); i++) {
+			long feature = hash(normalized, i, i + shingle);
+			for (int k = 0; k < SIGNATURE_SIZE; k++) {
+				int value = (int)mix(feature + GOLDEN_GAMMA * (k + 1));
+				if (value < signature[k]) {
+					signature[k] = value;
+				}
+			}
+		}
+		return signature;
+	}
+
+	/**
+	 * FNV-1a 64bit
+	 */
+	private static long hash(String value, int from, int to) {
+		long hash = FNV_OFFSET;
+		for (int i = from; i < to; i++) {
+			hash ^= value.charAt(i);
+			hash *= FNV_PRIME;
+		}
+		return hash;
+	}
+
+	/**
+	 * MinHash 해시 함수군 생성용 비트 확산 (SplitMix64 finalizer)
+	 */
+	private static long mix(long value) {
+		long z = value;
+		z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+		z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+		return z ^ (z >>> 31);
+	}
+
+	private static boolean isJamo(char c) {
+		return (c >= 'ㄱ' && c <= 'ㆎ') || (c >= 'ᄀ' && c <= 'ᇿ');
+	}
+}
@@ -0,0 +1,59 @@
+package com.playprobie.api.domain.interview.domain;
+
+import java.util.UUID;
+
+import com.playprobie.api.global.domain.BaseTimeEntity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 답변 제출 멱등성 키 Entity
+ *
+ * <p>
+ * 처리된 Idempotency-Key와 당시 응답을 보관하여, 다른 노드로 들어온 재시도도 같은 응답을 돌려받도록 합니다.
+ * (세션, 키) 유니크 제약으로 동시에 들어온 중복 요청 중 하나만 커밋됩니다.
+ */
+@Entity
+@Table(name = "answer_idempotency", uniqueConstraints = {
+	@UniqueConstraint(name = "uk_answer_idempotency_session_key", columnNames = {"session_uuid", "idempotency_key"})
+}, indexes = {
+	@Index(name = "idx_answer_idempotency_created_at", columnList = "created_at")
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class AnswerIdempotencyRecord extends BaseTimeEntity {
+
+	@Id
+	@GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "answer_idempotency_seq")
+	@SequenceGenerator(name = "answer_idempotency_seq", sequenceName = "answer_idempotency_seq")
+	private Long id;
+
+	@Column(name = "session_uuid", nullable = false)
+	private UUID sessionUuid;
+
+	@Column(name = "idempotency_key", nullable = false, length = 100)
+	private String idempotencyKey;
+
+	/** 최초 처리 시 반환한 UserAnswerResponse (JSON) */
+	@Column(name = "response_json", nullable = false, columnDefinition = "TEXT")
+	private String responseJson;
+
+	@Builder
+	public AnswerIdempotencyRecord(UUID sessionUuid, String idempotencyKey, String responseJson) {
+		this.sessionUuid = sessionUuid;
+		this.idempotencyKey = idempotencyKey;
+		this.responseJson = responseJson;
+	}
+}
@@ -13,9 +13,12 @@ import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
 import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.EqualsAndHashCode;
@@ -23,14 +26,20 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 
 @Entity
-@Table(name = "interview_log")
+@Table(name = "interview_log", indexes = {
+	@Index(name = "idx_interview_log_fixed_q_type", columnList = "fixed_q_id, q_type")
+}, uniqueConstraints = {
+	@UniqueConstraint(name = "uk_interview_log_session_fixed_q_turn",
+		columnNames = {"session_id", "fixed_q_id", "turn_num"})
+})
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @Getter
 @EqualsAndHashCode(of = {"id"}, callSuper = false)
 public class InterviewLog extends BaseTimeEntity {
 
 	@Id
-	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	@GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "interview_log_seq")
+	@SequenceGenerator(name = "interview_log_seq", sequenceName = "interview_log_seq")
 	@Column(name = "log_id")
 	private Long id;
 
@@ -20,7 +20,9 @@ import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
+import jakarta.persistence.Version;
 import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.EqualsAndHashCode;
@@ -38,7 +40,8 @@ import lombok.NoArgsConstructor;
 public class SurveySession {
 
 	@Id
-	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	@GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "survey_session_seq")
+	@SequenceGenerator(name = "survey_session_seq", sequenceName = "survey_session_seq")
 	@Column(name = "session_id")
 	private Long id;
 
@@ -100,6 +103,17 @@ public class SurveySession {
 	@Column(name = "current_turn_num")
 	private Integer currentTurnNum;
 
+	/**
+	 * 낙관적 락 버전
+	 * <p>
+	 * 인터뷰 상태 CAS 전이({@code SurveySessionRepository})도 함께 증가시키므로,
+	 * 오래된 스냅샷을 가진 엔티티 flush가 전이된 상태를 덮어쓰지 않습니다.
+	 * (기존 행은 컬럼 추가 시 0으로 채워집니다)
+	 */
+	@Version
+	@Column(name = "version", columnDefinition = "bigint default 0 not null")
+	private Long version;
+
 	// ======================================================================
 
 	@Builder
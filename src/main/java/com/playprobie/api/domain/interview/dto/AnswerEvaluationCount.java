@@ -0,0 +1,17 @@
+package com.playprobie.api.domain.interview.dto;
+
+import com.playprobie.api.domain.interview.domain.AnswerQuality;
+import com.playprobie.api.domain.interview.domain.AnswerValidity;
+
+/**
+ * 유효성 × 품질 조합별 응답 수 (GROUP BY 프로젝션)
+ *
+ * @param validity 유효성 평가 (미평가 시 null)
+ * @param quality  품질 평가 (미평가 시 null)
+ * @param count    해당 조합의 로그 수
+ */
+public record AnswerEvaluationCount(
+	AnswerValidity validity,
+	AnswerQuality quality,
+	Long count) {
+}
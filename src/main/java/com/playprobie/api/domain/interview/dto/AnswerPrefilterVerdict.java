@@ -0,0 +1,23 @@
+package com.playprobie.api.domain.interview.dto;
+
+import com.playprobie.api.domain.interview.domain.AnswerValidity;
+
+/**
+ * AI 호출 전 로컬 사전 필터 판정 결과
+ *
+ * @param validity     로컬에서 확정한 유효성
+ * @param reason       판정 사유
+ * @param retryMessage 테스터에게 보낼 재질문 문구
+ */
+public record AnswerPrefilterVerdict(
+	AnswerValidity validity,
+	Reason reason,
+	String retryMessage) {
+
+	public enum Reason {
+		LOW_CONTENT, // 내용 없는 답변 (자음만, 문장부호만, 같은 글자 반복)
+		QUESTION_ECHO, // 질문 문구를 그대로 복사한 답변
+		REPEATED, // 같은 세션이 같은 질문에 이전과 거의 같은 답변을 반복
+		CROSS_SESSION_DUPLICATE // 여러 세션에서 거의 같은 장문 답변이 반복 (봇/복붙 의심)
+	}
+}
@@ -0,0 +1,18 @@
+package com.playprobie.api.domain.interview.dto;
+
+/**
+ * 답변 제출 결과
+ *
+ * @param response 저장된(또는 최초 처리 시의) 답변 응답
+ * @param replayed 같은 Idempotency-Key로 이미 처리된 요청이면 true (AI 스트리밍을 다시 시작하지 않음)
+ */
+public record AnswerSubmitResult(UserAnswerResponse response, boolean replayed) {
+
+	public static AnswerSubmitResult created(UserAnswerResponse response) {
+		return new AnswerSubmitResult(response, false);
+	}
+
+	public static AnswerSubmitResult replayed(UserAnswerResponse response) {
+		return new AnswerSubmitResult(response, true);
+	}
+}
@@ -0,0 +1,18 @@
+package com.playprobie.api.domain.interview.dto;
+
+import com.playprobie.api.domain.interview.domain.QuestionType;
+
+/**
+ * 답변 upsert 결과
+ *
+ * @param logId        저장된 InterviewLog PK
+ * @param inserted     새 로그 생성 여부 (false면 기존 질문 로그에 답변을 기록)
+ * @param type         저장된 로그의 질문 유형
+ * @param questionText 저장된 로그의 질문 텍스트
+ */
+public record AnswerUpsertResult(
+	long logId,
+	boolean inserted,
+	QuestionType type,
+	String questionText) {
+}
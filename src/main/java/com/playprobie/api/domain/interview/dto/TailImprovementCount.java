@@ -0,0 +1,13 @@
+package com.playprobie.api.domain.interview.dto;
+
+/**
+ * 꼬리질문 품질 개선 집계 (Native Query 프로젝션)
+ */
+public interface TailImprovementCount {
+
+	/** 꼬리질문이 1회 이상 진행된 (세션, 질문) 수 */
+	Long getTailedCount();
+
+	/** 꼬리질문 최고 품질이 고정질문 품질보다 높은 (세션, 질문) 수 */
+	Long getImprovedCount();
+}
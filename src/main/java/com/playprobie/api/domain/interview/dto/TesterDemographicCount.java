@@ -0,0 +1,16 @@
+package com.playprobie.api.domain.interview.dto;
+
+/**
+ * 테스터 인구통계 조합별 세션 수 (GROUP BY 프로젝션)
+ *
+ * @param ageGroup    연령대
+ * @param gender      성별
+ * @param preferGenre 선호 장르
+ * @param count       해당 조합의 세션 수
+ */
+public record TesterDemographicCount(
+	String ageGroup,
+	String gender,
+	String preferGenre,
+	Long count) {
+}
@@ -0,0 +1,70 @@
+package com.playprobie.api.domain.replay.api;
+
+import java.util.UUID;
+
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.playprobie.api.domain.replay.application.HeatmapService;
+import com.playprobie.api.domain.replay.domain.HeatmapLayer;
+import com.playprobie.api.domain.replay.dto.HeatmapResponse;
+import com.playprobie.api.domain.user.domain.User;
+import com.playprobie.api.global.common.response.CommonResponse;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 히트맵 API Controller
+ * 설문의 모든 테스터 클릭/이동 히트맵 조회 (밀도 배열 또는 압축 격자)
+ */
+@RestController
+@RequestMapping("/surveys/{surveyUuid}/heatmaps")
+@RequiredArgsConstructor
+@Tag(name = "Heatmap", description = "리플레이 히트맵 API")
+public class HeatmapController {
+
+	/** 압축 히트맵 격자 형식 (0 연속 길이 + 횟수 varint, zlib 압축) */
+	public static final String HEATMAP_BINARY_VALUE = "application/vnd.playprobie.heatmap";
+
+	private final HeatmapService heatmapService;
+
+	@GetMapping(produces = MediaType.APPLICATION_JSON_VALUE)
+	@Operation(summary = "히트맵 밀도 조회", description = "설문의 클릭/이동 히트맵을 0~255 밀도 배열로 조회합니다. bucket을 생략하면 영상 전체 구간입니다.")
+	public ResponseEntity<CommonResponse<HeatmapResponse>> getHeatmap(
+		@AuthenticationPrincipal(expression = "user")
+		User user,
+		@PathVariable(name = "surveyUuid")
+		UUID surveyUuid,
+		@RequestParam(defaultValue = "CLICK")
+		HeatmapLayer layer,
+		@RequestParam(required = false)
+		Integer bucket) {
+		HeatmapResponse response = heatmapService.getHeatmap(surveyUuid, layer, bucket, user);
+		return ResponseEntity.ok(CommonResponse.of(response));
+	}
+
+	@GetMapping(produces = HEATMAP_BINARY_VALUE)
+	@Operation(summary = "압축 히트맵 격자 조회", description = "Accept: application/vnd.playprobie.heatmap 요청 시 셀별 누적 횟수를 압축 격자로 내려줍니다.")
+	public ResponseEntity<byte[]> getCompressedHeatmap(
+		@AuthenticationPrincipal(expression = "user")
+		User user,
+		@PathVariable(name = "surveyUuid")
+		UUID surveyUuid,
+		@RequestParam(defaultValue = "CLICK")
+		HeatmapLayer layer,
+		@RequestParam(required = false)
+		Integer bucket) {
+		byte[] grid = heatmapService.getCompressedHeatmap(surveyUuid, layer, bucket, user);
+		return ResponseEntity.ok()
+			.contentType(MediaType.parseMediaType(HEATMAP_BINARY_VALUE))
+			.body(grid);
+	}
+}
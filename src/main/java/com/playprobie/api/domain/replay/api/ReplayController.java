@@ -12,6 +12,8 @@ import org.springframework.web.bind.annotation.RestController;
 
 import com.playprobie.api.domain.replay.application.InsightQuestionService;
 import com.playprobie.api.domain.replay.application.ReplayService;
+import com.playprobie.api.domain.replay.dto.BatchPresignedUrlRequest;
+import com.playprobie.api.domain.replay.dto.BatchPresignedUrlResponse;
 import com.playprobie.api.domain.replay.dto.InsightAnswerRequest;
 import com.playprobie.api.domain.replay.dto.InsightAnswerResponse;
 import com.playprobie.api.domain.replay.dto.PresignedUrlRequest;
@@ -26,7 +28,7 @@ import lombok.extern.slf4j.Slf4j;
 
 /**
  * 리플레이 API Controller
- * 입력 로그 수신, Presigned URL 발급, 업로드 완료 처리, 인사이트 응답
+ * 입력 로그 수신, Presigned URL 발급(단건/일괄), 업로드 완료 처리, 인사이트 응답
  */
 @Slf4j
 @RestController
@@ -34,11 +36,14 @@ import lombok.extern.slf4j.Slf4j;
 @RequiredArgsConstructor
 public class ReplayController {
 
+	/** 입력 로그 바이너리 배치 형식 (델타 + varint, 선택적 zlib 압축) */
+	public static final String INPUT_LOG_BINARY_VALUE = "application/vnd.playprobie.input-log";
+
 	private final ReplayService replayService;
 	private final InsightQuestionService insightQuestionService;
 
 	/**
-	 * 입력 로그 배치 수신
+	 * 입력 로그 배치 수신 (검증 후 수집 큐에 적재하고 202 반환, 큐가 가득 차면 429 + Retry-After)
 	 * POST /sessions/{sessionId}/replay/logs
 	 */
 	@PostMapping("/logs")
@@ -55,6 +60,24 @@ public class ReplayController {
 		return ResponseEntity.status(HttpStatus.ACCEPTED).build();
 	}
 
+	/**
+	 * 입력 로그 바이너리 배치 수신 (JSON과 같은 경로, Content-Type으로 구분)
+	 * POST /sessions/{sessionId}/replay/logs
+	 */
+	@PostMapping(value = "/logs", consumes = INPUT_LOG_BINARY_VALUE)
+	public ResponseEntity<Void> receiveBinaryInputLogs(
+		@PathVariable("sessionId")
+		UUID sessionId,
+		@RequestBody
+		byte[] payload) {
+		log.info("[ReplayController] Received binary log batch ({} bytes) for session: {}",
+			payload.length, sessionId);
+
+		replayService.processBinaryInputLogs(sessionId.toString(), payload);
+
+		return ResponseEntity.status(HttpStatus.ACCEPTED).build();
+	}
+
 	/**
 	 * Presigned URL 발급
 	 * POST /sessions/{sessionId}/replay/presigned-url
@@ -73,6 +96,24 @@ public class ReplayController {
 		return ResponseEntity.status(HttpStatus.CREATED).body(CommonResponse.of(response));
 	}
 
+	/**
+	 * Presigned URL 일괄 발급 (앞으로 녹화할 세그먼트 슬롯 예약, 클라이언트 URL 풀 채우기)
+	 * POST /sessions/{sessionId}/replay/presigned-urls
+	 */
+	@PostMapping("/presigned-urls")
+	public ResponseEntity<CommonResponse<BatchPresignedUrlResponse>> generatePresignedUrls(
+		@PathVariable("sessionId")
+		UUID sessionId,
+		@Valid @RequestBody
+		BatchPresignedUrlRequest request) {
+		log.info("[ReplayController] Batch presigned URL request for session: {}, sequence: {}, count: {}",
+			sessionId, request.startSequence(), request.count());
+
+		BatchPresignedUrlResponse response = replayService.generatePresignedUrls(sessionId.toString(), request);
+
+		return ResponseEntity.status(HttpStatus.CREATED).body(CommonResponse.of(response));
+	}
+
 	/**
 	 * 업로드 완료 알림
 	 * POST /sessions/{sessionId}/replay/upload-complete
@@ -0,0 +1,51 @@
+package com.playprobie.api.domain.replay.api;
+
+import java.util.UUID;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.playprobie.api.domain.replay.application.ReplayManifestService;
+import com.playprobie.api.domain.replay.dto.ReplayManifestResponse;
+import com.playprobie.api.domain.user.domain.User;
+import com.playprobie.api.global.common.response.CommonResponse;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 리플레이 매니페스트 API Controller
+ * 세션 재생용 세그먼트 목록과 인사이트 트랙을 한 번에 조회
+ */
+@RestController
+@RequestMapping("/surveys/{surveyUuid}/sessions/{sessionUuid}/replay-manifest")
+@RequiredArgsConstructor
+@Tag(name = "Replay Manifest", description = "세션 리플레이 매니페스트 API")
+public class ReplayManifestController {
+
+	private final ReplayManifestService replayManifestService;
+
+	@GetMapping
+	@Operation(summary = "리플레이 매니페스트 조회", description = "업로드된 세그먼트(Presigned GET URL)와 인사이트 트랙을 조회합니다. from_ms/to_ms로 인사이트 구간을 좁힐 수 있습니다.")
+	public ResponseEntity<CommonResponse<ReplayManifestResponse>> getManifest(
+		@AuthenticationPrincipal(expression = "user")
+		User user,
+		@PathVariable(name = "surveyUuid")
+		UUID surveyUuid,
+		@PathVariable(name = "sessionUuid")
+		UUID sessionUuid,
+		@RequestParam(name = "from_ms", required = false)
+		Long fromMs,
+		@RequestParam(name = "to_ms", required = false)
+		Long toMs) {
+		ReplayManifestResponse response = replayManifestService.getManifest(surveyUuid, sessionUuid, fromMs, toMs,
+			user);
+		return ResponseEntity.ok(CommonResponse.of(response));
+	}
+}
@@ -0,0 +1,198 @@
+package com.playprobie.api.domain.replay.application;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+import org.springframework.stereotype.Component;
+
+import com.playprobie.api.domain.replay.domain.HeatmapGrid;
+import com.playprobie.api.domain.replay.domain.HeatmapLayer;
+import com.playprobie.api.global.config.properties.ReplayHeatmapProperties;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 설문별 히트맵 증분 누적기 (수집 워커에서 배치 분석과 같은 순회 흐름으로 갱신)
+ * <p>
+ * 원시 로그를 다시 읽지 않도록, 수집한 배치의 클릭(MOUSE_DOWN)/이동(MOUSE_MOVE) 좌표를 곧바로 고정 해상도 int[] 격자에 더합니다.
+ * <ul>
+ * <li>격자 키: (설문, 종류, 영상 시간 구간) - 모든 이벤트는 전체 구간 격자에도 더해집니다.</li>
+ * <li>좌표는 설정된 기준 화면(frameWidth × frameHeight) 기준이며, 화면 밖 좌표와 음수 media_time은 버립니다.</li>
+ * <li>같은 구간의 연속 이벤트는 셀 버퍼에 모았다가 격자 잠금 한 번으로 더합니다.</li>
+ * <li>쌓인 증분은 {@link HeatmapService}가 주기적으로 꺼내({@link #drain}) DB 블롭에 병합합니다.</li>
+ * </ul>
+ */
+@Component
+@RequiredArgsConstructor
+public class HeatmapAccumulator {
+
+	private final ReplayHeatmapProperties replayHeatmapProperties;
+
+	private final Map<GridKey, DeltaGrid> grids = new ConcurrentHashMap<>();
+
+	/**
+	 * 배치에서 watermark 이후의 클릭/이동 좌표를 설문 격자에 누적
+	 *
+	 * @param surveyId  설문 ID
+	 * @param columns   media_time 순으로 정렬된 배치
+	 * @param watermark 이미 집계한 마지막 media_time (이 시각 이하의 로그는 재전송으로 보고 건너뜀)
+	 */
+	void accumulate(Long surveyId, InputLogColumns columns, long watermark) {
+		int frameWidth = replayHeatmapProperties.frameWidth();
+		int frameHeight = replayHeatmapProperties.frameHeight();
+		int gridWidth = replayHeatmapProperties.gridWidth();
+		int gridHeight = replayHeatmapProperties.gridHeight();
+		long bucketMs = replayHeatmapProperties.bucket().toMillis();
+		int maxBuckets = replayHeatmapProperties.maxBuckets();
+
+		CellBuffer clicks = new CellBuffer(surveyId, HeatmapLayer.CLICK, columns.size);
+		CellBuffer moves = new CellBuffer(surveyId, HeatmapLayer.MOVE, columns.size);
+		for (int i = 0; i < columns.size; i++) {
+			int type = columns.typeCode[i];
+			CellBuffer buffer = type == InputLogColumns.TYPE_MOUSE_DOWN ? clicks
+				: type == InputLogColumns.TYPE_MOUSE_MOVE ? moves : null;
+			long time = columns.mediaTime[i];
+			if (buffer == null || time <= watermark || time < 0) {
+				continue;
+			}
+			int x = columns.pointerX[i];
+			int y = columns.pointerY[i];
+			if (x < 0 || x >= frameWidth || y < 0 || y >= frameHeight) {
+				continue;
+			}
+			int cell = (int)((long)y * gridHeight / frameHeight) * gridWidth + (int)((long)x * gridWidth / frameWidth);
+			long bucket = time / bucketMs;
+			buffer.add(bucket < maxBuckets ? (int)bucket : HeatmapGrid.ALL_BUCKETS, cell);
+		}
+		clicks.flush();
+		moves.flush();
+	}
+
+	/**
+	 * 쌓인 증분을 모두 꺼냄 (이후 누적은 새 격자로 시작)
+	 */
+	List<Delta> drain() {
+		List<Delta> deltas = new ArrayList<>();
+		for (GridKey key : grids.keySet()) {
+			DeltaGrid grid = grids.remove(key);
+			if (grid == null) {
+				continue;
+			}
+			synchronized (grid) {
+				grid.closed = true;
+				if (grid.total > 0) {
+					deltas.add(new Delta(key, grid.counts, grid.total));
+				}
+			}
+		}
+		return deltas;
+	}
+
+	/**
+	 * 병합에 실패한 증분을 되돌려 다음 주기에 다시 병합
+	 */
+	void restore(Delta delta) {
+		update(delta.key(), grid -> {
+			int[] counts = delta.counts();
+			for (int cell = 0; cell < counts.length; cell++) {
+				grid.counts[cell] += counts[cell];
+			}
+			grid.total += delta.total();
+		});
+	}
+
+	/**
+	 * 아직 병합되지 않은 증분이 있는 격자 수 (모니터링/테스트용)
+	 */
+	int pendingGrids() {
+		return grids.size();
+	}
+
+	private void addCells(GridKey key, int[] cells, int size) {
+		update(key, grid -> {
+			for (int i = 0; i < size; i++) {
+				grid.counts[cells[i]]++;
+			}
+			grid.total += size;
+		});
+	}
+
+	private void update(GridKey key, Consumer<DeltaGrid> action) {
+		while (true) {
+			DeltaGrid grid = grids.computeIfAbsent(key, ignored -> new DeltaGrid(replayHeatmapProperties.cellCount()));
+			synchronized (grid) {
+				if (!grid.closed) {
+					action.accept(grid);
+					return;
+				}
+			}
+			// drain과 경합해 이미 꺼내진 격자 - 새 격자에 다시 더함
+		}
+	}
+
+	/**
+	 * 격자 식별자 (bucket = HeatmapGrid.ALL_BUCKETS면 전체 구간)
+	 */
+	record GridKey(Long surveyId, HeatmapLayer layer, int bucket) {
+	}
+
+	/**
+	 * 한 주기 동안 쌓인 격자 증분
+	 */
+	record Delta(GridKey key, int[] counts, long total) {
+	}
+
+	/**
+	 * 병합 전 증분 격자 (격자 모니터로 보호, drain 시 닫힘)
+	 */
+	private static final class DeltaGrid {
+
+		private final int[] counts;
+		private long total;
+		private boolean closed;
+
+		DeltaGrid(int cellCount) {
+			this.counts = new int[cellCount];
+		}
+	}
+
+	/**
+	 * 같은 종류/구간의 연속 셀을 모아 두는 배치 단위 버퍼
+	 */
+	private final class CellBuffer {
+
+		private final Long surveyId;
+		private final HeatmapLayer layer;
+		private final int[] cells;
+		private int size;
+		private int bucket = HeatmapGrid.ALL_BUCKETS;
+
+		CellBuffer(Long surveyId, HeatmapLayer layer, int capacity) {
+			this.surveyId = surveyId;
+			this.layer = layer;
+			this.cells = new int[capacity];
+		}
+
+		void add(int cellBucket, int cell) {
+			if (size > 0 && cellBucket != bucket) {
+				flush();
+			}
+			bucket = cellBucket;
+			cells[size++] = cell;
+		}
+
+		void flush() {
+			if (size == 0) {
+				return;
+			}
+			addCells(new GridKey(surveyId, layer, HeatmapGrid.ALL_BUCKETS), cells, size);
+			if (bucket != HeatmapGrid.ALL_BUCKETS) {
+				addCells(new GridKey(surveyId, layer, bucket), cells, size);
+			}
+			size = 0;
+		}
+	}
+}
@@ -0,0 +1,160 @@
+package com.playprobie.api.domain.replay.application;
+
+import java.io.ByteArrayOutputStream;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * 히트맵 격자 압축 형식 (DB 블롭과 압축 격자 응답에 공통 사용, Content-Type: application/vnd.playprobie.heatmap)
+ * <p>
+ * 대부분의 셀이 0인 격자를 0 연속 길이 + 횟수 쌍으로 줄인 뒤 zlib으로 압축합니다.
+ * <pre>
+ * header : version(1B = 1) | width(varint) | height(varint)
+ * body   : zlib( cell × [zeroRun(varint, 직전 값 있는 셀 이후 건너뛴 0 셀 수) | count(varint, 1 이상)] )
+ * </pre>
+ * 셀 순서는 행 우선(y × width + x)이며, 마지막 값 있는 셀 이후의 0 셀은 기록하지 않습니다.
+ */
+final class HeatmapGridCodec {
+
+	static final int VERSION = 1;
+
+	// 셀당 최대 varint 2개 (각 10바이트) - 압축 해제 상한
+	private static final int MAX_BYTES_PER_CELL = 20;
+
+	private HeatmapGridCodec() {
+	}
+
+	/**
+	 * 행 우선 격자를 압축 블롭으로 인코딩
+	 */
+	static byte[] encode(int width, int height, long[] counts) {
+		ByteArrayOutputStream body = new ByteArrayOutputStream(256);
+		int zeroRun = 0;
+		for (int cell = 0; cell < width * height; cell++) {
+			long count = counts[cell];
+			if (count == 0) {
+				zeroRun++;
+				continue;
+			}
+			writeVarLong(body, zeroRun);
+			writeVarLong(body, count);
+			zeroRun = 0;
+		}
+
+		ByteArrayOutputStream out = new ByteArrayOutputStream(body.size() / 2 + 16);
+		out.write(VERSION);
+		writeVarLong(out, width);
+		writeVarLong(out, height);
+		deflate(body.toByteArray(), out);
+		return out.toByteArray();
+	}
+
+	/**
+	 * 압축 블롭을 행 우선 격자로 디코딩 (빈 블롭은 0 격자)
+	 *
+	 * @throws IllegalArgumentException 형식이 올바르지 않거나 해상도가 다른 경우
+	 */
+	static long[] decode(byte[] data, int width, int height) {
+		long[] counts = new long[width * height];
+		if (data == null || data.length == 0) {
+			return counts;
+		}
+		Reader header = new Reader(data, 0, data.length);
+		if (header.readByte() != VERSION || header.readVarLong() != width || header.readVarLong() != height) {
+			throw new IllegalArgumentException("Unsupported heatmap grid header");
+		}
+
+		byte[] inflated = inflate(data, header.position, counts.length * MAX_BYTES_PER_CELL);
+		Reader body = new Reader(inflated, 0, inflated.length);
+		int cell = 0;
+		while (body.position < body.limit) {
+			long zeroRun = body.readVarLong();
+			long count = body.readVarLong();
+			if (zeroRun < 0 || zeroRun >= counts.length - cell || count <= 0) {
+				throw new IllegalArgumentException("Corrupted heatmap grid body");
+			}
+			cell += (int)zeroRun;
+			counts[cell++] = count;
+		}
+		return counts;
+	}
+
+	private static void writeVarLong(ByteArrayOutputStream out, long value) {
+		while ((value & ~0x7FL) != 0) {
+			out.write((int)(value & 0x7F) | 0x80);
+			value >>>= 7;
+		}
+		out.write((int)value);
+	}
+
+	private static void deflate(byte[] bytes, ByteArrayOutputStream out) {
+		Deflater deflater = new Deflater(Deflater.BEST_COMPRESSION);
+		try {
+			deflater.setInput(bytes);
+			deflater.finish();
+			byte[] chunk = new byte[4096];
+			while (!deflater.finished()) {
+				out.write(chunk, 0, deflater.deflate(chunk));
+			}
+		} finally {
+			deflater.end();
+		}
+	}
+
+	private static byte[] inflate(byte[] data, int offset, int maxBytes) {
+		Inflater inflater = new Inflater();
+		try {
+			inflater.setInput(data, offset, data.length - offset);
+			ByteArrayOutputStream out = new ByteArrayOutputStream(Math.min(maxBytes, 4096));
+			byte[] chunk = new byte[4096];
+			while (!inflater.finished()) {
+				int inflated = inflater.inflate(chunk);
+				if (inflated == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+					throw new IllegalArgumentException("Truncated heatmap grid body");
+				}
+				if (out.size() + inflated > maxBytes) {
+					throw new IllegalArgumentException("Heatmap grid body too large");
+				}
+				out.write(chunk, 0, inflated);
+			}
+			return out.toByteArray();
+		} catch (DataFormatException e) {
+			throw new IllegalArgumentException("Corrupted heatmap grid body", e);
+		} finally {
+			inflater.end();
+		}
+	}
+
+	private static final class Reader {
+
+		private final byte[] buffer;
+		private final int limit;
+		private int position;
+
+		Reader(byte[] buffer, int position, int limit) {
+			this.buffer = buffer;
+			this.position = position;
+			this.limit = limit;
+		}
+
+		int readByte() {
+			if (position >= limit) {
+				throw new IllegalArgumentException("Truncated heatmap grid");
+			}
+			return buffer[position++] & 0xFF;
+		}
+
+		long readVarLong() {
+			long value = 0;
+			for (int shift = 0; shift < 64; shift += 7) {
+				int b = readByte();
+				value |= (long)(b & 0x7F) << shift;
+				if ((b & 0x80) == 0) {
+					return value;
+				}
+			}
+			throw new IllegalArgumentException("Malformed varint in heatmap grid");
+		}
+	}
+}
@@ -0,0 +1,185 @@
+package com.playprobie.api.domain.replay.application;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.playprobie.api.domain.replay.application.HeatmapAccumulator.Delta;
+import com.playprobie.api.domain.replay.application.HeatmapAccumulator.GridKey;
+import com.playprobie.api.domain.replay.dao.HeatmapGridRepository;
+import com.playprobie.api.domain.replay.domain.HeatmapGrid;
+import com.playprobie.api.domain.replay.domain.HeatmapLayer;
+import com.playprobie.api.domain.replay.dto.HeatmapResponse;
+import com.playprobie.api.domain.survey.dao.SurveyRepository;
+import com.playprobie.api.domain.survey.domain.Survey;
+import com.playprobie.api.domain.user.domain.User;
+import com.playprobie.api.domain.workspace.application.WorkspaceSecurityManager;
+import com.playprobie.api.global.config.properties.ReplayHeatmapProperties;
+import com.playprobie.api.global.error.ErrorCode;
+import com.playprobie.api.global.error.exception.EntityNotFoundException;
+import com.playprobie.api.global.error.exception.InvalidValueException;
+
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 설문별 히트맵 병합/조회 서비스
+ * <p>
+ * {@link HeatmapAccumulator}에 쌓인 증분을 주기적으로 DB 블롭({@link HeatmapGrid})에 병합하고,
+ * 압축 격자 또는 밀도 배열로 제공합니다. 조회 결과는 마지막 병합 시점까지의 집계입니다.
+ * <ul>
+ * <li>서버마다 자기 증분만 병합하므로 분산 락 없이 @Version 낙관적 잠금으로 충돌을 감지합니다.</li>
+ * <li>병합에 실패한 증분(동시 갱신, 동시 생성)은 누적기로 되돌려 다음 주기에 다시 병합합니다.</li>
+ * </ul>
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class HeatmapService {
+
+	private final HeatmapAccumulator heatmapAccumulator;
+	private final HeatmapGridRepository heatmapGridRepository;
+	private final SurveyRepository surveyRepository;
+	private final WorkspaceSecurityManager securityManager;
+	private final ReplayHeatmapProperties replayHeatmapProperties;
+	private final TransactionTemplate transactionTemplate;
+
+	// 30초마다 병합, 서버 시작 후 30초 대기
+	@Scheduled(fixedDelay = 30000, initialDelay = 30000)
+	public void flush() {
+		List<Delta> deltas = heatmapAccumulator.drain();
+		int failed = 0;
+		for (Delta delta : deltas) {
+			try {
+				transactionTemplate.executeWithoutResult(status -> merge(delta));
+			} catch (RuntimeException e) {
+				heatmapAccumulator.restore(delta);
+				failed++;
+				log.warn("[HeatmapService] Failed to merge heatmap delta {}, will retry: {}", delta.key(),
+					e.getMessage());
+			}
+		}
+		if (!deltas.isEmpty()) {
+			log.debug("[HeatmapService] Merged {} heatmap deltas ({} deferred)", deltas.size() - failed, failed);
+		}
+	}
+
+	@PreDestroy
+	public void flushOnShutdown() {
+		flush();
+	}
+
+	/**
+	 * 밀도 배열 조회 (bucket이 null이면 영상 전체 구간)
+	 */
+	@Transactional(readOnly = true)
+	public HeatmapResponse getHeatmap(UUID surveyUuid, HeatmapLayer layer, Integer bucket, User user) {
+		Survey survey = getReadableSurvey(surveyUuid, user);
+		int bucketIndex = resolveBucket(bucket);
+		int width = replayHeatmapProperties.gridWidth();
+		int height = replayHeatmapProperties.gridHeight();
+
+		Optional<HeatmapGrid> grid = findGrid(survey.getId(), layer, bucketIndex);
+		long[] counts = grid.map(found -> decode(found, width, height)).orElseGet(() -> new long[width * height]);
+		long total = grid.filter(found -> found.hasResolution(width, height))
+			.map(HeatmapGrid::getTotalCount)
+			.orElse(0L);
+
+		long max = 0;
+		for (long count : counts) {
+			max = Math.max(max, count);
+		}
+		int[] density = new int[counts.length];
+		for (int cell = 0; cell < counts.length; cell++) {
+			// 값이 있는 셀은 최소 1로 남겨 드문 클릭도 보이게 함
+			density[cell] = counts[cell] == 0 ? 0 : (int)Math.max(1, Math.round(counts[cell] * 255.0 / max));
+		}
+
+		long bucketMs = replayHeatmapProperties.bucket().toMillis();
+		boolean all = bucketIndex == HeatmapGrid.ALL_BUCKETS;
+		return new HeatmapResponse(surveyUuid, layer, all ? null : bucketIndex, all ? null : bucketIndex * bucketMs,
+			all ? null : (bucketIndex + 1) * bucketMs, replayHeatmapProperties.frameWidth(),
+			replayHeatmapProperties.frameHeight(), width, height, total, max, density);
+	}
+
+	/**
+	 * 압축 격자 조회 (형식은 {@link HeatmapGridCodec} 참고)
+	 */
+	@Transactional(readOnly = true)
+	public byte[] getCompressedHeatmap(UUID surveyUuid, HeatmapLayer layer, Integer bucket, User user) {
+		Survey survey = getReadableSurvey(surveyUuid, user);
+		int width = replayHeatmapProperties.gridWidth();
+		int height = replayHeatmapProperties.gridHeight();
+		return findGrid(survey.getId(), layer, resolveBucket(bucket))
+			.filter(grid -> grid.hasResolution(width, height) && grid.getData().length > 0)
+			.map(HeatmapGrid::getData)
+			.orElseGet(() -> HeatmapGridCodec.encode(width, height, new long[width * height]));
+	}
+
+	/**
+	 * 증분 하나를 DB 격자에 병합 (트랜잭션 안에서 호출)
+	 */
+	private void merge(Delta delta) {
+		GridKey key = delta.key();
+		int width = replayHeatmapProperties.gridWidth();
+		int height = replayHeatmapProperties.gridHeight();
+		HeatmapGrid grid = findGrid(key.surveyId(), key.layer(), key.bucket())
+			.orElseGet(() -> heatmapGridRepository.save(HeatmapGrid.builder()
+				.survey(surveyRepository.getReferenceById(key.surveyId()))
+				.layer(key.layer())
+				.bucketIndex(key.bucket())
+				.gridWidth(width)
+				.gridHeight(height)
+				.build()));
+
+		long[] counts = decode(grid, width, height);
+		long total = grid.hasResolution(width, height) ? grid.getTotalCount() : 0;
+		int[] deltaCounts = delta.counts();
+		for (int cell = 0; cell < counts.length; cell++) {
+			counts[cell] += deltaCounts[cell];
+		}
+		grid.replace(width, height, total + delta.total(), HeatmapGridCodec.encode(width, height, counts));
+	}
+
+	/**
+	 * 저장된 격자 디코딩 (해상도가 바뀌었거나 손상된 격자는 빈 격자로 다시 시작)
+	 */
+	private long[] decode(HeatmapGrid grid, int width, int height) {
+		if (!grid.hasResolution(width, height)) {
+			return new long[width * height];
+		}
+		try {
+			return HeatmapGridCodec.decode(grid.getData(), width, height);
+		} catch (IllegalArgumentException e) {
+			log.warn("[HeatmapService] Discarding corrupted heatmap grid {}: {}", grid.getId(), e.getMessage());
+			return new long[width * height];
+		}
+	}
+
+	private Optional<HeatmapGrid> findGrid(Long surveyId, HeatmapLayer layer, int bucketIndex) {
+		return heatmapGridRepository.findBySurveyIdAndLayerAndBucketIndex(surveyId, layer, bucketIndex);
+	}
+
+	private int resolveBucket(Integer bucket) {
+		if (bucket == null) {
+			return HeatmapGrid.ALL_BUCKETS;
+		}
+		if (bucket < 0 || bucket >= replayHeatmapProperties.maxBuckets()) {
+			throw new InvalidValueException(String.valueOf(bucket), ErrorCode.INVALID_HEATMAP_BUCKET);
+		}
+		return bucket;
+	}
+
+	private Survey getReadableSurvey(UUID surveyUuid, User user) {
+		Survey survey = surveyRepository.findByUuid(surveyUuid)
+			.orElseThrow(EntityNotFoundException::new);
+		securityManager.validateReadAccess(survey.getGame().getWorkspace(), user);
+		return survey;
+	}
+}
@@ -0,0 +1,88 @@
+package com.playprobie.api.domain.replay.application;
+
+import java.util.List;
+
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import com.playprobie.api.domain.replay.domain.InsightType;
+
+/**
+ * Idle 탐지기: 일정 시점 이후 입력 공백 (기본 30초 이후부터 10초 이상, 직전 입력과의 media_time 간격 기준)
+ * <p>
+ * 키보드/마우스 클릭만 입력으로 봅니다 (휠은 제외).
+ */
+@Order(200)
+@Component
+class IdleDetector implements InsightDetector {
+
+	static final String START_MS = "idle.start_ms";
+	static final String GAP_MS = "idle.gap_ms";
+
+	private static final List<Threshold> THRESHOLDS = List.of(
+		new Threshold(START_MS, 30_000, 0, 3_600_000),
+		new Threshold(GAP_MS, 10_000, 1_000, 3_600_000));
+
+	@Override
+	public InsightType insightType() {
+		return InsightType.IDLE;
+	}
+
+	@Override
+	public int eventMask() {
+		return InputLogColumns.mask(InputLogColumns.TYPE_KEY_DOWN)
+			| InputLogColumns.mask(InputLogColumns.TYPE_KEY_UP)
+			| InputLogColumns.mask(InputLogColumns.TYPE_MOUSE_DOWN)
+			| InputLogColumns.mask(InputLogColumns.TYPE_MOUSE_UP);
+	}
+
+	@Override
+	public List<Threshold> thresholds() {
+		return THRESHOLDS;
+	}
+
+	@Override
+	public Scanner open(InsightThresholds thresholds) {
+		return new IdleScanner(thresholds.get(START_MS), thresholds.get(GAP_MS));
+	}
+
+	private static final class IdleScanner implements Scanner {
+
+		private final int startMs;
+		private final int gapMs;
+
+		// 공백 구간 시작 (startMs 이후 마지막 입력)
+		private long lastInputTime;
+		private boolean hasLastInput;
+
+		IdleScanner(int startMs, int gapMs) {
+			this.startMs = startMs;
+			this.gapMs = gapMs;
+		}
+
+		@Override
+		public Scanner copy() {
+			IdleScanner copy = new IdleScanner(startMs, gapMs);
+			copy.lastInputTime = lastInputTime;
+			copy.hasLastInput = hasLastInput;
+			return copy;
+		}
+
+		@Override
+		public void accept(InputLogColumns columns, int index, Emitter emitter) {
+			long currentTime = columns.mediaTime[index];
+			if (currentTime < startMs) {
+				return;
+			}
+
+			if (hasLastInput) {
+				long gap = currentTime - lastInputTime;
+				if (gap >= gapMs) {
+					emitter.emit(lastInputTime, (int)gap, String.format("{\"gap_ms\":%d}", gap));
+				}
+			}
+			lastInputTime = currentTime;
+			hasLastInput = true;
+		}
+	}
+}
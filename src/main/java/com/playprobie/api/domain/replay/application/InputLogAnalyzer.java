@@ -1,169 +1,395 @@
 package com.playprobie.api.domain.replay.application;
 
+import java.time.Duration;
 import java.util.ArrayList;
-import java.util.Comparator;
+import java.util.HashSet;
 import java.util.List;
-
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 
 import com.playprobie.api.domain.interview.domain.SurveySession;
+import com.playprobie.api.domain.replay.application.InsightDetector.Threshold;
 import com.playprobie.api.domain.replay.domain.AnalysisTag;
 import com.playprobie.api.domain.replay.domain.InsightType;
 import com.playprobie.api.domain.replay.dto.InputLogDto;
-
+import com.playprobie.api.domain.survey.domain.Survey;
+import com.playprobie.api.global.config.properties.ReplayDetectionProperties;
+import com.playprobie.api.global.error.ErrorCode;
+import com.playprobie.api.global.error.exception.InvalidValueException;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import lombok.extern.slf4j.Slf4j;
 
 /**
  * 입력 로그 분석기 (메모리 분석)
  * 원시 로그를 DB에 저장하지 않고, 요청 즉시 메모리에서 분석 후 AnalysisTag만 생성
- * Stateless 구현으로 Thread-Safe
+ * <p>
+ * 배치를 원시 타입 컬럼({@link InputLogColumns})으로 푼 뒤 한 번만 순회하면서, 각 이벤트를 해당 유형을 구독한
+ * 탐지기({@link InsightDetector})에 넘깁니다. 탐지기를 추가해도 데이터 순회 횟수는 늘지 않습니다 (O(배치 크기 × 구독 탐지기)).
+ * <ul>
+ * <li>세션별 상태: 탐지기별 Scanner + 워터마크 (처리한 마지막 media_time - 이보다 이른 로그(재전송 배치)는 건너뜀)</li>
+ * <li>임계값: 탐지기 기본값에 설문별 값(Survey#insightThresholds)을 덮어써 세션 상태를 만들 때 고정</li>
+ * <li>비용 예산: 탐지기별 배치당 처리 이벤트 수 상한 - 초과분은 해당 탐지기만 건너뛰고 메트릭으로 남김</li>
+ * <li>메트릭: replay.insight.detector.events / detections / skipped (detector 태그), replay.insight.analysis</li>
+ * </ul>
+ * media_time 순서로 도착한 배치에 대해 전체 로그를 한 번에 분석한 결과와 같습니다.
+ * 같은 세션의 배치는 세션 상태 모니터로 직렬화되고, 상태는 세션 종료 또는 미사용 시간 초과 시 제거됩니다.
  */
 @Slf4j
 @Service
 public class InputLogAnalyzer {
 
-	// Panic: 0.5초(500ms) 내 동일 키 5회 이상 연타
-	private static final int PANIC_THRESHOLD_MS = 500;
-	private static final int PANIC_KEY_COUNT = 5;
+	// 마지막 배치 이후 이 시간 동안 로그가 없으면 세션 상태 제거
+	private static final Duration STATE_TTL = Duration.ofMinutes(30);
+
+	private final List<InsightDetector> insightDetectors;
+	private final ReplayDetectionProperties replayDetectionProperties;
+	private final MeterRegistry meterRegistry;
+
+	// 순회 중 조회를 줄이기 위해 탐지기 정보를 배열로 펼쳐 둠
+	private final InsightDetector[] detectors;
+	private final InsightType[] insightTypes;
+	private final int[] eventMasks;
+	// 어떤 탐지기도 구독하지 않는 유형(MOUSE_MOVE 등)은 워터마크에도 반영하지 않음
+	private final int subscribedMask;
+	private final int[] eventBudgets;
+	private final List<Threshold> thresholds;
+	private final Counter[] eventCounters;
+	private final Counter[] detectionCounters;
+	private final Counter[] skippedCounters;
+	private final Timer analysisTimer;
+
+	private final Map<UUID, SessionState> states = new ConcurrentHashMap<>();
+
+	public InputLogAnalyzer(List<InsightDetector> insightDetectors, ReplayDetectionProperties replayDetectionProperties,
+		MeterRegistry meterRegistry) {
+		this.insightDetectors = List.copyOf(insightDetectors);
+		this.replayDetectionProperties = replayDetectionProperties;
+		this.meterRegistry = meterRegistry;
+
+		int count = this.insightDetectors.size();
+		this.detectors = this.insightDetectors.toArray(new InsightDetector[0]);
+		this.insightTypes = new InsightType[count];
+		this.eventMasks = new int[count];
+		this.eventBudgets = new int[count];
+		this.eventCounters = new Counter[count];
+		this.detectionCounters = new Counter[count];
+		this.skippedCounters = new Counter[count];
+		List<Threshold> declared = new ArrayList<>();
+		Set<String> keys = new HashSet<>();
+		int subscribed = 0;
+		for (int d = 0; d < count; d++) {
+			InsightDetector detector = detectors[d];
+			String name = detector.insightType().name();
+			insightTypes[d] = detector.insightType();
+			eventMasks[d] = detector.eventMask();
+			subscribed |= eventMasks[d];
+			eventBudgets[d] = replayDetectionProperties.budgetOf(name);
+			eventCounters[d] = meterRegistry.counter("replay.insight.detector.events", "detector", name);
+			detectionCounters[d] = meterRegistry.counter("replay.insight.detector.detections", "detector", name);
+			skippedCounters[d] = meterRegistry.counter("replay.insight.detector.skipped", "detector", name);
+			for (Threshold threshold : detector.thresholds()) {
+				if (!keys.add(threshold.key())) {
+					throw new IllegalStateException("Duplicate insight threshold: " + threshold.key());
+				}
+				declared.add(threshold);
+			}
+		}
+		this.subscribedMask = subscribed;
+		this.thresholds = List.copyOf(declared);
+		this.analysisTimer = meterRegistry.timer("replay.insight.analysis");
+	}
 
-	// Idle: 30초(30_000ms) 이후부터 10초(10_000ms) 이상 입력 없으면 감지
-	private static final int IDLE_START_THRESHOLD_MS = 30_000;
-	private static final int IDLE_THRESHOLD_MS = 10_000;
+	/**
+	 * 기본 탐지기 구성의 분석기 (스프링 컨텍스트 밖에서 사용 - 테스트 등)
+	 */
+	static InputLogAnalyzer withDefaultDetectors() {
+		return new InputLogAnalyzer(List.of(new PanicDetector(), new IdleDetector(), new RageClickDetector(),
+			new WheelThrashDetector(), new OscillationDetector(), new MenuDwellDetector()),
+			new ReplayDetectionProperties(null, null), new SimpleMeterRegistry());
+	}
 
-	// Panic 감지 시 구간 길이 (기본 3초)
-	private static final int PANIC_DURATION_MS = 3_000;
+	/**
+	 * 같은 탐지기 구성으로 세션 상태만 비어 있는 분석기 (라이브 상태와 섞이지 않는 재분석용)
+	 */
+	InputLogAnalyzer fork() {
+		return new InputLogAnalyzer(insightDetectors, replayDetectionProperties, meterRegistry);
+	}
 
 	/**
-	 * 입력 로그를 메모리에서 분석하여 AnalysisTag 생성
+	 * 입력 로그 배치를 세션 상태에 이어서 분석하여 AnalysisTag 생성
 	 * (원시 로그는 저장하지 않음 - Option A)
 	 *
 	 * @param session 세션 정보
-	 * @param logs    media_time 기준 정렬된 로그
-	 * @return 감지된 Insight 태그 목록
+	 * @param logs    입력 로그 배치
+	 * @return 이번 배치에서 새로 감지된 Insight 태그 목록
 	 */
 	public List<AnalysisTag> analyze(SurveySession session, List<InputLogDto> logs) {
 		if (logs == null || logs.isEmpty()) {
 			return List.of();
 		}
 
-		// media_time 기준 정렬
-		List<InputLogDto> sortedLogs = logs.stream()
-			.sorted(Comparator.comparingLong(InputLogDto::mediaTime))
-			.toList();
-
-		List<AnalysisTag> tags = new ArrayList<>();
-
-		// KEY_DOWN, MOUSE_DOWN 이벤트만 필터링하여 Panic 감지
-		List<InputLogDto> inputEvents = sortedLogs.stream()
-			.filter(InputLogDto::isInputEvent)
-			.toList();
+		return analyze(session, InputLogColumns.decode(logs));
+	}
 
-		tags.addAll(detectPanic(session, inputEvents));
-		tags.addAll(detectIdle(session, sortedLogs));
+	/**
+	 * 컬럼형으로 풀린 입력 로그 배치 분석 (바이너리 배치는 객체 변환 없이 바로 이 경로로 분석)
+	 */
+	List<AnalysisTag> analyze(SurveySession session, InputLogColumns columns) {
+		long startedAt = System.nanoTime();
+		long[] mediaTime = columns.mediaTime;
+		int[] typeCode = columns.typeCode;
+
+		SessionState state = stateOf(session);
+		TagSink sink = new TagSink(session, insightTypes);
+		int detectorCount = detectors.length;
+		int[] dispatched = new int[detectorCount];
+		int[] overBudget = new int[detectorCount];
+		int skipped = 0;
+
+		synchronized (state) {
+			InsightDetector.Scanner[] scanners = state.scanners;
+			long watermark = state.watermark;
+			for (int i = 0; i < columns.size; i++) {
+				int bit = InputLogColumns.mask(typeCode[i]);
+				if ((subscribedMask & bit) == 0) {
+					continue;
+				}
+				long time = mediaTime[i];
+				if (time <= watermark) {
+					skipped++;
+					continue;
+				}
+				for (int d = 0; d < detectorCount; d++) {
+					if ((eventMasks[d] & bit) == 0) {
+						continue;
+					}
+					if (dispatched[d] == eventBudgets[d]) {
+						overBudget[d]++;
+						continue;
+					}
+					dispatched[d]++;
+					sink.detector = d;
+					scanners[d].accept(columns, i, sink);
+				}
+				state.watermark = time;
+			}
+			// 구독하지 않는 종류(이동 등)까지 포함한 수신 워터마크 - 배치는 media_time 순이므로 마지막 로그 기준
+			if (columns.size > 0 && mediaTime[columns.size - 1] > state.ingestedWatermark) {
+				state.ingestedWatermark = mediaTime[columns.size - 1];
+			}
+			state.lastAccessedAt = System.currentTimeMillis();
+		}
 
+		recordMetrics(session, dispatched, overBudget, sink.detections);
+		analysisTimer.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+		if (skipped > 0) {
+			log.debug("[InputLogAnalyzer] Session {} - Skipped {} logs at or before watermark",
+				session.getUuid(), skipped);
+		}
 		log.info("[InputLogAnalyzer] Session {} - Analyzed {} logs, detected {} insights",
-			session.getUuid(), logs.size(), tags.size());
+			session.getUuid(), columns.size, sink.tags.size());
 
-		return tags;
+		return sink.tags;
 	}
 
 	/**
-	 * Panic 감지: 0.5초 내 동일 키 5회 이상 연타 (KEY_DOWN 기준)
-	 * Sliding Window 방식으로 구현
+	 * 세션이 지금까지 받은 마지막 media_time - 구독 여부와 관계없이 모든 종류의 로그 기준 (상태가 없으면 Long.MIN_VALUE)
+	 * <p>
+	 * 분석 직전에 읽으면 이번 배치에서 새로 받은 로그의 하한이 되므로 히트맵 집계의 중복 제거에 사용합니다.
+	 * 탐지기가 구독하지 않는 이동 로그만 담긴 재전송 배치도 이 값에 걸러집니다.
 	 */
-	private List<AnalysisTag> detectPanic(SurveySession session, List<InputLogDto> inputEvents) {
-		List<AnalysisTag> panicTags = new ArrayList<>();
-
-		if (inputEvents.size() < PANIC_KEY_COUNT) {
-			return panicTags;
+	long ingestedWatermarkOf(UUID sessionUuid) {
+		SessionState state = states.get(sessionUuid);
+		if (state == null) {
+			return Long.MIN_VALUE;
 		}
+		synchronized (state) {
+			return state.ingestedWatermark;
+		}
+	}
 
-		// KEY_DOWN 이벤트만 필터링
-		List<InputLogDto> keyDownEvents = inputEvents.stream()
-			.filter(log -> "KEY_DOWN".equals(log.type()))
-			.toList();
-
-		if (keyDownEvents.size() < PANIC_KEY_COUNT) {
-			return panicTags;
+	/**
+	 * 세션 분석 상태 스냅샷 (워터마크 + 탐지기 상태)
+	 * <p>
+	 * 분석 결과를 저장하는 트랜잭션이 롤백되면 {@link #restore}로 되돌려, 클라이언트가 다시 보낸 배치가 워터마크에
+	 * 걸려 건너뛰어지지 않고 다시 분석되도록 합니다. 같은 세션의 분석은 수집 레인으로 직렬화되어 있어야 합니다.
+	 */
+	Checkpoint checkpoint(UUID sessionUuid) {
+		SessionState state = states.get(sessionUuid);
+		if (state == null) {
+			return new Checkpoint(sessionUuid, null, null);
+		}
+		synchronized (state) {
+			return new Checkpoint(sessionUuid, state, state.copy());
 		}
+	}
 
-		// Sliding Window: 연속된 5개 이벤트가 0.5초 내에 발생하고 동일 키인지 확인
-		for (int i = 0; i <= keyDownEvents.size() - PANIC_KEY_COUNT; i++) {
-			List<InputLogDto> window = keyDownEvents.subList(i, i + PANIC_KEY_COUNT);
+	/**
+	 * 스냅샷 시점의 세션 분석 상태로 복원 (스냅샷 이후 처음 생긴 상태는 제거)
+	 */
+	void restore(Checkpoint checkpoint) {
+		SessionState state = checkpoint.state();
+		if (state == null) {
+			states.remove(checkpoint.sessionUuid());
+			return;
+		}
+		synchronized (state) {
+			state.restore(checkpoint.snapshot());
+		}
+	}
 
-			Long firstTime = window.get(0).mediaTime();
-			Long lastTime = window.get(PANIC_KEY_COUNT - 1).mediaTime();
-			long duration = lastTime - firstTime;
+	/**
+	 * 설문별 임계값 검증 (선언되지 않은 키 또는 범위를 벗어난 값은 거부)
+	 */
+	public void validateThresholds(Map<String, Integer> overrides) {
+		if (overrides == null) {
+			return;
+		}
+		overrides.forEach((key, value) -> {
+			Threshold threshold = thresholds.stream()
+				.filter(candidate -> candidate.key().equals(key))
+				.findFirst()
+				.orElseThrow(() -> new InvalidValueException(key, ErrorCode.INVALID_INSIGHT_THRESHOLD));
+			if (value == null || value < threshold.min() || value > threshold.max()) {
+				throw new InvalidValueException(key + "=" + value, ErrorCode.INVALID_INSIGHT_THRESHOLD);
+			}
+		});
+	}
 
-			// 0.5초 내에 5회 이상 발생했는지 확인
-			if (duration <= PANIC_THRESHOLD_MS) {
-				// 동일 키인지 확인
-				String firstKey = window.get(0).code();
-				boolean sameKey = window.stream()
-					.allMatch(log -> firstKey != null && firstKey.equals(log.code()));
+	/**
+	 * 설문별 값을 덮어쓴 전체 임계값 (키 → 적용 값)
+	 */
+	public Map<String, Integer> resolveThresholds(Map<String, Integer> overrides) {
+		return new TreeMap<>(InsightThresholds.resolve(thresholds, overrides).asMap());
+	}
 
-				if (sameKey) {
-					AnalysisTag tag = AnalysisTag.builder()
-						.session(session)
-						.insightType(InsightType.PANIC)
-						.videoTimeMs(firstTime)
-						.durationMs(PANIC_DURATION_MS)
-						.metadata(String.format("{\"key\":\"%s\",\"count\":%d}", firstKey, PANIC_KEY_COUNT))
-						.build();
+	/**
+	 * 세션 분석 상태 제거 (세션 종료 시)
+	 */
+	public void release(UUID sessionUuid) {
+		states.remove(sessionUuid);
+	}
 
-					panicTags.add(tag);
+	@Scheduled(fixedDelay = 600000, initialDelay = 600000)
+	public void evictIdleStates() {
+		long threshold = System.currentTimeMillis() - STATE_TTL.toMillis();
+		states.values().removeIf(state -> state.lastAccessedAt < threshold);
+	}
 
-					// 중복 감지 방지: 다음 윈도우 스킵
-					i += PANIC_KEY_COUNT - 1;
+	/**
+	 * 세션 상태 조회/생성 (설문 임계값은 맵 갱신 밖에서 읽어 지연 로딩이 맵 잠금 안에서 일어나지 않게 함)
+	 */
+	private SessionState stateOf(SurveySession session) {
+		SessionState state = states.get(session.getUuid());
+		if (state != null) {
+			return state;
+		}
+		Survey survey = session.getSurvey();
+		InsightThresholds resolved = InsightThresholds.resolve(thresholds,
+			survey != null ? survey.getInsightThresholds() : null);
+		InsightDetector.Scanner[] scanners = new InsightDetector.Scanner[detectors.length];
+		for (int d = 0; d < detectors.length; d++) {
+			scanners[d] = detectors[d].open(resolved);
+		}
+		SessionState created = new SessionState(scanners);
+		SessionState existing = states.putIfAbsent(session.getUuid(), created);
+		return existing != null ? existing : created;
+	}
 
-					log.debug("[InputLogAnalyzer] Panic detected at {}ms - key: {}", firstTime, firstKey);
-				}
+	private void recordMetrics(SurveySession session, int[] dispatched, int[] overBudget, int[] detections) {
+		for (int d = 0; d < detectors.length; d++) {
+			if (dispatched[d] > 0) {
+				eventCounters[d].increment(dispatched[d]);
+			}
+			if (detections[d] > 0) {
+				detectionCounters[d].increment(detections[d]);
+			}
+			if (overBudget[d] > 0) {
+				skippedCounters[d].increment(overBudget[d]);
+				log.warn("[InputLogAnalyzer] Session {} - {} detector exceeded budget of {} events, skipped {}",
+					session.getUuid(), insightTypes[d], eventBudgets[d], overBudget[d]);
 			}
 		}
-
-		return panicTags;
 	}
 
 	/**
-	 * Idle 감지: 30초 이후부터 10초 이상 입력 없음 (media_time 간격 기준)
+	 * 배치 하나의 감지 결과 수집 (현재 순회 중인 탐지기 위치로 인사이트 유형 결정)
 	 */
-	private List<AnalysisTag> detectIdle(SurveySession session, List<InputLogDto> allLogs) {
-		List<AnalysisTag> idleTags = new ArrayList<>();
-
-		if (allLogs.size() < 2) {
-			return idleTags;
+	private static final class TagSink implements InsightDetector.Emitter {
+
+		private final SurveySession session;
+		private final InsightType[] insightTypes;
+		private final List<AnalysisTag> tags = new ArrayList<>();
+		private final int[] detections;
+		private int detector;
+
+		TagSink(SurveySession session, InsightType[] insightTypes) {
+			this.session = session;
+			this.insightTypes = insightTypes;
+			this.detections = new int[insightTypes.length];
 		}
 
-		// 입력 이벤트만 필터링 (30초 이후의 이벤트만 대상)
-		List<InputLogDto> inputEvents = allLogs.stream()
-			.filter(InputLogDto::isInputEvent)
-			.filter(log -> log.mediaTime() >= IDLE_START_THRESHOLD_MS)
-			.toList();
-
-		if (inputEvents.size() < 2) {
-			return idleTags;
+		@Override
+		public void emit(long videoTimeMs, int durationMs, String metadata) {
+			tags.add(AnalysisTag.builder()
+				.session(session)
+				.insightType(insightTypes[detector])
+				.videoTimeMs(videoTimeMs)
+				.durationMs(durationMs)
+				.metadata(metadata)
+				.build());
+			detections[detector]++;
 		}
+	}
 
-		for (int i = 0; i < inputEvents.size() - 1; i++) {
-			Long currentTime = inputEvents.get(i).mediaTime();
-			Long nextTime = inputEvents.get(i + 1).mediaTime();
-			long gap = nextTime - currentTime;
+	/**
+	 * 세션 분석 상태 스냅샷 ({@link #checkpoint} 참고)
+	 */
+	record Checkpoint(UUID sessionUuid, SessionState state, SessionState snapshot) {
+	}
+
+	/**
+	 * 세션별 분석 상태 (세션 모니터로 보호)
+	 */
+	static final class SessionState {
 
-			if (gap >= IDLE_THRESHOLD_MS) {
-				AnalysisTag tag = AnalysisTag.builder()
-					.session(session)
-					.insightType(InsightType.IDLE)
-					.videoTimeMs(currentTime)
-					.durationMs((int)gap)
-					.metadata(String.format("{\"gap_ms\":%d}", gap))
-					.build();
+		private final InsightDetector.Scanner[] scanners;
+		private long watermark = Long.MIN_VALUE;
+		private long ingestedWatermark = Long.MIN_VALUE;
+		private volatile long lastAccessedAt = System.currentTimeMillis();
 
-				idleTags.add(tag);
+		SessionState(InsightDetector.Scanner[] scanners) {
+			this.scanners = scanners;
+		}
 
-				log.debug("[InputLogAnalyzer] Idle detected at {}ms - duration: {}ms", currentTime, gap);
+		SessionState copy() {
+			InsightDetector.Scanner[] copied = new InsightDetector.Scanner[scanners.length];
+			for (int d = 0; d < scanners.length; d++) {
+				copied[d] = scanners[d].copy();
 			}
+			SessionState copy = new SessionState(copied);
+			copy.watermark = watermark;
+			copy.ingestedWatermark = ingestedWatermark;
+			return copy;
 		}
 
-		return idleTags;
+		void restore(SessionState snapshot) {
+			for (int d = 0; d < scanners.length; d++) {
+				scanners[d] = snapshot.scanners[d].copy();
+			}
+			watermark = snapshot.watermark;
+			ingestedWatermark = snapshot.ingestedWatermark;
+		}
 	}
 }
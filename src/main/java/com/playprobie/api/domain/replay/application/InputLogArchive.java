@@ -0,0 +1,398 @@
+package com.playprobie.api.domain.replay.application;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.playprobie.api.domain.interview.domain.SurveySession;
+import com.playprobie.api.domain.replay.domain.AnalysisTag;
+import com.playprobie.api.global.config.properties.ReplayArchiveProperties;
+
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.core.sync.ResponseTransformer;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.GetObjectRequest;
+import software.amazon.awssdk.services.s3.model.NoSuchKeyException;
+import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+
+/**
+ * 원시 입력 로그 아카이브 (재분석용, replay.archive.enabled=true일 때만 기록)
+ * <p>
+ * 분석을 마친 배치를 세션별 디렉터리에 추가 전용으로 기록해, 탐지기나 임계값이 바뀌어도 지난 플레이테스트를 다시 분석할 수 있게 합니다.
+ * <pre>
+ * {directory}/{sessionUuid}/index        - 희소 인덱스 (블록당 36바이트 고정 길이 레코드, media_time 순)
+ * {directory}/{sessionUuid}/{n}.seg      - 세그먼트 (압축 블록의 연속, segmentSize 초과 시 봉인)
+ * index 레코드 : segment(int) | offset(long) | length(int) | firstMediaTime(long) | lastMediaTime(long) | events(int)
+ * 블록        : 압축된 입력 로그 바이너리 배치 ({@link InputLogBinaryDecoder} 형식)
+ * </pre>
+ * 블록을 먼저 쓰고 인덱스를 나중에 쓰므로, 중간에 중단되어도 인덱스에 있는 블록은 항상 완전합니다.
+ * 봉인된 세그먼트와 인덱스는 S3 호환 버킷이 설정되어 있으면 같은 경로로 복제하고, 로컬에 없으면 읽기 전에 내려받습니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class InputLogArchive {
+
+	static final int INDEX_ENTRY_BYTES = 36;
+
+	private static final String INDEX_FILE = "index";
+	private static final String SEGMENT_SUFFIX = ".seg";
+
+	// 이 시간 동안 기록이 없으면 열린 세그먼트 봉인 (세션 종료 후 정리)
+	private static final Duration IDLE_SEAL_AFTER = Duration.ofMinutes(5);
+
+	private final ReplayArchiveProperties replayArchiveProperties;
+	private final S3Client s3Client;
+	private final InputLogAnalyzer inputLogAnalyzer;
+
+	private final Map<UUID, SessionWriter> writers = new ConcurrentHashMap<>();
+
+	/**
+	 * 분석한 배치 기록 (세션 수집 워커에서 호출, 이미 기록한 media_time 이하의 이벤트는 제외)
+	 * <p>
+	 * 기록 실패는 분석/태그 저장에 영향을 주지 않도록 로그만 남깁니다.
+	 */
+	void append(UUID sessionUuid, InputLogColumns columns) {
+		if (!replayArchiveProperties.enabled() || columns.size == 0) {
+			return;
+		}
+		while (true) {
+			SessionWriter writer = writers.computeIfAbsent(sessionUuid,
+				uuid -> new SessionWriter(sessionDirectory(uuid)));
+			synchronized (writer) {
+				if (writer.closed) {
+					continue; // 봉인 스케줄러가 먼저 닫은 기록기 - 새 기록기로 재시도
+				}
+				try {
+					writer.append(columns);
+				} catch (IOException | UncheckedIOException e) {
+					log.warn("[InputLogArchive] Failed to archive batch for session: {}, error={}", sessionUuid,
+						e.getMessage());
+					writers.remove(sessionUuid, writer);
+					writer.closeQuietly();
+				}
+				return;
+			}
+		}
+	}
+
+	/**
+	 * 아카이브된 세션 전체를 현재 탐지기로 다시 분석 (태그는 저장하지 않고 반환)
+	 */
+	public List<AnalysisTag> reanalyze(SurveySession session) {
+		return reanalyze(session, Long.MIN_VALUE, Long.MAX_VALUE);
+	}
+
+	/**
+	 * 지정한 media_time 구간과 겹치는 블록만 다시 분석 (희소 인덱스로 시작 블록 탐색, 블록 단위)
+	 * <p>
+	 * 라이브 분석 상태와 섞이지 않도록 같은 탐지기 구성의 새 분석기 인스턴스를 사용합니다.
+	 */
+	public List<AnalysisTag> reanalyze(SurveySession session, long fromMediaTime, long toMediaTime) {
+		InputLogAnalyzer analyzer = inputLogAnalyzer.fork();
+		List<AnalysisTag> tags = new ArrayList<>();
+		try (ArchiveReader reader = new ArchiveReader(session.getUuid())) {
+			reader.forEachBlock(fromMediaTime, toMediaTime, columns -> tags.addAll(analyzer.analyze(session, columns)));
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+		return tags;
+	}
+
+	@Scheduled(fixedDelay = 60000, initialDelay = 60000)
+	public void sealIdleSegments() {
+		long threshold = System.currentTimeMillis() - IDLE_SEAL_AFTER.toMillis();
+		writers.forEach((sessionUuid, writer) -> {
+			if (writer.lastAppendedAt < threshold && writers.remove(sessionUuid, writer)) {
+				synchronized (writer) {
+					writer.closeQuietly();
+				}
+			}
+		});
+	}
+
+	@PreDestroy
+	public void closeAll() {
+		writers.forEach((sessionUuid, writer) -> {
+			synchronized (writer) {
+				writer.closeQuietly();
+			}
+		});
+		writers.clear();
+	}
+
+	private Path sessionDirectory(UUID sessionUuid) {
+		return Path.of(replayArchiveProperties.directory(), sessionUuid.toString());
+	}
+
+	private static Path segmentPath(Path directory, int segment) {
+		return directory.resolve(segment + SEGMENT_SUFFIX);
+	}
+
+	private String objectKey(Path file) {
+		return replayArchiveProperties.s3Prefix() + "/" + file.getParent().getFileName() + "/" + file.getFileName();
+	}
+
+	private void mirror(Path file) {
+		if (!replayArchiveProperties.hasS3Mirror()) {
+			return;
+		}
+		try {
+			s3Client.putObject(PutObjectRequest.builder()
+				.bucket(replayArchiveProperties.s3Bucket())
+				.key(objectKey(file))
+				.build(), RequestBody.fromFile(file));
+		} catch (RuntimeException e) {
+			log.warn("[InputLogArchive] Failed to mirror {} to S3: {}", file, e.getMessage());
+		}
+	}
+
+	/**
+	 * 로컬에 없는 파일을 S3 호환 버킷에서 내려받음 (복제 미설정이거나 원격에도 없으면 false)
+	 */
+	private boolean fetch(Path file) throws IOException {
+		if (Files.exists(file)) {
+			return true;
+		}
+		if (!replayArchiveProperties.hasS3Mirror()) {
+			return false;
+		}
+		Files.createDirectories(file.getParent());
+		Path temp = Files.createTempFile(file.getParent(), file.getFileName().toString(), ".part");
+		try {
+			Files.delete(temp); // ResponseTransformer.toFile은 새 파일만 생성
+			s3Client.getObject(GetObjectRequest.builder()
+				.bucket(replayArchiveProperties.s3Bucket())
+				.key(objectKey(file))
+				.build(), ResponseTransformer.toFile(temp));
+			Files.move(temp, file, StandardCopyOption.ATOMIC_MOVE);
+			return true;
+		} catch (NoSuchKeyException e) {
+			return false;
+		} finally {
+			Files.deleteIfExists(temp);
+		}
+	}
+
+	/**
+	 * 세션별 기록기 (세션 수집 레인에서 순서대로 호출되며, 봉인 스케줄러와는 기록기 모니터로 직렬화)
+	 */
+	private final class SessionWriter {
+
+		private final Path directory;
+		private FileChannel index;
+		private FileChannel segment;
+		private int segmentNumber;
+		private long segmentBytes;
+		private long lastMediaTime = Long.MIN_VALUE;
+		private boolean closed;
+		private volatile long lastAppendedAt = System.currentTimeMillis();
+
+		SessionWriter(Path directory) {
+			this.directory = directory;
+		}
+
+		void append(InputLogColumns columns) throws IOException {
+			lastAppendedAt = System.currentTimeMillis();
+			if (index == null) {
+				openIndex();
+			}
+
+			int from = 0;
+			while (from < columns.size && columns.mediaTime[from] <= lastMediaTime) {
+				from++;
+			}
+			if (from == columns.size) {
+				return;
+			}
+
+			byte[] block = InputLogBinaryEncoder.encode(columns, from, columns.size);
+			if (segment == null) {
+				// 인덱스에 없는 번호이므로 남아 있는 파일은 중단된 기록의 잔여분
+				segment = FileChannel.open(segmentPath(directory, segmentNumber), StandardOpenOption.CREATE,
+					StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING);
+				segmentBytes = 0;
+			}
+			writeFully(segment, ByteBuffer.wrap(block));
+
+			long firstTime = columns.mediaTime[from];
+			long lastTime = columns.mediaTime[columns.size - 1];
+			ByteBuffer entry = ByteBuffer.allocate(INDEX_ENTRY_BYTES)
+				.putInt(segmentNumber)
+				.putLong(segmentBytes)
+				.putInt(block.length)
+				.putLong(firstTime)
+				.putLong(lastTime)
+				.putInt(columns.size - from)
+				.flip();
+			writeFully(index, entry);
+
+			segmentBytes += block.length;
+			lastMediaTime = lastTime;
+			if (segmentBytes >= replayArchiveProperties.segmentSize().toBytes()) {
+				seal();
+			}
+		}
+
+		/**
+		 * 기존 인덱스가 있으면 마지막 레코드 이후부터 이어서 기록 (재시작 후에는 항상 새 세그먼트)
+		 */
+		private void openIndex() throws IOException {
+			Files.createDirectories(directory);
+			index = FileChannel.open(directory.resolve(INDEX_FILE), StandardOpenOption.CREATE, StandardOpenOption.READ,
+				StandardOpenOption.WRITE);
+			long entries = index.size() / INDEX_ENTRY_BYTES;
+			index.truncate(entries * INDEX_ENTRY_BYTES); // 중단된 레코드 제거
+			index.position(entries * INDEX_ENTRY_BYTES);
+			if (entries > 0) {
+				ByteBuffer last = ByteBuffer.allocate(INDEX_ENTRY_BYTES);
+				index.read(last, (entries - 1) * INDEX_ENTRY_BYTES);
+				last.flip();
+				segmentNumber = last.getInt(0) + 1;
+				lastMediaTime = last.getLong(24);
+			}
+		}
+
+		private void seal() throws IOException {
+			if (segment == null) {
+				return;
+			}
+			segment.force(false);
+			segment.close();
+			segment = null;
+			index.force(false);
+			mirror(segmentPath(directory, segmentNumber));
+			mirror(directory.resolve(INDEX_FILE));
+			segmentNumber++;
+			segmentBytes = 0;
+		}
+
+		void closeQuietly() {
+			closed = true;
+			try {
+				seal();
+			} catch (IOException e) {
+				log.warn("[InputLogArchive] Failed to seal segment in {}: {}", directory, e.getMessage());
+			}
+			try {
+				if (index != null) {
+					index.close();
+				}
+			} catch (IOException e) {
+				log.warn("[InputLogArchive] Failed to close index in {}: {}", directory, e.getMessage());
+			}
+			index = null;
+			segment = null;
+		}
+
+		private static void writeFully(FileChannel channel, ByteBuffer buffer) throws IOException {
+			while (buffer.hasRemaining()) {
+				channel.write(buffer);
+			}
+		}
+	}
+
+	/**
+	 * 메모리 매핑 기반 세션 리더 (인덱스와 세그먼트를 읽기 전용으로 매핑)
+	 */
+	private final class ArchiveReader implements Closeable {
+
+		private final Path directory;
+		private final Map<Integer, MappedByteBuffer> segments = new HashMap<>();
+		private MappedByteBuffer index;
+		private int entries;
+		private byte[] blockBuffer = new byte[0];
+
+		ArchiveReader(UUID sessionUuid) throws IOException {
+			this.directory = sessionDirectory(sessionUuid);
+			Path indexPath = directory.resolve(INDEX_FILE);
+			if (fetch(indexPath)) {
+				index = map(indexPath);
+				entries = index.capacity() / INDEX_ENTRY_BYTES;
+			}
+		}
+
+		void forEachBlock(long fromMediaTime, long toMediaTime, Consumer<InputLogColumns> consumer) throws IOException {
+			for (int entry = firstEntryEndingAtOrAfter(fromMediaTime); entry < entries; entry++) {
+				int base = entry * INDEX_ENTRY_BYTES;
+				if (index.getLong(base + 16) > toMediaTime) {
+					break;
+				}
+				int segmentNumber = index.getInt(base);
+				int offset = (int)index.getLong(base + 4);
+				int length = index.getInt(base + 12);
+
+				MappedByteBuffer segment = segment(segmentNumber);
+				if (blockBuffer.length < length) {
+					blockBuffer = new byte[length];
+				}
+				segment.get(offset, blockBuffer, 0, length);
+				consumer.accept(InputLogBinaryDecoder.decode(blockBuffer, length));
+			}
+		}
+
+		/**
+		 * lastMediaTime이 기준 이상인 첫 레코드 (레코드는 media_time 순이므로 이진 탐색)
+		 */
+		private int firstEntryEndingAtOrAfter(long mediaTime) {
+			int low = 0;
+			int high = entries;
+			while (low < high) {
+				int mid = (low + high) >>> 1;
+				if (index.getLong(mid * INDEX_ENTRY_BYTES + 24) < mediaTime) {
+					low = mid + 1;
+				} else {
+					high = mid;
+				}
+			}
+			return low;
+		}
+
+		private MappedByteBuffer segment(int segmentNumber) throws IOException {
+			MappedByteBuffer segment = segments.get(segmentNumber);
+			if (segment == null) {
+				Path path = segmentPath(directory, segmentNumber);
+				if (!fetch(path)) {
+					throw new IOException("Archive segment not found: " + path);
+				}
+				segment = map(path);
+				segments.put(segmentNumber, segment);
+			}
+			return segment;
+		}
+
+		private static MappedByteBuffer map(Path path) throws IOException {
+			try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+				return channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+			}
+		}
+
+		@Override
+		public void close() {
+			// 매핑은 GC 시 해제되므로 참조만 정리
+			segments.clear();
+			index = null;
+		}
+	}
+}
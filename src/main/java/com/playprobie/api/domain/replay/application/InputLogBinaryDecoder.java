@@ -0,0 +1,218 @@
+package com.playprobie.api.domain.replay.application;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.DataFormatException;
+import java.util.zip.Inflater;
+
+import com.playprobie.api.global.error.ErrorCode;
+import com.playprobie.api.global.error.exception.InvalidValueException;
+
+/**
+ * 입력 로그 바이너리 배치 디코더 (Content-Type: application/vnd.playprobie.input-log)
+ * <p>
+ * JSON 배치와 같은 이벤트를 델타 + varint로 압축한 형식이며, 이벤트별 객체 없이 {@link InputLogColumns}로 바로 풉니다.
+ * <pre>
+ * header  : version(1B = 1 또는 2) | flags(1B, bit0 = 본문 zlib 압축)
+ * body    : eventCount(varint)
+ *           keyCount(varint) | keyCount × [length(varint) | UTF-8 bytes]   - 키 코드 테이블
+ *           eventCount × event
+ * event   : type(1B) | mediaTimeDelta(zigzag varint, 직전 이벤트 기준, 첫 이벤트는 0 기준)
+ *           [keyIndex(varint, 0 = 없음, n = 테이블 n번째) - KEY_DOWN/KEY_UP만]
+ *           [button(zigzag varint, -1 = 없음) | x(zigzag varint) | y(zigzag varint) - 버전 2의 MOUSE_DOWN/MOUSE_UP만]
+ *           [deltaY(zigzag varint) - 버전 2의 WHEEL만]
+ *           [x(zigzag varint) | y(zigzag varint) - 버전 2의 MOUSE_MOVE만]
+ * type    : 0 = 분석 제외, 1 = KEY_DOWN, 2 = KEY_UP, 3 = MOUSE_DOWN, 4 = MOUSE_UP,
+ *           5 = WHEEL, 6 = MOUSE_MOVE(버전 2부터)
+ * </pre>
+ * media_time이 없는 이벤트는 클라이언트에서 제외하고 보냅니다. 버전 1 배치는 마우스/휠 값 없이 계속 받습니다.
+ */
+final class InputLogBinaryDecoder {
+
+	static final int VERSION = 2;
+	static final int LEGACY_VERSION = 1;
+	static final int FLAG_DEFLATE = 0x01;
+
+	// 배치 크기 상한 (압축 해제 폭탄 및 과도한 버퍼 할당 방지)
+	private static final int MAX_EVENTS = 100_000;
+	private static final int MAX_KEY_CODES = 512;
+	private static final int MAX_KEY_CODE_BYTES = 64;
+	private static final int MAX_INFLATED_BYTES = 4 * 1024 * 1024;
+
+	private final byte[] buffer;
+	private final int limit;
+	private final int version;
+	private int position;
+
+	private InputLogBinaryDecoder(byte[] buffer, int offset, int limit, int version) {
+		this.buffer = buffer;
+		this.position = offset;
+		this.limit = limit;
+		this.version = version;
+	}
+
+	/**
+	 * 바이너리 배치를 현재 스레드의 컬럼 버퍼로 디코딩
+	 *
+	 * @throws InvalidValueException 형식이 올바르지 않거나 상한을 넘는 경우
+	 */
+	static InputLogColumns decode(byte[] payload) {
+		if (payload == null) {
+			throw invalid();
+		}
+		return decode(payload, payload.length);
+	}
+
+	/**
+	 * 버퍼 앞부분 length 바이트만 배치로 디코딩 (아카이브 블록처럼 재사용 버퍼에 담긴 경우)
+	 */
+	static InputLogColumns decode(byte[] payload, int length) {
+		if (length < 2 || length > payload.length) {
+			throw invalid();
+		}
+		int version = payload[0] & 0xFF;
+		int flags = payload[1] & 0xFF;
+		if ((version != VERSION && version != LEGACY_VERSION) || (flags & ~FLAG_DEFLATE) != 0) {
+			throw invalid();
+		}
+
+		if ((flags & FLAG_DEFLATE) != 0) {
+			byte[] inflated = inflate(payload, 2, length);
+			return new InputLogBinaryDecoder(inflated, 0, inflated.length, version).readColumns();
+		}
+		return new InputLogBinaryDecoder(payload, 2, length, version).readColumns();
+	}
+
+	private InputLogColumns readColumns() {
+		int eventCount = readBoundedVarint(MAX_EVENTS);
+		int[] keyIds = readKeyTable();
+		// 이벤트는 최소 2바이트이므로 남은 길이로 개수를 검증한 뒤 버퍼 할당
+		if (eventCount > (limit - position) / 2) {
+			throw invalid();
+		}
+
+		InputLogColumns columns = InputLogColumns.open(eventCount);
+		int maxType = version == VERSION ? InputLogColumns.TYPE_MOUSE_MOVE : InputLogColumns.TYPE_MOUSE_UP;
+		long time = 0;
+		for (int i = 0; i < eventCount; i++) {
+			int type = readByte();
+			time += readZigZagVarLong();
+			if (type > maxType) {
+				throw invalid();
+			}
+			int keyId = InputLogColumns.NO_KEY;
+			int button = InputLogColumns.NO_BUTTON;
+			int x = 0;
+			int y = 0;
+			int deltaY = 0;
+			if (type == InputLogColumns.TYPE_KEY_DOWN || type == InputLogColumns.TYPE_KEY_UP) {
+				int keyIndex = readBoundedVarint(keyIds.length);
+				// 탐지는 KEY_DOWN의 키만 사용
+				if (type == InputLogColumns.TYPE_KEY_DOWN && keyIndex > 0) {
+					keyId = keyIds[keyIndex - 1];
+				}
+			} else if (version == VERSION
+				&& (type == InputLogColumns.TYPE_MOUSE_DOWN || type == InputLogColumns.TYPE_MOUSE_UP)) {
+				button = readZigZagInt();
+				x = readZigZagInt();
+				y = readZigZagInt();
+			} else if (type == InputLogColumns.TYPE_WHEEL) {
+				deltaY = readZigZagInt();
+			} else if (type == InputLogColumns.TYPE_MOUSE_MOVE) {
+				x = readZigZagInt();
+				y = readZigZagInt();
+			}
+			if (type != InputLogColumns.TYPE_OTHER) {
+				columns.append(time, type, keyId, button, x, y, deltaY);
+			}
+		}
+		if (position != limit) {
+			throw invalid();
+		}
+		columns.complete();
+		return columns;
+	}
+
+	private int[] readKeyTable() {
+		int keyCount = readBoundedVarint(MAX_KEY_CODES);
+		int[] keyIds = new int[keyCount];
+		for (int i = 0; i < keyCount; i++) {
+			int length = readBoundedVarint(MAX_KEY_CODE_BYTES);
+			if (length > limit - position) {
+				throw invalid();
+			}
+			String code = new String(buffer, position, length, StandardCharsets.UTF_8);
+			position += length;
+			keyIds[i] = InputLogColumns.internKeyCode(code);
+		}
+		return keyIds;
+	}
+
+	private int readByte() {
+		if (position >= limit) {
+			throw invalid();
+		}
+		return buffer[position++] & 0xFF;
+	}
+
+	private int readBoundedVarint(int max) {
+		long value = readVarLong();
+		if (value < 0 || value > max) {
+			throw invalid();
+		}
+		return (int)value;
+	}
+
+	private int readZigZagInt() {
+		long value = readZigZagVarLong();
+		if (value < Integer.MIN_VALUE || value > Integer.MAX_VALUE) {
+			throw invalid();
+		}
+		return (int)value;
+	}
+
+	private long readZigZagVarLong() {
+		long value = readVarLong();
+		return (value >>> 1) ^ -(value & 1);
+	}
+
+	private long readVarLong() {
+		long value = 0;
+		for (int shift = 0; shift < 64; shift += 7) {
+			int b = readByte();
+			value |= (long)(b & 0x7F) << shift;
+			if ((b & 0x80) == 0) {
+				return value;
+			}
+		}
+		throw invalid();
+	}
+
+	private static byte[] inflate(byte[] payload, int offset, int length) {
+		Inflater inflater = new Inflater();
+		try {
+			inflater.setInput(payload, offset, length - offset);
+			ByteArrayOutputStream out = new ByteArrayOutputStream(Math.min(MAX_INFLATED_BYTES, length * 4));
+			byte[] chunk = new byte[8192];
+			while (!inflater.finished()) {
+				int inflated = inflater.inflate(chunk);
+				if (inflated == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+					throw invalid(); // 잘린 스트림
+				}
+				if (out.size() + inflated > MAX_INFLATED_BYTES) {
+					throw invalid();
+				}
+				out.write(chunk, 0, inflated);
+			}
+			return out.toByteArray();
+		} catch (DataFormatException e) {
+			throw invalid();
+		} finally {
+			inflater.end();
+		}
+	}
+
+	private static InvalidValueException invalid() {
+		return new InvalidValueException(ErrorCode.INVALID_INPUT_LOG_FORMAT);
+	}
+}
@@ -0,0 +1,99 @@
+package com.playprobie.api.domain.replay.application;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.Deflater;
+
+/**
+ * 컬럼 버퍼 → 입력 로그 바이너리 배치 인코더 (형식은 {@link InputLogBinaryDecoder} 참고)
+ * <p>
+ * 아카이브 블록 기록에 사용하며, 본문은 항상 zlib으로 압축합니다.
+ */
+final class InputLogBinaryEncoder {
+
+	private InputLogBinaryEncoder() {
+	}
+
+	/**
+	 * columns의 [from, to) 구간을 압축된 바이너리 배치로 인코딩
+	 */
+	static byte[] encode(InputLogColumns columns, int from, int to) {
+		Map<Integer, Integer> keyIndexes = new HashMap<>();
+		List<String> keyTable = new ArrayList<>();
+		ByteArrayOutputStream events = new ByteArrayOutputStream((to - from) * 3);
+		long previousTime = 0;
+		for (int i = from; i < to; i++) {
+			int type = columns.typeCode[i];
+			events.write(type);
+			writeZigZag(events, columns.mediaTime[i] - previousTime);
+			previousTime = columns.mediaTime[i];
+			if (type == InputLogColumns.TYPE_KEY_DOWN || type == InputLogColumns.TYPE_KEY_UP) {
+				int keyId = columns.keyCodeId[i];
+				String code = InputLogColumns.keyCode(keyId);
+				int keyIndex = 0;
+				if (code != null) {
+					keyIndex = keyIndexes.computeIfAbsent(keyId, id -> {
+						keyTable.add(code);
+						return keyTable.size();
+					});
+				}
+				writeVarLong(events, keyIndex);
+			} else if (type == InputLogColumns.TYPE_MOUSE_DOWN || type == InputLogColumns.TYPE_MOUSE_UP) {
+				writeZigZag(events, columns.button[i]);
+				writeZigZag(events, columns.pointerX[i]);
+				writeZigZag(events, columns.pointerY[i]);
+			} else if (type == InputLogColumns.TYPE_WHEEL) {
+				writeZigZag(events, columns.wheelDeltaY[i]);
+			} else if (type == InputLogColumns.TYPE_MOUSE_MOVE) {
+				writeZigZag(events, columns.pointerX[i]);
+				writeZigZag(events, columns.pointerY[i]);
+			}
+		}
+
+		ByteArrayOutputStream body = new ByteArrayOutputStream(events.size() + 64);
+		writeVarLong(body, to - from);
+		writeVarLong(body, keyTable.size());
+		for (String code : keyTable) {
+			byte[] bytes = code.getBytes(StandardCharsets.UTF_8);
+			writeVarLong(body, bytes.length);
+			body.writeBytes(bytes);
+		}
+		body.writeBytes(events.toByteArray());
+
+		ByteArrayOutputStream payload = new ByteArrayOutputStream(body.size() / 2 + 16);
+		payload.write(InputLogBinaryDecoder.VERSION);
+		payload.write(InputLogBinaryDecoder.FLAG_DEFLATE);
+		deflate(body.toByteArray(), payload);
+		return payload.toByteArray();
+	}
+
+	private static void writeZigZag(ByteArrayOutputStream out, long value) {
+		writeVarLong(out, (value << 1) ^ (value >> 63));
+	}
+
+	private static void writeVarLong(ByteArrayOutputStream out, long value) {
+		while ((value & ~0x7FL) != 0) {
+			out.write((int)(value & 0x7F) | 0x80);
+			value >>>= 7;
+		}
+		out.write((int)value);
+	}
+
+	private static void deflate(byte[] bytes, ByteArrayOutputStream out) {
+		Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+		try {
+			deflater.setInput(bytes);
+			deflater.finish();
+			byte[] chunk = new byte[8192];
+			while (!deflater.finished()) {
+				out.write(chunk, 0, deflater.deflate(chunk));
+			}
+		} finally {
+			deflater.end();
+		}
+	}
+}
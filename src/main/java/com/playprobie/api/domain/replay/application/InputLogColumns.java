@@ -0,0 +1,380 @@
+package com.playprobie.api.domain.replay.application;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.playprobie.api.domain.replay.dto.InputLogDto;
+
+/**
+ * 입력 로그 배치의 컬럼형 표현 (media_time 오름차순, 분석/집계 대상 입력 이벤트만)
+ * <p>
+ * 탐지에 필요한 값만 원시 타입 배열로 풀어 두어, 탐지기가 박싱이나 중간 리스트 없이 한 번에 순회할 수 있게 합니다.
+ * <ul>
+ * <li>키 코드는 표준 KeyboardEvent.code 고정 사전에서 정수 ID로 치환합니다 (0 = 키 코드 없음 또는 비표준 코드).</li>
+ * <li>마우스 버튼은 MOUSE_DOWN/UP, 좌표는 MOUSE_DOWN/UP/MOVE, 세로 스크롤 양은 WHEEL에만 채워지며 값이 없으면 NO_BUTTON/0입니다.</li>
+ * <li>MOUSE_MOVE는 히트맵 집계에만 쓰이며 구독하는 탐지기가 없습니다.</li>
+ * <li>배열은 스레드별로 재사용하므로 분석이 끝난 뒤 참조를 보관하면 안 됩니다 (보관하려면 {@link #copy}).</li>
+ * </ul>
+ */
+final class InputLogColumns {
+
+	static final int TYPE_KEY_DOWN = 1;
+	static final int TYPE_KEY_UP = 2;
+	static final int TYPE_MOUSE_DOWN = 3;
+	static final int TYPE_MOUSE_UP = 4;
+	static final int TYPE_WHEEL = 5;
+	static final int TYPE_MOUSE_MOVE = 6;
+	static final int TYPE_OTHER = 0;
+
+	/** 버튼 정보 없음 */
+	static final int NO_BUTTON = -1;
+
+	/** 키 코드 없음 (표준 KeyboardEvent.code가 아닌 코드 포함) */
+	static final int NO_KEY = 0;
+
+	private static final int INITIAL_CAPACITY = 256;
+	// 이보다 큰 배치는 스레드 버퍼를 키우지 않고 일회성 버퍼 사용 (요청 스레드별 메모리 상한)
+	private static final int MAX_REUSABLE_SIZE = 8192;
+
+	// 정렬 키 = (media_time - 최솟값) << INDEX_BITS | 원래 위치 → long[] 정렬 한 번으로 안정 정렬
+	private static final int INDEX_BITS = 22;
+	private static final long INDEX_MASK = (1L << INDEX_BITS) - 1;
+	private static final long MAX_PACKED_TIME = Long.MAX_VALUE >>> INDEX_BITS;
+
+	private static final KeyCodeDictionary KEY_CODES = new KeyCodeDictionary();
+	private static final ThreadLocal<InputLogColumns> REUSABLE = ThreadLocal.withInitial(InputLogColumns::new);
+
+	long[] mediaTime = new long[INITIAL_CAPACITY];
+	int[] typeCode = new int[INITIAL_CAPACITY];
+	int[] keyCodeId = new int[INITIAL_CAPACITY];
+	int[] button = new int[INITIAL_CAPACITY];
+	int[] pointerX = new int[INITIAL_CAPACITY];
+	int[] pointerY = new int[INITIAL_CAPACITY];
+	int[] wheelDeltaY = new int[INITIAL_CAPACITY];
+	int size;
+	private boolean sorted = true;
+
+	// 정렬용 보조 버퍼 (정렬이 필요할 때만 할당 후 재사용)
+	private long[] sortKeys = new long[0];
+	private long[] spareMediaTime = new long[0];
+	private int[] spareTypeCode = new int[0];
+	private int[] spareKeyCodeId = new int[0];
+	private int[] spareButton = new int[0];
+	private int[] sparePointerX = new int[0];
+	private int[] sparePointerY = new int[0];
+	private int[] spareWheelDeltaY = new int[0];
+
+	private InputLogColumns() {
+	}
+
+	/**
+	 * 현재 스레드의 재사용 버퍼에 배치를 풀어 반환 (media_time이 없거나 입력 이벤트가 아닌 로그는 제외)
+	 */
+	static InputLogColumns decode(List<InputLogDto> logs) {
+		InputLogColumns columns = open(logs.size());
+		String lastCode = null;
+		int lastCodeId = NO_KEY;
+
+		for (InputLogDto inputLog : logs) {
+			Long time = inputLog.mediaTime();
+			int type = typeCode(inputLog.type());
+			if (time == null || type == TYPE_OTHER) {
+				continue;
+			}
+
+			int keyId = NO_KEY;
+			String code = inputLog.code();
+			if (type == TYPE_KEY_DOWN && code != null) {
+				// 연타 구간은 같은 키가 이어지므로 직전 키와 같으면 사전 조회 생략
+				if (!code.equals(lastCode)) {
+					lastCode = code;
+					lastCodeId = internKeyCode(code);
+				}
+				keyId = lastCodeId;
+			}
+			if (type == TYPE_MOUSE_DOWN || type == TYPE_MOUSE_UP) {
+				columns.append(time, type, keyId, valueOr(inputLog.button(), NO_BUTTON), valueOr(inputLog.x(), 0),
+					valueOr(inputLog.y(), 0), 0);
+			} else if (type == TYPE_MOUSE_MOVE) {
+				columns.append(time, type, keyId, NO_BUTTON, valueOr(inputLog.x(), 0), valueOr(inputLog.y(), 0), 0);
+			} else if (type == TYPE_WHEEL) {
+				columns.append(time, type, keyId, NO_BUTTON, 0, 0, valueOr(inputLog.deltaY(), 0));
+			} else {
+				columns.append(time, type, keyId);
+			}
+		}
+		columns.complete();
+		return columns;
+	}
+
+	/**
+	 * 최대 expectedSize개의 이벤트를 담을 버퍼 준비 (작은 배치는 현재 스레드의 재사용 버퍼)
+	 * <p>
+	 * {@link #append}로 채운 뒤 {@link #complete}를 호출해야 합니다.
+	 */
+	static InputLogColumns open(int expectedSize) {
+		InputLogColumns columns = expectedSize <= MAX_REUSABLE_SIZE ? REUSABLE.get() : new InputLogColumns();
+		columns.ensureCapacity(expectedSize);
+		columns.size = 0;
+		columns.sorted = true;
+		return columns;
+	}
+
+	/**
+	 * 재사용 버퍼와 분리된 사본 (다음 배치 decode 이후에도 내용이 유지되어야 할 때 사용)
+	 */
+	InputLogColumns copy() {
+		InputLogColumns copy = new InputLogColumns();
+		copy.mediaTime = Arrays.copyOf(mediaTime, size);
+		copy.typeCode = Arrays.copyOf(typeCode, size);
+		copy.keyCodeId = Arrays.copyOf(keyCodeId, size);
+		copy.button = Arrays.copyOf(button, size);
+		copy.pointerX = Arrays.copyOf(pointerX, size);
+		copy.pointerY = Arrays.copyOf(pointerY, size);
+		copy.wheelDeltaY = Arrays.copyOf(wheelDeltaY, size);
+		copy.size = size;
+		return copy;
+	}
+
+	static int internKeyCode(String code) {
+		return KEY_CODES.intern(code);
+	}
+
+	static String keyCode(int keyCodeId) {
+		return KEY_CODES.name(keyCodeId);
+	}
+
+	/**
+	 * 탐지기 이벤트 마스크용 비트 (InsightDetector#eventMask)
+	 */
+	static int mask(int type) {
+		return 1 << type;
+	}
+
+	/**
+	 * 입력 이벤트 추가 (type은 TYPE_OTHER가 아니어야 하며, open 시 지정한 개수까지)
+	 */
+	void append(long time, int type, int keyId) {
+		append(time, type, keyId, NO_BUTTON, 0, 0, 0);
+	}
+
+	/**
+	 * 마우스/휠 값을 포함한 입력 이벤트 추가
+	 */
+	void append(long time, int type, int keyId, int buttonValue, int x, int y, int deltaY) {
+		if (size > 0 && time < mediaTime[size - 1]) {
+			sorted = false;
+		}
+		mediaTime[size] = time;
+		typeCode[size] = type;
+		keyCodeId[size] = keyId;
+		button[size] = buttonValue;
+		pointerX[size] = x;
+		pointerY[size] = y;
+		wheelDeltaY[size] = deltaY;
+		size++;
+	}
+
+	/**
+	 * 추가가 끝난 버퍼를 media_time 순으로 정리
+	 */
+	void complete() {
+		if (!sorted) {
+			sortByMediaTime();
+			sorted = true;
+		}
+	}
+
+	private static int typeCode(String type) {
+		if (type == null) {
+			return TYPE_OTHER;
+		}
+		return switch (type) {
+			case "KEY_DOWN" -> TYPE_KEY_DOWN;
+			case "KEY_UP" -> TYPE_KEY_UP;
+			case "MOUSE_DOWN" -> TYPE_MOUSE_DOWN;
+			case "MOUSE_UP" -> TYPE_MOUSE_UP;
+			case "WHEEL" -> TYPE_WHEEL;
+			case "MOUSE_MOVE" -> TYPE_MOUSE_MOVE;
+			default -> TYPE_OTHER;
+		};
+	}
+
+	private static int valueOr(Integer value, int defaultValue) {
+		return value != null ? value : defaultValue;
+	}
+
+	/**
+	 * media_time 기준 안정 정렬 (같은 시각은 원래 순서 유지)
+	 */
+	private void sortByMediaTime() {
+		long min = Long.MAX_VALUE;
+		long max = Long.MIN_VALUE;
+		for (int i = 0; i < size; i++) {
+			min = Math.min(min, mediaTime[i]);
+			max = Math.max(max, mediaTime[i]);
+		}
+
+		if (size <= INDEX_MASK + 1 && max - min >= 0 && max - min <= MAX_PACKED_TIME) {
+			if (sortKeys.length < size) {
+				sortKeys = new long[mediaTime.length];
+			}
+			for (int i = 0; i < size; i++) {
+				sortKeys[i] = (mediaTime[i] - min) << INDEX_BITS | i;
+			}
+			Arrays.sort(sortKeys, 0, size);
+			for (int i = 0; i < size; i++) {
+				sortKeys[i] &= INDEX_MASK;
+			}
+		} else {
+			// 비정상적인 범위(음수/초대형 media_time) - 박싱 정렬로 대체
+			Integer[] order = new Integer[size];
+			for (int i = 0; i < size; i++) {
+				order[i] = i;
+			}
+			Arrays.sort(order, (left, right) -> Long.compare(mediaTime[left], mediaTime[right]));
+			if (sortKeys.length < size) {
+				sortKeys = new long[mediaTime.length];
+			}
+			for (int i = 0; i < size; i++) {
+				sortKeys[i] = order[i];
+			}
+		}
+		permute();
+	}
+
+	/**
+	 * sortKeys에 담긴 원래 위치 순서대로 컬럼 재배치 (보조 버퍼와 교체)
+	 */
+	private void permute() {
+		if (spareMediaTime.length < mediaTime.length) {
+			spareMediaTime = new long[mediaTime.length];
+			spareTypeCode = new int[mediaTime.length];
+			spareKeyCodeId = new int[mediaTime.length];
+			spareButton = new int[mediaTime.length];
+			sparePointerX = new int[mediaTime.length];
+			sparePointerY = new int[mediaTime.length];
+			spareWheelDeltaY = new int[mediaTime.length];
+		}
+		for (int i = 0; i < size; i++) {
+			int from = (int)sortKeys[i];
+			spareMediaTime[i] = mediaTime[from];
+			spareTypeCode[i] = typeCode[from];
+			spareKeyCodeId[i] = keyCodeId[from];
+			spareButton[i] = button[from];
+			sparePointerX[i] = pointerX[from];
+			sparePointerY[i] = pointerY[from];
+			spareWheelDeltaY[i] = wheelDeltaY[from];
+		}
+
+		long[] times = mediaTime;
+		mediaTime = spareMediaTime;
+		spareMediaTime = times;
+		int[] types = typeCode;
+		typeCode = spareTypeCode;
+		spareTypeCode = types;
+		int[] keys = keyCodeId;
+		keyCodeId = spareKeyCodeId;
+		spareKeyCodeId = keys;
+		int[] buttons = button;
+		button = spareButton;
+		spareButton = buttons;
+		int[] xs = pointerX;
+		pointerX = sparePointerX;
+		sparePointerX = xs;
+		int[] ys = pointerY;
+		pointerY = sparePointerY;
+		sparePointerY = ys;
+		int[] deltas = wheelDeltaY;
+		wheelDeltaY = spareWheelDeltaY;
+		spareWheelDeltaY = deltas;
+	}
+
+	private void ensureCapacity(int required) {
+		if (required <= mediaTime.length) {
+			return;
+		}
+		int capacity = Math.max(required, mediaTime.length * 2);
+		mediaTime = new long[capacity];
+		typeCode = new int[capacity];
+		keyCodeId = new int[capacity];
+		button = new int[capacity];
+		pointerX = new int[capacity];
+		pointerY = new int[capacity];
+		wheelDeltaY = new int[capacity];
+	}
+
+	/**
+	 * 키 코드 문자열 ↔ 정수 ID 고정 사전 (KeyboardEvent.code 표준 값만 등록, 그 밖의 코드는 NO_KEY)
+	 * <p>
+	 * 클라이언트가 보낸 코드로 사전을 늘리지 않으므로, 임의의 코드가 섞여 들어와도 표준 키의 ID가 바뀌거나 밀려나지 않습니다.
+	 */
+	private static final class KeyCodeDictionary {
+
+		private static final String[] NAMED_CODES = {
+			// 문자 영역 (KeyA~KeyZ, Digit0~Digit9는 아래에서 추가)
+			"Backquote", "Backslash", "BracketLeft", "BracketRight", "Comma", "Equal", "IntlBackslash", "IntlRo",
+			"IntlYen", "Minus", "Period", "Quote", "Semicolon", "Slash",
+			// 기능 키
+			"AltLeft", "AltRight", "Backspace", "CapsLock", "ContextMenu", "ControlLeft", "ControlRight", "Enter",
+			"MetaLeft", "MetaRight", "ShiftLeft", "ShiftRight", "Space", "Tab", "Convert", "KanaMode", "Lang1",
+			"Lang2", "Lang3", "Lang4", "Lang5", "NonConvert",
+			// 편집/방향 키
+			"Delete", "End", "Help", "Home", "Insert", "PageDown", "PageUp", "ArrowDown", "ArrowLeft", "ArrowRight",
+			"ArrowUp",
+			// 숫자 키패드 (Numpad0~Numpad9는 아래에서 추가)
+			"NumLock", "NumpadAdd", "NumpadBackspace", "NumpadClear", "NumpadClearEntry", "NumpadComma",
+			"NumpadDecimal", "NumpadDivide", "NumpadEnter", "NumpadEqual", "NumpadHash", "NumpadMemoryAdd",
+			"NumpadMemoryClear", "NumpadMemoryRecall", "NumpadMemoryStore", "NumpadMemorySubtract",
+			"NumpadMultiply", "NumpadParenLeft", "NumpadParenRight", "NumpadStar", "NumpadSubtract",
+			// 기능열 (F1~F24는 아래에서 추가)
+			"Escape", "Fn", "FnLock", "PrintScreen", "ScrollLock", "Pause",
+			// 미디어/브라우저 키
+			"BrowserBack", "BrowserFavorites", "BrowserForward", "BrowserHome", "BrowserRefresh", "BrowserSearch",
+			"BrowserStop", "Eject", "LaunchApp1", "LaunchApp2", "LaunchMail", "MediaPlayPause", "MediaSelect",
+			"MediaStop", "MediaTrackNext", "MediaTrackPrevious", "Power", "Sleep", "AudioVolumeDown",
+			"AudioVolumeMute", "AudioVolumeUp", "WakeUp",
+			// 레거시/특수 키
+			"Hyper", "Super", "Turbo", "Abort", "Resume", "Suspend", "Again", "Copy", "Cut", "Find", "Open", "Paste",
+			"Props", "Select", "Undo", "Hiragana", "Katakana", "Unidentified"
+		};
+
+		private final Map<String, Integer> ids;
+		private final String[] names;
+
+		KeyCodeDictionary() {
+			List<String> codes = new ArrayList<>();
+			for (char letter = 'A'; letter <= 'Z'; letter++) {
+				codes.add("Key" + letter);
+			}
+			for (int digit = 0; digit <= 9; digit++) {
+				codes.add("Digit" + digit);
+				codes.add("Numpad" + digit);
+			}
+			for (int function = 1; function <= 24; function++) {
+				codes.add("F" + function);
+			}
+			codes.addAll(Arrays.asList(NAMED_CODES));
+
+			Map<String, Integer> assigned = new HashMap<>();
+			names = new String[codes.size() + 1]; // 0 = NO_KEY
+			for (String code : codes) {
+				int id = assigned.size() + 1;
+				assigned.put(code, id);
+				names[id] = code;
+			}
+			ids = Map.copyOf(assigned);
+		}
+
+		int intern(String code) {
+			return ids.getOrDefault(code, NO_KEY);
+		}
+
+		String name(int id) {
+			return id > NO_KEY && id < names.length ? names[id] : null;
+		}
+	}
+}
@@ -0,0 +1,69 @@
+package com.playprobie.api.domain.replay.application;
+
+import java.util.List;
+
+import com.playprobie.api.domain.replay.domain.InsightType;
+
+/**
+ * 입력 로그 인사이트 탐지기 SPI
+ * <p>
+ * {@link InputLogAnalyzer}가 배치를 한 번만 순회하면서 각 이벤트를 eventMask에 해당하는 탐지기에 차례로 넘깁니다.
+ * 탐지기를 추가해도 데이터 순회는 늘어나지 않으며, 빈으로 등록하면(@Component + @Order) 파이프라인에 포함됩니다.
+ * <ul>
+ * <li>세션별 상태는 {@link #open}이 반환하는 {@link Scanner}가 가지며, 배치 경계를 넘어 이어집니다.
+ * 롤백 시 되돌릴 수 있도록 {@link Scanner#copy}로 사본을 만들 수 있어야 합니다.</li>
+ * <li>임계값은 {@link #thresholds}로 선언하고 설문별로 덮어쓸 수 있습니다 (Survey#insightThresholds).</li>
+ * </ul>
+ */
+interface InsightDetector {
+
+	/**
+	 * 감지 결과 인사이트 유형 (탐지기 이름, 메트릭 태그로도 사용)
+	 */
+	InsightType insightType();
+
+	/**
+	 * 처리할 이벤트 유형 비트 마스크 ({@link InputLogColumns#mask}의 OR)
+	 */
+	int eventMask();
+
+	/**
+	 * 설정 가능한 임계값 목록 (키는 "탐지기.항목" 형식)
+	 */
+	List<Threshold> thresholds();
+
+	/**
+	 * 세션 하나의 탐지 상태 생성
+	 */
+	Scanner open(InsightThresholds thresholds);
+
+	/**
+	 * 세션별 탐지 상태 (세션 상태 모니터 안에서만 호출)
+	 */
+	interface Scanner {
+
+		/**
+		 * columns의 index번째 이벤트 처리
+		 */
+		void accept(InputLogColumns columns, int index, Emitter emitter);
+
+		/**
+		 * 현재 상태의 독립 사본 (수집 트랜잭션 롤백 시 분석 이전 상태로 되돌리기 위한 스냅샷)
+		 */
+		Scanner copy();
+	}
+
+	/**
+	 * 감지 결과 수집
+	 */
+	interface Emitter {
+
+		void emit(long videoTimeMs, int durationMs, String metadata);
+	}
+
+	/**
+	 * 임계값 정의 (설문별 값은 [min, max] 범위만 허용)
+	 */
+	record Threshold(String key, int defaultValue, int min, int max) {
+	}
+}
@@ -28,7 +28,15 @@ public class InsightQuestionGenerator {
 		InsightType.PANIC,
 		"영상의 %d초~%d초 구간에서 버튼을 빠르게 여러 번 누르셨는데, 어떤 상황인지 설명해주실 수 있으신가요?",
 		InsightType.IDLE,
-		"영상의 %d초~%d초 구간에서 잠시 멈추셨는데, 어떤 상황인지 설명해주실 수 있으신가요?");
+		"영상의 %d초~%d초 구간에서 잠시 멈추셨는데, 어떤 상황인지 설명해주실 수 있으신가요?",
+		InsightType.RAGE_CLICK,
+		"영상의 %d초~%d초 구간에서 같은 곳을 여러 번 클릭하셨는데, 어떤 상황인지 설명해주실 수 있으신가요?",
+		InsightType.WHEEL_THRASH,
+		"영상의 %d초~%d초 구간에서 스크롤을 위아래로 여러 번 움직이셨는데, 무엇을 찾고 계셨나요?",
+		InsightType.OSCILLATION,
+		"영상의 %d초~%d초 구간에서 방향을 여러 번 바꾸셨는데, 어떤 상황인지 설명해주실 수 있으신가요?",
+		InsightType.MENU_DWELL,
+		"영상의 %d초~%d초 구간에서 메뉴를 오래 보고 계셨는데, 무엇을 확인하고 계셨나요?");
 
 	/**
 	 * 감지된 태그 중 랜덤으로 최대 1개 선택
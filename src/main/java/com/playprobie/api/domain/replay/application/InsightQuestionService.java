@@ -1,14 +1,14 @@
 package com.playprobie.api.domain.replay.application;
 
+import java.time.Duration;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import com.playprobie.api.domain.interview.dao.SurveySessionRepository;
-import com.playprobie.api.domain.interview.domain.SurveySession;
 import com.playprobie.api.domain.replay.dao.AnalysisTagRepository;
 import com.playprobie.api.domain.replay.domain.AnalysisTag;
 import com.playprobie.api.domain.replay.dto.InsightAnswerResponse;
@@ -34,60 +34,60 @@ public class InsightQuestionService {
 	private static final String EVENT_INSIGHT_QUESTION = "insight_question";
 	private static final String EVENT_INSIGHT_COMPLETE = "insight_complete";
 
+	private static final Duration INGESTION_WAIT = Duration.ofSeconds(2);
+
 	private final AnalysisTagRepository analysisTagRepository;
-	private final SurveySessionRepository surveySessionRepository;
+	private final ReplayLogIngestionQueue replayLogIngestionQueue;
+	private final InsightTagSummary insightTagSummary;
 	private final InsightQuestionGenerator insightQuestionGenerator;
 	private final SseEmitterService sseEmitterService;
 	private final ApplicationEventPublisher eventPublisher;
 
 	/**
 	 * 세션에 질문하지 않은 인사이트 태그가 있는지 확인
+	 * 수집 큐에 남은 입력 로그 배치가 먼저 분석되도록 잠시 대기 (트랜잭션 밖에서 대기하도록 조회만 트랜잭션 사용)
+	 * 이 서버의 태그 요약에 기록이 있으면 바로 true, 없으면 exists 조회로 확인 (태그 목록을 읽지 않음)
 	 */
-	@Transactional(readOnly = true)
 	public boolean hasUnaskedInsights(String sessionUuid) {
 		UUID uuid = UUID.fromString(sessionUuid);
-		List<AnalysisTag> unaskedTags = analysisTagRepository.findBySessionUuidAndIsAskedFalse(uuid);
-		return !unaskedTags.isEmpty();
+		if (!replayLogIngestionQueue.awaitIdle(uuid, INGESTION_WAIT)) {
+			log.warn("[InsightQuestionService] Input log ingestion still pending for session: {}", sessionUuid);
+		}
+		if (insightTagSummary.hasPendingTags(uuid)) {
+			return true;
+		}
+		return analysisTagRepository.existsBySessionUuidAndIsAskedFalse(uuid);
 	}
 
 	/**
 	 * 인사이트 질문 Phase 시작
-	 * 가장 마지막 태그 1개만 선택하여 질문 전송
+	 * 가장 마지막 태그 1개만 선택하여 질문 전송, 나머지 미질문 태그는 일괄 스킵 처리
 	 *
 	 * @return 시작 성공 여부 (인사이트 없으면 false)
 	 */
 	@Transactional
 	public boolean startInsightQuestionPhase(String sessionUuid) {
 		UUID uuid = UUID.fromString(sessionUuid);
-		SurveySession session = surveySessionRepository.findByUuid(uuid)
-			.orElseThrow(() -> new EntityNotFoundException(ErrorCode.SURVEY_SESSION_NOT_FOUND));
-
-		List<AnalysisTag> allTags = analysisTagRepository.findBySessionIdAndIsAskedFalse(session.getId());
+		insightTagSummary.clear(uuid);
 
-		if (allTags.isEmpty()) {
+		// 가장 마지막 태그 1개만 선택
+		Optional<AnalysisTag> latestTag = analysisTagRepository
+			.findFirstBySessionUuidAndIsAskedFalseOrderByIdDesc(uuid);
+		if (latestTag.isEmpty()) {
 			log.info("[InsightQuestionService] No insights for session: {}", sessionUuid);
 			return false;
 		}
 
-		// 가장 마지막 태그 1개만 선택
-		AnalysisTag lastTag = allTags.get(allTags.size() - 1);
-		List<AnalysisTag> selectedTags = List.of(lastTag);
-
 		// 선택된 태그 마킹 및 비선택 태그 스킵 처리
-		for (AnalysisTag tag : allTags) {
-			if (selectedTags.contains(tag)) {
-				tag.markAsSelected();
-			} else {
-				tag.markAsSkipped();
-			}
-		}
-		analysisTagRepository.saveAll(allTags);
+		AnalysisTag lastTag = latestTag.get();
+		lastTag.markAsSelected();
+		int skipped = analysisTagRepository.skipUnaskedExcept(lastTag.getSession().getId(), lastTag.getId());
 
-		log.info("[InsightQuestionService] Starting insight phase: session={}, selected={}/{}",
-			sessionUuid, selectedTags.size(), allTags.size());
+		log.info("[InsightQuestionService] Starting insight phase: session={}, selected=1/{}",
+			sessionUuid, skipped + 1);
 
 		// 첫번째 질문 전송
-		sendInsightQuestion(sessionUuid, selectedTags, 0);
+		sendInsightQuestion(sessionUuid, List.of(lastTag), 0);
 
 		return true;
 	}
@@ -191,24 +191,21 @@ public class InsightQuestionService {
 	}
 
 	/**
-	 * 인사이트 완료 SSE 이벤트 전송
+	 * 인사이트 완료 SSE 이벤트 전송 (태그 수는 개수 조회로 집계)
 	 */
 	private void sendInsightComplete(String sessionUuid) {
 		UUID uuid = UUID.fromString(sessionUuid);
-		SurveySession session = surveySessionRepository.findByUuid(uuid)
-			.orElseThrow(() -> new EntityNotFoundException(ErrorCode.SURVEY_SESSION_NOT_FOUND));
-
-		List<AnalysisTag> allTags = analysisTagRepository.findBySessionId(session.getId());
-		long answeredCount = allTags.stream().filter(AnalysisTag::getIsAsked).count();
+		long totalCount = analysisTagRepository.countBySessionUuid(uuid);
+		long answeredCount = analysisTagRepository.countBySessionUuidAndIsAskedTrue(uuid);
 
 		InsightCompletePayload payload = new InsightCompletePayload(
-			allTags.size(),
+			(int)totalCount,
 			(int)answeredCount);
 
 		sseEmitterService.send(sessionUuid, EVENT_INSIGHT_COMPLETE, payload);
 
 		log.info("[InsightQuestionService] Insight phase complete: session={}, total={}, answered={}",
-			sessionUuid, allTags.size(), answeredCount);
+			sessionUuid, totalCount, answeredCount);
 
 		// 클로징 트리거 이벤트 발행
 		eventPublisher.publishEvent(new InsightPhaseCompleteEvent(sessionUuid));
@@ -0,0 +1,63 @@
+package com.playprobie.api.domain.replay.application;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 세션별 인사이트 태그 요약 (수집 워커가 태그 저장 커밋 후 갱신)
+ * <p>
+ * 인터뷰 마지막 단계에서 태그 목록을 읽지 않고 인사이트 질문 Phase 진입 여부를 판단하기 위한 힌트입니다.
+ * <ul>
+ * <li>이 서버의 수집 워커가 저장한, 아직 질문 Phase에서 처리되지 않은 태그 수만 셉니다.</li>
+ * <li>힌트가 있으면 바로 진입하고, 없으면(다른 서버 수집, 재시작) DB exists 조회로 확인합니다.</li>
+ * <li>질문 Phase를 시작하면 비우고, 인터뷰가 끝나지 않은 세션은 STATE_TTL 뒤 정리합니다.</li>
+ * </ul>
+ */
+@Component
+public class InsightTagSummary {
+
+	private static final Duration STATE_TTL = Duration.ofMinutes(30);
+
+	private final Map<UUID, Pending> pendings = new ConcurrentHashMap<>();
+
+	/**
+	 * 커밋된 새 태그 반영
+	 */
+	void recordDetected(UUID sessionUuid, int count) {
+		if (count <= 0) {
+			return;
+		}
+		long now = System.currentTimeMillis();
+		pendings.merge(sessionUuid, new Pending(count, now),
+			(existing, added) -> new Pending(existing.count() + added.count(), now));
+	}
+
+	/**
+	 * 질문 Phase에서 처리되지 않은 태그가 이 서버에 기록되어 있는지 여부
+	 */
+	boolean hasPendingTags(UUID sessionUuid) {
+		Pending pending = pendings.get(sessionUuid);
+		return pending != null && pending.count() > 0;
+	}
+
+	/**
+	 * 세션 요약 제거 (질문 Phase 시작 시)
+	 */
+	void clear(UUID sessionUuid) {
+		pendings.remove(sessionUuid);
+	}
+
+	@Scheduled(fixedDelay = 600000, initialDelay = 600000)
+	public void evictStale() {
+		long threshold = System.currentTimeMillis() - STATE_TTL.toMillis();
+		pendings.values().removeIf(pending -> pending.updatedAt() < threshold);
+	}
+
+	private record Pending(int count, long updatedAt) {
+	}
+}
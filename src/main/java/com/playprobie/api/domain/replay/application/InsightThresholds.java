@@ -0,0 +1,47 @@
+package com.playprobie.api.domain.replay.application;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.playprobie.api.domain.replay.application.InsightDetector.Threshold;
+
+/**
+ * 탐지기 기본 임계값에 설문별 값을 덮어쓴 결과 (세션 상태 생성 시 한 번 만들어 사용)
+ */
+final class InsightThresholds {
+
+	private final Map<String, Integer> values;
+
+	InsightThresholds(Map<String, Integer> values) {
+		this.values = Map.copyOf(values);
+	}
+
+	/**
+	 * 임계값 조회 (탐지기가 선언한 키만 조회 가능)
+	 */
+	int get(String key) {
+		Integer value = values.get(key);
+		if (value == null) {
+			throw new IllegalArgumentException("Undeclared insight threshold: " + key);
+		}
+		return value;
+	}
+
+	Map<String, Integer> asMap() {
+		return values;
+	}
+
+	/**
+	 * 선언된 임계값마다 설문 값(없으면 기본값)을 사용 - 저장된 값이 범위를 벗어나면 범위 안으로 맞춤
+	 */
+	static InsightThresholds resolve(List<Threshold> definitions, Map<String, Integer> overrides) {
+		Map<String, Integer> resolved = new HashMap<>();
+		for (Threshold definition : definitions) {
+			Integer value = overrides != null ? overrides.get(definition.key()) : null;
+			resolved.put(definition.key(), value == null ? definition.defaultValue()
+				: Math.max(definition.min(), Math.min(definition.max(), value)));
+		}
+		return new InsightThresholds(resolved);
+	}
+}
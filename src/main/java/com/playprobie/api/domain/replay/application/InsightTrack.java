@@ -0,0 +1,82 @@
+package com.playprobie.api.domain.replay.application;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import com.playprobie.api.domain.replay.domain.AnalysisTag;
+import com.playprobie.api.domain.replay.dto.ReplayManifestResponse.Insight;
+
+/**
+ * 영상 시간 색인 인사이트 트랙 (불변, 매니페스트 캐시에 함께 보관)
+ * <p>
+ * 인사이트를 시작 시각 순으로 정렬하고 끝 시각의 누적 최댓값(prefixMaxEnd)을 함께 둡니다.
+ * prefixMaxEnd는 단조 증가하므로 구간 [fromMs, toMs] 조회는 이분 탐색으로 첫 후보를 찾고,
+ * 시작 시각이 toMs를 넘을 때까지만 훑습니다.
+ */
+final class InsightTrack {
+
+	private final Insight[] insights;
+	private final long[] startMs;
+	private final long[] endMs;
+	private final long[] prefixMaxEnd;
+
+	private InsightTrack(List<Insight> sorted) {
+		int size = sorted.size();
+		this.insights = sorted.toArray(new Insight[0]);
+		this.startMs = new long[size];
+		this.endMs = new long[size];
+		this.prefixMaxEnd = new long[size];
+		long maxEnd = Long.MIN_VALUE;
+		for (int i = 0; i < size; i++) {
+			Insight insight = insights[i];
+			startMs[i] = insight.videoTimeMs();
+			endMs[i] = insight.videoTimeMs() + (insight.durationMs() != null ? Math.max(0, insight.durationMs()) : 0);
+			maxEnd = Math.max(maxEnd, endMs[i]);
+			prefixMaxEnd[i] = maxEnd;
+		}
+	}
+
+	static InsightTrack of(List<AnalysisTag> tags) {
+		List<Insight> sorted = new ArrayList<>(tags.size());
+		for (AnalysisTag tag : tags) {
+			sorted.add(new Insight(tag.getId(), tag.getInsightType(), tag.getVideoTimeMs(), tag.getDurationMs(),
+				Boolean.TRUE.equals(tag.getIsAsked()), tag.getAnswerText()));
+		}
+		sorted.sort(Comparator.comparingLong(Insight::videoTimeMs)
+			.thenComparing(Insight::tagId, Comparator.nullsLast(Comparator.naturalOrder())));
+		return new InsightTrack(sorted);
+	}
+
+	int size() {
+		return insights.length;
+	}
+
+	/**
+	 * 구간 [fromMs, toMs]와 겹치는 인사이트 (양 끝 포함, 시작 시각 순)
+	 */
+	List<Insight> range(long fromMs, long toMs) {
+		if (fromMs > toMs) {
+			return List.of();
+		}
+		// prefixMaxEnd[i] >= fromMs 인 첫 인덱스 (그 앞의 인사이트는 모두 fromMs 전에 끝남)
+		int low = 0;
+		int high = insights.length;
+		while (low < high) {
+			int mid = (low + high) >>> 1;
+			if (prefixMaxEnd[mid] < fromMs) {
+				low = mid + 1;
+			} else {
+				high = mid;
+			}
+		}
+
+		List<Insight> result = new ArrayList<>();
+		for (int i = low; i < insights.length && startMs[i] <= toMs; i++) {
+			if (endMs[i] >= fromMs) {
+				result.add(insights[i]);
+			}
+		}
+		return result;
+	}
+}
@@ -0,0 +1,104 @@
+package com.playprobie.api.domain.replay.application;
+
+import java.util.List;
+
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import com.playprobie.api.domain.replay.domain.InsightType;
+
+/**
+ * 메뉴 장기 체류 탐지기: 메뉴 키로 연 메뉴를 오래 닫지 않음 (기본 15초 이상, KEY_DOWN 기준)
+ * <p>
+ * Escape/Tab/KeyI/KeyM을 메뉴 키로 보며, 연 키를 다시 누르거나 Escape를 누르면 닫힌 것으로 봅니다.
+ * 메뉴가 열린 채로 다른 메뉴 키를 누르면 메뉴 전환으로 보고 체류를 이어서 잽니다.
+ */
+@Order(600)
+@Component
+class MenuDwellDetector implements InsightDetector {
+
+	static final String MIN_DWELL_MS = "menu_dwell.min_ms";
+
+	private static final List<Threshold> THRESHOLDS = List.of(
+		new Threshold(MIN_DWELL_MS, 15_000, 1_000, 3_600_000));
+
+	private static final int ESCAPE_KEY_ID = InputLogColumns.internKeyCode("Escape");
+	private static final int[] MENU_KEY_IDS = {ESCAPE_KEY_ID, InputLogColumns.internKeyCode("Tab"),
+		InputLogColumns.internKeyCode("KeyI"), InputLogColumns.internKeyCode("KeyM")};
+
+	@Override
+	public InsightType insightType() {
+		return InsightType.MENU_DWELL;
+	}
+
+	@Override
+	public int eventMask() {
+		return InputLogColumns.mask(InputLogColumns.TYPE_KEY_DOWN);
+	}
+
+	@Override
+	public List<Threshold> thresholds() {
+		return THRESHOLDS;
+	}
+
+	@Override
+	public Scanner open(InsightThresholds thresholds) {
+		return new MenuDwellScanner(thresholds.get(MIN_DWELL_MS));
+	}
+
+	private static boolean isMenuKey(int keyId) {
+		if (keyId == InputLogColumns.NO_KEY) {
+			return false;
+		}
+		for (int menuKeyId : MENU_KEY_IDS) {
+			if (menuKeyId == keyId) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private static final class MenuDwellScanner implements Scanner {
+
+		private final int minDwellMs;
+		private int openKey = InputLogColumns.NO_KEY;
+		private long openedAt;
+
+		MenuDwellScanner(int minDwellMs) {
+			this.minDwellMs = minDwellMs;
+		}
+
+		@Override
+		public Scanner copy() {
+			MenuDwellScanner copy = new MenuDwellScanner(minDwellMs);
+			copy.openKey = openKey;
+			copy.openedAt = openedAt;
+			return copy;
+		}
+
+		@Override
+		public void accept(InputLogColumns columns, int index, Emitter emitter) {
+			int keyId = columns.keyCodeId[index];
+			if (!isMenuKey(keyId)) {
+				return;
+			}
+			long time = columns.mediaTime[index];
+			if (openKey == InputLogColumns.NO_KEY) {
+				openKey = keyId;
+				openedAt = time;
+				return;
+			}
+			if (keyId != openKey && keyId != ESCAPE_KEY_ID) {
+				openKey = keyId; // 메뉴 전환
+				return;
+			}
+
+			long dwell = time - openedAt;
+			if (dwell >= minDwellMs) {
+				emitter.emit(openedAt, (int)Math.min(dwell, Integer.MAX_VALUE),
+					String.format("{\"key\":\"%s\",\"dwell_ms\":%d}", InputLogColumns.keyCode(openKey), dwell));
+			}
+			openKey = InputLogColumns.NO_KEY;
+		}
+	}
+}
@@ -0,0 +1,116 @@
+package com.playprobie.api.domain.replay.application;
+
+import java.util.List;
+
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import com.playprobie.api.domain.replay.domain.InsightType;
+
+/**
+ * 방향키 진동 탐지기: 짧은 시간 내 같은 축의 반대 방향키 반복 전환 (기본 2초 내 6회, KEY_DOWN 기준)
+ * <p>
+ * WASD/방향키만 보며, 다른 축의 방향키가 끼어들면 전환 기록을 초기화합니다.
+ */
+@Order(500)
+@Component
+class OscillationDetector implements InsightDetector {
+
+	static final String WINDOW_MS = "oscillation.window_ms";
+	static final String REVERSALS = "oscillation.reversals";
+	static final String DURATION_MS = "oscillation.duration_ms";
+
+	private static final List<Threshold> THRESHOLDS = List.of(
+		new Threshold(WINDOW_MS, 2_000, 100, 10_000),
+		new Threshold(REVERSALS, 6, 2, 64),
+		new Threshold(DURATION_MS, 3_000, 1_000, 60_000));
+
+	private static final int NO_DIRECTION = -1;
+
+	// 방향 코드 = 축(0: 좌우, 1: 상하) * 2 + (음수 방향 0, 양수 방향 1)
+	private static final String[] DIRECTION_KEYS = {"KeyA", "ArrowLeft", "KeyD", "ArrowRight", "KeyW", "ArrowUp",
+		"KeyS", "ArrowDown"};
+	private static final int[] DIRECTION_CODES = {0, 0, 1, 1, 2, 2, 3, 3};
+	private static final int[] DIRECTION_KEY_IDS = new int[DIRECTION_KEYS.length];
+
+	static {
+		for (int i = 0; i < DIRECTION_KEYS.length; i++) {
+			DIRECTION_KEY_IDS[i] = InputLogColumns.internKeyCode(DIRECTION_KEYS[i]);
+		}
+	}
+
+	@Override
+	public InsightType insightType() {
+		return InsightType.OSCILLATION;
+	}
+
+	@Override
+	public int eventMask() {
+		return InputLogColumns.mask(InputLogColumns.TYPE_KEY_DOWN);
+	}
+
+	@Override
+	public List<Threshold> thresholds() {
+		return THRESHOLDS;
+	}
+
+	@Override
+	public Scanner open(InsightThresholds thresholds) {
+		return new OscillationScanner(thresholds.get(WINDOW_MS), thresholds.get(REVERSALS),
+			thresholds.get(DURATION_MS));
+	}
+
+	private static int direction(int keyId) {
+		if (keyId == InputLogColumns.NO_KEY) {
+			return NO_DIRECTION;
+		}
+		for (int i = 0; i < DIRECTION_KEY_IDS.length; i++) {
+			if (DIRECTION_KEY_IDS[i] == keyId) {
+				return DIRECTION_CODES[i];
+			}
+		}
+		return NO_DIRECTION;
+	}
+
+	private static final class OscillationScanner implements Scanner {
+
+		private final int reversals;
+		private final int durationMs;
+		private final ReversalWindow window;
+		private int lastDirection = NO_DIRECTION;
+
+		OscillationScanner(int windowMs, int reversals, int durationMs) {
+			this.reversals = reversals;
+			this.durationMs = durationMs;
+			this.window = new ReversalWindow(reversals, windowMs);
+		}
+
+		private OscillationScanner(OscillationScanner source) {
+			this.reversals = source.reversals;
+			this.durationMs = source.durationMs;
+			this.window = source.window.copy();
+			this.lastDirection = source.lastDirection;
+		}
+
+		@Override
+		public Scanner copy() {
+			return new OscillationScanner(this);
+		}
+
+		@Override
+		public void accept(InputLogColumns columns, int index, Emitter emitter) {
+			int direction = direction(columns.keyCodeId[index]);
+			if (direction == NO_DIRECTION || direction == lastDirection) {
+				return;
+			}
+			if (lastDirection != NO_DIRECTION && direction / 2 != lastDirection / 2) {
+				window.clear(); // 축 변경
+			} else if (lastDirection != NO_DIRECTION && window.record(columns.mediaTime[index])) {
+				String axis = direction / 2 == 0 ? "horizontal" : "vertical";
+				emitter.emit(window.detectedFrom(), durationMs,
+					String.format("{\"axis\":\"%s\",\"reversals\":%d}", axis, reversals));
+			}
+			lastDirection = direction;
+		}
+	}
+}
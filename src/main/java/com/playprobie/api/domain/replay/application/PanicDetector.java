@@ -0,0 +1,113 @@
+package com.playprobie.api.domain.replay.application;
+
+import java.util.List;
+
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import com.playprobie.api.domain.replay.domain.InsightType;
+
+/**
+ * Panic 탐지기: 짧은 시간 내 동일 키 연타 (기본 0.5초 내 5회, KEY_DOWN 기준)
+ * <p>
+ * 연속된 KEY_DOWN을 링 버퍼 윈도우로 확인하고, 감지된 윈도우는 소비하여 중복 감지를 방지합니다.
+ */
+@Order(100)
+@Component
+class PanicDetector implements InsightDetector {
+
+	static final String WINDOW_MS = "panic.window_ms";
+	static final String KEY_COUNT = "panic.key_count";
+	static final String DURATION_MS = "panic.duration_ms";
+
+	private static final List<Threshold> THRESHOLDS = List.of(
+		new Threshold(WINDOW_MS, 500, 50, 10_000),
+		new Threshold(KEY_COUNT, 5, 2, 64),
+		new Threshold(DURATION_MS, 3_000, 1_000, 60_000));
+
+	@Override
+	public InsightType insightType() {
+		return InsightType.PANIC;
+	}
+
+	@Override
+	public int eventMask() {
+		return InputLogColumns.mask(InputLogColumns.TYPE_KEY_DOWN);
+	}
+
+	@Override
+	public List<Threshold> thresholds() {
+		return THRESHOLDS;
+	}
+
+	@Override
+	public Scanner open(InsightThresholds thresholds) {
+		return new PanicScanner(thresholds.get(WINDOW_MS), thresholds.get(KEY_COUNT), thresholds.get(DURATION_MS));
+	}
+
+	private static final class PanicScanner implements Scanner {
+
+		private final int windowMs;
+		private final int keyCount;
+		private final int durationMs;
+
+		// 아직 판정되지 않은 최근 KEY_DOWN
+		private final long[] windowTimes;
+		private final int[] windowKeys;
+		private int windowHead;
+		private int windowSize;
+		private int sameKeyRun;
+
+		PanicScanner(int windowMs, int keyCount, int durationMs) {
+			this.windowMs = windowMs;
+			this.keyCount = keyCount;
+			this.durationMs = durationMs;
+			this.windowTimes = new long[keyCount];
+			this.windowKeys = new int[keyCount];
+		}
+
+		private PanicScanner(PanicScanner source) {
+			this.windowMs = source.windowMs;
+			this.keyCount = source.keyCount;
+			this.durationMs = source.durationMs;
+			this.windowTimes = source.windowTimes.clone();
+			this.windowKeys = source.windowKeys.clone();
+			this.windowHead = source.windowHead;
+			this.windowSize = source.windowSize;
+			this.sameKeyRun = source.sameKeyRun;
+		}
+
+		@Override
+		public Scanner copy() {
+			return new PanicScanner(this);
+		}
+
+		@Override
+		public void accept(InputLogColumns columns, int index, Emitter emitter) {
+			long time = columns.mediaTime[index];
+			int keyId = columns.keyCodeId[index];
+			int tail = (windowHead + windowSize) % keyCount;
+			int previousKey = windowSize > 0
+				? windowKeys[(tail + keyCount - 1) % keyCount] : InputLogColumns.NO_KEY;
+			// 윈도우 끝에서부터 같은 키가 이어진 횟수 - 윈도우가 가득 찼을 때 keyCount 이상이면 전부 같은 키
+			sameKeyRun = keyId != InputLogColumns.NO_KEY && keyId == previousKey ? sameKeyRun + 1 : 1;
+			windowTimes[tail] = time;
+			windowKeys[tail] = keyId;
+			windowSize++;
+			if (windowSize < keyCount) {
+				return;
+			}
+
+			long firstTime = windowTimes[windowHead];
+			if (time - firstTime <= windowMs && keyId != InputLogColumns.NO_KEY && sameKeyRun >= keyCount) {
+				emitter.emit(firstTime, durationMs,
+					String.format("{\"key\":\"%s\",\"count\":%d}", InputLogColumns.keyCode(keyId), keyCount));
+				windowSize = 0;
+				sameKeyRun = 0;
+			} else {
+				windowHead = (windowHead + 1) % keyCount;
+				windowSize--;
+			}
+		}
+	}
+}
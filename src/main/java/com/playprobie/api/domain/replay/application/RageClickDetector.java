@@ -0,0 +1,136 @@
+package com.playprobie.api.domain.replay.application;
+
+import java.util.List;
+
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import com.playprobie.api.domain.replay.domain.InsightType;
+
+/**
+ * 분노 클릭 탐지기: 짧은 시간 내 같은 위치에서 같은 마우스 버튼 연타 (기본 0.7초 내 4회, 반경 40px, MOUSE_DOWN 기준)
+ * <p>
+ * Panic과 같은 방식으로 최근 클릭을 링 버퍼 윈도우로 확인하고, 감지된 윈도우는 소비합니다.
+ */
+@Order(300)
+@Component
+class RageClickDetector implements InsightDetector {
+
+	static final String WINDOW_MS = "rage_click.window_ms";
+	static final String CLICK_COUNT = "rage_click.click_count";
+	static final String RADIUS_PX = "rage_click.radius_px";
+	static final String DURATION_MS = "rage_click.duration_ms";
+
+	private static final List<Threshold> THRESHOLDS = List.of(
+		new Threshold(WINDOW_MS, 700, 50, 10_000),
+		new Threshold(CLICK_COUNT, 4, 2, 64),
+		new Threshold(RADIUS_PX, 40, 0, 10_000),
+		new Threshold(DURATION_MS, 3_000, 1_000, 60_000));
+
+	@Override
+	public InsightType insightType() {
+		return InsightType.RAGE_CLICK;
+	}
+
+	@Override
+	public int eventMask() {
+		return InputLogColumns.mask(InputLogColumns.TYPE_MOUSE_DOWN);
+	}
+
+	@Override
+	public List<Threshold> thresholds() {
+		return THRESHOLDS;
+	}
+
+	@Override
+	public Scanner open(InsightThresholds thresholds) {
+		return new RageClickScanner(thresholds.get(WINDOW_MS), thresholds.get(CLICK_COUNT), thresholds.get(RADIUS_PX),
+			thresholds.get(DURATION_MS));
+	}
+
+	private static final class RageClickScanner implements Scanner {
+
+		private final int windowMs;
+		private final int clickCount;
+		private final int radiusPx;
+		private final int durationMs;
+
+		// 아직 판정되지 않은 최근 클릭
+		private final long[] windowTimes;
+		private final int[] windowX;
+		private final int[] windowY;
+		private int windowHead;
+		private int windowSize;
+		private int lastButton = InputLogColumns.NO_BUTTON;
+		private int sameButtonRun;
+
+		RageClickScanner(int windowMs, int clickCount, int radiusPx, int durationMs) {
+			this.windowMs = windowMs;
+			this.clickCount = clickCount;
+			this.radiusPx = radiusPx;
+			this.durationMs = durationMs;
+			this.windowTimes = new long[clickCount];
+			this.windowX = new int[clickCount];
+			this.windowY = new int[clickCount];
+		}
+
+		private RageClickScanner(RageClickScanner source) {
+			this.windowMs = source.windowMs;
+			this.clickCount = source.clickCount;
+			this.radiusPx = source.radiusPx;
+			this.durationMs = source.durationMs;
+			this.windowTimes = source.windowTimes.clone();
+			this.windowX = source.windowX.clone();
+			this.windowY = source.windowY.clone();
+			this.windowHead = source.windowHead;
+			this.windowSize = source.windowSize;
+			this.lastButton = source.lastButton;
+			this.sameButtonRun = source.sameButtonRun;
+		}
+
+		@Override
+		public Scanner copy() {
+			return new RageClickScanner(this);
+		}
+
+		@Override
+		public void accept(InputLogColumns columns, int index, Emitter emitter) {
+			long time = columns.mediaTime[index];
+			int button = columns.button[index];
+			sameButtonRun = windowSize > 0 && button == lastButton ? sameButtonRun + 1 : 1;
+			lastButton = button;
+			int tail = (windowHead + windowSize) % clickCount;
+			windowTimes[tail] = time;
+			windowX[tail] = columns.pointerX[index];
+			windowY[tail] = columns.pointerY[index];
+			windowSize++;
+			if (windowSize < clickCount) {
+				return;
+			}
+
+			long firstTime = windowTimes[windowHead];
+			if (time - firstTime <= windowMs && sameButtonRun >= clickCount && withinRadius(tail)) {
+				emitter.emit(firstTime, durationMs,
+					String.format("{\"button\":%d,\"count\":%d}", button, clickCount));
+				windowSize = 0;
+				sameButtonRun = 0;
+			} else {
+				windowHead = (windowHead + 1) % clickCount;
+				windowSize--;
+			}
+		}
+
+		/**
+		 * 윈도우의 모든 클릭이 마지막 클릭 기준 반경 안에 있는지 (축별 거리)
+		 */
+		private boolean withinRadius(int last) {
+			for (int i = 0; i < clickCount; i++) {
+				if (Math.abs(windowX[i] - windowX[last]) > radiusPx
+					|| Math.abs(windowY[i] - windowY[last]) > radiusPx) {
+					return false;
+				}
+			}
+			return true;
+		}
+	}
+}
@@ -0,0 +1,276 @@
+package com.playprobie.api.domain.replay.application;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.playprobie.api.domain.interview.dao.SurveySessionRepository;
+import com.playprobie.api.domain.interview.domain.SurveySession;
+import com.playprobie.api.domain.replay.dao.AnalysisTagRepository;
+import com.playprobie.api.domain.replay.domain.AnalysisTag;
+import com.playprobie.api.domain.replay.dto.InputLogDto;
+import com.playprobie.api.domain.replay.event.ReplayManifestChangedEvent;
+import com.playprobie.api.global.config.AsyncConfig;
+import com.playprobie.api.global.error.exception.BusinessException;
+import com.playprobie.api.global.error.exception.ReplayIngestionBusyException;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 리플레이 입력 로그 수집 큐 (세션별 순서 보장)
+ * <p>
+ * 요청 스레드는 검증된 배치를 세션 레인에 넣고 바로 반환하며, 분석과 태그 저장은 수집 워커에서 수행합니다.
+ * <ul>
+ * <li>세션 레인은 한 번에 하나의 워커만 비우므로 같은 세션의 배치는 도착 순서대로 분석됩니다.</li>
+ * <li>레인에 쌓인 배치는 최대 MAX_BATCHES_PER_FLUSH개씩 묶어 한 트랜잭션에서 분석하고 태그를 한 번에 저장합니다.</li>
+ * <li>커밋된 배치는 아카이브가 켜져 있으면 원시 로그 아카이브에도 기록합니다 ({@link InputLogArchive}).</li>
+ * <li>커밋된 배치의 클릭/이동 좌표를 설문 히트맵에 누적합니다 ({@link HeatmapAccumulator}).</li>
+ * <li>트랜잭션이 롤백되면 분석 상태를 배치 이전으로 되돌려, 다시 보낸 배치가 워터마크에 걸려 유실되지 않게 합니다.</li>
+ * <li>새 태그를 저장하면 커밋 후 세션 리플레이 매니페스트 캐시를 무효화합니다 ({@link ReplayManifestService}).</li>
+ * <li>커밋된 태그 수는 세션 인사이트 요약에 반영합니다 ({@link InsightTagSummary}).</li>
+ * <li>세션 레인 또는 전체 대기열이 가득 차면 {@link ReplayIngestionBusyException}(429 + Retry-After)으로 거부합니다.</li>
+ * </ul>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ReplayLogIngestionQueue {
+
+	// 세션당 대기 배치 상한 (클라이언트 업로드 주기 기준 수십 초 분량)
+	private static final int MAX_BATCHES_PER_SESSION = 32;
+	private static final int MAX_PENDING_BATCHES = AsyncConfig.REPLAY_INGESTION_QUEUE_CAPACITY;
+	private static final int MAX_BATCHES_PER_FLUSH = 16;
+
+	private static final Duration SESSION_RETRY_AFTER = Duration.ofSeconds(1);
+	private static final Duration GLOBAL_RETRY_AFTER = Duration.ofSeconds(5);
+
+	private final InputLogAnalyzer inputLogAnalyzer;
+	private final InputLogArchive inputLogArchive;
+	private final HeatmapAccumulator heatmapAccumulator;
+	private final InsightTagSummary insightTagSummary;
+	private final SurveySessionRepository surveySessionRepository;
+	private final AnalysisTagRepository analysisTagRepository;
+	private final TransactionTemplate transactionTemplate;
+	private final Executor replayIngestionExecutor;
+	private final ApplicationEventPublisher eventPublisher;
+
+	private final Map<UUID, Lane> lanes = new ConcurrentHashMap<>();
+	private final AtomicInteger pendingBatches = new AtomicInteger();
+
+	/**
+	 * JSON 배치 적재
+	 */
+	public void submit(UUID sessionUuid, List<InputLogDto> logs) {
+		enqueue(sessionUuid, new PendingBatch(logs, null));
+	}
+
+	/**
+	 * 바이너리 배치 적재 (형식은 호출 전에 검증되어 있어야 함)
+	 */
+	public void submit(UUID sessionUuid, byte[] payload) {
+		enqueue(sessionUuid, new PendingBatch(null, payload));
+	}
+
+	/**
+	 * 세션에 대기 중이거나 처리 중인 배치가 끝날 때까지 대기 (인사이트 조회 직전 사용)
+	 *
+	 * @return 제한 시간 안에 비워졌으면 true
+	 */
+	public boolean awaitIdle(UUID sessionUuid, Duration timeout) {
+		Lane lane = lanes.get(sessionUuid);
+		if (lane == null) {
+			return true;
+		}
+		long deadline = System.nanoTime() + timeout.toNanos();
+		synchronized (lane) {
+			while (!lane.closed) {
+				long remainingMillis = (deadline - System.nanoTime()) / 1_000_000;
+				if (remainingMillis <= 0) {
+					return false;
+				}
+				try {
+					lane.wait(remainingMillis);
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+					return false;
+				}
+			}
+		}
+		return true;
+	}
+
+	private void enqueue(UUID sessionUuid, PendingBatch batch) {
+		if (pendingBatches.incrementAndGet() > MAX_PENDING_BATCHES) {
+			pendingBatches.decrementAndGet();
+			log.warn("[ReplayIngestion] Global queue full, rejecting batch for session: {}", sessionUuid);
+			throw new ReplayIngestionBusyException(GLOBAL_RETRY_AFTER);
+		}
+
+		boolean[] accepted = new boolean[1];
+		boolean[] startWorker = new boolean[1];
+		lanes.compute(sessionUuid, (uuid, lane) -> {
+			Lane target = lane != null ? lane : new Lane();
+			if (target.batches.size() >= MAX_BATCHES_PER_SESSION) {
+				return target;
+			}
+			target.batches.addLast(batch);
+			accepted[0] = true;
+			if (!target.draining) {
+				target.draining = true;
+				startWorker[0] = true;
+			}
+			return target;
+		});
+
+		if (!accepted[0]) {
+			pendingBatches.decrementAndGet();
+			log.warn("[ReplayIngestion] Session queue full, rejecting batch for session: {}", sessionUuid);
+			throw new ReplayIngestionBusyException(SESSION_RETRY_AFTER);
+		}
+		if (startWorker[0]) {
+			try {
+				replayIngestionExecutor.execute(() -> drain(sessionUuid));
+			} catch (RejectedExecutionException e) {
+				// 워커를 시작하지 못한 레인은 비워서 다음 배치가 새 워커를 시작하도록 함
+				Lane lane = lanes.remove(sessionUuid);
+				if (lane != null) {
+					pendingBatches.addAndGet(-lane.batches.size());
+					close(lane);
+				}
+				throw new ReplayIngestionBusyException(GLOBAL_RETRY_AFTER);
+			}
+		}
+	}
+
+	/**
+	 * 레인이 빌 때까지 배치를 묶어 처리하고, 비면 레인을 닫아 제거
+	 */
+	private void drain(UUID sessionUuid) {
+		while (true) {
+			List<PendingBatch> batches = take(sessionUuid);
+			if (batches.isEmpty()) {
+				return;
+			}
+			try {
+				ingest(sessionUuid, batches);
+			} catch (Exception e) {
+				log.error("[ReplayIngestion] Failed to ingest {} batches for session: {}", batches.size(),
+					sessionUuid, e);
+			} finally {
+				pendingBatches.addAndGet(-batches.size());
+			}
+		}
+	}
+
+	private List<PendingBatch> take(UUID sessionUuid) {
+		List<PendingBatch> batches = new ArrayList<>(MAX_BATCHES_PER_FLUSH);
+		Lane[] closedLane = new Lane[1];
+		lanes.computeIfPresent(sessionUuid, (uuid, lane) -> {
+			while (batches.size() < MAX_BATCHES_PER_FLUSH && !lane.batches.isEmpty()) {
+				batches.add(lane.batches.pollFirst());
+			}
+			if (batches.isEmpty()) {
+				closedLane[0] = lane;
+				return null; // 레인 제거 - 이후 배치는 새 레인과 새 워커로 처리
+			}
+			return lane;
+		});
+
+		if (closedLane[0] != null) {
+			close(closedLane[0]);
+		}
+		return batches;
+	}
+
+	private static void close(Lane lane) {
+		synchronized (lane) {
+			lane.closed = true;
+			lane.notifyAll();
+		}
+	}
+
+	private void ingest(UUID sessionUuid, List<PendingBatch> batches) {
+		// 롤백되면 분석 상태(워터마크, 탐지기)를 되돌려 클라이언트가 다시 보낸 배치를 건너뛰지 않게 함
+		InputLogAnalyzer.Checkpoint checkpoint = inputLogAnalyzer.checkpoint(sessionUuid);
+		List<AnalyzedBatch> analyzed = new ArrayList<>(batches.size());
+		Integer saved;
+		try {
+			saved = transactionTemplate.execute(status -> {
+				Optional<SurveySession> session = surveySessionRepository.findByUuid(sessionUuid);
+				if (session.isEmpty()) {
+					log.warn("[ReplayIngestion] Session not found, dropping {} batches: {}", batches.size(),
+						sessionUuid);
+					return 0;
+				}
+
+				Long surveyId = session.get().getSurvey().getId();
+				List<AnalysisTag> tags = new ArrayList<>();
+				for (PendingBatch batch : batches) {
+					try {
+						InputLogColumns columns = batch.logs() != null
+							? InputLogColumns.decode(batch.logs())
+							: InputLogBinaryDecoder.decode(batch.payload());
+						// 분석 전 수신 워터마크 이후의 로그만 히트맵에 더해 재전송 배치의 중복 집계를 막음
+						long watermark = inputLogAnalyzer.ingestedWatermarkOf(sessionUuid);
+						tags.addAll(inputLogAnalyzer.analyze(session.get(), columns));
+						// decode 결과는 스레드 재사용 버퍼이므로 커밋 후 반영할 배치는 사본으로 보관
+						analyzed.add(new AnalyzedBatch(surveyId, columns.copy(), watermark));
+					} catch (BusinessException e) {
+						log.warn("[ReplayIngestion] Skipping invalid batch for session: {}", sessionUuid);
+					}
+				}
+
+				if (!tags.isEmpty()) {
+					analysisTagRepository.saveAll(tags);
+					eventPublisher.publishEvent(new ReplayManifestChangedEvent(sessionUuid));
+					log.info("[ReplayIngestion] Saved {} analysis tags from {} batches for session: {}",
+						tags.size(), batches.size(), sessionUuid);
+				}
+				return tags.size();
+			});
+		} catch (RuntimeException e) {
+			inputLogAnalyzer.restore(checkpoint);
+			throw e;
+		}
+
+		// 히트맵/아카이브는 커밋된 배치만 반영 (롤백 후 재전송 배치의 중복 집계 방지)
+		for (AnalyzedBatch batch : analyzed) {
+			heatmapAccumulator.accumulate(batch.surveyId(), batch.columns(), batch.watermark());
+			inputLogArchive.append(sessionUuid, batch.columns());
+		}
+		// 커밋된 태그만 요약에 반영 (인터뷰 종료 시 목록 조회 없이 인사이트 Phase 진입 판단)
+		if (saved != null) {
+			insightTagSummary.recordDetected(sessionUuid, saved);
+		}
+	}
+
+	private record PendingBatch(List<InputLogDto> logs, byte[] payload) {
+	}
+
+	private record AnalyzedBatch(Long surveyId, InputLogColumns columns, long watermark) {
+	}
+
+	/**
+	 * 세션 레인 (batches/draining은 lanes.compute 안에서만 변경, closed는 레인 모니터로 보호)
+	 */
+	private static final class Lane {
+
+		private final Deque<PendingBatch> batches = new ArrayDeque<>();
+		private boolean draining;
+		private boolean closed;
+	}
+}
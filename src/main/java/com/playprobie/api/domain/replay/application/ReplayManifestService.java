@@ -0,0 +1,199 @@
+package com.playprobie.api.domain.replay.application;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.playprobie.api.domain.interview.dao.SurveySessionRepository;
+import com.playprobie.api.domain.interview.domain.SurveySession;
+import com.playprobie.api.domain.replay.dao.AnalysisTagRepository;
+import com.playprobie.api.domain.replay.dao.VideoSegmentRepository;
+import com.playprobie.api.domain.replay.domain.UploadStatus;
+import com.playprobie.api.domain.replay.domain.VideoSegment;
+import com.playprobie.api.domain.replay.dto.ReplayManifestResponse;
+import com.playprobie.api.domain.replay.event.ReplayManifestChangedEvent;
+import com.playprobie.api.domain.survey.dao.SurveyRepository;
+import com.playprobie.api.domain.survey.domain.Survey;
+import com.playprobie.api.domain.user.domain.User;
+import com.playprobie.api.domain.workspace.application.WorkspaceSecurityManager;
+import com.playprobie.api.global.config.properties.AwsProperties;
+import com.playprobie.api.global.error.ErrorCode;
+import com.playprobie.api.global.error.exception.EntityNotFoundException;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import software.amazon.awssdk.services.s3.model.GetObjectRequest;
+import software.amazon.awssdk.services.s3.presigner.S3Presigner;
+import software.amazon.awssdk.services.s3.presigner.model.GetObjectPresignRequest;
+
+/**
+ * 세션 리플레이 매니페스트 서비스
+ * <p>
+ * 리플레이 뷰어가 요청 한 번으로 재생을 시작하도록 업로드된 세그먼트 목록(Presigned GET URL 포함)과
+ * 영상 시간 색인 인사이트 트랙을 하나의 매니페스트로 묶어 세션별로 캐싱합니다.
+ * <ul>
+ * <li>캐시 수명(MANIFEST_TTL)은 URL 유효 시간보다 짧아, 캐시에서 내준 URL은 최소 50분 이상 유효합니다.</li>
+ * <li>세그먼트 업로드 완료/새 태그 저장 시 {@link ReplayManifestChangedEvent}를 받아 커밋 후 무효화합니다.</li>
+ * <li>무효화와 겹쳐 만든 매니페스트는 변경 전 데이터일 수 있으므로 캐시에 남기지 않습니다.
+ * 무효화 횟수는 읽기 스냅샷이 시작되는 첫 조회 전에 읽습니다.</li>
+ * </ul>
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ReplayManifestService {
+
+	private static final Duration URL_EXPIRATION = Duration.ofHours(1);
+	private static final Duration MANIFEST_TTL = Duration.ofMinutes(10);
+	// 캐시 세션 수 상한 (가득 차면 만료 항목을 비우고, 그래도 가득 차면 캐싱하지 않음)
+	private static final int MAX_CACHED_MANIFESTS = 1000;
+
+	private final SurveyRepository surveyRepository;
+	private final SurveySessionRepository surveySessionRepository;
+	private final VideoSegmentRepository videoSegmentRepository;
+	private final AnalysisTagRepository analysisTagRepository;
+	private final WorkspaceSecurityManager securityManager;
+	private final S3Presigner replayS3Presigner;
+	private final AwsProperties awsProperties;
+
+	private final Map<UUID, CachedManifest> manifests = new ConcurrentHashMap<>();
+	// 무효화 횟수 - 매니페스트를 만드는 동안 무효화가 있었는지 확인용
+	private final AtomicLong invalidations = new AtomicLong();
+
+	/**
+	 * 리플레이 매니페스트 조회
+	 *
+	 * @param fromMs 인사이트 조회 구간 시작 (null이면 처음부터)
+	 * @param toMs   인사이트 조회 구간 끝 (null이면 끝까지)
+	 */
+	@Transactional(readOnly = true)
+	public ReplayManifestResponse getManifest(UUID surveyUuid, UUID sessionUuid, Long fromMs, Long toMs, User user) {
+		// 트랜잭션의 첫 조회(읽기 스냅샷 시작)보다 먼저 읽어야, 스냅샷 이전 커밋에 대한 무효화와 구분됨
+		long generation = invalidations.get();
+		Survey survey = surveyRepository.findByUuid(surveyUuid)
+			.orElseThrow(EntityNotFoundException::new);
+		securityManager.validateReadAccess(survey.getGame().getWorkspace(), user);
+
+		Instant now = Instant.now();
+		CachedManifest manifest = manifests.get(sessionUuid);
+		if (manifest == null || manifest.isExpired(now)) {
+			manifest = buildAndCache(sessionUuid, now, generation);
+		}
+		if (!manifest.surveyId().equals(survey.getId())) {
+			throw new EntityNotFoundException(ErrorCode.SURVEY_SESSION_NOT_FOUND);
+		}
+
+		List<ReplayManifestResponse.Insight> insights = manifest.insightTrack().range(
+			fromMs != null ? fromMs : Long.MIN_VALUE,
+			toMs != null ? toMs : Long.MAX_VALUE);
+		long expiresIn = Math.max(0, Duration.between(now, manifest.urlExpiresAt()).toSeconds());
+		return new ReplayManifestResponse(sessionUuid, manifest.durationMs(), expiresIn, manifest.segments(),
+			insights);
+	}
+
+	/**
+	 * 세션 매니페스트 캐시 무효화
+	 */
+	public void invalidate(UUID sessionUuid) {
+		invalidations.incrementAndGet();
+		manifests.remove(sessionUuid);
+	}
+
+	/**
+	 * 세그먼트/태그 변경 커밋 후 무효화 (트랜잭션 밖에서 발행되면 바로 무효화)
+	 */
+	@TransactionalEventListener(fallbackExecution = true)
+	public void onManifestChanged(ReplayManifestChangedEvent event) {
+		invalidate(event.sessionUuid());
+	}
+
+	// 1분마다 만료된 매니페스트 정리
+	@Scheduled(fixedDelay = 60000)
+	public void evictExpired() {
+		Instant now = Instant.now();
+		manifests.values().removeIf(manifest -> manifest.isExpired(now));
+	}
+
+	/**
+	 * 매니페스트 생성 후 캐싱
+	 *
+	 * @param generation 현재 트랜잭션의 첫 조회 전에 읽은 무효화 횟수 (이후 무효화가 있었으면 캐싱하지 않음)
+	 */
+	private CachedManifest buildAndCache(UUID sessionUuid, Instant now, long generation) {
+		SurveySession session = surveySessionRepository.findByUuid(sessionUuid)
+			.orElseThrow(() -> new EntityNotFoundException(ErrorCode.SURVEY_SESSION_NOT_FOUND));
+
+		List<VideoSegment> uploaded = videoSegmentRepository.findBySessionIdAndUploadStatusOrderBySequenceAsc(
+			session.getId(), UploadStatus.UPLOADED);
+		String bucketName = awsProperties.s3().getReplayBucketName();
+		List<ReplayManifestResponse.Segment> segments = uploaded.stream()
+			.map(segment -> new ReplayManifestResponse.Segment(
+				segment.getSequence(),
+				segment.getUuid().toString(),
+				generateS3PresignedGetUrl(bucketName, segment.getS3Key()),
+				segment.getVideoStartMs(),
+				segment.getVideoEndMs()))
+			.toList();
+		long durationMs = uploaded.stream().mapToLong(VideoSegment::getVideoEndMs).max().orElse(0L);
+		InsightTrack insightTrack = InsightTrack.of(analysisTagRepository.findBySessionId(session.getId()));
+
+		CachedManifest manifest = new CachedManifest(session.getSurvey().getId(), segments, durationMs, insightTrack,
+			now.plus(MANIFEST_TTL), now.plus(URL_EXPIRATION));
+		if (manifests.size() >= MAX_CACHED_MANIFESTS) {
+			evictExpired();
+		}
+		if (manifests.size() < MAX_CACHED_MANIFESTS) {
+			manifests.put(sessionUuid, manifest);
+			// 조회 중에 무효화가 있었다면 방금 넣은 (변경 전일 수 있는) 매니페스트를 되돌림
+			if (invalidations.get() != generation) {
+				manifests.remove(sessionUuid, manifest);
+			}
+		}
+
+		log.debug("[ReplayManifestService] Built manifest for session: {}, segments: {}, insights: {}",
+			sessionUuid, segments.size(), insightTrack.size());
+		return manifest;
+	}
+
+	/**
+	 * S3 Presigned GET URL 생성
+	 */
+	private String generateS3PresignedGetUrl(String bucketName, String s3Key) {
+		GetObjectRequest getObjectRequest = GetObjectRequest.builder()
+			.bucket(bucketName)
+			.key(s3Key)
+			.build();
+
+		GetObjectPresignRequest presignRequest = GetObjectPresignRequest.builder()
+			.signatureDuration(URL_EXPIRATION)
+			.getObjectRequest(getObjectRequest)
+			.build();
+
+		return replayS3Presigner.presignGetObject(presignRequest).url().toString();
+	}
+
+	/**
+	 * 캐시된 매니페스트 (인사이트 구간 필터링 전)
+	 */
+	record CachedManifest(
+		Long surveyId,
+		List<ReplayManifestResponse.Segment> segments,
+		long durationMs,
+		InsightTrack insightTrack,
+		Instant expiresAt,
+		Instant urlExpiresAt) {
+
+		boolean isExpired(Instant now) {
+			return !now.isBefore(expiresAt);
+		}
+	}
+}
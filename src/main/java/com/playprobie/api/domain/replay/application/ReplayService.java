@@ -1,23 +1,29 @@
 package com.playprobie.api.domain.replay.application;
 
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import com.playprobie.api.domain.interview.dao.SurveySessionRepository;
 import com.playprobie.api.domain.interview.domain.SurveySession;
-import com.playprobie.api.domain.replay.dao.AnalysisTagRepository;
 import com.playprobie.api.domain.replay.dao.VideoSegmentRepository;
-import com.playprobie.api.domain.replay.domain.AnalysisTag;
+import com.playprobie.api.domain.replay.domain.UploadStatus;
 import com.playprobie.api.domain.replay.domain.VideoSegment;
+import com.playprobie.api.domain.replay.dto.BatchPresignedUrlRequest;
+import com.playprobie.api.domain.replay.dto.BatchPresignedUrlResponse;
 import com.playprobie.api.domain.replay.dto.InputLogDto;
 import com.playprobie.api.domain.replay.dto.PresignedUrlRequest;
 import com.playprobie.api.domain.replay.dto.PresignedUrlResponse;
 import com.playprobie.api.domain.replay.dto.ReplayLogRequest;
 import com.playprobie.api.domain.replay.dto.UploadCompleteRequest;
+import com.playprobie.api.domain.replay.event.ReplayManifestChangedEvent;
 import com.playprobie.api.global.config.properties.AwsProperties;
 import com.playprobie.api.global.error.ErrorCode;
 import com.playprobie.api.global.error.exception.EntityNotFoundException;
@@ -31,31 +37,30 @@ import software.amazon.awssdk.services.s3.presigner.model.PutObjectPresignReques
 
 /**
  * 리플레이 서비스
- * 입력 로그 분석, Presigned URL 발급, 영상 세그먼트 관리
+ * 입력 로그 수신(수집 큐 적재), Presigned URL 발급(단건/일괄), 영상 세그먼트 관리
  */
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class ReplayService {
 
-	private final InputLogAnalyzer inputLogAnalyzer;
+	private final ReplayLogIngestionQueue replayLogIngestionQueue;
 	private final SurveySessionRepository surveySessionRepository;
-	private final AnalysisTagRepository analysisTagRepository;
 	private final VideoSegmentRepository videoSegmentRepository;
 	private final S3Presigner replayS3Presigner;
 	private final AwsProperties awsProperties;
+	private final ApplicationEventPublisher eventPublisher;
 
 	private static final int PRESIGNED_URL_EXPIRATION_SECONDS = 300;
+	// 일괄 예약 슬롯의 URL 유효 시간 상한 (뒤 슬롯은 예상 녹화 시점만큼 길게 발급)
+	private static final int MAX_BATCH_EXPIRATION_SECONDS = 3600;
 
 	/**
-	 * 입력 로그 배치 수신 및 분석
-	 * 로그는 메모리에서 분석 후 폐기, AnalysisTag만 저장
+	 * 입력 로그 배치 수신
+	 * 검증된 배치를 세션별 수집 큐에 넣고 바로 반환 (분석과 AnalysisTag 저장은 수집 워커에서 수행, 로그는 저장하지 않음)
+	 * 존재하지 않는 세션은 큐에 넣기 전에 404로 거부 (임의 UUID가 전체 대기열을 채우지 않도록)
 	 */
-	@Transactional
 	public void processInputLogs(String sessionUuid, ReplayLogRequest request) {
-		SurveySession session = surveySessionRepository.findByUuid(UUID.fromString(sessionUuid))
-			.orElseThrow(() -> new EntityNotFoundException(ErrorCode.SURVEY_SESSION_NOT_FOUND));
-
 		List<InputLogDto> logs = request.logs();
 
 		if (logs == null || logs.isEmpty()) {
@@ -63,17 +68,33 @@ public class ReplayService {
 			return;
 		}
 
-		// 메모리에서 즉시 분석 (로그는 저장하지 않음)
-		List<AnalysisTag> detectedTags = inputLogAnalyzer.analyze(session, logs);
+		replayLogIngestionQueue.submit(requireSession(sessionUuid), logs);
+		log.debug("[ReplayService] Queued {} logs for session: {}", logs.size(), sessionUuid);
+	}
+
+	/**
+	 * 바이너리 입력 로그 배치 수신
+	 * 형식을 먼저 검증한 뒤 수집 큐에 넣고 바로 반환 (워커에서 다시 컬럼 버퍼로 풀어 분석)
+	 */
+	public void processBinaryInputLogs(String sessionUuid, byte[] payload) {
+		InputLogColumns columns = InputLogBinaryDecoder.decode(payload);
 
-		// 감지된 태그만 DB에 저장
-		if (!detectedTags.isEmpty()) {
-			analysisTagRepository.saveAll(detectedTags);
-			log.info("[ReplayService] Saved {} analysis tags for session: {}", detectedTags.size(), sessionUuid);
+		if (columns.size == 0) {
+			log.info("[ReplayService] No logs to process for session: {}", sessionUuid);
+			return;
 		}
 
-		// 로그는 여기서 폐기됨 (GC 대상)
-		log.debug("[ReplayService] Processed and discarded {} logs for session: {}", logs.size(), sessionUuid);
+		replayLogIngestionQueue.submit(requireSession(sessionUuid), payload);
+		log.debug("[ReplayService] Queued {} binary logs ({} bytes) for session: {}", columns.size, payload.length,
+			sessionUuid);
+	}
+
+	private UUID requireSession(String sessionUuid) {
+		UUID uuid = UUID.fromString(sessionUuid);
+		if (!surveySessionRepository.existsByUuid(uuid)) {
+			throw new EntityNotFoundException(ErrorCode.SURVEY_SESSION_NOT_FOUND);
+		}
+		return uuid;
 	}
 
 	/**
@@ -102,7 +123,7 @@ public class ReplayService {
 		VideoSegment savedSegment = videoSegmentRepository.save(segment);
 
 		// S3 Presigned PUT URL 생성
-		String presignedUrl = generateS3PresignedUrl(s3Key, request.contentType());
+		String presignedUrl = generateS3PresignedUrl(s3Key, request.contentType(), PRESIGNED_URL_EXPIRATION_SECONDS);
 
 		log.info("[ReplayService] Generated presigned URL for session: {}, segment: {}, bucket: {}",
 			sessionUuid, savedSegment.getUuid(), awsProperties.s3().getReplayBucketName());
@@ -114,7 +135,80 @@ public class ReplayService {
 	}
 
 	/**
-	 * 업로드 완료 처리
+	 * Presigned URL 일괄 발급 (앞으로 녹화할 세그먼트 슬롯 K개 예약)
+	 * <p>
+	 * 녹화기가 URL 풀을 미리 채워 두면 세그먼트를 시작할 때 서버 왕복을 기다리지 않습니다.
+	 * <ul>
+	 * <li>세션 조회 한 번, 새 슬롯은 saveAll 한 번(JDBC 배치 insert)으로 저장합니다.</li>
+	 * <li>이미 예약된 sequence는 같은 S3 Key로 다시 서명하고, 업로드가 끝난 sequence는 제외합니다 (재시도 안전).</li>
+	 * <li>서명(HMAC)은 DB 작업과 무관하므로 슬롯별로 병렬 수행합니다.</li>
+	 * </ul>
+	 * video_segment에는 (session_id, sequence) 유니크 제약이 없습니다. 단건 발급은 재시도마다 같은 sequence로
+	 * 새 행을 만들고 기존 데이터에도 중복이 있을 수 있기 때문입니다. 따라서 같은 구간의 일괄 요청이 동시에 들어오면
+	 * 같은 sequence의 슬롯이 둘 생길 수 있으며, 이후 요청은 업로드가 끝난 행이 있으면 그 sequence를 제외합니다.
+	 */
+	@Transactional
+	public BatchPresignedUrlResponse generatePresignedUrls(String sessionUuid, BatchPresignedUrlRequest request) {
+		SurveySession session = surveySessionRepository.findByUuid(UUID.fromString(sessionUuid))
+			.orElseThrow(() -> new EntityNotFoundException(ErrorCode.SURVEY_SESSION_NOT_FOUND));
+
+		int startSequence = request.startSequence();
+		int endSequence = startSequence + request.count();
+		Map<Integer, VideoSegment> reserved = new HashMap<>();
+		for (VideoSegment segment : videoSegmentRepository.findBySessionIdAndSequenceBetween(session.getId(),
+			startSequence, endSequence - 1)) {
+			// 같은 sequence의 행이 여럿이면 업로드가 끝난 행을 우선 (이미 녹화된 sequence는 다시 발급하지 않음)
+			reserved.merge(segment.getSequence(), segment,
+				(kept, other) -> other.getUploadStatus() == UploadStatus.UPLOADED ? other : kept);
+		}
+
+		long timestamp = System.currentTimeMillis();
+		List<VideoSegment> slots = new ArrayList<>(request.count());
+		List<VideoSegment> created = new ArrayList<>(request.count());
+		for (int sequence = startSequence; sequence < endSequence; sequence++) {
+			VideoSegment segment = reserved.get(sequence);
+			if (segment == null) {
+				long videoStartMs = request.videoStartMs()
+					+ (long)(sequence - startSequence) * request.segmentDurationMs();
+				segment = VideoSegment.builder()
+					.session(session)
+					.s3Key(String.format("replays/%s/%d_%d.webm", sessionUuid, sequence, timestamp))
+					.sequence(sequence)
+					.videoStartMs(videoStartMs)
+					.videoEndMs(videoStartMs + request.segmentDurationMs())
+					.build();
+				created.add(segment);
+			} else if (segment.getUploadStatus() == UploadStatus.UPLOADED) {
+				continue;
+			}
+			slots.add(segment);
+		}
+		videoSegmentRepository.saveAll(created);
+
+		List<BatchPresignedUrlResponse.SegmentSlot> segments = slots.parallelStream()
+			.map(segment -> {
+				int expiresIn = batchExpirationSeconds(segment.getSequence() - startSequence,
+					request.segmentDurationMs());
+				return new BatchPresignedUrlResponse.SegmentSlot(
+					segment.getSequence(),
+					segment.getUuid().toString(),
+					generateS3PresignedUrl(segment.getS3Key(), request.contentType(), expiresIn),
+					expiresIn,
+					segment.getVideoStartMs(),
+					segment.getVideoEndMs());
+			})
+			.toList();
+
+		log.info("[ReplayService] Reserved {} segment slots ({} new) for session: {}, sequence: [{}, {})",
+			segments.size(), created.size(), sessionUuid, startSequence, endSequence);
+
+		// 풀의 절반을 쓰면 다음 묶음을 요청하도록 안내 (최소 1개는 남은 상태에서 요청)
+		int refillAtSequence = endSequence - Math.max(1, request.count() / 2);
+		return new BatchPresignedUrlResponse(segments, endSequence, refillAtSequence);
+	}
+
+	/**
+	 * 업로드 완료 처리 (커밋 후 세션 리플레이 매니페스트 캐시 무효화)
 	 */
 	@Transactional
 	public void completeUpload(String sessionUuid, UploadCompleteRequest request) {
@@ -123,15 +217,27 @@ public class ReplayService {
 		VideoSegment segment = videoSegmentRepository.findByUuid(segmentUuid)
 			.orElseThrow(() -> new EntityNotFoundException(ErrorCode.ENTITY_NOT_FOUND));
 
+		if (request.hasVideoRange()) {
+			segment.updateVideoRange(request.videoStartMs(), request.videoEndMs());
+		}
 		segment.markUploaded();
+		eventPublisher.publishEvent(new ReplayManifestChangedEvent(segment.getSession().getUuid()));
 
 		log.info("[ReplayService] Upload completed for segment: {}", segmentUuid);
 	}
 
+	/**
+	 * 예약 슬롯의 URL 유효 시간 (기본 유효 시간 + 슬롯 녹화 시작까지 예상 시간, 상한 적용)
+	 */
+	private static int batchExpirationSeconds(int slotIndex, long segmentDurationMs) {
+		long untilRecording = slotIndex * segmentDurationMs / 1000;
+		return (int)Math.min(MAX_BATCH_EXPIRATION_SECONDS, PRESIGNED_URL_EXPIRATION_SECONDS + untilRecording);
+	}
+
 	/**
 	 * S3 Presigned PUT URL 생성
 	 */
-	private String generateS3PresignedUrl(String s3Key, String contentType) {
+	private String generateS3PresignedUrl(String s3Key, String contentType, int expirationSeconds) {
 		String bucketName = awsProperties.s3().getReplayBucketName();
 
 		PutObjectRequest putObjectRequest = PutObjectRequest.builder()
@@ -141,7 +247,7 @@ public class ReplayService {
 			.build();
 
 		PutObjectPresignRequest presignRequest = PutObjectPresignRequest.builder()
-			.signatureDuration(Duration.ofSeconds(PRESIGNED_URL_EXPIRATION_SECONDS))
+			.signatureDuration(Duration.ofSeconds(expirationSeconds))
 			.putObjectRequest(putObjectRequest)
 			.build();
 
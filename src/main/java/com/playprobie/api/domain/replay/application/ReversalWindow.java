@@ -0,0 +1,62 @@
+package com.playprobie.api.domain.replay.application;
+
+/**
+ * 방향 전환 시각 링 버퍼 (휠/방향키 진동 탐지 공용)
+ * <p>
+ * 최근 count번의 전환이 windowMs 안에 모두 들어오면 감지로 보고 윈도우를 비웁니다.
+ */
+final class ReversalWindow {
+
+	private final long[] times;
+	private final int windowMs;
+	private int head;
+	private int size;
+	private long detectedFrom;
+
+	ReversalWindow(int count, int windowMs) {
+		this.times = new long[count];
+		this.windowMs = windowMs;
+	}
+
+	private ReversalWindow(ReversalWindow source) {
+		this.times = source.times.clone();
+		this.windowMs = source.windowMs;
+		this.head = source.head;
+		this.size = source.size;
+		this.detectedFrom = source.detectedFrom;
+	}
+
+	ReversalWindow copy() {
+		return new ReversalWindow(this);
+	}
+
+	/**
+	 * 전환 기록
+	 *
+	 * @return count번째 전환이 windowMs 안에 들어와 감지되었으면 true ({@link #detectedFrom}으로 시작 시각 조회)
+	 */
+	boolean record(long time) {
+		int tail = (head + size) % times.length;
+		times[tail] = time;
+		if (size < times.length) {
+			size++;
+		} else {
+			head = (head + 1) % times.length;
+		}
+		if (size < times.length || time - times[head] > windowMs) {
+			return false;
+		}
+		detectedFrom = times[head];
+		clear();
+		return true;
+	}
+
+	void clear() {
+		head = 0;
+		size = 0;
+	}
+
+	long detectedFrom() {
+		return detectedFrom;
+	}
+}
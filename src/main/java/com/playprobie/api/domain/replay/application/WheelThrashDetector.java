@@ -0,0 +1,84 @@
+package com.playprobie.api.domain.replay.application;
+
+import java.util.List;
+
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import com.playprobie.api.domain.replay.domain.InsightType;
+
+/**
+ * 휠 요동 탐지기: 짧은 시간 내 스크롤 방향 반복 전환 (기본 1.5초 내 4회, WHEEL deltaY 부호 기준)
+ */
+@Order(400)
+@Component
+class WheelThrashDetector implements InsightDetector {
+
+	static final String WINDOW_MS = "wheel_thrash.window_ms";
+	static final String REVERSALS = "wheel_thrash.reversals";
+	static final String DURATION_MS = "wheel_thrash.duration_ms";
+
+	private static final List<Threshold> THRESHOLDS = List.of(
+		new Threshold(WINDOW_MS, 1_500, 100, 10_000),
+		new Threshold(REVERSALS, 4, 2, 64),
+		new Threshold(DURATION_MS, 3_000, 1_000, 60_000));
+
+	@Override
+	public InsightType insightType() {
+		return InsightType.WHEEL_THRASH;
+	}
+
+	@Override
+	public int eventMask() {
+		return InputLogColumns.mask(InputLogColumns.TYPE_WHEEL);
+	}
+
+	@Override
+	public List<Threshold> thresholds() {
+		return THRESHOLDS;
+	}
+
+	@Override
+	public Scanner open(InsightThresholds thresholds) {
+		return new WheelThrashScanner(thresholds.get(WINDOW_MS), thresholds.get(REVERSALS),
+			thresholds.get(DURATION_MS));
+	}
+
+	private static final class WheelThrashScanner implements Scanner {
+
+		private final int reversals;
+		private final int durationMs;
+		private final ReversalWindow window;
+		private int lastDirection;
+
+		WheelThrashScanner(int windowMs, int reversals, int durationMs) {
+			this.reversals = reversals;
+			this.durationMs = durationMs;
+			this.window = new ReversalWindow(reversals, windowMs);
+		}
+
+		private WheelThrashScanner(WheelThrashScanner source) {
+			this.reversals = source.reversals;
+			this.durationMs = source.durationMs;
+			this.window = source.window.copy();
+			this.lastDirection = source.lastDirection;
+		}
+
+		@Override
+		public Scanner copy() {
+			return new WheelThrashScanner(this);
+		}
+
+		@Override
+		public void accept(InputLogColumns columns, int index, Emitter emitter) {
+			int direction = Integer.signum(columns.wheelDeltaY[index]);
+			if (direction == 0) {
+				return;
+			}
+			if (lastDirection != 0 && direction != lastDirection && window.record(columns.mediaTime[index])) {
+				emitter.emit(window.detectedFrom(), durationMs, String.format("{\"reversals\":%d}", reversals));
+			}
+			lastDirection = direction;
+		}
+	}
+}
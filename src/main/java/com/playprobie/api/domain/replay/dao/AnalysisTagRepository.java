@@ -1,9 +1,13 @@
 package com.playprobie.api.domain.replay.dao;
 
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import com.playprobie.api.domain.replay.domain.AnalysisTag;
 
@@ -12,16 +16,6 @@ import com.playprobie.api.domain.replay.domain.AnalysisTag;
  */
 public interface AnalysisTagRepository extends JpaRepository<AnalysisTag, Long> {
 
-	/**
-	 * 세션 ID로 질문하지 않은 태그 목록 조회
-	 */
-	List<AnalysisTag> findBySessionIdAndIsAskedFalse(Long sessionId);
-
-	/**
-	 * 세션 UUID로 질문하지 않은 태그 목록 조회
-	 */
-	List<AnalysisTag> findBySessionUuidAndIsAskedFalse(UUID sessionUuid);
-
 	/**
 	 * 세션 ID로 모든 태그 조회
 	 */
@@ -36,4 +30,41 @@ public interface AnalysisTagRepository extends JpaRepository<AnalysisTag, Long>
 	 * 세션 UUID로 선택된 태그 중 아직 질문하지 않은 태그 조회
 	 */
 	List<AnalysisTag> findBySessionUuidAndIsSelectedTrueAndIsAskedFalse(UUID sessionUuid);
+
+	/**
+	 * 세션 UUID로 질문하지 않은 태그 존재 여부 조회 (목록을 읽지 않음)
+	 */
+	boolean existsBySessionUuidAndIsAskedFalse(UUID sessionUuid);
+
+	/**
+	 * 세션 UUID로 질문하지 않은 태그 중 가장 최근 태그 조회
+	 */
+	Optional<AnalysisTag> findFirstBySessionUuidAndIsAskedFalseOrderByIdDesc(UUID sessionUuid);
+
+	/**
+	 * 세션 UUID로 전체 태그 수 조회
+	 */
+	long countBySessionUuid(UUID sessionUuid);
+
+	/**
+	 * 세션 UUID로 질문 완료(스킵 포함) 태그 수 조회
+	 */
+	long countBySessionUuidAndIsAskedTrue(UUID sessionUuid);
+
+	/**
+	 * 선택된 태그를 제외한 질문하지 않은 태그 일괄 스킵 처리
+	 *
+	 * @return 스킵 처리된 태그 수
+	 */
+	@Modifying
+	@Query("""
+		UPDATE AnalysisTag t
+		SET t.isAsked = true, t.answerText = null
+		WHERE t.session.id = :sessionId AND t.isAsked = false AND t.id <> :selectedTagId
+		""")
+	int skipUnaskedExcept(
+		@Param("sessionId")
+		Long sessionId,
+		@Param("selectedTagId")
+		Long selectedTagId);
 }
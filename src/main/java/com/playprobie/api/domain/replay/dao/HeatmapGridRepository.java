@@ -0,0 +1,19 @@
+package com.playprobie.api.domain.replay.dao;
+
+import java.util.Optional;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import com.playprobie.api.domain.replay.domain.HeatmapGrid;
+import com.playprobie.api.domain.replay.domain.HeatmapLayer;
+
+/**
+ * 히트맵 격자 Repository
+ */
+public interface HeatmapGridRepository extends JpaRepository<HeatmapGrid, Long> {
+
+	/**
+	 * 설문 ID, 종류, 구간으로 격자 조회 (bucketIndex = HeatmapGrid.ALL_BUCKETS면 전체 구간)
+	 */
+	Optional<HeatmapGrid> findBySurveyIdAndLayerAndBucketIndex(Long surveyId, HeatmapLayer layer, Integer bucketIndex);
+}
@@ -1,10 +1,12 @@
 package com.playprobie.api.domain.replay.dao;
 
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
 import org.springframework.data.jpa.repository.JpaRepository;
 
+import com.playprobie.api.domain.replay.domain.UploadStatus;
 import com.playprobie.api.domain.replay.domain.VideoSegment;
 
 /**
@@ -21,4 +23,14 @@ public interface VideoSegmentRepository extends JpaRepository<VideoSegment, Long
 	 * 세션 ID와 시퀀스로 세그먼트 조회
 	 */
 	Optional<VideoSegment> findBySessionIdAndSequence(Long sessionId, Integer sequence);
+
+	/**
+	 * 세션 ID와 시퀀스 범위(양 끝 포함)로 세그먼트 조회
+	 */
+	List<VideoSegment> findBySessionIdAndSequenceBetween(Long sessionId, Integer fromSequence, Integer toSequence);
+
+	/**
+	 * 세션 ID와 업로드 상태로 세그먼트 목록 조회 (sequence 순)
+	 */
+	List<VideoSegment> findBySessionIdAndUploadStatusOrderBySequenceAsc(Long sessionId, UploadStatus uploadStatus);
 }
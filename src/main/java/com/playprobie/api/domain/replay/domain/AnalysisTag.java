@@ -18,8 +18,10 @@ import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
 import lombok.AccessLevel;
 import lombok.Builder;
@@ -29,15 +31,19 @@ import lombok.NoArgsConstructor;
 /**
  * 분석 태그 Entity
  * 입력 패턴 분석 결과를 저장
+ * 인사이트 질문 Phase의 세션별 존재/개수 조회는 (session_id, is_asked, is_selected) 인덱스만으로 처리
  */
 @Entity
-@Table(name = "analysis_tag")
+@Table(name = "analysis_tag", indexes = {
+	@Index(name = "idx_analysis_tag_session_asked_selected", columnList = "session_id, is_asked, is_selected")
+})
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @Getter
 public class AnalysisTag extends BaseTimeEntity {
 
 	@Id
-	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	@GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "analysis_tag_seq")
+	@SequenceGenerator(name = "analysis_tag_seq", sequenceName = "analysis_tag_seq")
 	@Column(name = "tag_id")
 	private Long id;
 
@@ -50,6 +56,7 @@ public class AnalysisTag extends BaseTimeEntity {
 	private SurveySession session;
 
 	@Enumerated(EnumType.STRING)
+	@JdbcTypeCode(SqlTypes.VARCHAR)
 	@Column(name = "insight_type", nullable = false, length = 20)
 	private InsightType insightType;
 
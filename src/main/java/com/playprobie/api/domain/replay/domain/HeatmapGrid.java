@@ -0,0 +1,106 @@
+package com.playprobie.api.domain.replay.domain;
+
+import java.util.Objects;
+
+import com.playprobie.api.domain.survey.domain.Survey;
+import com.playprobie.api.global.domain.BaseTimeEntity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import jakarta.persistence.Version;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 설문별 히트맵 격자 Entity
+ * 모든 테스터의 클릭/이동 횟수를 고정 해상도 격자로 누적한 압축 블롭 (전체 또는 영상 시간 구간별)
+ * <p>
+ * 여러 서버가 각자 모은 증분을 병합하므로 @Version으로 동시 갱신을 감지합니다.
+ */
+@Entity
+@Table(name = "heatmap_grid", uniqueConstraints = {
+	@UniqueConstraint(name = "uk_heatmap_grid_survey_layer_bucket", columnNames = {"survey_id", "layer",
+		"bucket_index"})
+})
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Getter
+public class HeatmapGrid extends BaseTimeEntity {
+
+	/** 영상 전체 구간 히트맵의 bucket_index */
+	public static final int ALL_BUCKETS = -1;
+
+	@Id
+	@GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "heatmap_grid_seq")
+	@SequenceGenerator(name = "heatmap_grid_seq", sequenceName = "heatmap_grid_seq")
+	@Column(name = "heatmap_grid_id")
+	private Long id;
+
+	@ManyToOne(fetch = FetchType.LAZY)
+	@JoinColumn(name = "survey_id", nullable = false)
+	private Survey survey;
+
+	@Enumerated(EnumType.STRING)
+	@Column(name = "layer", nullable = false, length = 20)
+	private HeatmapLayer layer;
+
+	@Column(name = "bucket_index", nullable = false)
+	private Integer bucketIndex;
+
+	@Column(name = "grid_width", nullable = false)
+	private Integer gridWidth;
+
+	@Column(name = "grid_height", nullable = false)
+	private Integer gridHeight;
+
+	@Column(name = "total_count", nullable = false)
+	private Long totalCount;
+
+	@Column(name = "data", nullable = false)
+	private byte[] data;
+
+	@Version
+	@Column(name = "version")
+	private Long version;
+
+	@Builder
+	public HeatmapGrid(Survey survey, HeatmapLayer layer, Integer bucketIndex, Integer gridWidth,
+		Integer gridHeight) {
+		this.survey = Objects.requireNonNull(survey, "HeatmapGrid 생성 시 survey는 필수입니다");
+		this.layer = Objects.requireNonNull(layer, "HeatmapGrid 생성 시 layer는 필수입니다");
+		this.bucketIndex = Objects.requireNonNull(bucketIndex, "HeatmapGrid 생성 시 bucketIndex는 필수입니다");
+		this.gridWidth = Objects.requireNonNull(gridWidth, "HeatmapGrid 생성 시 gridWidth는 필수입니다");
+		this.gridHeight = Objects.requireNonNull(gridHeight, "HeatmapGrid 생성 시 gridHeight는 필수입니다");
+		this.totalCount = 0L;
+		this.data = new byte[0];
+	}
+
+	/**
+	 * 해상도가 같은지 확인 (설정 변경 후 이전 해상도 격자는 병합하지 않음)
+	 */
+	public boolean hasResolution(int width, int height) {
+		return gridWidth == width && gridHeight == height;
+	}
+
+	/**
+	 * 누적 격자 교체 (해상도가 바뀌었으면 새 해상도로 다시 시작)
+	 */
+	public void replace(int width, int height, long totalCount, byte[] data) {
+		this.gridWidth = width;
+		this.gridHeight = height;
+		this.totalCount = totalCount;
+		this.data = data;
+	}
+}
@@ -0,0 +1,9 @@
+package com.playprobie.api.domain.replay.domain;
+
+/**
+ * 히트맵 종류 (집계 대상 입력 이벤트)
+ */
+public enum HeatmapLayer {
+	CLICK, // MOUSE_DOWN 위치
+	MOVE // 샘플링된 MOUSE_MOVE 위치
+}
@@ -11,7 +11,11 @@ import lombok.RequiredArgsConstructor;
 @RequiredArgsConstructor
 public enum InsightType {
 	PANIC("특정 시간 내 동일 키 연타"),
-	IDLE("10초 이상 입력 부재");
+	IDLE("10초 이상 입력 부재"),
+	RAGE_CLICK("같은 위치에서 마우스 버튼 연타"),
+	WHEEL_THRASH("스크롤 방향 반복 전환"),
+	OSCILLATION("반대 방향키 반복 전환"),
+	MENU_DWELL("메뉴를 연 채로 장시간 체류");
 
 	private final String description;
 
@@ -22,6 +26,10 @@ public enum InsightType {
 		return switch (this) {
 			case PANIC -> "플레이어가 당황하여 버튼을 연타한 순간이 있었습니다.";
 			case IDLE -> "플레이어가 10초 이상 아무 입력 없이 멈춰있던 순간이 있었습니다.";
+			case RAGE_CLICK -> "플레이어가 같은 곳을 마우스로 여러 번 빠르게 클릭한 순간이 있었습니다.";
+			case WHEEL_THRASH -> "플레이어가 스크롤을 위아래로 반복해서 움직인 순간이 있었습니다.";
+			case OSCILLATION -> "플레이어가 좌우(또는 상하) 방향키를 번갈아 반복해서 누른 순간이 있었습니다.";
+			case MENU_DWELL -> "플레이어가 메뉴를 연 채로 오랫동안 머문 순간이 있었습니다.";
 		};
 	}
 }
@@ -18,6 +18,7 @@ import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
 import lombok.AccessLevel;
 import lombok.Builder;
@@ -27,6 +28,7 @@ import lombok.NoArgsConstructor;
 /**
  * 영상 세그먼트 Entity
  * 20~30초 단위로 분할된 플레이 영상 메타데이터 저장
+ * (session_id, sequence)는 유니크하지 않음 - 단건 발급 재시도마다 새 행이 생김
  */
 @Entity
 @Table(name = "video_segment")
@@ -35,7 +37,8 @@ import lombok.NoArgsConstructor;
 public class VideoSegment extends BaseTimeEntity {
 
 	@Id
-	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	@GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "video_segment_seq")
+	@SequenceGenerator(name = "video_segment_seq", sequenceName = "video_segment_seq")
 	@Column(name = "segment_id")
 	private Long id;
 
@@ -81,6 +84,14 @@ public class VideoSegment extends BaseTimeEntity {
 		this.uploadStatus = UploadStatus.UPLOADED;
 	}
 
+	/**
+	 * 실제 녹화 구간으로 갱신 (일괄 예약 슬롯은 예상 구간으로 생성됨)
+	 */
+	public void updateVideoRange(Long videoStartMs, Long videoEndMs) {
+		this.videoStartMs = Objects.requireNonNull(videoStartMs, "videoStartMs는 필수입니다");
+		this.videoEndMs = Objects.requireNonNull(videoEndMs, "videoEndMs는 필수입니다");
+	}
+
 	/**
 	 * 업로드 실패 처리
 	 */
@@ -0,0 +1,35 @@
+package com.playprobie.api.domain.replay.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+
+/**
+ * Presigned URL 일괄 발급 Request (앞으로 녹화할 세그먼트 슬롯 예약)
+ * POST /sessions/{sessionId}/replay/presigned-urls
+ * <p>
+ * 슬롯 i의 예상 구간은 [video_start_ms + i × segment_duration_ms, + segment_duration_ms)이며,
+ * 실제 구간은 업로드 완료 알림에서 바로잡을 수 있습니다.
+ */
+public record BatchPresignedUrlRequest(
+	@NotNull @Min(0) @JsonProperty("start_sequence")
+	Integer startSequence,
+
+	@NotNull @Min(1) @Max(MAX_COUNT)
+	Integer count,
+
+	@NotNull @Min(0) @JsonProperty("video_start_ms")
+	Long videoStartMs,
+
+	@NotNull @Min(1_000) @Max(600_000) @JsonProperty("segment_duration_ms")
+	Long segmentDurationMs,
+
+	@NotBlank @JsonProperty("content_type")
+	String contentType) {
+
+	/** 한 번에 예약할 수 있는 최대 슬롯 수 */
+	public static final int MAX_COUNT = 20;
+}
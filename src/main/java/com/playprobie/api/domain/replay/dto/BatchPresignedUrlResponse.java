@@ -0,0 +1,40 @@
+package com.playprobie.api.domain.replay.dto;
+
+import java.util.List;
+
+import com.fasterxml.jackson.databind.PropertyNamingStrategies;
+import com.fasterxml.jackson.databind.annotation.JsonNaming;
+
+/**
+ * Presigned URL 일괄 발급 Response
+ *
+ * @param segments         예약된 세그먼트 슬롯 (sequence 순, 이미 업로드된 sequence는 제외)
+ * @param nextSequence     다음 일괄 발급의 start_sequence
+ * @param refillAtSequence 이 sequence의 녹화를 시작할 때 다음 묶음을 미리 요청하면 URL 풀이 비지 않음
+ */
+@JsonNaming(PropertyNamingStrategies.SnakeCaseStrategy.class)
+public record BatchPresignedUrlResponse(
+	List<SegmentSlot> segments,
+	int nextSequence,
+	int refillAtSequence) {
+
+	/**
+	 * 세그먼트 슬롯
+	 *
+	 * @param sequence     세그먼트 순번
+	 * @param segmentId    세그먼트 UUID (업로드 완료 알림에 사용)
+	 * @param s3Url        Presigned PUT URL
+	 * @param expiresIn    URL 유효 시간 (초, 뒤 슬롯일수록 예상 녹화 시점만큼 길어짐)
+	 * @param videoStartMs 예상 시작 영상 시각
+	 * @param videoEndMs   예상 끝 영상 시각
+	 */
+	@JsonNaming(PropertyNamingStrategies.SnakeCaseStrategy.class)
+	public record SegmentSlot(
+		int sequence,
+		String segmentId,
+		String s3Url,
+		int expiresIn,
+		long videoStartMs,
+		long videoEndMs) {
+	}
+}
@@ -0,0 +1,48 @@
+package com.playprobie.api.domain.replay.dto;
+
+import java.util.UUID;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.playprobie.api.domain.replay.domain.HeatmapLayer;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "히트맵 밀도 응답 DTO (캔버스 ImageData에 바로 쓸 수 있는 0~255 행 우선 배열)")
+public record HeatmapResponse(
+
+	@Schema(description = "설문 UUID", example = "550e8400-e29b-41d4-a716-446655440000") @JsonProperty("survey_uuid")
+	UUID surveyUuid,
+
+	@Schema(description = "히트맵 종류", example = "CLICK") @JsonProperty("layer")
+	HeatmapLayer layer,
+
+	@Schema(description = "영상 시간 구간 번호 (전체 구간이면 null)", example = "3") @JsonProperty("bucket")
+	Integer bucket,
+
+	@Schema(description = "구간 시작 영상 시각 (ms, 전체 구간이면 null)", example = "180000") @JsonProperty("bucket_start_ms")
+	Long bucketStartMs,
+
+	@Schema(description = "구간 끝 영상 시각 (ms, 전체 구간이면 null)", example = "240000") @JsonProperty("bucket_end_ms")
+	Long bucketEndMs,
+
+	@Schema(description = "좌표 기준 화면 너비", example = "1920") @JsonProperty("frame_width")
+	int frameWidth,
+
+	@Schema(description = "좌표 기준 화면 높이", example = "1080") @JsonProperty("frame_height")
+	int frameHeight,
+
+	@Schema(description = "격자 가로 셀 수", example = "96") @JsonProperty("grid_width")
+	int gridWidth,
+
+	@Schema(description = "격자 세로 셀 수", example = "54") @JsonProperty("grid_height")
+	int gridHeight,
+
+	@Schema(description = "집계된 이벤트 수", example = "1523") @JsonProperty("total_count")
+	long totalCount,
+
+	@Schema(description = "가장 많은 셀의 이벤트 수 (밀도 255에 해당)", example = "87") @JsonProperty("max_count")
+	long maxCount,
+
+	@Schema(description = "셀별 밀도 (0~255, max_count 기준 선형 정규화, 행 우선)") @JsonProperty("density")
+	int[] density) {
+}
@@ -0,0 +1,64 @@
+package com.playprobie.api.domain.replay.dto;
+
+import java.util.List;
+import java.util.UUID;
+
+import com.fasterxml.jackson.databind.PropertyNamingStrategies;
+import com.fasterxml.jackson.databind.annotation.JsonNaming;
+import com.playprobie.api.domain.replay.domain.InsightType;
+
+/**
+ * 세션 리플레이 매니페스트 Response (HLS/DASH 재생 목록처럼 세그먼트 순서대로 나열)
+ *
+ * @param sessionUuid 세션 UUID
+ * @param durationMs  업로드된 마지막 세그먼트의 끝 영상 시각
+ * @param expiresIn   세그먼트 URL 남은 유효 시간 (초, 만료 전에 매니페스트를 다시 요청)
+ * @param segments    업로드가 끝난 세그먼트 (sequence 순)
+ * @param insights    요청 구간과 겹치는 인사이트 (시작 영상 시각 순)
+ */
+@JsonNaming(PropertyNamingStrategies.SnakeCaseStrategy.class)
+public record ReplayManifestResponse(
+	UUID sessionUuid,
+	long durationMs,
+	long expiresIn,
+	List<Segment> segments,
+	List<Insight> insights) {
+
+	/**
+	 * 재생 세그먼트
+	 *
+	 * @param sequence     세그먼트 순번
+	 * @param segmentId    세그먼트 UUID
+	 * @param url          Presigned GET URL
+	 * @param videoStartMs 시작 영상 시각
+	 * @param videoEndMs   끝 영상 시각
+	 */
+	@JsonNaming(PropertyNamingStrategies.SnakeCaseStrategy.class)
+	public record Segment(
+		int sequence,
+		String segmentId,
+		String url,
+		long videoStartMs,
+		long videoEndMs) {
+	}
+
+	/**
+	 * 인사이트 트랙 항목
+	 *
+	 * @param tagId       분석 태그 ID
+	 * @param insightType 인사이트 종류
+	 * @param videoTimeMs 시작 영상 시각
+	 * @param durationMs  지속 시간 (없으면 null, 한 시점의 인사이트)
+	 * @param asked       인사이트 질문 완료 여부
+	 * @param answerText  테스터 답변 (없으면 null)
+	 */
+	@JsonNaming(PropertyNamingStrategies.SnakeCaseStrategy.class)
+	public record Insight(
+		Long tagId,
+		InsightType insightType,
+		long videoTimeMs,
+		Integer durationMs,
+		boolean asked,
+		String answerText) {
+	}
+}
@@ -2,13 +2,26 @@ package com.playprobie.api.domain.replay.dto;
 
 import com.fasterxml.jackson.annotation.JsonProperty;
 
+import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotBlank;
 
 /**
  * 업로드 완료 알림 Request
  * POST /sessions/{sessionId}/replay/upload-complete
+ * <p>
+ * 일괄 발급으로 예약한 슬롯은 예상 구간으로 저장되어 있으므로, 실제 구간을 보내면 함께 바로잡습니다.
  */
 public record UploadCompleteRequest(
 	@NotBlank @JsonProperty("segment_id")
-	String segmentId) {
+	String segmentId,
+
+	@Min(0) @JsonProperty("video_start_ms")
+	Long videoStartMs,
+
+	@Min(0) @JsonProperty("video_end_ms")
+	Long videoEndMs) {
+
+	public boolean hasVideoRange() {
+		return videoStartMs != null && videoEndMs != null && videoEndMs >= videoStartMs;
+	}
 }
@@ -0,0 +1,11 @@
+package com.playprobie.api.domain.replay.event;
+
+import java.util.UUID;
+
+/**
+ * 리플레이 매니페스트 변경 이벤트
+ * 세그먼트 업로드 완료 또는 새 분석 태그 저장 시 발행되어 캐시된 매니페스트를 무효화
+ */
+public record ReplayManifestChangedEvent(
+	UUID sessionUuid) {
+}
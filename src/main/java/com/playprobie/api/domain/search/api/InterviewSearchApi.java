@@ -0,0 +1,63 @@
+package com.playprobie.api.domain.search.api;
+
+import java.util.UUID;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.playprobie.api.domain.interview.domain.AnswerQuality;
+import com.playprobie.api.domain.interview.domain.AnswerValidity;
+import com.playprobie.api.domain.interview.domain.QuestionType;
+import com.playprobie.api.domain.search.application.InterviewSearchService;
+import com.playprobie.api.domain.search.domain.SearchFilter;
+import com.playprobie.api.domain.search.dto.InterviewSearchResponse;
+import com.playprobie.api.domain.user.domain.User;
+import com.playprobie.api.global.common.response.CommonResponse;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+
+@RestController
+@RequestMapping("/surveys/results")
+@RequiredArgsConstructor
+@Tag(name = "Interview Search API", description = "인터뷰 답변 검색 API")
+public class InterviewSearchApi {
+
+	private final InterviewSearchService interviewSearchService;
+
+	@GetMapping("/{surveyUuid}/search")
+	@Operation(summary = "인터뷰 답변 검색", description = "질문/답변 텍스트와 평가, 테스터 프로필 조건으로 답변을 최신순 검색합니다.")
+	public ResponseEntity<CommonResponse<InterviewSearchResponse>> search(
+		@AuthenticationPrincipal(expression = "user")
+		User user,
+		@PathVariable
+		UUID surveyUuid,
+		@RequestParam(required = false)
+		String q,
+		@RequestParam(required = false)
+		Long fixedQuestionId,
+		@RequestParam(required = false)
+		QuestionType qType,
+		@RequestParam(required = false)
+		AnswerValidity validity,
+		@RequestParam(required = false)
+		AnswerQuality quality,
+		@RequestParam(required = false)
+		String ageGroup,
+		@RequestParam(required = false)
+		String gender,
+		@RequestParam(required = false)
+		String preferGenre,
+		@RequestParam(required = false)
+		Integer limit) {
+		SearchFilter filter = new SearchFilter(fixedQuestionId, qType, validity, quality, ageGroup, gender,
+			preferGenre);
+		return ResponseEntity.ok(CommonResponse.of(interviewSearchService.search(surveyUuid, user, q, filter, limit)));
+	}
+}
@@ -0,0 +1,252 @@
+package com.playprobie.api.domain.search.application;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.playprobie.api.domain.interview.dao.InterviewLogRepository;
+import com.playprobie.api.domain.interview.domain.AnswerQuality;
+import com.playprobie.api.domain.interview.domain.AnswerValidity;
+import com.playprobie.api.domain.interview.domain.InterviewLog;
+import com.playprobie.api.domain.interview.domain.QuestionType;
+import com.playprobie.api.domain.interview.domain.SurveySession;
+import com.playprobie.api.domain.interview.domain.TesterProfile;
+import com.playprobie.api.domain.search.domain.SearchDocument;
+import com.playprobie.api.domain.search.domain.SearchFilter;
+import com.playprobie.api.domain.search.domain.SurveySearchIndex;
+import com.playprobie.api.domain.search.dto.InterviewSearchResponse;
+import com.playprobie.api.domain.survey.dao.SurveyRepository;
+import com.playprobie.api.domain.survey.domain.Survey;
+import com.playprobie.api.domain.user.domain.User;
+import com.playprobie.api.domain.workspace.application.WorkspaceSecurityManager;
+import com.playprobie.api.global.error.exception.EntityNotFoundException;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 인터뷰 답변 전문 검색 서비스
+ * <p>
+ * 설문별 {@link SurveySearchIndex}를 메모리에 유지합니다.
+ * <ul>
+ * <li>색인은 첫 검색 시 DB 커서로 한 번 적재하고, 이후에는 답변 저장/평가 갱신을 커밋 후 반영합니다.</li>
+ * <li>아직 적재되지 않은 설문의 변경은 무시합니다 (첫 검색 시 DB에서 함께 적재됨).</li>
+ * <li>적재 중에 커밋된 변경은 보관했다가 적재 직후 새 색인에 다시 반영합니다 (같은 로그 재색인은 교체라 중복 반영에 안전).</li>
+ * <li>다른 서버에서 저장된 답변은 이 서버 색인에 반영되지 않으므로, REBUILD_INTERVAL이 지난 색인은 다음 검색 시 다시 적재합니다.</li>
+ * </ul>
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class InterviewSearchService {
+
+	private static final int DEFAULT_LIMIT = 20;
+	private static final int MAX_LIMIT = 100;
+	private static final int FETCH_SIZE = 1000;
+	private static final Duration REBUILD_INTERVAL = Duration.ofMinutes(10);
+
+	private static final String BOOTSTRAP_SQL = """
+		SELECT l.log_id, l.fixed_q_id, l.q_type, l.question_text, l.answer_text, l.validity, l.quality,
+			s.tester_age_group, s.tester_gender, s.tester_prefer_genre
+		FROM interview_log l
+		JOIN survey_session s ON l.session_id = s.session_id
+		WHERE s.survey_id = ? AND l.answer_text IS NOT NULL
+		ORDER BY l.log_id
+		""";
+
+	private final SurveyRepository surveyRepository;
+	private final InterviewLogRepository interviewLogRepository;
+	private final WorkspaceSecurityManager securityManager;
+	private final JdbcTemplate jdbcTemplate;
+
+	/** surveyId → 색인 */
+	private final Map<Long, LoadedIndex> indexes = new ConcurrentHashMap<>();
+	/** surveyId → 적재 중에 커밋된 변경 (적재가 끝나면 새 색인에 다시 반영) */
+	private final Map<Long, List<Consumer<SurveySearchIndex>>> pendingChanges = new ConcurrentHashMap<>();
+	/** surveyId → 적재 잠금 (같은 설문을 동시에 두 번 적재하지 않음) */
+	private final Map<Long, Object> loadLocks = new ConcurrentHashMap<>();
+
+	/**
+	 * 답변 검색
+	 *
+	 * @param query  검색어 (비어 있으면 필터만 적용)
+	 * @param filter 메타데이터 필터
+	 * @param limit  최대 결과 수 (기본 20, 최대 100)
+	 */
+	@Transactional(readOnly = true)
+	public InterviewSearchResponse search(UUID surveyUuid, User user, String query, SearchFilter filter,
+		Integer limit) {
+		Survey survey = surveyRepository.findByUuid(surveyUuid)
+			.orElseThrow(EntityNotFoundException::new);
+		securityManager.validateReadAccess(survey.getGame().getWorkspace(), user);
+
+		int size = limit == null || limit <= 0 ? DEFAULT_LIMIT : Math.min(limit, MAX_LIMIT);
+		SurveySearchIndex.SearchResult result = getIndex(survey.getId()).search(query, filter, size);
+		if (result.logIds().isEmpty()) {
+			return new InterviewSearchResponse(result.total(), List.of());
+		}
+
+		Map<Long, InterviewLog> logById = interviewLogRepository.findAllWithSessionByIdIn(result.logIds()).stream()
+			.collect(Collectors.toMap(InterviewLog::getId, Function.identity()));
+		List<InterviewSearchResponse.Hit> hits = result.logIds().stream()
+			.map(logById::get)
+			.filter(Objects::nonNull)
+			.map(InterviewSearchResponse.Hit::from)
+			.toList();
+		return new InterviewSearchResponse(result.total(), hits);
+	}
+
+	/**
+	 * 저장된 답변을 색인에 반영 (커밋 후)
+	 * <p>
+	 * 답변이 새로 기록되면 이전 평가는 무효이므로 평가 없이 색인하고, 이후 평가 결과로 갱신됩니다.
+	 */
+	public void indexAnswer(SurveySession session, long logId, Long fixedQuestionId, QuestionType type,
+		String questionText, String answerText) {
+		if (answerText == null) {
+			return;
+		}
+		Long surveyId = session.getSurvey().getId();
+		TesterProfile profile = session.getTesterProfile();
+		SearchDocument document = new SearchDocument(logId, fixedQuestionId, type, questionText, answerText,
+			null, null,
+			profile != null ? profile.getAgeGroup() : null,
+			profile != null ? profile.getGender() : null,
+			profile != null ? profile.getPreferGenre() : null);
+		afterCommit(() -> apply(surveyId, index -> index.index(document)));
+	}
+
+	/**
+	 * 유효성/품질 평가 결과를 색인에 반영 (커밋 후)
+	 */
+	public void updateEvaluation(Long surveyId, Long logId, AnswerValidity validity, AnswerQuality quality) {
+		afterCommit(() -> apply(surveyId, index -> index.updateEvaluation(logId, validity, quality)));
+	}
+
+	public void evict(Long surveyId) {
+		indexes.remove(surveyId);
+	}
+
+	/**
+	 * 커밋된 변경을 색인에 반영 (적재 중이면 적재 후 다시 반영하도록 보관)
+	 */
+	private void apply(Long surveyId, Consumer<SurveySearchIndex> change) {
+		pendingChanges.computeIfPresent(surveyId, (id, changes) -> {
+			changes.add(change);
+			return changes;
+		});
+		LoadedIndex loaded = indexes.get(surveyId);
+		if (loaded != null) {
+			change.accept(loaded.index());
+		}
+	}
+
+	private SurveySearchIndex getIndex(Long surveyId) {
+		LoadedIndex loaded = indexes.get(surveyId);
+		if (loaded != null && !loaded.isStale()) {
+			return loaded.index();
+		}
+		synchronized (loadLocks.computeIfAbsent(surveyId, id -> new Object())) {
+			loaded = indexes.get(surveyId);
+			if (loaded != null && !loaded.isStale()) {
+				return loaded.index();
+			}
+			// 적재 쿼리 시작 전부터 커밋되는 변경을 모음
+			pendingChanges.put(surveyId, new ArrayList<>());
+			try {
+				SurveySearchIndex index = load(surveyId);
+				indexes.put(surveyId, new LoadedIndex(index, System.currentTimeMillis()));
+				pendingChanges.compute(surveyId, (id, changes) -> {
+					if (changes != null) {
+						changes.forEach(change -> change.accept(index));
+					}
+					return null;
+				});
+				return index;
+			} finally {
+				// 적재에 실패하면 보관하던 변경도 버림 (다음 적재가 DB에서 다시 읽음)
+				pendingChanges.remove(surveyId);
+			}
+		}
+	}
+
+	private SurveySearchIndex load(Long surveyId) {
+		long startedAt = System.currentTimeMillis();
+		SurveySearchIndex index = new SurveySearchIndex();
+		jdbcTemplate.query(connection -> {
+			var statement = connection.prepareStatement(BOOTSTRAP_SQL, ResultSet.TYPE_FORWARD_ONLY,
+				ResultSet.CONCUR_READ_ONLY);
+			statement.setFetchSize(FETCH_SIZE);
+			statement.setLong(1, surveyId);
+			return statement;
+		}, rs -> {
+			index.index(readDocument(rs));
+		});
+		log.info("🔎 검색 색인 적재 완료: surveyId={}, documents={}, elapsed={}ms",
+			surveyId, index.size(), System.currentTimeMillis() - startedAt);
+		return index;
+	}
+
+	private static SearchDocument readDocument(ResultSet rs) throws SQLException {
+		return new SearchDocument(
+			rs.getLong(1),
+			rs.getLong(2),
+			parseEnum(QuestionType.class, rs.getString(3)),
+			rs.getString(4),
+			rs.getString(5),
+			parseEnum(AnswerValidity.class, rs.getString(6)),
+			parseEnum(AnswerQuality.class, rs.getString(7)),
+			rs.getString(8),
+			rs.getString(9),
+			rs.getString(10));
+	}
+
+	private static <E extends Enum<E>> E parseEnum(Class<E> type, String value) {
+		if (value == null) {
+			return null;
+		}
+		try {
+			return Enum.valueOf(type, value);
+		} catch (IllegalArgumentException e) {
+			return null;
+		}
+	}
+
+	private static void afterCommit(Runnable action) {
+		if (TransactionSynchronizationManager.isSynchronizationActive()) {
+			TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+				@Override
+				public void afterCommit() {
+					action.run();
+				}
+			});
+			return;
+		}
+		action.run();
+	}
+
+	/**
+	 * 적재된 색인과 적재 시각
+	 */
+	private record LoadedIndex(SurveySearchIndex index, long loadedAt) {
+
+		boolean isStale() {
+			return System.currentTimeMillis() - loadedAt >= REBUILD_INTERVAL.toMillis();
+		}
+	}
+}
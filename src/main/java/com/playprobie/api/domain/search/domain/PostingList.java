@@ -0,0 +1,62 @@
+package com.playprobie.api.domain.search.domain;
+
+import java.util.Arrays;
+
+/**
+ * 문서 ID 오름차순 Posting List (delta + varint 압축)
+ * <p>
+ * 문서 ID는 색인 순서대로 증가하므로 append만 지원합니다.
+ * 대부분의 delta가 1바이트로 인코딩되어 int[] 대비 약 1/4 크기를 차지합니다.
+ */
+final class PostingList {
+
+	private static final int INITIAL_CAPACITY = 8;
+
+	private byte[] bytes = new byte[INITIAL_CAPACITY];
+	private int byteLength;
+	private int size;
+	private int lastDocId = -1;
+
+	void add(int docId) {
+		if (docId <= lastDocId) {
+			return; // 같은 문서의 중복 토큰
+		}
+		writeVarint(docId - lastDocId);
+		lastDocId = docId;
+		size++;
+	}
+
+	int size() {
+		return size;
+	}
+
+	int[] toArray() {
+		int[] docIds = new int[size];
+		int position = 0;
+		int docId = -1;
+		for (int i = 0; i < size; i++) {
+			int delta = 0;
+			int shift = 0;
+			byte b;
+			do {
+				b = bytes[position++];
+				delta |= (b & 0x7F) << shift;
+				shift += 7;
+			} while ((b & 0x80) != 0);
+			docId += delta;
+			docIds[i] = docId;
+		}
+		return docIds;
+	}
+
+	private void writeVarint(int value) {
+		if (byteLength + 5 > bytes.length) {
+			bytes = Arrays.copyOf(bytes, bytes.length * 2);
+		}
+		while ((value & ~0x7F) != 0) {
+			bytes[byteLength++] = (byte)((value & 0x7F) | 0x80);
+			value >>>= 7;
+		}
+		bytes[byteLength++] = (byte)value;
+	}
+}
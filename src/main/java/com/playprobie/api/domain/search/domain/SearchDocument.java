@@ -0,0 +1,32 @@
+package com.playprobie.api.domain.search.domain;
+
+import com.playprobie.api.domain.interview.domain.AnswerQuality;
+import com.playprobie.api.domain.interview.domain.AnswerValidity;
+import com.playprobie.api.domain.interview.domain.QuestionType;
+
+/**
+ * 색인 대상 인터뷰 턴 스냅샷
+ *
+ * @param logId           InterviewLog PK
+ * @param fixedQuestionId 고정 질문 ID
+ * @param type            질문 유형
+ * @param questionText    질문 텍스트
+ * @param answerText      답변 텍스트
+ * @param validity        유효성 평가 (미평가 시 null)
+ * @param quality         품질 평가 (미평가 시 null)
+ * @param ageGroup        테스터 연령대
+ * @param gender          테스터 성별
+ * @param preferGenre     테스터 선호 장르
+ */
+public record SearchDocument(
+	long logId,
+	long fixedQuestionId,
+	QuestionType type,
+	String questionText,
+	String answerText,
+	AnswerValidity validity,
+	AnswerQuality quality,
+	String ageGroup,
+	String gender,
+	String preferGenre) {
+}
@@ -0,0 +1,22 @@
+package com.playprobie.api.domain.search.domain;
+
+import com.playprobie.api.domain.interview.domain.AnswerQuality;
+import com.playprobie.api.domain.interview.domain.AnswerValidity;
+import com.playprobie.api.domain.interview.domain.QuestionType;
+
+/**
+ * 검색 필터 (null 필드는 조건 없음)
+ */
+public record SearchFilter(
+	Long fixedQuestionId,
+	QuestionType type,
+	AnswerValidity validity,
+	AnswerQuality quality,
+	String ageGroup,
+	String gender,
+	String preferGenre) {
+
+	public static SearchFilter none() {
+		return new SearchFilter(null, null, null, null, null, null, null);
+	}
+}
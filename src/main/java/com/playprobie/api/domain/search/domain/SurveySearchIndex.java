@@ -0,0 +1,292 @@
+package com.playprobie.api.domain.search.domain;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import com.playprobie.api.domain.interview.domain.AnswerQuality;
+import com.playprobie.api.domain.interview.domain.AnswerValidity;
+import com.playprobie.api.domain.interview.domain.QuestionType;
+
+/**
+ * 설문 단위 인메모리 역색인
+ * <p>
+ * 토큰별 압축 Posting List와 문서별 컬럼형 메타데이터(질문, 유형, 평가, 테스터 프로필)를 보관합니다.
+ * <ul>
+ * <li>문서 ID는 색인 순서로 부여되는 내부 번호이며, 같은 로그를 재색인하면 기존 문서는 삭제 표시 후 새 번호를 받습니다.</li>
+ * <li>평가 결과 변경은 메타데이터 컬럼만 갱신합니다.</li>
+ * </ul>
+ * <b>Thread-safety</b>: ReadWriteLock으로 다중 조회/단일 갱신을 보장합니다.
+ */
+public class SurveySearchIndex {
+
+	private static final int INITIAL_CAPACITY = 256;
+	private static final int NONE = 0; // enum/사전 코드 미지정
+
+	private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+	private final Map<String, PostingList> postings = new HashMap<>();
+	private final Map<Long, Integer> docIdByLogId = new HashMap<>();
+	private final BitSet deleted = new BitSet();
+	private final Dictionary profileDictionary = new Dictionary();
+
+	// 문서별 컬럼 (docId 인덱스)
+	private long[] logIds = new long[INITIAL_CAPACITY];
+	private long[] fixedQuestionIds = new long[INITIAL_CAPACITY];
+	private byte[] types = new byte[INITIAL_CAPACITY];
+	private byte[] validities = new byte[INITIAL_CAPACITY];
+	private byte[] qualities = new byte[INITIAL_CAPACITY];
+	private int[] ageGroups = new int[INITIAL_CAPACITY];
+	private int[] genders = new int[INITIAL_CAPACITY];
+	private int[] genres = new int[INITIAL_CAPACITY];
+	private int docCount;
+
+	/**
+	 * 문서 색인 (같은 logId가 이미 있으면 교체)
+	 */
+	public void index(SearchDocument document) {
+		Set<String> tokens = TextTokenizer.tokenizeForIndex(document.questionText());
+		tokens.addAll(TextTokenizer.tokenizeForIndex(document.answerText()));
+
+		lock.writeLock().lock();
+		try {
+			Integer previous = docIdByLogId.get(document.logId());
+			if (previous != null) {
+				deleted.set(previous);
+			}
+
+			int docId = docCount++;
+			ensureCapacity(docCount);
+			logIds[docId] = document.logId();
+			fixedQuestionIds[docId] = document.fixedQuestionId();
+			types[docId] = code(document.type());
+			validities[docId] = code(document.validity());
+			qualities[docId] = code(document.quality());
+			ageGroups[docId] = profileDictionary.intern(document.ageGroup());
+			genders[docId] = profileDictionary.intern(document.gender());
+			genres[docId] = profileDictionary.intern(document.preferGenre());
+			docIdByLogId.put(document.logId(), docId);
+
+			for (String token : tokens) {
+				postings.computeIfAbsent(token, k -> new PostingList()).add(docId);
+			}
+		} finally {
+			lock.writeLock().unlock();
+		}
+	}
+
+	/**
+	 * 평가 결과 갱신 (색인되지 않은 로그는 무시)
+	 */
+	public void updateEvaluation(long logId, AnswerValidity validity, AnswerQuality quality) {
+		lock.writeLock().lock();
+		try {
+			Integer docId = docIdByLogId.get(logId);
+			if (docId != null) {
+				validities[docId] = code(validity);
+				qualities[docId] = code(quality);
+			}
+		} finally {
+			lock.writeLock().unlock();
+		}
+	}
+
+	/**
+	 * 텍스트(AND) + 필터 검색
+	 *
+	 * @param query  검색어 (null/공백이면 필터만 적용, 검색 가능한 토큰이 없는 검색어는 결과 없음)
+	 * @param filter 메타데이터 필터
+	 * @param limit  반환할 최대 로그 수 (최신순)
+	 */
+	public SearchResult search(String query, SearchFilter filter, int limit) {
+		Set<String> terms = TextTokenizer.tokenizeForQuery(query);
+		if (terms.isEmpty() && query != null && !query.isBlank()) {
+			// "?", "a"처럼 토큰으로 남지 않는 검색어를 전체 조회로 취급하지 않음
+			return new SearchResult(0, List.of());
+		}
+
+		lock.readLock().lock();
+		try {
+			int[] candidates = candidates(terms);
+			CompiledFilter compiled = compile(filter);
+
+			int total = 0;
+			long[] hits = new long[Math.max(limit, 0)];
+			int hitCount = 0;
+			// 최신 문서(큰 docId)부터 순회
+			for (int i = (candidates == null ? docCount : candidates.length) - 1; i >= 0; i--) {
+				int docId = candidates == null ? i : candidates[i];
+				if (deleted.get(docId) || !compiled.matches(docId)) {
+					continue;
+				}
+				if (hitCount < hits.length) {
+					hits[hitCount++] = logIds[docId];
+				}
+				total++;
+			}
+			return new SearchResult(total, Arrays.stream(hits, 0, hitCount).boxed().toList());
+		} finally {
+			lock.readLock().unlock();
+		}
+	}
+
+	public int size() {
+		lock.readLock().lock();
+		try {
+			return docCount - deleted.cardinality();
+		} finally {
+			lock.readLock().unlock();
+		}
+	}
+
+	/**
+	 * 검색어 토큰들의 Posting List 교집합 (토큰이 없으면 null = 전체 문서, 검색어가 비어 있을 때만 해당)
+	 */
+	private int[] candidates(Set<String> terms) {
+		if (terms.isEmpty()) {
+			return null;
+		}
+		List<PostingList> lists = new ArrayList<>(terms.size());
+		for (String term : terms) {
+			PostingList list = postings.get(term);
+			if (list == null) {
+				return new int[0];
+			}
+			lists.add(list);
+		}
+		lists.sort(Comparator.comparingInt(PostingList::size));
+
+		int[] result = lists.get(0).toArray();
+		for (int i = 1; i < lists.size() && result.length > 0; i++) {
+			result = intersect(result, lists.get(i).toArray());
+		}
+		return result;
+	}
+
+	private static int[] intersect(int[] left, int[] right) {
+		int[] result = new int[Math.min(left.length, right.length)];
+		int count = 0;
+		int i = 0;
+		int j = 0;
+		while (i < left.length && j < right.length) {
+			if (left[i] == right[j]) {
+				result[count++] = left[i];
+				i++;
+				j++;
+			} else if (left[i] < right[j]) {
+				i++;
+			} else {
+				j++;
+			}
+		}
+		return Arrays.copyOf(result, count);
+	}
+
+	private CompiledFilter compile(SearchFilter filter) {
+		SearchFilter f = filter != null ? filter : SearchFilter.none();
+		return new CompiledFilter(
+			f.fixedQuestionId(),
+			f.type() != null ? code(f.type()) : NONE,
+			f.validity() != null ? code(f.validity()) : NONE,
+			f.quality() != null ? code(f.quality()) : NONE,
+			lookup(f.ageGroup()),
+			lookup(f.gender()),
+			lookup(f.preferGenre()));
+	}
+
+	/**
+	 * 필터 값 → 사전 코드 (미지정: NONE, 사전에 없음: -1)
+	 */
+	private int lookup(String value) {
+		if (value == null || value.isBlank()) {
+			return NONE;
+		}
+		return profileDictionary.codeOf(value);
+	}
+
+	private void ensureCapacity(int required) {
+		if (required <= logIds.length) {
+			return;
+		}
+		int capacity = Math.max(required, logIds.length * 2);
+		logIds = Arrays.copyOf(logIds, capacity);
+		fixedQuestionIds = Arrays.copyOf(fixedQuestionIds, capacity);
+		types = Arrays.copyOf(types, capacity);
+		validities = Arrays.copyOf(validities, capacity);
+		qualities = Arrays.copyOf(qualities, capacity);
+		ageGroups = Arrays.copyOf(ageGroups, capacity);
+		genders = Arrays.copyOf(genders, capacity);
+		genres = Arrays.copyOf(genres, capacity);
+	}
+
+	private static byte code(Enum<?> value) {
+		return value == null ? NONE : (byte)(value.ordinal() + 1);
+	}
+
+	/**
+	 * 검색 결과
+	 *
+	 * @param total  조건을 만족하는 전체 로그 수
+	 * @param logIds 최신순 상위 로그 ID
+	 */
+	public record SearchResult(int total, List<Long> logIds) {
+	}
+
+	private final class CompiledFilter {
+
+		private final Long fixedQuestionId;
+		private final int type;
+		private final int validity;
+		private final int quality;
+		private final int ageGroup;
+		private final int gender;
+		private final int genre;
+
+		CompiledFilter(Long fixedQuestionId, int type, int validity, int quality, int ageGroup, int gender,
+			int genre) {
+			this.fixedQuestionId = fixedQuestionId;
+			this.type = type;
+			this.validity = validity;
+			this.quality = quality;
+			this.ageGroup = ageGroup;
+			this.gender = gender;
+			this.genre = genre;
+		}
+
+		boolean matches(int docId) {
+			return (fixedQuestionId == null || fixedQuestionIds[docId] == fixedQuestionId)
+				&& (type == NONE || types[docId] == type)
+				&& (validity == NONE || validities[docId] == validity)
+				&& (quality == NONE || qualities[docId] == quality)
+				&& (ageGroup == NONE || ageGroups[docId] == ageGroup)
+				&& (gender == NONE || genders[docId] == gender)
+				&& (genre == NONE || genres[docId] == genre);
+		}
+	}
+
+	/**
+	 * 프로필 문자열 ↔ 정수 코드 사전 (0은 값 없음)
+	 */
+	private static final class Dictionary {
+
+		private final Map<String, Integer> codes = new HashMap<>();
+
+		int intern(String value) {
+			if (value == null || value.isBlank()) {
+				return NONE;
+			}
+			return codes.computeIfAbsent(value, k -> codes.size() + 1);
+		}
+
+		int codeOf(String value) {
+			return codes.getOrDefault(value, -1);
+		}
+	}
+}
@@ -0,0 +1,89 @@
+package com.playprobie.api.domain.search.domain;
+
+import java.text.Normalizer;
+import java.util.LinkedHashSet;
+import java.util.Locale;
+import java.util.Set;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+/**
+ * 한국어/영어 혼합 텍스트 토크나이저
+ * <p>
+ * <ul>
+ * <li>영문/숫자: 소문자 단어 단위 (영문은 2자 이상)</li>
+ * <li>한글: 형태소 분석 없이 음절 bigram (색인 시 unigram도 함께 생성)</li>
+ * </ul>
+ * 질의는 bigram만 사용하고, 한 글자 한글 질의만 unigram으로 검색합니다.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class TextTokenizer {
+
+	/**
+	 * 색인용 토큰 (한글 unigram + bigram)
+	 */
+	public static Set<String> tokenizeForIndex(String text) {
+		return tokenize(text, true);
+	}
+
+	/**
+	 * 질의용 토큰 (한글 bigram, 한 글자일 때만 unigram)
+	 */
+	public static Set<String> tokenizeForQuery(String text) {
+		return tokenize(text, false);
+	}
+
+	private static Set<String> tokenize(String text, boolean indexing) {
+		Set<String> tokens = new LinkedHashSet<>();
+		if (text == null || text.isBlank()) {
+			return tokens;
+		}
+
+		String normalized = Normalizer.normalize(text, Normalizer.Form.NFC).toLowerCase(Locale.ROOT);
+		int length = normalized.length();
+		int i = 0;
+		while (i < length) {
+			char c = normalized.charAt(i);
+			if (isHangul(c)) {
+				int end = i;
+				while (end < length && isHangul(normalized.charAt(end))) {
+					end++;
+				}
+				addHangulTokens(normalized, i, end, indexing, tokens);
+				i = end;
+			} else if (Character.isLetterOrDigit(c)) {
+				int end = i;
+				while (end < length && Character.isLetterOrDigit(normalized.charAt(end))
+					&& !isHangul(normalized.charAt(end))) {
+					end++;
+				}
+				String word = normalized.substring(i, end);
+				if (word.length() >= 2 || Character.isDigit(c)) {
+					tokens.add(word);
+				}
+				i = end;
+			} else {
+				i++;
+			}
+		}
+		return tokens;
+	}
+
+	private static void addHangulTokens(String text, int start, int end, boolean indexing, Set<String> tokens) {
+		int runLength = end - start;
+		if (runLength == 1 || indexing) {
+			for (int i = start; i < end; i++) {
+				tokens.add(String.valueOf(text.charAt(i)));
+			}
+		}
+		for (int i = start; i + 1 < end; i++) {
+			tokens.add(text.substring(i, i + 2));
+		}
+	}
+
+	private static boolean isHangul(char c) {
+		return (c >= '가' && c <= '힣') // 완성형 음절
+			|| (c >= 'ㄱ' && c <= 'ㆎ'); // 호환 자모 (ㅋㅋ, ㅇㅇ 등)
+	}
+}
@@ -0,0 +1,45 @@
+package com.playprobie.api.domain.search.dto;
+
+import java.util.List;
+import java.util.UUID;
+
+import com.fasterxml.jackson.databind.PropertyNamingStrategies;
+import com.fasterxml.jackson.databind.annotation.JsonNaming;
+import com.playprobie.api.domain.interview.domain.InterviewLog;
+
+/**
+ * 인터뷰 응답 검색 결과
+ *
+ * @param total 조건을 만족하는 전체 턴 수
+ * @param hits  최신순 상위 결과
+ */
+@JsonNaming(PropertyNamingStrategies.SnakeCaseStrategy.class)
+public record InterviewSearchResponse(
+	int total,
+	List<Hit> hits) {
+
+	@JsonNaming(PropertyNamingStrategies.SnakeCaseStrategy.class)
+	public record Hit(
+		UUID sessionUuid,
+		Long fixedQuestionId,
+		Integer turnNum,
+		String qType,
+		String questionText,
+		String answerText,
+		String validity,
+		String quality) {
+
+		public static Hit from(InterviewLog log) {
+			var analysis = log.getAnalysis();
+			return new Hit(
+				log.getSession().getUuid(),
+				log.getFixedQuestionId(),
+				log.getTurnNum(),
+				log.getType() != null ? log.getType().name() : null,
+				log.getQuestionText(),
+				log.getAnswerText(),
+				analysis != null && analysis.getValidity() != null ? analysis.getValidity().name() : null,
+				analysis != null && analysis.getQuality() != null ? analysis.getQuality().name() : null);
+		}
+	}
+}
@@ -14,6 +14,7 @@ import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
 import lombok.AccessLevel;
 import lombok.Builder;
@@ -33,7 +34,8 @@ import lombok.NoArgsConstructor;
 public class CapacityChangeRequest extends BaseTimeEntity {
 
 	@Id
-	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	@GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "capacity_change_request_seq")
+	@SequenceGenerator(name = "capacity_change_request_seq", sequenceName = "capacity_change_request_seq")
 	private Long id;
 
 	@ManyToOne(fetch = FetchType.LAZY)
@@ -10,6 +10,7 @@ import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.Index;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
 import lombok.AccessLevel;
 import lombok.Builder;
@@ -31,7 +32,8 @@ import lombok.NoArgsConstructor;
 public class SelfHealingLog extends BaseTimeEntity {
 
 	@Id
-	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	@GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "self_healing_log_seq")
+	@SequenceGenerator(name = "self_healing_log_seq", sequenceName = "self_healing_log_seq")
 	private Long id;
 
 	@Column(name = "resource_id", nullable = false, unique = true)
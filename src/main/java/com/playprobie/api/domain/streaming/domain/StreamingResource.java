@@ -17,6 +17,7 @@ import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.OneToOne;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
 import jakarta.persistence.Version;
 import lombok.AccessLevel;
@@ -41,7 +42,8 @@ public class StreamingResource extends BaseTimeEntity {
 	private java.util.UUID uuid = java.util.UUID.randomUUID();
 
 	@Id
-	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	@GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "streaming_resource_seq")
+	@SequenceGenerator(name = "streaming_resource_seq", sequenceName = "streaming_resource_seq")
 	@Column(name = "resource_id")
 	private Long id;
 
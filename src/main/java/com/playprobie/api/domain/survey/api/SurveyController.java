@@ -10,6 +10,7 @@ import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
@@ -23,7 +24,9 @@ import com.playprobie.api.domain.survey.dto.QuestionFeedbackRequest;
 import com.playprobie.api.domain.survey.dto.QuestionFeedbackResponse;
 import com.playprobie.api.domain.survey.dto.request.AiQuestionsRequest;
 import com.playprobie.api.domain.survey.dto.request.CreateSurveyRequest;
+import com.playprobie.api.domain.survey.dto.request.UpdateInsightThresholdsRequest;
 import com.playprobie.api.domain.survey.dto.request.UpdateSurveyStatusRequest;
+import com.playprobie.api.domain.survey.dto.response.InsightThresholdsResponse;
 import com.playprobie.api.domain.survey.dto.response.SurveyResponse;
 import com.playprobie.api.domain.survey.dto.response.UpdateSurveyStatusResponse;
 import com.playprobie.api.domain.user.domain.User;
@@ -131,4 +134,17 @@ public class SurveyController {
 		UpdateSurveyStatusResponse response = surveyService.updateSurveyStatus(surveyUuid, request, user);
 		return ResponseEntity.ok(CommonResponse.of(response));
 	}
+
+	@PutMapping("/{surveyUuid}/insight-thresholds")
+	@Operation(summary = "인사이트 탐지 임계값 변경", description = "리플레이 인사이트 탐지기 임계값을 설문별로 덮어씁니다. 이후 시작하는 세션부터 적용됩니다.")
+	public ResponseEntity<CommonResponse<InsightThresholdsResponse>> updateInsightThresholds(
+		@AuthenticationPrincipal(expression = "user")
+		User user,
+		@PathVariable(name = "surveyUuid")
+		UUID surveyUuid,
+		@Valid @RequestBody
+		UpdateInsightThresholdsRequest request) {
+		InsightThresholdsResponse response = surveyService.updateInsightThresholds(surveyUuid, request, user);
+		return ResponseEntity.ok(CommonResponse.of(response));
+	}
 }
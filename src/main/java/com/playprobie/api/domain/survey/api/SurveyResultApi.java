@@ -3,15 +3,22 @@ package com.playprobie.api.domain.survey.api;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import com.playprobie.api.domain.user.domain.User;
 
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import com.playprobie.api.domain.interview.domain.SessionStatus;
+import com.playprobie.api.domain.survey.application.SurveyResultExportService;
 import com.playprobie.api.domain.survey.application.SurveyResultService;
+import com.playprobie.api.domain.survey.domain.Survey;
+import com.playprobie.api.domain.survey.dto.SurveyResultExportFormat;
 import com.playprobie.api.domain.survey.dto.SurveyResultDetailResponse;
 import com.playprobie.api.domain.survey.dto.SurveyResultListResponse;
 import com.playprobie.api.domain.survey.dto.SurveyResultSummaryResponse;
@@ -28,6 +35,7 @@ import lombok.RequiredArgsConstructor;
 public class SurveyResultApi {
 
 	private final SurveyResultService surveyResultService;
+	private final SurveyResultExportService surveyResultExportService;
 
 	@GetMapping("/{surveyUuid}")
 	@Operation(summary = "설문 결과 요약 조회", description = "설문별 설문 결과 요약 통계를 조회합니다.")
@@ -68,4 +76,31 @@ public class SurveyResultApi {
 		return ResponseEntity
 			.ok(CommonResponse.of(surveyResultService.getResponseDetails(surveyUuid, sessionUuid, user)));
 	}
+
+	@GetMapping("/{surveyUuid}/export")
+	@Operation(summary = "설문 응답 내보내기", description = "설문의 모든 세션/턴 응답과 유효성·품질 평가를 CSV 또는 NDJSON으로 스트리밍합니다.")
+	public ResponseEntity<StreamingResponseBody> exportResponses(
+		@AuthenticationPrincipal(expression = "user")
+		User user,
+		@PathVariable
+		java.util.UUID surveyUuid,
+		@RequestParam(defaultValue = "CSV")
+		SurveyResultExportFormat format,
+		@RequestParam(required = false)
+		SessionStatus status,
+		@RequestParam(defaultValue = "false")
+		boolean gzip) {
+		Survey survey = surveyResultExportService.getExportableSurvey(surveyUuid, user);
+		Long surveyId = survey.getId();
+
+		String filename = "survey-" + surveyUuid + "." + format.getExtension() + (gzip ? ".gz" : "");
+		MediaType contentType = gzip ? MediaType.parseMediaType("application/gzip") : format.getMediaType();
+
+		StreamingResponseBody body = out -> surveyResultExportService.export(surveyId, status, format, gzip, out);
+		return ResponseEntity.ok()
+			.contentType(contentType)
+			.header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment().filename(filename).build()
+				.toString())
+			.body(body);
+	}
 }
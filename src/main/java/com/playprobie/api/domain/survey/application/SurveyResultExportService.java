@@ -0,0 +1,261 @@
+package com.playprobie.api.domain.survey.application;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.UUID;
+import java.util.zip.GZIPOutputStream;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.playprobie.api.domain.interview.domain.SessionStatus;
+import com.playprobie.api.domain.survey.dao.SurveyRepository;
+import com.playprobie.api.domain.survey.domain.Survey;
+import com.playprobie.api.domain.survey.dto.SurveyResultExportFormat;
+import com.playprobie.api.domain.user.domain.User;
+import com.playprobie.api.domain.workspace.application.WorkspaceSecurityManager;
+import com.playprobie.api.global.error.exception.EntityNotFoundException;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 설문 응답 대량 내보내기 (CSV / NDJSON)
+ * <p>
+ * 세션 × 턴 단위 행을 forward-only JDBC 커서로 읽어 응답 스트림에 바로 기록합니다.
+ * 엔티티나 전체 결과를 메모리에 적재하지 않으므로 응답 수와 무관하게 힙 사용량이 일정합니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class SurveyResultExportService {
+
+	private static final int FETCH_SIZE = 1000;
+	private static final byte[] UTF8_BOM = {(byte)0xEF, (byte)0xBB, (byte)0xBF};
+
+	private static final String EXPORT_SQL = """
+		SELECT s.session_uuid, s.status, s.started_at, s.ended_at,
+			s.tester_id, s.tester_age_group, s.tester_gender, s.tester_prefer_genre,
+			l.fixed_q_id, l.turn_num, l.q_type, l.question_text, l.answer_text,
+			l.validity, l.quality, l.created_at
+		FROM survey_session s
+		JOIN interview_log l ON l.session_id = s.session_id
+		WHERE s.survey_id = ?
+		%s
+		ORDER BY s.session_id, l.fixed_q_id, l.turn_num
+		""";
+	private static final String STATUS_CONDITION = "AND s.status = ?";
+
+	private static final String[] COLUMNS = {
+		"session_uuid", "status", "started_at", "ended_at",
+		"tester_id", "age_group", "gender", "prefer_genre",
+		"fixed_question_id", "turn_num", "q_type", "question_text", "answer_text",
+		"validity", "quality", "answered_at"
+	};
+
+	private final SurveyRepository surveyRepository;
+	private final WorkspaceSecurityManager securityManager;
+	private final JdbcTemplate jdbcTemplate;
+	private final ObjectMapper objectMapper;
+
+	/**
+	 * 내보내기 대상 설문 조회 및 권한 검증
+	 * <p>
+	 * 스트리밍 시작 전(요청 스레드)에 호출하여 오류를 일반 응답으로 반환할 수 있도록 합니다.
+	 */
+	@Transactional(readOnly = true)
+	public Survey getExportableSurvey(UUID surveyUuid, User user) {
+		Survey survey = surveyRepository.findByUuid(surveyUuid)
+			.orElseThrow(EntityNotFoundException::new);
+		securityManager.validateReadAccess(survey.getGame().getWorkspace(), user);
+		return survey;
+	}
+
+	/**
+	 * 설문 응답을 지정한 형식으로 출력 스트림에 기록
+	 *
+	 * @param surveyId 설문 PK
+	 * @param status   세션 상태 필터 (null이면 전체)
+	 * @param format   출력 형식
+	 * @param gzip     gzip 압축 여부
+	 * @param out      응답 출력 스트림
+	 */
+	public void export(Long surveyId, SessionStatus status, SurveyResultExportFormat format, boolean gzip,
+		OutputStream out) throws IOException {
+		long startedAt = System.currentTimeMillis();
+		OutputStream target = gzip ? new GZIPOutputStream(out, 64 * 1024) : out;
+		Writer writer = new BufferedWriter(new OutputStreamWriter(target, StandardCharsets.UTF_8), 64 * 1024);
+
+		RowWriter rowWriter = switch (format) {
+			case CSV -> {
+				target.write(UTF8_BOM); // Excel 한글 인코딩 인식용
+				yield new CsvRowWriter(writer);
+			}
+			case NDJSON -> new NdjsonRowWriter(objectMapper.getFactory().createGenerator(writer));
+		};
+
+		String sql = EXPORT_SQL.formatted(status != null ? STATUS_CONDITION : "");
+		long[] rowCount = {0};
+		try {
+			jdbcTemplate.query(connection -> {
+				var statement = connection.prepareStatement(sql, ResultSet.TYPE_FORWARD_ONLY,
+					ResultSet.CONCUR_READ_ONLY);
+				statement.setFetchSize(FETCH_SIZE);
+				statement.setLong(1, surveyId);
+				if (status != null) {
+					statement.setString(2, status.name());
+				}
+				return statement;
+			}, rs -> {
+				try {
+					rowWriter.write(rs);
+					rowCount[0]++;
+				} catch (IOException e) {
+					throw new UncheckedIOException(e);
+				}
+			});
+		} catch (UncheckedIOException e) {
+			// 클라이언트 연결 종료 등 출력 실패
+			throw e.getCause();
+		}
+
+		rowWriter.finish();
+		writer.flush();
+		if (target instanceof GZIPOutputStream gzipStream) {
+			gzipStream.finish();
+		}
+		out.flush();
+
+		log.info("📤 설문 응답 내보내기 완료: surveyId={}, format={}, gzip={}, rows={}, elapsed={}ms",
+			surveyId, format, gzip, rowCount[0], System.currentTimeMillis() - startedAt);
+	}
+
+	private interface RowWriter {
+
+		void write(ResultSet rs) throws SQLException, IOException;
+
+		void finish() throws IOException;
+	}
+
+	/**
+	 * RFC 4180 CSV 행 기록
+	 */
+	private static final class CsvRowWriter implements RowWriter {
+
+		private final Writer writer;
+
+		CsvRowWriter(Writer writer) throws IOException {
+			this.writer = writer;
+			writer.write(String.join(",", COLUMNS));
+			writer.write("\r\n");
+		}
+
+		@Override
+		public void write(ResultSet rs) throws SQLException, IOException {
+			writeField(readUuid(rs, 1));
+			for (int column = 2; column <= COLUMNS.length; column++) {
+				writer.write(',');
+				writeField(readString(rs, column));
+			}
+			writer.write("\r\n");
+		}
+
+		@Override
+		public void finish() {
+			// 별도 종료 처리 없음
+		}
+
+		private void writeField(String value) throws IOException {
+			if (value == null) {
+				return;
+			}
+			boolean quote = value.indexOf(',') >= 0 || value.indexOf('"') >= 0
+				|| value.indexOf('\n') >= 0 || value.indexOf('\r') >= 0;
+			if (!quote) {
+				writer.write(value);
+				return;
+			}
+			writer.write('"');
+			writer.write(value.replace("\"", "\"\""));
+			writer.write('"');
+		}
+	}
+
+	/**
+	 * 한 줄에 한 JSON 객체(NDJSON) 기록
+	 */
+	private static final class NdjsonRowWriter implements RowWriter {
+
+		private final JsonGenerator generator;
+
+		NdjsonRowWriter(JsonGenerator generator) {
+			this.generator = generator;
+			generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+			generator.setRootValueSeparator(null); // 줄 구분은 직접 기록
+		}
+
+		@Override
+		public void write(ResultSet rs) throws SQLException, IOException {
+			generator.writeStartObject();
+			generator.writeStringField(COLUMNS[0], readUuid(rs, 1));
+			for (int column = 2; column <= COLUMNS.length; column++) {
+				String name = COLUMNS[column - 1];
+				if (column == 9 || column == 10) {
+					long value = rs.getLong(column);
+					if (rs.wasNull()) {
+						generator.writeNullField(name);
+					} else {
+						generator.writeNumberField(name, value);
+					}
+				} else {
+					generator.writeStringField(name, readString(rs, column));
+				}
+			}
+			generator.writeEndObject();
+			generator.writeRaw('\n');
+		}
+
+		@Override
+		public void finish() throws IOException {
+			generator.flush();
+		}
+	}
+
+	private static String readString(ResultSet rs, int column) throws SQLException {
+		Object value = rs.getObject(column);
+		if (value == null) {
+			return null;
+		}
+		if (value instanceof Timestamp timestamp) {
+			return timestamp.toLocalDateTime().toString();
+		}
+		return value.toString();
+	}
+
+	/**
+	 * DB별 UUID 컬럼 표현(UUID 타입, BINARY(16), 문자열)을 문자열로 통일
+	 */
+	private static String readUuid(ResultSet rs, int column) throws SQLException {
+		Object value = rs.getObject(column);
+		if (value == null) {
+			return null;
+		}
+		if (value instanceof byte[] bytes && bytes.length == 16) {
+			ByteBuffer buffer = ByteBuffer.wrap(bytes);
+			return new UUID(buffer.getLong(), buffer.getLong()).toString();
+		}
+		return value.toString();
+	}
+}
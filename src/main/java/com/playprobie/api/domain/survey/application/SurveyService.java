@@ -12,6 +12,7 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.playprobie.api.domain.game.application.GameService;
 import com.playprobie.api.domain.game.dao.GameRepository;
 import com.playprobie.api.domain.game.domain.Game;
+import com.playprobie.api.domain.replay.application.InputLogAnalyzer;
 import com.playprobie.api.domain.streaming.application.StreamingResourceManager;
 import com.playprobie.api.domain.streaming.application.StreamingTestManager;
 import com.playprobie.api.domain.streaming.dto.TestActionResponse;
@@ -29,7 +30,9 @@ import com.playprobie.api.domain.survey.dto.QuestionFeedbackRequest;
 import com.playprobie.api.domain.survey.dto.QuestionFeedbackResponse;
 import com.playprobie.api.domain.survey.dto.request.AiQuestionsRequest;
 import com.playprobie.api.domain.survey.dto.request.CreateSurveyRequest;
+import com.playprobie.api.domain.survey.dto.request.UpdateInsightThresholdsRequest;
 import com.playprobie.api.domain.survey.dto.request.UpdateSurveyStatusRequest;
+import com.playprobie.api.domain.survey.dto.response.InsightThresholdsResponse;
 import com.playprobie.api.domain.survey.dto.response.SurveyResponse;
 import com.playprobie.api.domain.survey.dto.response.UpdateSurveyStatusResponse;
 import com.playprobie.api.domain.user.domain.User;
@@ -57,6 +60,7 @@ public class SurveyService {
 	private final AiClient aiClient;
 	private final WorkspaceSecurityManager securityManager;
 	private final ObjectMapper objectMapper;
+	private final InputLogAnalyzer inputLogAnalyzer;
 
 	// ========== Survey CRUD ==========
 
@@ -151,6 +155,23 @@ public class SurveyService {
 		return new UpdateSurveyStatusResponse(surveyUuid, survey.getStatus().name(), streamingAction);
 	}
 
+	/**
+	 * 리플레이 인사이트 탐지 임계값 변경 (이후 시작하는 세션부터 적용)
+	 */
+	@Transactional
+	public InsightThresholdsResponse updateInsightThresholds(UUID surveyUuid, UpdateInsightThresholdsRequest request,
+		User user) {
+		Survey survey = surveyRepository.findByUuid(surveyUuid)
+			.orElseThrow(EntityNotFoundException::new);
+
+		securityManager.validateWriteAccess(survey.getGame().getWorkspace(), user);
+
+		inputLogAnalyzer.validateThresholds(request.thresholds());
+		survey.updateInsightThresholds(request.thresholds());
+
+		return new InsightThresholdsResponse(surveyUuid, inputLogAnalyzer.resolveThresholds(request.thresholds()));
+	}
+
 	// ========== AI & Questions ==========
 
 	public List<String> generateAiQuestions(AiQuestionsRequest request, User user) {
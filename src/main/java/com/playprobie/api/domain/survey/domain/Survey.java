@@ -4,6 +4,7 @@ import java.time.LocalDateTime;
 import java.util.Objects;
 
 import com.playprobie.api.domain.game.domain.Game;
+import com.playprobie.api.global.converter.IntegerMapConverter;
 import com.playprobie.api.global.converter.StringListConverter;
 import com.playprobie.api.global.converter.ThemeDetailsMapConverter;
 import com.playprobie.api.global.domain.BaseTimeEntity;
@@ -20,6 +21,7 @@ import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.Lob;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
 import lombok.AccessLevel;
 import lombok.Builder;
@@ -33,7 +35,8 @@ import lombok.NoArgsConstructor;
 public class Survey extends BaseTimeEntity {
 
 	@Id
-	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	@GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "survey_seq")
+	@SequenceGenerator(name = "survey_seq", sequenceName = "survey_seq")
 	@Column(name = "survey_id")
 	private Long id;
 
@@ -83,6 +86,11 @@ public class Survey extends BaseTimeEntity {
 	@Column(name = "survey_summary", columnDefinition = "TEXT")
 	private String surveySummary;
 
+	// 리플레이 인사이트 탐지 임계값 (키: "탐지기.항목", 없으면 탐지기 기본값)
+	@Convert(converter = IntegerMapConverter.class)
+	@Column(name = "insight_thresholds", columnDefinition = "TEXT")
+	private java.util.Map<String, Integer> insightThresholds;
+
 	@Builder
 	public Survey(Game game, String name, TestPurpose testPurpose, LocalDateTime startAt, LocalDateTime endAt,
 		TestStage testStage, java.util.List<String> themePriorities,
@@ -131,6 +139,13 @@ public class Survey extends BaseTimeEntity {
 		this.surveySummary = summary;
 	}
 
+	/**
+	 * 인사이트 탐지 임계값을 교체합니다 (이후 시작하는 세션부터 적용).
+	 */
+	public void updateInsightThresholds(java.util.Map<String, Integer> insightThresholds) {
+		this.insightThresholds = insightThresholds;
+	}
+
 	/**
 	 * 설문을 활성화합니다 (ACTIVE 상태로 변경).
 	 */
@@ -0,0 +1,19 @@
+package com.playprobie.api.domain.survey.dto;
+
+import org.springframework.http.MediaType;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 설문 응답 내보내기 형식
+ */
+@Getter
+@RequiredArgsConstructor
+public enum SurveyResultExportFormat {
+	CSV("csv", new MediaType("text", "csv", java.nio.charset.StandardCharsets.UTF_8)),
+	NDJSON("ndjson", MediaType.APPLICATION_NDJSON);
+
+	private final String extension;
+	private final MediaType mediaType;
+}
@@ -0,0 +1,15 @@
+package com.playprobie.api.domain.survey.dto.request;
+
+import java.util.Map;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotNull;
+
+@Schema(description = "인사이트 탐지 임계값 변경 요청 DTO")
+public record UpdateInsightThresholdsRequest(
+
+	@Schema(description = "덮어쓸 임계값 (키: 탐지기.항목, 빈 객체면 모두 기본값)", example = "{\"panic.window_ms\": 400, \"idle.gap_ms\": 15000}") @NotNull(message = "임계값은 필수입니다.") @JsonProperty("thresholds")
+	Map<String, Integer> thresholds) {
+}
@@ -0,0 +1,18 @@
+package com.playprobie.api.domain.survey.dto.response;
+
+import java.util.Map;
+import java.util.UUID;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "인사이트 탐지 임계값 응답 DTO")
+public record InsightThresholdsResponse(
+
+	@Schema(description = "설문 UUID", example = "550e8400-e29b-41d4-a716-446655440000") @JsonProperty("survey_uuid")
+	UUID surveyUuid,
+
+	@Schema(description = "적용되는 전체 임계값 (설문 값이 없으면 기본값)") @JsonProperty("thresholds")
+	Map<String, Integer> thresholds) {
+}
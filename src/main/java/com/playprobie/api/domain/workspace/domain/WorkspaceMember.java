@@ -13,6 +13,7 @@ import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
 import jakarta.persistence.UniqueConstraint;
 import lombok.AccessLevel;
@@ -29,7 +30,8 @@ import lombok.NoArgsConstructor;
 public class WorkspaceMember extends BaseTimeEntity {
 
 	@Id
-	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	@GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "workspace_member_seq")
+	@SequenceGenerator(name = "workspace_member_seq", sequenceName = "workspace_member_seq")
 	@Column(name = "member_id")
 	private Long id;
 
@@ -0,0 +1,85 @@
+package com.playprobie.api.global.config;
+
+import java.sql.DatabaseMetaData;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Locale;
+
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * analysis_tag.insight_type 컬럼 타입 보정.
+ *
+ * <p>
+ * Hibernate 6는 {@code @Enumerated(STRING)} 컬럼을 MariaDB/H2에서 네이티브 {@code enum('IDLE','PANIC')}로 생성했고,
+ * ddl-auto: update는 기존 컬럼 타입을 변경하지 않아 이후 추가된 인사이트 유형(RAGE_CLICK 등)의 INSERT가 실패합니다.
+ *
+ * <p>
+ * 엔티티는 이제 VARCHAR로 매핑하며, 모든 싱글톤 생성 직후(웹 서버/스케줄러 시작 전)에 기존 컬럼이 enum이면
+ * {@code VARCHAR(20)}으로 변경합니다. 변경 후에도 enum이면 기동을 중단합니다.
+ * 이미 VARCHAR인 경우 아무 작업도 하지 않으므로 다중 인스턴스 환경에서도 안전합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AnalysisTagInsightTypeColumnInitializer implements SmartInitializingSingleton {
+
+	static final String TABLE = "analysis_tag";
+	static final String COLUMN = "insight_type";
+
+	private static final String MYSQL_ALTER_SQL =
+		"ALTER TABLE " + TABLE + " MODIFY " + COLUMN + " VARCHAR(20) NOT NULL";
+	private static final String H2_ALTER_SQL =
+		"ALTER TABLE " + TABLE + " ALTER COLUMN " + COLUMN + " SET DATA TYPE VARCHAR(20)";
+
+	private final JdbcTemplate jdbcTemplate;
+
+	@Override
+	public void afterSingletonsInstantiated() {
+		ColumnState state = inspect();
+		if (!state.enumType()) {
+			return;
+		}
+		log.warn("Column {}.{} is a native enum. Converting it to VARCHAR(20).", TABLE, COLUMN);
+		try {
+			jdbcTemplate.execute(state.h2() ? H2_ALTER_SQL : MYSQL_ALTER_SQL);
+		} catch (Exception e) {
+			log.warn("Failed to convert {}.{}: {}", TABLE, COLUMN, e.getMessage());
+		}
+		if (inspect().enumType()) {
+			throw new IllegalStateException(
+				"Column " + TABLE + "." + COLUMN + " must be VARCHAR to store every insight type");
+		}
+		log.info("Column {}.{} converted to VARCHAR(20)", TABLE, COLUMN);
+	}
+
+	private ColumnState inspect() {
+		return jdbcTemplate.execute((ConnectionCallback<ColumnState>)connection -> {
+			DatabaseMetaData metaData = connection.getMetaData();
+			boolean h2 = "H2".equalsIgnoreCase(metaData.getDatabaseProductName());
+			// MariaDB는 소문자, H2는 대문자로 식별자를 저장
+			String typeName = typeName(metaData, connection.getCatalog(), TABLE, COLUMN);
+			if (typeName == null) {
+				typeName = typeName(metaData, connection.getCatalog(), TABLE.toUpperCase(Locale.ROOT),
+					COLUMN.toUpperCase(Locale.ROOT));
+			}
+			return new ColumnState(h2, "ENUM".equalsIgnoreCase(typeName));
+		});
+	}
+
+	private static String typeName(DatabaseMetaData metaData, String catalog, String table, String column)
+		throws SQLException {
+		try (ResultSet columns = metaData.getColumns(catalog, null, table, column)) {
+			return columns.next() ? columns.getString("TYPE_NAME") : null;
+		}
+	}
+
+	private record ColumnState(boolean h2, boolean enumType) {
+	}
+}
@@ -21,6 +21,9 @@ import lombok.extern.slf4j.Slf4j;
 @Slf4j
 public class AsyncConfig {
 
+	/** ReplayLogIngestionQueue의 전체 대기 배치 상한과 같은 값 */
+	public static final int REPLAY_INGESTION_QUEUE_CAPACITY = 2048;
+
 	@Bean(name = "taskExecutor")
 	public Executor taskExecutor() {
 		ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
@@ -34,4 +37,23 @@ public class AsyncConfig {
 		log.info("Initialized Async TaskExecutor with QueueCapacity=50");
 		return executor;
 	}
+
+	/**
+	 * 리플레이 입력 로그 수집 워커.
+	 *
+	 * <p>
+	 * 작업 수는 ReplayLogIngestionQueue가 대기 배치 수로 먼저 제한하므로, 큐 용량은 그 상한과 같게 두어 거부가 발생하지 않습니다.
+	 */
+	@Bean(name = "replayIngestionExecutor")
+	public Executor replayIngestionExecutor() {
+		ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+		executor.setCorePoolSize(4);
+		executor.setMaxPoolSize(4);
+		executor.setQueueCapacity(REPLAY_INGESTION_QUEUE_CAPACITY);
+		executor.setThreadNamePrefix("Replay-Ingest-");
+		executor.setWaitForTasksToCompleteOnShutdown(true);
+		executor.setAwaitTerminationSeconds(30);
+		executor.initialize();
+		return executor;
+	}
 }
@@ -0,0 +1,69 @@
+package com.playprobie.api.global.config;
+
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.id.enhanced.DatabaseStructure;
+import org.hibernate.id.enhanced.SequenceStyleGenerator;
+import org.hibernate.persister.entity.AbstractEntityPersister;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 엔티티 ID 시퀀스 정렬.
+ *
+ * <p>
+ * 엔티티 ID를 IDENTITY에서 pooled 시퀀스(allocationSize 50)로 전환하면서, 기존 AUTO_INCREMENT 데이터가 있는
+ * 테이블에 새로 생성된 시퀀스가 1부터 시작해 PK가 충돌하는 것을 방지합니다.
+ *
+ * <p>
+ * 모든 싱글톤 생성 직후(웹 서버/스케줄러 시작 전)에 시퀀스별로 다음 블록이 기존 최대 ID보다 뒤에 있는지 확인하고,
+ * 그렇지 않은 경우에만 {@code ALTER SEQUENCE ... RESTART WITH}로 이동합니다.
+ * 확인 과정에서 블록 하나를 소비하므로, 이미 정렬된 시퀀스를 다른 인스턴스가 되돌리지 않습니다.
+ * ({@code NEXT VALUE FOR}, {@code ALTER SEQUENCE}는 MariaDB 10.3+와 H2에서 동일하게 동작합니다.)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class IdSequenceInitializer implements SmartInitializingSingleton {
+
+	private final EntityManagerFactory entityManagerFactory;
+	private final JdbcTemplate jdbcTemplate;
+
+	@Override
+	public void afterSingletonsInstantiated() {
+		SessionFactoryImplementor sessionFactory = entityManagerFactory.unwrap(SessionFactoryImplementor.class);
+		sessionFactory.getMappingMetamodel().forEachEntityDescriptor(persister -> {
+			if (persister.getGenerator() instanceof SequenceStyleGenerator generator
+				&& persister instanceof AbstractEntityPersister entityPersister) {
+				align(generator.getDatabaseStructure(), entityPersister.getTableName(),
+					entityPersister.getIdentifierColumnNames()[0]);
+			}
+		});
+	}
+
+	private void align(DatabaseStructure structure, String table, String idColumn) {
+		String sequence = structure.getPhysicalName().render();
+		int incrementSize = structure.getIncrementSize();
+		try {
+			Long maxId = jdbcTemplate.queryForObject("SELECT MAX(" + idColumn + ") FROM " + table, Long.class);
+			if (maxId == null) {
+				return;
+			}
+			Long next = jdbcTemplate.queryForObject("SELECT NEXT VALUE FOR " + sequence, Long.class);
+			// pooled 블록 = [next - incrementSize + 1, next]
+			if (next != null && next - incrementSize >= maxId) {
+				return;
+			}
+			long restartWith = maxId + incrementSize;
+			jdbcTemplate.execute("ALTER SEQUENCE " + sequence + " RESTART WITH " + restartWith);
+			log.info("ID sequence aligned: sequence={}, table={}, maxId={}, restartWith={}",
+				sequence, table, maxId, restartWith);
+		} catch (Exception e) {
+			log.error("Failed to align ID sequence {}: {}", sequence, e.getMessage());
+		}
+	}
+}
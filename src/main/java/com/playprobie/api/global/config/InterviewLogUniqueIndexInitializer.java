@@ -0,0 +1,137 @@
+package com.playprobie.api.global.config;
+
+import java.sql.DatabaseMetaData;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import com.playprobie.api.global.config.properties.InterviewLogIndexProperties;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * interview_log 답변 upsert 유니크 인덱스 보장.
+ *
+ * <p>
+ * 답변 저장은 {@code (session_id, fixed_q_id, turn_num)} 유니크 인덱스에 기대는
+ * {@code ON DUPLICATE KEY UPDATE}(H2는 {@code MERGE INTO ... USING})로 동작합니다.
+ * ddl-auto: update는 이미 중복 행이 있는 테이블에 유니크 제약을 추가하지 못하고(경고만 남김) 기동을 계속하므로,
+ * 인덱스가 없으면 upsert가 조용히 중복 행을 쌓게 됩니다.
+ *
+ * <p>
+ * 모든 싱글톤 생성 직후(웹 서버/스케줄러 시작 전)에 인덱스를 확인하고, 없으면 중복 행을 센 뒤 인덱스를 생성합니다.
+ * <ul>
+ * <li>중복이 있으면 기본적으로 건수를 알리고 기동을 중단합니다 (데이터를 지우지 않음).</li>
+ * <li>{@code interview-log.unique-index.remove-duplicates=true}면 키별로 가장 최근 행({@code MAX(log_id)})만 남기고
+ * 지운 뒤 인덱스를 생성합니다. 백업 후 일회성으로만 켜야 합니다.</li>
+ * </ul>
+ * 그래도 인덱스를 확인할 수 없으면 기동을 중단합니다. 다른 인스턴스가 동시에 생성해 실패한 경우에도 재확인으로 판단합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class InterviewLogUniqueIndexInitializer implements SmartInitializingSingleton {
+
+	static final String TABLE = "interview_log";
+	static final String INDEX = "uk_interview_log_session_fixed_q_turn";
+	private static final Set<String> KEY_COLUMNS = Set.of("session_id", "fixed_q_id", "turn_num");
+
+	private static final String COUNT_DUPLICATES_SQL = """
+		SELECT COALESCE(SUM(dup.cnt - 1), 0)
+		FROM (
+			SELECT COUNT(*) AS cnt
+			FROM interview_log
+			WHERE turn_num IS NOT NULL
+			GROUP BY session_id, fixed_q_id, turn_num
+			HAVING COUNT(*) > 1
+		) dup
+		""";
+
+	private static final String DELETE_DUPLICATES_SQL = """
+		DELETE FROM interview_log
+		WHERE turn_num IS NOT NULL
+		  AND log_id NOT IN (
+			SELECT kept.log_id FROM (
+				SELECT MAX(log_id) AS log_id
+				FROM interview_log
+				WHERE turn_num IS NOT NULL
+				GROUP BY session_id, fixed_q_id, turn_num
+			) kept
+		  )
+		""";
+
+	private static final String CREATE_INDEX_SQL =
+		"CREATE UNIQUE INDEX " + INDEX + " ON " + TABLE + " (session_id, fixed_q_id, turn_num)";
+
+	private final JdbcTemplate jdbcTemplate;
+	private final InterviewLogIndexProperties interviewLogIndexProperties;
+
+	@Override
+	public void afterSingletonsInstantiated() {
+		if (hasUniqueIndex()) {
+			return;
+		}
+		log.warn("Unique index {} is missing on {}. Checking for duplicate answers before creating it.", INDEX,
+			TABLE);
+
+		Long duplicates = jdbcTemplate.queryForObject(COUNT_DUPLICATES_SQL, Long.class);
+		if (duplicates != null && duplicates > 0) {
+			if (!interviewLogIndexProperties.removeDuplicates()) {
+				throw new IllegalStateException("Table " + TABLE + " has " + duplicates
+					+ " duplicate answer rows, so unique index " + INDEX + " cannot be created. Back up the table and "
+					+ "remove them, or set interview-log.unique-index.remove-duplicates=true for one startup to keep "
+					+ "only the latest row per (session_id, fixed_q_id, turn_num)");
+			}
+			int deleted = jdbcTemplate.update(DELETE_DUPLICATES_SQL);
+			log.warn("Removed {} duplicate rows from {} (remove-duplicates enabled)", deleted, TABLE);
+		}
+
+		try {
+			jdbcTemplate.execute(CREATE_INDEX_SQL);
+		} catch (Exception e) {
+			log.warn("Failed to create unique index {}: {}", INDEX, e.getMessage());
+		}
+		if (!hasUniqueIndex()) {
+			throw new IllegalStateException(
+				"Unique index " + INDEX + " on " + TABLE + " is required for answer upserts");
+		}
+		log.info("Unique index {} created on {}", INDEX, TABLE);
+	}
+
+	private boolean hasUniqueIndex() {
+		Boolean found = jdbcTemplate.execute((ConnectionCallback<Boolean>)connection -> {
+			DatabaseMetaData metaData = connection.getMetaData();
+			// MariaDB는 소문자, H2는 대문자로 식별자를 저장
+			return hasUniqueIndex(metaData, connection.getCatalog(), TABLE)
+				|| hasUniqueIndex(metaData, connection.getCatalog(), TABLE.toUpperCase(Locale.ROOT));
+		});
+		return Boolean.TRUE.equals(found);
+	}
+
+	private static boolean hasUniqueIndex(DatabaseMetaData metaData, String catalog, String table)
+		throws SQLException {
+		// 제약 기반 인덱스 이름은 DB마다 다르므로(H2는 접미사 추가) 컬럼 구성으로 판단
+		Map<String, Set<String>> columnsByIndex = new HashMap<>();
+		try (ResultSet indexes = metaData.getIndexInfo(catalog, null, table, true, false)) {
+			while (indexes.next()) {
+				String indexName = indexes.getString("INDEX_NAME");
+				String column = indexes.getString("COLUMN_NAME");
+				if (indexName != null && column != null) {
+					columnsByIndex.computeIfAbsent(indexName, key -> new HashSet<>())
+						.add(column.toLowerCase(Locale.ROOT));
+				}
+			}
+		}
+		return columnsByIndex.containsValue(KEY_COLUMNS);
+	}
+}
@@ -27,7 +27,17 @@ public record AiProperties(
 	Interview interview,
 
 	@Valid @NotNull
-	Sse sse) {
+	Sse sse,
+
+	@Valid
+	Latency latency) {
+
+	public AiProperties {
+		if (latency == null) {
+			latency = new Latency(null, null, null);
+		}
+	}
+
 	public record Server(
 		@NotBlank(message = "AI Server URL must be defined") @URL(message = "AI Server URL must be a valid URL")
 		String url) {
@@ -50,4 +60,43 @@ public record AiProperties(
 		@DurationUnit(ChronoUnit.MILLIS) @NotNull
 		Duration timeout) {
 	}
+
+	/**
+	 * 인터뷰 단계별 AI 스트림 지연 예산
+	 * <p>
+	 * 예산을 넘기면 AI 응답을 기다리지 않고 서버가 템플릿 응답으로 인터뷰를 이어갑니다.
+	 * 설정하지 않은 단계는 기본값을 사용합니다.
+	 */
+	public record Latency(
+		@Valid
+		Budget opening,
+
+		@Valid
+		Budget interaction,
+
+		@Valid
+		Budget closing) {
+
+		private static final Budget DEFAULT_OPENING = new Budget(Duration.ofSeconds(8), Duration.ofSeconds(30));
+		private static final Budget DEFAULT_INTERACTION = new Budget(Duration.ofSeconds(10), Duration.ofSeconds(45));
+		private static final Budget DEFAULT_CLOSING = new Budget(Duration.ofSeconds(8), Duration.ofSeconds(20));
+
+		public Latency {
+			opening = opening != null ? opening : DEFAULT_OPENING;
+			interaction = interaction != null ? interaction : DEFAULT_INTERACTION;
+			closing = closing != null ? closing : DEFAULT_CLOSING;
+		}
+	}
+
+	/**
+	 * @param firstToken 첫 이벤트 수신까지의 제한 시간 (Time To First Token)
+	 * @param total      스트림 전체 제한 시간
+	 */
+	public record Budget(
+		@DurationUnit(ChronoUnit.MILLIS) @NotNull
+		Duration firstToken,
+
+		@DurationUnit(ChronoUnit.MILLIS) @NotNull
+		Duration total) {
+	}
 }
@@ -0,0 +1,16 @@
+package com.playprobie.api.global.config.properties;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+/**
+ * interview_log 답변 유니크 인덱스 보정 설정
+ *
+ * @param removeDuplicates 인덱스가 없고 중복 답변 행이 있을 때 키별 최신 행만 남기고 삭제할지 여부
+ *                         (기본 false: 중복 건수를 알리고 기동 중단, 백업 후 일회성으로만 켤 것)
+ */
+@Validated
+@ConfigurationProperties(prefix = "interview-log.unique-index")
+public record InterviewLogIndexProperties(
+	boolean removeDuplicates) {
+}
@@ -0,0 +1,44 @@
+package com.playprobie.api.global.config.properties;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+import org.springframework.validation.annotation.Validated;
+
+/**
+ * 원시 입력 로그 아카이브 설정 (재분석용, 기본 비활성화)
+ *
+ * @param enabled     아카이브 사용 여부
+ * @param directory   세그먼트/인덱스를 기록할 로컬 디렉터리
+ * @param segmentSize 세그먼트 파일 최대 크기 (초과 시 봉인 후 새 세그먼트)
+ * @param s3Bucket    봉인된 세그먼트를 복제할 S3 호환 버킷 (미설정 시 로컬만 사용)
+ * @param s3Prefix    S3 객체 키 접두사
+ */
+@Validated
+@ConfigurationProperties(prefix = "replay.archive")
+public record ReplayArchiveProperties(
+	boolean enabled,
+
+	String directory,
+
+	DataSize segmentSize,
+
+	String s3Bucket,
+
+	String s3Prefix) {
+
+	public ReplayArchiveProperties {
+		if (directory == null || directory.isBlank()) {
+			directory = "./replay-archive";
+		}
+		if (segmentSize == null || segmentSize.toBytes() <= 0) {
+			segmentSize = DataSize.ofMegabytes(8);
+		}
+		if (s3Prefix == null || s3Prefix.isBlank()) {
+			s3Prefix = "replay-archive";
+		}
+	}
+
+	public boolean hasS3Mirror() {
+		return s3Bucket != null && !s3Bucket.isBlank();
+	}
+}
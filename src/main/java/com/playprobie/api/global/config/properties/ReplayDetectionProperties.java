@@ -0,0 +1,34 @@
+package com.playprobie.api.global.config.properties;
+
+import java.util.Map;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+/**
+ * 리플레이 인사이트 탐지 파이프라인 설정
+ *
+ * @param eventBudget  탐지기별 배치당 처리 이벤트 상한 (비용 예산, 초과분은 해당 탐지기만 건너뜀)
+ * @param eventBudgets 탐지기별 예산 덮어쓰기 (키: InsightType 이름, 예: RAGE_CLICK)
+ */
+@Validated
+@ConfigurationProperties(prefix = "replay.detection")
+public record ReplayDetectionProperties(
+	Integer eventBudget,
+
+	Map<String, Integer> eventBudgets) {
+
+	public ReplayDetectionProperties {
+		if (eventBudget == null || eventBudget <= 0) {
+			eventBudget = 100_000;
+		}
+		if (eventBudgets == null) {
+			eventBudgets = Map.of();
+		}
+	}
+
+	public int budgetOf(String detector) {
+		Integer budget = eventBudgets.get(detector);
+		return budget != null && budget > 0 ? budget : eventBudget;
+	}
+}
@@ -0,0 +1,57 @@
+package com.playprobie.api.global.config.properties;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+/**
+ * 클릭/이동 히트맵 집계 설정
+ *
+ * @param frameWidth  입력 좌표 기준 화면 너비 (클라이언트가 보내는 x의 범위, 벗어난 좌표는 버림)
+ * @param frameHeight 입력 좌표 기준 화면 높이
+ * @param gridWidth   히트맵 가로 셀 수
+ * @param gridHeight  히트맵 세로 셀 수
+ * @param bucket      영상 시간 구간 길이 (구간별 히트맵 단위)
+ * @param maxBuckets  구간별 히트맵 최대 개수 (이후 로그는 전체 히트맵에만 집계)
+ */
+@Validated
+@ConfigurationProperties(prefix = "replay.heatmap")
+public record ReplayHeatmapProperties(
+	Integer frameWidth,
+
+	Integer frameHeight,
+
+	Integer gridWidth,
+
+	Integer gridHeight,
+
+	Duration bucket,
+
+	Integer maxBuckets) {
+
+	public ReplayHeatmapProperties {
+		if (frameWidth == null || frameWidth <= 0) {
+			frameWidth = 1920;
+		}
+		if (frameHeight == null || frameHeight <= 0) {
+			frameHeight = 1080;
+		}
+		if (gridWidth == null || gridWidth <= 0) {
+			gridWidth = 96;
+		}
+		if (gridHeight == null || gridHeight <= 0) {
+			gridHeight = 54;
+		}
+		if (bucket == null || bucket.toMillis() <= 0) {
+			bucket = Duration.ofMinutes(1);
+		}
+		if (maxBuckets == null || maxBuckets <= 0) {
+			maxBuckets = 60;
+		}
+	}
+
+	public int cellCount() {
+		return gridWidth * gridHeight;
+	}
+}
@@ -27,6 +27,10 @@ public final class AiConstants {
 	public static final String EVENT_VALIDITY_RESULT = "validity_result";
 	public static final String EVENT_QUALITY_RESULT = "quality_result";
 
+	// Analysis Partial Events (질문 분석 중간 결과)
+	public static final String EVENT_CLUSTERS = "clusters";
+	public static final String EVENT_SENTIMENT = "sentiment";
+
 	// AI Actions
 	public static final String ACTION_TAIL_QUESTION = "TAIL_QUESTION";
 	public static final String ACTION_RETRY_QUESTION = "RETRY_QUESTION";
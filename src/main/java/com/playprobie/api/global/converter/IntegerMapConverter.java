@@ -0,0 +1,43 @@
+package com.playprobie.api.global.converter;
+
+import java.util.Map;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+/**
+ * Map<String, Integer> ↔ JSON 변환 컨버터
+ * insightThresholds 필드용
+ */
+@Converter
+public class IntegerMapConverter implements AttributeConverter<Map<String, Integer>, String> {
+
+	private static final ObjectMapper objectMapper = new ObjectMapper();
+
+	@Override
+	public String convertToDatabaseColumn(Map<String, Integer> attribute) {
+		if (attribute == null || attribute.isEmpty()) {
+			return null;
+		}
+		try {
+			return objectMapper.writeValueAsString(attribute);
+		} catch (Exception e) {
+			throw new RuntimeException("Failed to convert map to JSON", e);
+		}
+	}
+
+	@Override
+	public Map<String, Integer> convertToEntityAttribute(String dbData) {
+		if (dbData == null || dbData.isEmpty()) {
+			return Map.of();
+		}
+		try {
+			return objectMapper.readValue(dbData, new TypeReference<Map<String, Integer>>() {});
+		} catch (Exception e) {
+			throw new RuntimeException("Failed to convert JSON to map", e);
+		}
+	}
+}
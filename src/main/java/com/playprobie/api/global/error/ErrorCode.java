@@ -30,6 +30,13 @@ public enum ErrorCode {
 	QUESTION_ALREADY_CONFIRMED(400, "S003", "이미 확정된 질문은 수정할 수 없습니다."),
 	SURVEY_SESSION_NOT_FOUND(404, "S004", "요청하신 설문 세션을 찾을 수 없습니다."),
 	SURVEY_SESSION_CLOSED(409, "S005", "이미 종료된 설문 세션입니다."),
+	SURVEY_SESSION_STATE_CONFLICT(409, "S006", "다른 요청이 먼저 인터뷰 진행 상태를 변경했습니다. 다시 시도해주세요."),
+
+	// Replay
+	INVALID_INPUT_LOG_FORMAT(400, "R001", "입력 로그 형식이 올바르지 않습니다."),
+	REPLAY_INGESTION_BUSY(429, "R002", "입력 로그 처리 대기열이 가득 찼습니다. 잠시 후 다시 전송해주세요."),
+	INVALID_INSIGHT_THRESHOLD(400, "R003", "인사이트 탐지 임계값이 올바르지 않습니다."),
+	INVALID_HEATMAP_BUCKET(400, "R004", "히트맵 구간이 올바르지 않습니다."),
 
 	// User
 	USER_NOT_FOUND(404, "U001", "사용자를 찾을 수 없습니다."),
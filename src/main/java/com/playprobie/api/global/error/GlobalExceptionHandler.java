@@ -1,5 +1,6 @@
 package com.playprobie.api.global.error;
 
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.BindException;
@@ -12,6 +13,7 @@ import org.springframework.web.context.request.async.AsyncRequestNotUsableExcept
 import org.springframework.web.method.annotation.MethodArgumentTypeMismatchException;
 
 import com.playprobie.api.global.error.exception.BusinessException;
+import com.playprobie.api.global.error.exception.ReplayIngestionBusyException;
 
 import lombok.extern.slf4j.Slf4j;
 
@@ -95,6 +97,18 @@ public class GlobalExceptionHandler {
 		return new ResponseEntity<>(response, HttpStatus.TOO_MANY_REQUESTS);
 	}
 
+	/**
+	 * 리플레이 로그 수집 큐 포화 - 재전송 시점을 Retry-After로 안내
+	 */
+	@ExceptionHandler(ReplayIngestionBusyException.class)
+	protected ResponseEntity<ErrorResponse> handleReplayIngestionBusyException(ReplayIngestionBusyException e) {
+		log.warn("handleReplayIngestionBusyException: retryAfter={}s", e.getRetryAfter().toSeconds());
+		final ErrorResponse response = ErrorResponse.of(e.getErrorCode());
+		return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+			.header(HttpHeaders.RETRY_AFTER, String.valueOf(e.getRetryAfter().toSeconds()))
+			.body(response);
+	}
+
 	@ExceptionHandler(BusinessException.class)
 	protected ResponseEntity<ErrorResponse> handleBusinessException(final BusinessException e) {
 		log.warn("handleBusinessException", e);
@@ -0,0 +1,21 @@
+package com.playprobie.api.global.error.exception;
+
+import java.time.Duration;
+
+import com.playprobie.api.global.error.ErrorCode;
+
+import lombok.Getter;
+
+/**
+ * 리플레이 로그 수집 큐가 가득 찬 경우 (클라이언트는 Retry-After 이후 같은 배치를 재전송)
+ */
+@Getter
+public class ReplayIngestionBusyException extends BusinessException {
+
+	private final Duration retryAfter;
+
+	public ReplayIngestionBusyException(Duration retryAfter) {
+		super(ErrorCode.REPLAY_INGESTION_BUSY);
+		this.retryAfter = retryAfter;
+	}
+}
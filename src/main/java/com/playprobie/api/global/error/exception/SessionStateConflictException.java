@@ -0,0 +1,9 @@
+package com.playprobie.api.global.error.exception;
+
+import com.playprobie.api.global.error.ErrorCode;
+
+public class SessionStateConflictException extends BusinessException {
+	public SessionStateConflictException() {
+		super(ErrorCode.SURVEY_SESSION_STATE_CONFLICT);
+	}
+}
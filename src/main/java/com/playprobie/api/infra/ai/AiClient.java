@@ -14,6 +14,7 @@ import com.playprobie.api.infra.ai.dto.request.SessionEmbeddingRequest;
 import com.playprobie.api.infra.ai.dto.response.GenerateFeedbackResponse;
 import com.playprobie.api.infra.ai.dto.response.SessionEmbeddingResponse;
 
+import reactor.core.Disposable;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
@@ -66,8 +67,10 @@ public interface AiClient {
 
 	/**
 	 * 오프닝 스트리밍 (세션 시작)
+	 *
+	 * @return 스트림 구독 (SSE 연결 전 선행 시작한 경우 취소용)
 	 */
-	void streamOpening(String sessionId, Map<String, Object> gameInfo,
+	Disposable streamOpening(String sessionId, Map<String, Object> gameInfo,
 		TesterProfileDto testerProfile);
 
 	// 세션 완료 시 임베딩 요청 (비동기)
@@ -0,0 +1,27 @@
+package com.playprobie.api.infra.ai.dto.request;
+
+import java.util.Map;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+
+/**
+ * AI 서버 세션 컨텍스트 등록 요청 DTO (POST /surveys/context)
+ */
+@Schema(description = "AI 세션 컨텍스트 등록 요청 DTO")
+@Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record AiContextRegisterRequest(
+
+	@Schema(description = "세션 ID", example = "session_12345") @JsonProperty("session_id")
+	String sessionId,
+
+	@Schema(description = "게임 정보 메타데이터 (extracted_elements 포함)") @JsonProperty("game_info")
+	Map<String, Object> gameInfo,
+
+	@Schema(description = "테스터 프로필") @JsonProperty("tester_profile")
+	AiSessionStartRequest.TesterProfileDto testerProfile) {
+}
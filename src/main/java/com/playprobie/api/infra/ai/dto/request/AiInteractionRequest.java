@@ -52,7 +52,15 @@ public record AiInteractionRequest(
 
 	// ===== 재입력 요청 관련 정보 (신규 추가) =====
 	@Schema(description = "현재 고정질문 내에서의 재입력 요청 횟수", example = "1") @JsonProperty("retry_count")
-	Integer retryCount) {
+	Integer retryCount,
+
+	// ===== 컨텍스트 핸들 (등록된 경우 game_info 생략, 대화 내역은 변경분만 전송) =====
+	@Schema(description = "AI 서버에 등록된 세션 컨텍스트 ID", example = "ctx_12345") @JsonProperty("context_id")
+	String contextId,
+
+	@Schema(description = "conversation_history가 시작되는 위치 (AI 서버는 이 위치 이후를 교체, 0이면 전체)", example = "2")
+	@JsonProperty("history_offset")
+	Integer historyOffset) {
 
 	public static AiInteractionRequest of(
 		String sessionId,
@@ -70,6 +78,16 @@ public record AiInteractionRequest(
 		Integer retryCount) {
 		return new AiInteractionRequest(sessionId, userAnswer, currentQuestion, gameInfo, history,
 			surveyId, currentQuestionOrder, totalQuestions, fixedQId, turnNum, currentTailCount, maxTailQuestions,
-			retryCount);
+			retryCount, null, null);
+	}
+
+	/**
+	 * 컨텍스트 핸들 요청으로 변환 (정적 컨텍스트 제외, 대화 내역은 historyOffset 이후만)
+	 */
+	public AiInteractionRequest withContext(String contextId, int historyOffset,
+		List<Map<String, String>> historyDelta) {
+		return new AiInteractionRequest(sessionId, userAnswer, currentQuestion, null, historyDelta,
+			surveyId, currentQuestionOrder, totalQuestions, fixedQId, turnNum, currentTailCount, maxTailQuestions,
+			retryCount, contextId, historyOffset);
 	}
 }
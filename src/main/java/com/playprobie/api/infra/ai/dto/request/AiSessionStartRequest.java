@@ -2,6 +2,7 @@ package com.playprobie.api.infra.ai.dto.request;
 
 import java.util.Map;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 
 import lombok.Builder;
@@ -9,14 +10,19 @@ import lombok.Getter;
 
 /**
  * AI 서버 세션 시작 요청 DTO (POST /surveys/start-session)
+ * 컨텍스트가 등록된 경우 game_info/tester_profile 대신 context_id만 전송
  */
 @Getter
 @Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
 public class AiSessionStartRequest {
 
 	@JsonProperty("session_id")
 	private final String sessionId;
 
+	@JsonProperty("context_id")
+	private final String contextId;
+
 	@JsonProperty("game_info")
 	private final Map<String, Object> gameInfo;
 
@@ -0,0 +1,14 @@
+package com.playprobie.api.infra.ai.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+
+@Schema(description = "AI 세션 컨텍스트 등록 응답 DTO")
+@Builder
+public record AiContextRegisterResponse(
+
+	@Schema(description = "컨텍스트 핸들 ID", example = "ctx_12345") @JsonProperty("context_id")
+	String contextId) {
+}
@@ -0,0 +1,227 @@
+package com.playprobie.api.infra.ai.impl;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.codec.ServerSentEvent;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+
+import com.playprobie.api.domain.interview.dto.SessionAiContext;
+import com.playprobie.api.infra.ai.dto.request.AiContextRegisterRequest;
+import com.playprobie.api.infra.ai.dto.request.AiInteractionRequest;
+import com.playprobie.api.infra.ai.dto.request.AiSessionStartRequest.TesterProfileDto;
+import com.playprobie.api.infra.ai.dto.response.AiContextRegisterResponse;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * AI 서버 세션 컨텍스트 핸들 관리
+ * <p>
+ * 세션의 정적 컨텍스트(게임 정보, 테스터 프로필)를 AI 서버에 한 번 등록하고, 이후 요청은 발급받은
+ * context_id와 새 턴만 보냅니다. 대화 내역은 AI 서버가 이미 받은 위치(history_offset) 이후만 전송합니다.
+ * <ul>
+ * <li>이 노드에 핸들이 없거나 AI 서버가 410 Gone(컨텍스트 없음)을 응답하면 다시 등록하고 전체 내역을 보냅니다.</li>
+ * <li>등록 API를 사용할 수 없으면 기존 방식(전체 payload)으로 요청합니다.</li>
+ * </ul>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AiContextClient {
+
+	private static final String CONTEXT_URI = "/surveys/context";
+	private static final String INTERACTION_URI = "/surveys/interaction";
+
+	/** 로컬 핸들 유지 시간 (마지막 사용 기준) */
+	private static final Duration HANDLE_TTL = Duration.ofHours(2);
+	/** 등록 API 미지원 응답 후 재시도하지 않는 시간 */
+	private static final Duration UNSUPPORTED_BACKOFF = Duration.ofMinutes(10);
+
+	private final WebClient aiWebClient;
+
+	/** sessionId → 컨텍스트 핸들 */
+	private final Map<String, ContextHandle> handles = new ConcurrentHashMap<>();
+
+	private volatile long registrationDisabledUntil;
+
+	/**
+	 * 세션 정적 컨텍스트 등록
+	 *
+	 * @return 발급된 context_id (등록할 수 없으면 empty - 기존 방식으로 요청)
+	 */
+	public Mono<Optional<String>> register(String sessionId, Map<String, Object> gameInfo,
+		TesterProfileDto testerProfile) {
+		if (isRegistrationDisabled()) {
+			return Mono.just(Optional.empty());
+		}
+		AiContextRegisterRequest request = AiContextRegisterRequest.builder()
+			.sessionId(sessionId)
+			.gameInfo(gameInfo)
+			.testerProfile(testerProfile)
+			.build();
+
+		return aiWebClient.post()
+			.uri(CONTEXT_URI)
+			.contentType(MediaType.APPLICATION_JSON)
+			.bodyValue(request)
+			.retrieve()
+			.bodyToMono(AiContextRegisterResponse.class)
+			.map(AiContextRegisterResponse::contextId)
+			.filter(contextId -> contextId != null && !contextId.isBlank())
+			.doOnNext(contextId -> {
+				handles.put(sessionId, ContextHandle.registered(contextId));
+				log.info("🧩 [AI CONTEXT] Registered. sessionId={}, contextId={}", sessionId, contextId);
+			})
+			.map(Optional::of)
+			.defaultIfEmpty(Optional.empty())
+			.onErrorResume(error -> {
+				if (isRegistrationUnsupported(error)) {
+					registrationDisabledUntil = System.currentTimeMillis() + UNSUPPORTED_BACKOFF.toMillis();
+				}
+				log.warn("⚠️ [AI CONTEXT] Registration failed, using full payload. sessionId={}, error={}",
+					sessionId, error.getMessage());
+				return Mono.just(Optional.empty());
+			});
+	}
+
+	/**
+	 * 답변 분석 스트림 요청
+	 * <p>
+	 * 핸들이 있으면 대화 내역 변경분만 보내고, 없거나 AI 서버에서 만료됐으면 재등록 후 전체 내역을 보냅니다.
+	 *
+	 * @param request       전체 대화 내역을 담은 요청
+	 * @param contextLoader 재등록 시 사용할 정적 컨텍스트 조회 (DB 조회이므로 필요할 때만 호출)
+	 */
+	public Flux<ServerSentEvent<String>> streamInteraction(AiInteractionRequest request,
+		Supplier<SessionAiContext> contextLoader) {
+		String sessionId = request.sessionId();
+		List<Map<String, String>> history = request.conversationHistory() != null
+			? request.conversationHistory() : List.of();
+
+		ContextHandle handle = handles.get(sessionId);
+		if (handle == null || handle.isExpired(System.currentTimeMillis())) {
+			return registerAndSendFull(request, history, contextLoader);
+		}
+
+		int offset = handle.syncedOffset(request.fixedQId(), history.size());
+		log.debug("📦 [AI CONTEXT] Sending delta. sessionId={}, offset={}, entries={}", sessionId, offset,
+			history.size() - offset);
+		return post(request.withContext(handle.contextId(), offset, history.subList(offset, history.size())))
+			.doOnComplete(() -> markSynced(sessionId, handle.contextId(), request.fixedQId(), history.size()))
+			.onErrorResume(AiContextClient::isContextMissing, error -> {
+				log.warn("🔁 [AI CONTEXT] Context missing on AI server, resending full payload. sessionId={}",
+					sessionId);
+				handles.remove(sessionId, handle);
+				return registerAndSendFull(request, history, contextLoader);
+			});
+	}
+
+	/**
+	 * 세션 종료 시 로컬 핸들 해제
+	 */
+	public void release(String sessionId) {
+		handles.remove(sessionId);
+	}
+
+	@Scheduled(fixedDelay = 600000, initialDelay = 600000)
+	public void purgeExpired() {
+		long now = System.currentTimeMillis();
+		handles.values().removeIf(handle -> handle.isExpired(now));
+	}
+
+	private Flux<ServerSentEvent<String>> registerAndSendFull(AiInteractionRequest request,
+		List<Map<String, String>> history, Supplier<SessionAiContext> contextLoader) {
+		if (isRegistrationDisabled()) {
+			// 등록 API 미지원 백오프 중에는 정적 컨텍스트를 읽지 않고 기존 방식으로 요청
+			return post(request);
+		}
+		String sessionId = request.sessionId();
+		return Mono.fromCallable(contextLoader::get)
+			.subscribeOn(Schedulers.boundedElastic())
+			.flatMap(context -> register(sessionId, context.gameInfo(), context.testerProfile()))
+			.onErrorResume(error -> {
+				log.warn("⚠️ [AI CONTEXT] Failed to load session context. sessionId={}, error={}", sessionId,
+					error.getMessage());
+				return Mono.just(Optional.empty());
+			})
+			.flatMapMany(contextId -> contextId
+				.map(id -> post(request.withContext(id, 0, history))
+					.doOnComplete(() -> markSynced(sessionId, id, request.fixedQId(), history.size())))
+				.orElseGet(() -> post(request)));
+	}
+
+	private Flux<ServerSentEvent<String>> post(AiInteractionRequest request) {
+		return aiWebClient.post()
+			.uri(INTERACTION_URI)
+			.contentType(MediaType.APPLICATION_JSON)
+			.accept(MediaType.TEXT_EVENT_STREAM)
+			.bodyValue(request)
+			.retrieve()
+			.bodyToFlux(new ParameterizedTypeReference<ServerSentEvent<String>>() {});
+	}
+
+	private void markSynced(String sessionId, String contextId, Long fixedQuestionId, int historySize) {
+		handles.computeIfPresent(sessionId, (id, handle) -> handle.contextId().equals(contextId)
+			? handle.synced(fixedQuestionId, historySize) : handle);
+	}
+
+	private boolean isRegistrationDisabled() {
+		return System.currentTimeMillis() < registrationDisabledUntil;
+	}
+
+	private static boolean isContextMissing(Throwable error) {
+		return error instanceof WebClientResponseException e && e.getStatusCode().value() == HttpStatus.GONE.value();
+	}
+
+	private static boolean isRegistrationUnsupported(Throwable error) {
+		if (!(error instanceof WebClientResponseException e)) {
+			return false;
+		}
+		int status = e.getStatusCode().value();
+		return status == HttpStatus.NOT_FOUND.value() || status == HttpStatus.METHOD_NOT_ALLOWED.value()
+			|| status == HttpStatus.NOT_IMPLEMENTED.value();
+	}
+
+	/**
+	 * @param fixedQuestionId   AI 서버에 동기화된 대화 내역의 고정 질문
+	 * @param syncedHistorySize AI 서버가 받은 대화 내역 수
+	 */
+	private record ContextHandle(String contextId, Long fixedQuestionId, int syncedHistorySize, long expiresAt) {
+
+		static ContextHandle registered(String contextId) {
+			return new ContextHandle(contextId, null, 0, System.currentTimeMillis() + HANDLE_TTL.toMillis());
+		}
+
+		/**
+		 * 같은 고정 질문의 내역이면 이미 보낸 위치, 아니면 0 (전체)
+		 */
+		int syncedOffset(Long fixedQuestionId, int historySize) {
+			return Objects.equals(this.fixedQuestionId, fixedQuestionId) && syncedHistorySize <= historySize
+				? syncedHistorySize : 0;
+		}
+
+		ContextHandle synced(Long fixedQuestionId, int historySize) {
+			return new ContextHandle(contextId, fixedQuestionId, historySize,
+				System.currentTimeMillis() + HANDLE_TTL.toMillis());
+		}
+
+		boolean isExpired(long now) {
+			return now >= expiresAt;
+		}
+	}
+}
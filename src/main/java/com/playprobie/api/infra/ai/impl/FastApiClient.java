@@ -1,7 +1,11 @@
 package com.playprobie.api.infra.ai.impl;
 
+import java.time.Duration;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeoutException;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicReference;
 
@@ -18,11 +22,13 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.playprobie.api.domain.analytics.event.AnalysisTriggerEvent;
 import com.playprobie.api.domain.game.dto.GameElementExtractRequest;
 import com.playprobie.api.domain.game.dto.GameElementExtractResponse;
+import com.playprobie.api.domain.interview.application.AnswerPrefilterService;
 import com.playprobie.api.domain.interview.application.InterviewService;
 import com.playprobie.api.domain.interview.domain.AnswerQuality;
 import com.playprobie.api.domain.interview.domain.AnswerValidity;
 import com.playprobie.api.domain.interview.domain.InterviewLog;
 import com.playprobie.api.domain.interview.domain.QuestionType;
+import com.playprobie.api.domain.interview.dto.AnswerPrefilterVerdict;
 import com.playprobie.api.domain.interview.dto.UserAnswerRequest;
 import com.playprobie.api.domain.replay.application.InsightQuestionService;
 import com.playprobie.api.domain.replay.event.InsightPhaseCompleteEvent;
@@ -30,6 +36,7 @@ import com.playprobie.api.domain.survey.domain.Survey;
 import com.playprobie.api.domain.survey.dto.FixedQuestionResponse;
 import com.playprobie.api.global.config.properties.AiProperties;
 import com.playprobie.api.global.constants.AiConstants;
+import com.playprobie.api.global.error.exception.SessionStateConflictException;
 import com.playprobie.api.infra.ai.AiClient;
 import com.playprobie.api.infra.ai.dto.request.AiInteractionRequest;
 import com.playprobie.api.infra.ai.dto.request.AiSessionEndRequest;
@@ -51,8 +58,10 @@ import com.playprobie.api.infra.sse.service.SseEmitterService;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import reactor.core.Disposable;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
 
 @Slf4j
 @Component
@@ -68,6 +77,8 @@ public class FastApiClient implements AiClient {
 	private final com.playprobie.api.domain.interview.dao.SurveySessionRepository surveySessionRepository;
 	private final org.springframework.context.ApplicationEventPublisher eventPublisher;
 	private final InsightQuestionService insightQuestionService;
+	private final AnswerPrefilterService answerPrefilterService;
+	private final AiContextClient aiContextClient;
 
 	@Override
 	public com.playprobie.api.infra.ai.dto.response.QuestionRecommendResponse recommendQuestions(
@@ -218,6 +229,17 @@ public class FastApiClient implements AiClient {
 		log.info("📋 [QUESTION INFO] sessionId={}, surveyId={}, currentOrder={}, totalQuestions={}",
 			sessionId, surveyId, currentQuestionOrder, totalQuestions);
 
+		// 명백한 무응답/복제 답변은 AI 호출 없이 로컬에서 판정
+		String answeredQuestionText = userAnswerRequest.getQuestionText() != null
+			? userAnswerRequest.getQuestionText() : currentQuestion.qContent();
+		Optional<AnswerPrefilterVerdict> verdict = answerPrefilterService.evaluate(sessionId, fixedQuestionId,
+			userAnswerRequest.getTurnNum(), answeredQuestionText, userAnswerRequest.getAnswerText());
+		if (verdict.isPresent()) {
+			handlePrefilterVerdict(sessionId, fixedQuestionId, userAnswerRequest.getTurnNum(), verdict.get(),
+				currentQuestionOrder, totalQuestions);
+			return;
+		}
+
 		AiInteractionRequest aiInteractionRequest = AiInteractionRequest.of(
 			sessionId,
 			userAnswerRequest.getAnswerText(),
@@ -233,20 +255,18 @@ public class FastApiClient implements AiClient {
 			maxTailQuestions,
 			interviewService.getRetryCount(sessionId, fixedQuestionId));
 
-		Flux<ServerSentEvent<String>> eventStream = aiWebClient.post()
-			.uri("/surveys/interaction")
-			.contentType(MediaType.APPLICATION_JSON)
-			.accept(MediaType.TEXT_EVENT_STREAM)
-			.bodyValue(aiInteractionRequest)
-			.retrieve()
-			.bodyToFlux(new ParameterizedTypeReference<ServerSentEvent<String>>() {});
+		// 등록된 컨텍스트가 있으면 context_id + 대화 내역 변경분만 전송
+		Flux<ServerSentEvent<String>> eventStream = aiContextClient.streamInteraction(aiInteractionRequest,
+			() -> interviewService.getSessionAiContext(sessionId));
 
 		final AtomicReference<String> nextAction = new AtomicReference<>(null);
 		final AtomicBoolean tailQuestionGenerated = new AtomicBoolean(false);
+		final AtomicBoolean followUpSent = new AtomicBoolean(false);
 		final AtomicReference<AnswerValidity> validityRef = new AtomicReference<>(null);
 		final AtomicReference<AnswerQuality> qualityRef = new AtomicReference<>(null);
+		final CompletableFuture<Optional<PrefetchedQuestion>> nextQuestionPrefetch = new CompletableFuture<>();
 
-		eventStream
+		withLatencyBudget(eventStream, aiProperties.latency().interaction())
 			.doOnNext(sse -> {
 				// [FIX] Check connection status before processing
 				// We call send with a dummy event or check status if possible.
@@ -260,9 +280,9 @@ public class FastApiClient implements AiClient {
 					// Let's modify parseAndHandleEvent to return boolean or throw exception.
 					// Ideally, we handle it here.
 					boolean success = parseAndHandleEvent(sessionId, fixedQuestionId, nextTurnNum, data, nextAction,
-						tailQuestionGenerated,
+						tailQuestionGenerated, followUpSent,
 						currentQuestionOrder, totalQuestions, validityRef, qualityRef, currentTailCount,
-						maxTailQuestions);
+						maxTailQuestions, nextQuestionPrefetch);
 
 					if (!success) {
 						throw new SseConnectionClosedException("Client disconnected");
@@ -272,6 +292,10 @@ public class FastApiClient implements AiClient {
 					if (error instanceof SseConnectionClosedException) {
 						log.warn("👋 [STREAM STOPPED] Client disconnected during AI stream. sessionId={}", sessionId);
 						// Do NOT call complete(sessionId) or send error, as client is gone.
+					} else if (error instanceof TimeoutException) {
+						handleInteractionBudgetExceeded(sessionId, fixedQuestionId, userAnswerRequest.getTurnNum(),
+							nextAction.get(), followUpSent.get(), validityRef.get(), qualityRef.get(),
+							currentQuestionOrder, totalQuestions, nextQuestionPrefetch);
 					} else {
 						log.error("Error connecting to AI Server: {}", error.getMessage());
 						// Try to notify client, but if it fails, it fails.
@@ -280,13 +304,161 @@ public class FastApiClient implements AiClient {
 					}
 				},
 				() -> log.info("AI Stream completed for sessionId: {}", sessionId));
+
+		// AI가 답변을 분석하는 동안(구독은 비동기) 다음 고정 질문과 payload를 미리 준비 - 상태 전이는 done 시점에 커밋
+		prefetchNextQuestion(nextQuestionPrefetch, surveyId, currentQuestionOrder, totalQuestions);
+	}
+
+	/**
+	 * 다음 고정 질문 선조회 결과 (Optional.empty()면 마지막 질문)
+	 */
+	private record PrefetchedQuestion(FixedQuestionResponse question, QuestionPayload payload) {
+
+		static PrefetchedQuestion of(FixedQuestionResponse question, int totalQuestions) {
+			return new PrefetchedQuestion(question, QuestionPayload.of(
+				question.fixedQId(),
+				AiConstants.ACTION_FIXED,
+				question.qContent(),
+				1,
+				question.qOrder(),
+				totalQuestions));
+		}
+	}
+
+	private void prefetchNextQuestion(CompletableFuture<Optional<PrefetchedQuestion>> prefetch, Long surveyId,
+		int currentOrder, int totalQuestions) {
+		try {
+			prefetch.complete(interviewService.findNextQuestion(surveyId, currentOrder)
+				.map(question -> PrefetchedQuestion.of(question, totalQuestions)));
+		} catch (RuntimeException e) {
+			log.warn("⚠️ [PREFETCH] Failed to prefetch next question. surveyId={}, order={}, error={}", surveyId,
+				currentOrder, e.getMessage());
+			prefetch.completeExceptionally(e);
+		}
+	}
+
+	/**
+	 * 선조회 결과를 사용하고, 아직 준비되지 않았거나 실패했으면 즉시 조회합니다.
+	 */
+	private Optional<PrefetchedQuestion> resolveNextQuestion(CompletableFuture<Optional<PrefetchedQuestion>> prefetch,
+		String sessionId, int currentOrder, int totalQuestions) {
+		if (prefetch.isDone() && !prefetch.isCompletedExceptionally()) {
+			return prefetch.join();
+		}
+		log.info("🐢 [PREFETCH MISS] Resolving next question synchronously. sessionId={}", sessionId);
+		Long surveyId = interviewService.getSurveyIdBySession(sessionId);
+		return interviewService.findNextQuestion(surveyId, currentOrder)
+			.map(question -> PrefetchedQuestion.of(question, totalQuestions));
+	}
+
+	// ========== 단계별 지연 예산 ==========
+
+	/** 답변 분석 턴의 done 처리가 끝났음을 표시 (이후 지연 예산 초과는 폴백 대상 아님) */
+	private static final String TURN_RESOLVED = "TURN_RESOLVED";
+
+	/**
+	 * AI 스트림에 지연 예산 적용
+	 * <p>
+	 * 첫 이벤트가 firstToken 안에 오지 않거나 스트림이 total 안에 끝나지 않으면 AI 요청을 취소하고
+	 * TimeoutException으로 종료합니다. 제한 시간은 구독 시점부터 계산합니다.
+	 */
+	private static <T> Flux<T> withLatencyBudget(Flux<T> source, AiProperties.Budget budget) {
+		return Flux.defer(() -> {
+			long deadline = System.nanoTime() + budget.total().toNanos();
+			Duration firstToken = budget.firstToken().compareTo(budget.total()) < 0
+				? budget.firstToken() : budget.total();
+			// 폴백에서 DB 조회가 일어나므로 타이머는 blocking 허용 스케줄러에서 발화
+			return source.timeout(
+				Mono.delay(firstToken, Schedulers.boundedElastic()),
+				item -> Mono.delay(Duration.ofNanos(Math.max(0, deadline - System.nanoTime())),
+					Schedulers.boundedElastic()));
+		});
+	}
+
+	/**
+	 * 답변 분석 스트림이 지연 예산을 넘긴 경우
+	 * <p>
+	 * 인터뷰를 끝내지 않고 템플릿 리액션과 함께 다음 고정 질문(마지막 질문이면 클로징)으로 진행합니다.
+	 * 예산 안에 받은 답변 판정(validity/quality)은 done 처리와 같이 답변 로그에 기록합니다.
+	 * 꼬리질문/재질문을 이미 저장하고 보냈다면(followUpSent) 다음 질문으로 넘어가지 않고 done만 보내 답변을 기다립니다.
+	 */
+	private void handleInteractionBudgetExceeded(String sessionId, Long fixedQuestionId, int answerTurnNum,
+		String action, boolean followUpSent, AnswerValidity validity, AnswerQuality quality, int currentOrder,
+		int totalQuestions, CompletableFuture<Optional<PrefetchedQuestion>> nextQuestionPrefetch) {
+		if (TURN_RESOLVED.equals(action) || "LIMIT_EXCEEDED_HANDLED".equals(action)) {
+			log.info("⏱️ [LATENCY BUDGET] Turn already resolved, ignoring late timeout. sessionId={}", sessionId);
+			return;
+		}
+		log.warn("⏱️ [LATENCY BUDGET] Interaction stream exceeded budget. Falling back to next question. "
+			+ "sessionId={}, action={}", sessionId, action);
+
+		if (validity != null) {
+			interviewService.updateLogValidityQuality(sessionId, fixedQuestionId, answerTurnNum, validity, quality);
+		}
+
+		if (followUpSent) {
+			log.info("⏳ [LATENCY BUDGET] Follow-up question already sent. Waiting for user answer. sessionId={}",
+				sessionId);
+			StatusPayload donePayload = StatusPayload.builder().status("completed").build();
+			sseEmitterService.send(sessionId, AiConstants.EVENT_DONE, donePayload);
+			return;
+		}
+
+		Optional<PrefetchedQuestion> next;
+		try {
+			next = resolveNextQuestion(nextQuestionPrefetch, sessionId, currentOrder, totalQuestions);
+			next.ifPresent(question -> interviewService.moveToNextQuestion(sessionId, currentOrder,
+				question.question()));
+		} catch (SessionStateConflictException e) {
+			log.warn("⚠️ [STALE_TRANSITION] Session already moved past order {}. sessionId={}", currentOrder,
+				sessionId);
+			return;
+		}
+
+		if (next.isPresent()) {
+			sendTemplatedReaction(sessionId);
+		}
+		StatusPayload donePayload = StatusPayload.builder().status("deadline_exceeded").build();
+		sseEmitterService.send(sessionId, AiConstants.EVENT_DONE, donePayload);
+
+		next.ifPresentOrElse(
+			question -> sendQuestionPayload(sessionId, question.payload()),
+			() -> proceedToClosingOrInsight(sessionId, AiConstants.REASON_ALL_DONE));
+	}
+
+	private static final int MAX_PREFILTER_RETRIES = 1;
+
+	/**
+	 * 사전 필터 판정 답변 처리
+	 * <p>
+	 * 판정 결과를 로그에 기록하고, 첫 판정이면 고정 재질문을 보내며
+	 * 이미 재질문한 질문이면 다음 질문으로 진행합니다.
+	 */
+	private void handlePrefilterVerdict(String sessionId, Long fixedQuestionId, int answerTurnNum,
+		AnswerPrefilterVerdict verdict, int order, int totalQuestions) {
+		interviewService.updateLogValidityQuality(sessionId, fixedQuestionId, answerTurnNum, verdict.validity(), null);
+
+		if (interviewService.getRetryCount(sessionId, fixedQuestionId) >= MAX_PREFILTER_RETRIES) {
+			log.info("⏭️ [PREFILTER] Retry already asked. Proceeding to next question. sessionId={}", sessionId);
+			handleTailLimitExceeded(sessionId, fixedQuestionId);
+			return;
+		}
+
+		interviewService.saveRetryQuestionLog(sessionId, fixedQuestionId, verdict.retryMessage());
+		QuestionPayload retryPayload = QuestionPayload.of(fixedQuestionId, "RETRY", verdict.retryMessage(),
+			answerTurnNum + 1, order, totalQuestions);
+		if (!sseEmitterService.send(sessionId, AiConstants.EVENT_RETRY_REQUEST, retryPayload)) {
+			return;
+		}
+		StatusPayload donePayload = StatusPayload.builder().status("completed").build();
+		sseEmitterService.send(sessionId, AiConstants.EVENT_DONE, donePayload);
 	}
 
 	private boolean parseAndHandleEvent(String sessionId, Long fixedQuestionId, int nextTurnNum, String jsonStr,
 		AtomicReference<String> nextAction,
-		AtomicBoolean tailQuestionGenerated, Integer order, Integer totalQuestions,
+		AtomicBoolean tailQuestionGenerated, AtomicBoolean followUpSent, Integer order, Integer totalQuestions,
 		AtomicReference<AnswerValidity> validityRef, AtomicReference<AnswerQuality> qualityRef, int currentTailCount,
-		int maxTailQuestions) {
+		int maxTailQuestions, CompletableFuture<Optional<PrefetchedQuestion>> nextQuestionPrefetch) {
 		log.debug("📥 [SSE RAW] sessionId={}, rawJson={}", sessionId, jsonStr);
 		try {
 			JsonNode rootNode = objectMapper.readTree(jsonStr);
@@ -294,9 +466,9 @@ public class FastApiClient implements AiClient {
 			JsonNode dataNode = rootNode.path("data");
 			log.info("📨 [SSE PARSED] sessionId={}, eventType={}, data={}", sessionId, eventType, dataNode);
 			return handleEvent(sessionId, fixedQuestionId, nextTurnNum, eventType, dataNode, nextAction,
-				tailQuestionGenerated,
+				tailQuestionGenerated, followUpSent,
 				order,
-				totalQuestions, validityRef, qualityRef, currentTailCount, maxTailQuestions);
+				totalQuestions, validityRef, qualityRef, currentTailCount, maxTailQuestions, nextQuestionPrefetch);
 		} catch (JsonProcessingException e) {
 			log.error("❌ Failed to parse JSON event. Data: {} | Error: {}", jsonStr, e.getMessage());
 			return true; // JSON parsing error shouldn't stop stream, technically connection is fine
@@ -306,9 +478,9 @@ public class FastApiClient implements AiClient {
 	private boolean handleEvent(String sessionId, Long fixedQuestionId, int nextTurnNum, String eventType,
 		JsonNode dataNode,
 		AtomicReference<String> nextAction,
-		AtomicBoolean tailQuestionGenerated, Integer order, Integer totalQuestions,
+		AtomicBoolean tailQuestionGenerated, AtomicBoolean followUpSent, Integer order, Integer totalQuestions,
 		AtomicReference<AnswerValidity> validityRef, AtomicReference<AnswerQuality> qualityRef, int currentTailCount,
-		int maxTailQuestions) {
+		int maxTailQuestions, CompletableFuture<Optional<PrefetchedQuestion>> nextQuestionPrefetch) {
 		switch (eventType) {
 			case AiConstants.EVENT_START:
 				StatusPayload startPayload = StatusPayload.builder().status(dataNode.path("status").asText()).build();
@@ -356,6 +528,7 @@ public class FastApiClient implements AiClient {
 					return false;
 
 				String action = nextAction.get();
+				nextAction.set(TURN_RESOLVED); // 이후 지연 예산 초과 시 폴백하지 않도록 표시
 				log.info("🔍 [ACTION CHECK] sessionId={}, rawAction={}", sessionId, action);
 
 				if ("LIMIT_EXCEEDED_HANDLED".equals(action)) {
@@ -382,13 +555,22 @@ public class FastApiClient implements AiClient {
 
 				if (AiConstants.ACTION_PASS_TO_NEXT.equals(action)) {
 					log.info("➡️ [PASS_TO_NEXT] Proceeding to next question. sessionId={}", sessionId);
-					FixedQuestionResponse currentQuestion = interviewService.getQuestionById(fixedQuestionId);
-					int currentOrder = currentQuestion.qOrder();
+					int currentOrder = order;
 
-					interviewService.getNextQuestion(sessionId, currentOrder)
-						.ifPresentOrElse(
-							nextQuestion -> sendNextQuestion(sessionId, nextQuestion),
-							() -> proceedToClosingOrInsight(sessionId, AiConstants.REASON_ALL_DONE));
+					try {
+						// 미리 준비한 질문으로 상태 전이만 커밋하고 payload는 그대로 전송
+						resolveNextQuestion(nextQuestionPrefetch, sessionId, currentOrder, totalQuestions)
+							.ifPresentOrElse(
+								next -> {
+									interviewService.moveToNextQuestion(sessionId, currentOrder, next.question());
+									sendQuestionPayload(sessionId, next.payload());
+								},
+								() -> proceedToClosingOrInsight(sessionId, AiConstants.REASON_ALL_DONE));
+					} catch (SessionStateConflictException e) {
+						// 다른 요청이 이미 다음 질문으로 전이함 - 같은 질문을 다시 보내거나 건너뛰지 않도록 무시
+						log.warn("⚠️ [STALE_TRANSITION] Session already moved past order {}. sessionId={}",
+							currentOrder, sessionId);
+					}
 				} else if (AiConstants.ACTION_TAIL_QUESTION.equals(action)) {
 					log.info("⏳ [TAIL_QUESTION] Waiting for user answer. sessionId={}", sessionId);
 				} else if (AiConstants.ACTION_RETRY_QUESTION.equals(action)) {
@@ -438,6 +620,7 @@ public class FastApiClient implements AiClient {
 				String tailQuestionText = dataNode.path("message").asText();
 				int tailQuestionCount = dataNode.path("tail_question_count").asInt();
 				interviewService.saveTailQuestionLog(sessionId, fixedQuestionId, tailQuestionText, tailQuestionCount);
+				followUpSent.set(true);
 				log.info("Tail question saved - sessionId: {}, fixedQuestionId: {}, count: {}", sessionId,
 					fixedQuestionId,
 					tailQuestionCount);
@@ -477,6 +660,7 @@ public class FastApiClient implements AiClient {
 				}
 
 				interviewService.saveRetryQuestionLog(sessionId, fixedQuestionId, retryMessage);
+				followUpSent.set(true);
 				log.info("Saved RETRY question log: sessionId={}, fixedQuestionId={}, msg={}", sessionId,
 					fixedQuestionId,
 					retryMessage);
@@ -497,13 +681,10 @@ public class FastApiClient implements AiClient {
 		Long surveyId = interviewService.getSurveyIdBySession(sessionId);
 		int totalQuestions = interviewService.getTotalQuestionCount(surveyId);
 
-		QuestionPayload questionPayload = QuestionPayload.of(
-			nextQuestion.fixedQId(),
-			AiConstants.ACTION_FIXED,
-			nextQuestion.qContent(),
-			1,
-			nextQuestion.qOrder(),
-			totalQuestions);
+		sendQuestionPayload(sessionId, PrefetchedQuestion.of(nextQuestion, totalQuestions).payload());
+	}
+
+	private void sendQuestionPayload(String sessionId, QuestionPayload questionPayload) {
 		sseEmitterService.send(sessionId, AiConstants.EVENT_QUESTION, questionPayload);
 
 		// [FIX] 고정 질문 전송 후 done 이벤트 전송 (클라이언트 스트림 종료 처리용)
@@ -515,6 +696,7 @@ public class FastApiClient implements AiClient {
 		try {
 			// 세션 상태 완료로 변경
 			interviewService.completeSession(sessionId);
+			aiContextClient.release(sessionId);
 
 			// 세션 완료 후 임베딩 요청 (비동기)
 			triggerSessionEmbedding(sessionId);
@@ -741,7 +923,7 @@ public class FastApiClient implements AiClient {
 			.onErrorReturn("");
 	}
 
-	// 꼬리질문 제한 초과 시 사용할 기본 리액션 메시지들
+	// 꼬리질문 제한 초과 또는 AI 지연 예산 초과 시 사용할 기본 리액션 메시지들
 	private static final String[] TAIL_LIMIT_REACTIONS = {
 		"좋은 의견 감사해요! 다음 주제로 넘어가볼게요 😊",
 		"충분히 이해했어요! 다른 부분도 여쭤볼게요",
@@ -758,14 +940,19 @@ public class FastApiClient implements AiClient {
 		// 다음 고정 질문 확인
 		FixedQuestionResponse currentQuestion = interviewService.getQuestionById(fixedQuestionId);
 		int currentOrder = currentQuestion.qOrder();
-		var nextQuestionOpt = interviewService.getNextQuestion(sessionId, currentOrder);
+		Optional<FixedQuestionResponse> nextQuestionOpt;
+		try {
+			nextQuestionOpt = interviewService.getNextQuestion(sessionId, currentOrder);
+		} catch (SessionStateConflictException e) {
+			// 다른 요청이 이미 다음 질문으로 전이함 - 중복 전송 방지
+			log.warn("⚠️ [STALE_TRANSITION] Session already moved past order {}. sessionId={}", currentOrder,
+				sessionId);
+			return;
+		}
 
 		// 다음 질문이 있을 때만 리액션 전송 (마지막→엔딩일 때는 리액션 없이 바로 종료)
 		if (nextQuestionOpt.isPresent()) {
-			String reactionText = TAIL_LIMIT_REACTIONS[(int)(Math.random() * TAIL_LIMIT_REACTIONS.length)];
-			ReactionPayload reactionPayload = ReactionPayload.builder().reactionText(reactionText).build();
-			sseEmitterService.send(sessionId, AiConstants.EVENT_REACTION, reactionPayload);
-			log.info("🎭 [TAIL LIMIT REACTION] sessionId={}, reaction={}", sessionId, reactionText);
+			sendTemplatedReaction(sessionId);
 		}
 
 		// done 이벤트를 클라이언트로 전송
@@ -778,6 +965,13 @@ public class FastApiClient implements AiClient {
 			() -> proceedToClosingOrInsight(sessionId, AiConstants.REASON_ALL_DONE)); // 클로징 전 인사이트 체크
 	}
 
+	private void sendTemplatedReaction(String sessionId) {
+		String reactionText = TAIL_LIMIT_REACTIONS[(int)(Math.random() * TAIL_LIMIT_REACTIONS.length)];
+		ReactionPayload reactionPayload = ReactionPayload.builder().reactionText(reactionText).build();
+		sseEmitterService.send(sessionId, AiConstants.EVENT_REACTION, reactionPayload);
+		log.info("🎭 [TEMPLATED REACTION] sessionId={}, reaction={}", sessionId, reactionText);
+	}
+
 	/**
 	 * 클로징 전 인사이트 질문 체크
 	 * 인사이트 태그가 있으면 인사이트 질문 Phase로 진입, 없으면 바로 클로징
@@ -805,25 +999,35 @@ public class FastApiClient implements AiClient {
 	 * AI 서버에 세션 시작(오프닝) 요청을 보내고 SSE 스트리밍 응답을 클라이언트로 전달합니다.
 	 * Phase 2: 인사말 + 오프닝 질문 생성
 	 */
-	public void streamOpening(String sessionId, Map<String, Object> gameInfo,
+	public Disposable streamOpening(String sessionId, Map<String, Object> gameInfo,
 		AiSessionStartRequest.TesterProfileDto testerProfile) {
-		AiSessionStartRequest request = AiSessionStartRequest.builder()
-			.sessionId(sessionId)
-			.gameInfo(gameInfo)
-			.testerProfile(testerProfile)
-			.build();
+		// 정적 컨텍스트를 먼저 등록하고 start-session에는 context_id만 전송 (등록 불가 시 전체 payload)
+		Flux<ServerSentEvent<String>> eventStream = aiContextClient.register(sessionId, gameInfo, testerProfile)
+			.map(contextId -> contextId
+				.map(id -> AiSessionStartRequest.builder().sessionId(sessionId).contextId(id).build())
+				.orElseGet(() -> AiSessionStartRequest.builder()
+					.sessionId(sessionId)
+					.gameInfo(gameInfo)
+					.testerProfile(testerProfile)
+					.build()))
+			.flatMapMany(request -> aiWebClient.post()
+				.uri("/surveys/start-session")
+				.contentType(MediaType.APPLICATION_JSON)
+				.accept(MediaType.TEXT_EVENT_STREAM)
+				.bodyValue(request)
+				.retrieve()
+				.bodyToFlux(new ParameterizedTypeReference<ServerSentEvent<String>>() {}));
 
-		Flux<ServerSentEvent<String>> eventStream = aiWebClient.post()
-			.uri("/surveys/start-session")
-			.contentType(MediaType.APPLICATION_JSON)
-			.accept(MediaType.TEXT_EVENT_STREAM)
-			.bodyValue(request)
-			.retrieve()
-			.bodyToFlux(new ParameterizedTypeReference<ServerSentEvent<String>>() {});
+		AtomicBoolean greetingStarted = new AtomicBoolean(false);
+		AtomicBoolean openingCompleted = new AtomicBoolean(false);
 
-		eventStream.subscribe(
-			sse -> handleOpeningEvent(sessionId, sse.data()),
+		return withLatencyBudget(eventStream, aiProperties.latency().opening()).subscribe(
+			sse -> handleOpeningEvent(sessionId, sse.data(), greetingStarted, openingCompleted),
 			error -> {
+				if (error instanceof TimeoutException) {
+					handleOpeningBudgetExceeded(sessionId, greetingStarted.get(), openingCompleted.get());
+					return;
+				}
 				log.error("Error in streamOpening: {}", error.getMessage());
 				sseEmitterService.send(sessionId, AiConstants.EVENT_ERROR, "오프닝 생성 오류");
 			},
@@ -852,9 +1056,16 @@ public class FastApiClient implements AiClient {
 			.retrieve()
 			.bodyToFlux(new ParameterizedTypeReference<ServerSentEvent<String>>() {});
 
-		eventStream.subscribe(
-			sse -> handleClosingEvent(sessionId, sse.data()),
+		AtomicBoolean closingStarted = new AtomicBoolean(false);
+		AtomicBoolean closingCompleted = new AtomicBoolean(false);
+
+		withLatencyBudget(eventStream, aiProperties.latency().closing()).subscribe(
+			sse -> handleClosingEvent(sessionId, sse.data(), closingStarted, closingCompleted),
 			error -> {
+				if (error instanceof TimeoutException) {
+					handleClosingBudgetExceeded(sessionId, closingStarted.get(), closingCompleted.get());
+					return;
+				}
 				log.error("❌ [CLOSING ERROR] FastAPI error during closing: sessionId={}, error={}",
 					sessionId, error.getMessage(), error);
 				sendInterviewComplete(sessionId);
@@ -862,7 +1073,77 @@ public class FastApiClient implements AiClient {
 			() -> log.info("✅ [CLOSING STREAM COMPLETE] AI closing stream finished. sessionId={}", sessionId));
 	}
 
-	private void handleOpeningEvent(String sessionId, String jsonStr) {
+	// AI 지연 예산 초과 시 사용할 기본 인사말/마무리 멘트
+	private static final String FALLBACK_GREETING = "안녕하세요! 플레이해주셔서 감사해요. 게임에 대해 몇 가지 여쭤볼게요 😊";
+	private static final String FALLBACK_CLOSING = "오늘 소중한 의견 들려주셔서 정말 감사해요! 인터뷰를 마칠게요 😊";
+
+	/**
+	 * 오프닝 스트림이 지연 예산을 넘긴 경우
+	 * 인사말이 아직 없으면 기본 인사말을 보내고 첫번째 고정질문으로 진행
+	 */
+	private void handleOpeningBudgetExceeded(String sessionId, boolean greetingStarted, boolean openingCompleted) {
+		if (openingCompleted) {
+			log.info("⏱️ [LATENCY BUDGET] Opening already completed, ignoring late timeout. sessionId={}", sessionId);
+			return;
+		}
+		log.warn("⏱️ [LATENCY BUDGET] Opening stream exceeded budget. Sending first question. sessionId={}, "
+			+ "greetingStarted={}", sessionId, greetingStarted);
+
+		if (!greetingStarted) {
+			QuestionPayload greetingPayload = QuestionPayload.of(null, "GREETING", FALLBACK_GREETING, 0, null, null);
+			sseEmitterService.send(sessionId, AiConstants.EVENT_GREETING_CONTINUE, greetingPayload);
+		}
+		try {
+			sendFirstQuestion(sessionId);
+		} catch (SessionStateConflictException e) {
+			log.warn("⚠️ [STALE_TRANSITION] Session state changed during opening fallback. sessionId={}", sessionId);
+		}
+	}
+
+	/**
+	 * 클로징 스트림이 지연 예산을 넘긴 경우
+	 * 마무리 멘트가 아직 없으면 기본 멘트를 보내고 인터뷰 완료 처리
+	 */
+	private void handleClosingBudgetExceeded(String sessionId, boolean closingStarted, boolean closingCompleted) {
+		if (closingCompleted) {
+			log.info("⏱️ [LATENCY BUDGET] Closing already completed, ignoring late timeout. sessionId={}", sessionId);
+			return;
+		}
+		log.warn("⏱️ [LATENCY BUDGET] Closing stream exceeded budget. Completing interview. sessionId={}, "
+			+ "closingStarted={}", sessionId, closingStarted);
+
+		if (!closingStarted) {
+			QuestionPayload closingPayload = QuestionPayload.of(null, AiConstants.ACTION_CLOSING, FALLBACK_CLOSING, 0,
+				null, null);
+			sseEmitterService.send(sessionId, AiConstants.EVENT_CONTINUE, closingPayload);
+		}
+		sendInterviewComplete(sessionId);
+	}
+
+	/**
+	 * 첫번째 고정질문 조회(세션 상태 초기화) 후 전송
+	 */
+	private void sendFirstQuestion(String sessionId) {
+		FixedQuestionResponse firstQuestion = interviewService.getFirstQuestion(sessionId);
+		Long surveyId = interviewService.getSurveyIdBySession(sessionId);
+		int totalQs = interviewService.getTotalQuestionCount(surveyId);
+
+		QuestionPayload questionPayload = QuestionPayload.of(
+			firstQuestion.fixedQId(),
+			AiConstants.ACTION_FIXED,
+			firstQuestion.qContent(),
+			1,
+			firstQuestion.qOrder(),
+			totalQs);
+		sseEmitterService.send(sessionId, AiConstants.EVENT_QUESTION, questionPayload);
+
+		// [FIX] 첫번째 고정 질문 전송 후 done 이벤트 전송
+		StatusPayload firstDonePayload = StatusPayload.builder().status("completed").build();
+		sseEmitterService.send(sessionId, AiConstants.EVENT_DONE, firstDonePayload);
+	}
+
+	private void handleOpeningEvent(String sessionId, String jsonStr, AtomicBoolean greetingStarted,
+		AtomicBoolean openingCompleted) {
 		try {
 			JsonNode rootNode = objectMapper.readTree(jsonStr);
 			String eventType = rootNode.path("event").asText();
@@ -877,6 +1158,7 @@ public class FastApiClient implements AiClient {
 
 				// ===== 인사말 스트리밍 (새 이벤트) =====
 				case AiConstants.EVENT_GREETING_CONTINUE:
+					greetingStarted.set(true);
 					String greetingToken = dataNode.path("content").asText();
 					QuestionPayload greetingPayload = QuestionPayload.of(null, "GREETING", greetingToken, 0, null,
 						null);
@@ -886,27 +1168,14 @@ public class FastApiClient implements AiClient {
 				// ===== 인사말 완료 → 첫번째 고정질문 전송 =====
 				case AiConstants.EVENT_GREETING_DONE:
 					log.info("👋 [GREETING DONE] Sending first fixed question. sessionId={}", sessionId);
+					openingCompleted.set(true);
 					// DB에서 첫번째 고정질문 조회
-					FixedQuestionResponse firstQuestion = interviewService.getFirstQuestion(sessionId);
-					Long surveyId = interviewService.getSurveyIdBySession(sessionId);
-					int totalQs = interviewService.getTotalQuestionCount(surveyId);
-
-					QuestionPayload questionPayload = QuestionPayload.of(
-						firstQuestion.fixedQId(),
-						AiConstants.ACTION_FIXED,
-						firstQuestion.qContent(),
-						1,
-						firstQuestion.qOrder(),
-						totalQs);
-					sseEmitterService.send(sessionId, AiConstants.EVENT_QUESTION, questionPayload);
-
-					// [FIX] 첫번째 고정 질문 전송 후 done 이벤트 전송
-					StatusPayload firstDonePayload = StatusPayload.builder().status("completed").build();
-					sseEmitterService.send(sessionId, AiConstants.EVENT_DONE, firstDonePayload);
+					sendFirstQuestion(sessionId);
 					break;
 
 				// ===== 레거시 호환: 기존 continue 이벤트 =====
 				case AiConstants.EVENT_CONTINUE:
+					greetingStarted.set(true);
 					String content = dataNode.path("content").asText();
 					QuestionPayload openingPayload = QuestionPayload.of(null, AiConstants.ACTION_OPENING, content, 0,
 						null, null);
@@ -914,6 +1183,7 @@ public class FastApiClient implements AiClient {
 					break;
 
 				case AiConstants.EVENT_DONE:
+					openingCompleted.set(true);
 					String questionText = dataNode.path("question_text").asText();
 					QuestionPayload donePayload = QuestionPayload.of(null, AiConstants.ACTION_OPENING, questionText, 0,
 						null, null);
@@ -932,7 +1202,8 @@ public class FastApiClient implements AiClient {
 		}
 	}
 
-	private void handleClosingEvent(String sessionId, String jsonStr) {
+	private void handleClosingEvent(String sessionId, String jsonStr, AtomicBoolean closingStarted,
+		AtomicBoolean closingCompleted) {
 		log.debug("📥 [CLOSING EVENT RAW] sessionId={}, json={}", sessionId, jsonStr);
 		try {
 			JsonNode rootNode = objectMapper.readTree(jsonStr);
@@ -949,6 +1220,7 @@ public class FastApiClient implements AiClient {
 					break;
 
 				case AiConstants.EVENT_CONTINUE:
+					closingStarted.set(true);
 					String content = dataNode.path("content").asText();
 					log.info("💬 [CLOSING CONTENT] Streaming closing remarks. sessionId={}, contentLength={}",
 						sessionId, content.length());
@@ -960,6 +1232,7 @@ public class FastApiClient implements AiClient {
 				case AiConstants.EVENT_DONE:
 					log.info("🏁 [CLOSING DONE] Closing remarks complete. Finalizing interview. sessionId={}",
 						sessionId);
+					closingCompleted.set(true);
 					// 마무리 멘트 전송 후 인터뷰 완료 처리
 					sendInterviewComplete(sessionId);
 					break;
@@ -967,6 +1240,7 @@ public class FastApiClient implements AiClient {
 				case AiConstants.EVENT_ERROR:
 					String errMsg = dataNode.path("message").asText();
 					log.error("❌ [CLOSING ERROR EVENT] AI returned error. sessionId={}, error={}", sessionId, errMsg);
+					closingCompleted.set(true);
 					sseEmitterService.send(sessionId, AiConstants.EVENT_ERROR,
 						ErrorPayload.builder().message(errMsg).build());
 					sendInterviewComplete(sessionId);
@@ -978,6 +1252,7 @@ public class FastApiClient implements AiClient {
 		} catch (JsonProcessingException e) {
 			log.error("❌ [CLOSING PARSE ERROR] Failed to parse closing event. sessionId={}, error={}",
 				sessionId, e.getMessage(), e);
+			closingCompleted.set(true);
 			sendInterviewComplete(sessionId);
 		}
 	}
@@ -1,8 +1,15 @@
 package com.playprobie.api.infra.sse.service;
 
 import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Map;
+import java.util.Queue;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
 
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
@@ -20,19 +27,96 @@ public class SseEmitterService {
 	private static final String EVENT_CONNECT = "connect";
 	private static final String DATA_CONNECTED = "connected";
 
+	/** SSE 연결 전 보관할 수 있는 최대 이벤트 수 (인사말 토큰 스트림 기준 여유 있게) */
+	private static final int MAX_PENDING_EVENTS = 1024;
+	/** SSE 연결 대기 제한 시간 - 초과 시 버퍼를 버리고 선행 스트림을 취소 */
+	private static final Duration PENDING_TIMEOUT = Duration.ofSeconds(60);
+
 	private final SseEmitterRepository emitterRepository;
 	private final AiProperties aiProperties;
 
-	public SseEmitter connect(UUID uuid) {
+	/** SSE 연결 전 선행 시작된 스트림의 이벤트 버퍼 (sessionId → buffer) */
+	private final Map<String, PendingEvents> pendingEvents = new ConcurrentHashMap<>();
+
+	/**
+	 * SSE 연결 후 선행 스트림 버퍼가 있으면 순서대로 전달합니다.
+	 *
+	 * @param onNoPendingStream 선행 시작된 스트림이 없을 때(또는 이미 만료됐을 때) 실행할 작업
+	 */
+	public SseEmitter connect(UUID uuid, Runnable onNoPendingStream) {
 		String sessionUuid = uuid.toString();
 		SseEmitter emitter = new SseEmitter(aiProperties.sse().timeout().toMillis());
 		emitterRepository.save(sessionUuid, emitter);
 
-		send(sessionUuid, EVENT_CONNECT, DATA_CONNECTED);
+		sendToEmitter(sessionUuid, EVENT_CONNECT, DATA_CONNECTED);
+
+		// flush가 끝날 때까지 버퍼를 맵에 남겨 두어, 그 사이의 send도 버퍼 모니터를 거쳐 순서가 유지되도록 합니다.
+		PendingEvents pending = pendingEvents.get(sessionUuid);
+		boolean flushed = pending != null
+			&& pending.attach(event -> sendToEmitter(sessionUuid, event.name(), event.data()));
+		if (pending != null) {
+			pendingEvents.remove(sessionUuid, pending);
+		}
+		if (flushed) {
+			log.info("📨 선행 스트림 버퍼 전달 완료. SessionId: {}, events={}", sessionUuid, pending.flushedCount());
+		} else {
+			onNoPendingStream.run();
+		}
 		return emitter;
 	}
 
+	/**
+	 * SSE 연결 전에 시작하는 스트림용 버퍼 생성
+	 * <p>
+	 * 버퍼가 열려 있는 동안 해당 세션으로 보내는 이벤트는 연결 시점까지 보관됩니다.
+	 *
+	 * @param onExpire 제한 시간 안에 연결되지 않거나 버퍼가 가득 찼을 때 실행할 작업 (선행 스트림 취소)
+	 * @return 버퍼를 새로 열었으면 true (이미 연결되어 있거나 버퍼가 있으면 false)
+	 */
+	public boolean openPendingBuffer(String sessionId, Runnable onExpire) {
+		if (emitterRepository.findById(sessionId).isPresent()) {
+			return false;
+		}
+		PendingEvents pending = new PendingEvents(System.currentTimeMillis() + PENDING_TIMEOUT.toMillis(), onExpire);
+		return pendingEvents.putIfAbsent(sessionId, pending) == null;
+	}
+
+	/**
+	 * 선행 스트림 시작에 실패했을 때 버퍼 폐기 (연결 시 스트림을 새로 시작하도록)
+	 */
+	public void discardPendingBuffer(String sessionId) {
+		pendingEvents.remove(sessionId);
+	}
+
 	public boolean send(String sessionId, String eventName, Object data) {
+		PendingEvents pending = pendingEvents.get(sessionId);
+		if (pending != null && pending.offer(new PendingEvent(eventName, data))) {
+			return true;
+		}
+		return sendToEmitter(sessionId, eventName, data);
+	}
+
+	public void complete(String sessionId) {
+		emitterRepository.findById(sessionId).ifPresent(SseEmitter::complete);
+	}
+
+	/**
+	 * 연결되지 않은 채 제한 시간이 지났거나 넘친 버퍼 정리
+	 */
+	@Scheduled(fixedDelay = 5000, initialDelay = 5000)
+	public void expirePendingBuffers() {
+		expirePendingBuffers(System.currentTimeMillis());
+	}
+
+	void expirePendingBuffers(long now) {
+		pendingEvents.forEach((sessionId, pending) -> {
+			if (pending.isExpired(now) && pendingEvents.remove(sessionId, pending) && pending.expire()) {
+				log.warn("⌛ SSE 미연결로 선행 스트림 취소. SessionId: {}", sessionId);
+			}
+		});
+	}
+
+	private boolean sendToEmitter(String sessionId, String eventName, Object data) {
 		return emitterRepository.findById(sessionId).map(emitter -> {
 			try {
 				emitter.send(SseEmitter.event()
@@ -51,7 +135,91 @@ public class SseEmitterService {
 		});
 	}
 
-	public void complete(String sessionId) {
-		emitterRepository.findById(sessionId).ifPresent(SseEmitter::complete);
+	private record PendingEvent(String name, Object data) {
+	}
+
+	/**
+	 * 세션별 이벤트 버퍼
+	 * <p>
+	 * 상태 전이(BUFFERING → ATTACHED/EXPIRED)와 이벤트 추가를 같은 모니터로 보호하여,
+	 * 연결 시점의 flush와 스트림 스레드의 send가 섞여도 이벤트 순서가 유지됩니다.
+	 */
+	private static final class PendingEvents {
+
+		private final long deadline;
+		private final Runnable onExpire;
+		private final Queue<PendingEvent> events = new ArrayDeque<>();
+		private boolean attached;
+		private boolean expired;
+		private boolean overflowed;
+		private int flushedCount;
+
+		PendingEvents(long deadline, Runnable onExpire) {
+			this.deadline = deadline;
+			this.onExpire = onExpire;
+		}
+
+		/**
+		 * 버퍼에 이벤트 추가 (이미 연결됐으면 false - 호출자가 직접 전송)
+		 */
+		synchronized boolean offer(PendingEvent event) {
+			if (attached) {
+				return false;
+			}
+			if (expired || overflowed) {
+				return true; // 폐기
+			}
+			if (events.size() >= MAX_PENDING_EVENTS) {
+				overflowed = true;
+				events.clear();
+				return true;
+			}
+			events.add(event);
+			return true;
+		}
+
+		/**
+		 * 버퍼를 비우며 전송하고 연결 상태로 전환 (만료/초과된 버퍼면 false)
+		 */
+		boolean attach(Consumer<PendingEvent> sender) {
+			synchronized (this) {
+				if (expired || overflowed) {
+					expired = true;
+				} else {
+					PendingEvent event;
+					while ((event = events.poll()) != null) {
+						sender.accept(event);
+						flushedCount++;
+					}
+					attached = true;
+					return true;
+				}
+			}
+			onExpire.run();
+			return false;
+		}
+
+		synchronized boolean isExpired(long now) {
+			return !attached && (overflowed || now >= deadline);
+		}
+
+		/**
+		 * 만료 처리 후 선행 스트림 취소 (이미 연결됐으면 false)
+		 */
+		boolean expire() {
+			synchronized (this) {
+				if (attached) {
+					return false;
+				}
+				expired = true;
+				events.clear();
+			}
+			onExpire.run();
+			return true;
+		}
+
+		synchronized int flushedCount() {
+			return flushedCount;
+		}
 	}
 }
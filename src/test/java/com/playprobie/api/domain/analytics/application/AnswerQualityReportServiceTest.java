@@ -0,0 +1,245 @@
+package com.playprobie.api.domain.analytics.application;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.playprobie.api.domain.analytics.dao.QuestionQualityStatRepository;
+import com.playprobie.api.domain.analytics.domain.QuestionQualityStat;
+import com.playprobie.api.domain.analytics.dto.AnswerQualityReportResponse;
+import com.playprobie.api.domain.analytics.dto.AnswerQualityReportResponse.Distribution;
+import com.playprobie.api.domain.interview.dao.InterviewLogRepository;
+import com.playprobie.api.domain.interview.domain.AnswerQuality;
+import com.playprobie.api.domain.interview.domain.AnswerValidity;
+import com.playprobie.api.domain.interview.dto.AnswerEvaluationCount;
+import com.playprobie.api.domain.interview.dto.TailImprovementCount;
+import com.playprobie.api.domain.survey.dao.FixedQuestionRepository;
+import com.playprobie.api.domain.survey.dao.SurveyRepository;
+import com.playprobie.api.domain.survey.domain.FixedQuestion;
+import com.playprobie.api.domain.survey.domain.Survey;
+
+/**
+ * AnswerQualityReportService 단위 테스트
+ * 롤업 집계, 롤업 재사용/재집계 판단, dirty 표시와 주기 재집계, 동시 생성 충돌 시 재집계 검증
+ */
+class AnswerQualityReportServiceTest {
+
+	private static final Long SURVEY_ID = 1L;
+	private static final Long FIRST_Q_ID = 10L;
+	private static final Long SECOND_Q_ID = 20L;
+
+	private final UUID surveyUuid = UUID.randomUUID();
+
+	private InterviewLogRepository interviewLogRepository;
+	private QuestionQualityStatRepository questionQualityStatRepository;
+	private AnswerQualityReportService service;
+
+	@BeforeEach
+	void setUp() {
+		Survey survey = mock(Survey.class);
+		when(survey.getId()).thenReturn(SURVEY_ID);
+		SurveyRepository surveyRepository = mock(SurveyRepository.class);
+		when(surveyRepository.findByUuid(surveyUuid)).thenReturn(Optional.of(survey));
+		List<FixedQuestion> questions = List.of(question(FIRST_Q_ID), question(SECOND_Q_ID));
+		FixedQuestionRepository fixedQuestionRepository = mock(FixedQuestionRepository.class);
+		when(fixedQuestionRepository.findBySurveyIdOrderByOrderAsc(SURVEY_ID)).thenReturn(questions);
+		interviewLogRepository = mock(InterviewLogRepository.class);
+		when(interviewLogRepository.countEvaluationsByFixedQuestionId(any())).thenReturn(List.of());
+		questionQualityStatRepository = mock(QuestionQualityStatRepository.class);
+		when(questionQualityStatRepository.save(any())).thenAnswer(invocation -> invocation.getArgument(0));
+
+		service = new AnswerQualityReportService(surveyRepository, fixedQuestionRepository, interviewLogRepository,
+			questionQualityStatRepository, new TransactionTemplate(mock(PlatformTransactionManager.class)));
+	}
+
+	@AfterEach
+	void tearDown() {
+		if (TransactionSynchronizationManager.isSynchronizationActive()) {
+			TransactionSynchronizationManager.clearSynchronization();
+		}
+	}
+
+	@Nested
+	@DisplayName("리포트 조회")
+	class GetReport {
+
+		@Test
+		@DisplayName("유효성/품질 조합 집계를 각각 합산하고 꼬리질문 개선율과 설문 합계를 계산한다")
+		void aggregatesRollupFromGroupedCounts() {
+			// given: 두 번째 질문은 롤업이 이미 있음
+			when(interviewLogRepository.countEvaluationsByFixedQuestionId(FIRST_Q_ID)).thenReturn(List.of(
+				new AnswerEvaluationCount(AnswerValidity.VALID, AnswerQuality.FULL, 2L),
+				new AnswerEvaluationCount(AnswerValidity.VALID, AnswerQuality.GROUNDED, 1L),
+				new AnswerEvaluationCount(AnswerValidity.OFF_TOPIC, AnswerQuality.EMPTY, 1L),
+				new AnswerEvaluationCount(null, null, 1L)));
+			TailImprovementCount tail = tailCount(4L, 1L);
+			when(interviewLogRepository.countTailImprovementByFixedQuestionId(FIRST_Q_ID)).thenReturn(tail);
+			when(questionQualityStatRepository.findAllBySurveyId(SURVEY_ID))
+				.thenReturn(List.of(stat(SECOND_Q_ID, 3L)));
+
+			// when
+			AnswerQualityReportResponse report = service.getReport(surveyUuid);
+
+			// then
+			Distribution first = report.questions().get(0);
+			assertThat(first.fixedQuestionId()).isEqualTo(FIRST_Q_ID);
+			assertThat(first.totalCount()).isEqualTo(5);
+			assertThat(first.validity()).containsEntry(AnswerValidity.VALID, 3L)
+				.containsEntry(AnswerValidity.OFF_TOPIC, 1L)
+				.containsEntry(AnswerValidity.REFUSAL, 0L);
+			assertThat(first.quality()).containsEntry(AnswerQuality.FULL, 2L)
+				.containsEntry(AnswerQuality.GROUNDED, 1L)
+				.containsEntry(AnswerQuality.EMPTY, 1L);
+			assertThat(first.tailImprovementRate()).isEqualTo(0.25);
+			assertThat(report.survey().totalCount()).isEqualTo(8);
+			assertThat(report.survey().validity()).containsEntry(AnswerValidity.VALID, 6L);
+		}
+
+		@Test
+		@DisplayName("롤업이 있는 질문은 다시 집계하지 않고, 없는 질문만 조회 시점에 집계해 저장한다")
+		void refreshesOnlyMissingRollups() {
+			// given
+			when(questionQualityStatRepository.findAllBySurveyId(SURVEY_ID))
+				.thenReturn(List.of(stat(SECOND_Q_ID, 3L)));
+
+			// when
+			service.getReport(surveyUuid);
+
+			// then
+			verify(interviewLogRepository, times(1)).countEvaluationsByFixedQuestionId(FIRST_Q_ID);
+			verify(interviewLogRepository, never()).countEvaluationsByFixedQuestionId(SECOND_Q_ID);
+			verify(questionQualityStatRepository, times(1)).save(any());
+		}
+
+		@Test
+		@DisplayName("스케줄러가 같은 질문 롤업을 먼저 만들어 PK가 충돌하면, 만들어진 행을 갱신하도록 다시 집계한다")
+		void retriesWhenRollupCreatedConcurrently() {
+			// given: 첫 저장은 다른 스레드가 먼저 넣은 행과 충돌
+			QuestionQualityStat created = stat(FIRST_Q_ID, 0L);
+			when(questionQualityStatRepository.findAllBySurveyId(SURVEY_ID))
+				.thenReturn(List.of(stat(SECOND_Q_ID, 3L)));
+			when(questionQualityStatRepository.findById(FIRST_Q_ID))
+				.thenReturn(Optional.empty())
+				.thenReturn(Optional.of(created));
+			when(questionQualityStatRepository.save(any()))
+				.thenThrow(new DataIntegrityViolationException("Duplicate entry '10' for key 'PRIMARY'"))
+				.thenAnswer(invocation -> invocation.getArgument(0));
+			when(interviewLogRepository.countEvaluationsByFixedQuestionId(FIRST_Q_ID))
+				.thenReturn(List.of(new AnswerEvaluationCount(AnswerValidity.VALID, AnswerQuality.FULL, 2L)));
+
+			// when
+			AnswerQualityReportResponse report = service.getReport(surveyUuid);
+
+			// then
+			assertThat(report.questions().get(0).totalCount()).isEqualTo(2);
+			assertThat(created.getTotalCount()).isEqualTo(2);
+			verify(questionQualityStatRepository, times(2)).save(any());
+		}
+	}
+
+	@Nested
+	@DisplayName("dirty 재집계")
+	class DirtyTracking {
+
+		@Test
+		@DisplayName("dirty로 표시된 질문은 롤업이 있어도 조회 시 다시 집계하고, 이후 조회에서는 롤업을 재사용한다")
+		void refreshesDirtyQuestionOnRead() {
+			// given
+			when(questionQualityStatRepository.findAllBySurveyId(SURVEY_ID))
+				.thenReturn(List.of(stat(FIRST_Q_ID, 1L), stat(SECOND_Q_ID, 3L)));
+			service.markDirty(SURVEY_ID, SECOND_Q_ID);
+
+			// when
+			service.getReport(surveyUuid);
+			service.getReport(surveyUuid);
+
+			// then
+			verify(interviewLogRepository, times(1)).countEvaluationsByFixedQuestionId(SECOND_Q_ID);
+			verify(interviewLogRepository, never()).countEvaluationsByFixedQuestionId(FIRST_Q_ID);
+		}
+
+		@Test
+		@DisplayName("주기 재집계는 dirty 질문만 한 번 집계하고, 실패한 질문은 다음 주기에 다시 시도한다")
+		void refreshesDirtyQuestionsPeriodically() {
+			// given: 첫 질문의 첫 집계는 실패
+			when(interviewLogRepository.countEvaluationsByFixedQuestionId(FIRST_Q_ID))
+				.thenThrow(new IllegalStateException("DB unavailable"))
+				.thenReturn(List.of());
+			service.markDirty(SURVEY_ID, FIRST_Q_ID);
+			service.markDirty(SURVEY_ID, SECOND_Q_ID);
+
+			// when
+			service.refreshDirtyQuestions();
+			service.refreshDirtyQuestions();
+			service.refreshDirtyQuestions();
+
+			// then
+			verify(interviewLogRepository, times(2)).countEvaluationsByFixedQuestionId(FIRST_Q_ID);
+			verify(interviewLogRepository, times(1)).countEvaluationsByFixedQuestionId(SECOND_Q_ID);
+		}
+
+		@Test
+		@DisplayName("트랜잭션 안에서 표시하면 커밋 이후에만 재집계 대상이 된다")
+		void marksDirtyAfterCommit() {
+			// given
+			TransactionSynchronizationManager.initSynchronization();
+			service.markDirty(SURVEY_ID, FIRST_Q_ID);
+			List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+			TransactionSynchronizationManager.clearSynchronization();
+
+			// when: 커밋 전
+			service.refreshDirtyQuestions();
+
+			// then
+			verify(interviewLogRepository, never()).countEvaluationsByFixedQuestionId(FIRST_Q_ID);
+
+			// when: 커밋 후
+			synchronizations.forEach(TransactionSynchronization::afterCommit);
+			service.refreshDirtyQuestions();
+
+			// then
+			verify(interviewLogRepository, times(1)).countEvaluationsByFixedQuestionId(FIRST_Q_ID);
+		}
+	}
+
+	// === Helper Methods ===
+
+	private static FixedQuestion question(Long id) {
+		FixedQuestion question = mock(FixedQuestion.class);
+		when(question.getId()).thenReturn(id);
+		return question;
+	}
+
+	private static QuestionQualityStat stat(Long fixedQuestionId, long validCount) {
+		QuestionQualityStat stat = new QuestionQualityStat(fixedQuestionId, SURVEY_ID);
+		stat.refresh(validCount, Map.of(AnswerValidity.VALID, validCount), Map.of(), 0L, 0L);
+		return stat;
+	}
+
+	private static TailImprovementCount tailCount(Long tailed, Long improved) {
+		TailImprovementCount count = mock(TailImprovementCount.class);
+		when(count.getTailedCount()).thenReturn(tailed);
+		when(count.getImprovedCount()).thenReturn(improved);
+		return count;
+	}
+}
@@ -0,0 +1,70 @@
+package com.playprobie.api.domain.analytics.application;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.playprobie.api.domain.interview.dao.SurveySessionRepository;
+import com.playprobie.api.domain.interview.domain.SessionStatus;
+import com.playprobie.api.domain.interview.dto.TesterDemographicCount;
+import com.playprobie.api.domain.survey.dao.SurveyRepository;
+import com.playprobie.api.domain.survey.domain.Survey;
+
+/**
+ * DemographicCubeService 단위 테스트
+ * 큐브 적재 중에 반영된 완료가 유실되지 않는지 검증
+ */
+class DemographicCubeServiceTest {
+
+	private static final Long SURVEY_ID = 1L;
+
+	private final UUID surveyUuid = UUID.randomUUID();
+
+	private SurveySessionRepository surveySessionRepository;
+	private DemographicCubeService demographicCubeService;
+
+	@BeforeEach
+	void setUp() {
+		Survey survey = mock(Survey.class);
+		when(survey.getId()).thenReturn(SURVEY_ID);
+		SurveyRepository surveyRepository = mock(SurveyRepository.class);
+		when(surveyRepository.findByUuid(surveyUuid)).thenReturn(Optional.of(survey));
+		surveySessionRepository = mock(SurveySessionRepository.class);
+		demographicCubeService = new DemographicCubeService(surveyRepository, surveySessionRepository);
+	}
+
+	@Test
+	@DisplayName("적재 쿼리 도중 커밋된 완료가 있으면 큐브를 캐시하지 않고 다음 조회에서 다시 적재한다")
+	void reloadsWhenCompletionCommitsDuringLoad() {
+		// given: 첫 적재 쿼리가 끝나기 전에 완료 1건이 커밋됨 (스냅샷에는 미포함)
+		when(surveySessionRepository.countDemographicsBySurveyIdAndStatus(SURVEY_ID, SessionStatus.COMPLETED))
+			.thenAnswer(invocation -> {
+				demographicCubeService.recordCompletion(SURVEY_ID, null);
+				return List.of();
+			})
+			.thenReturn(List.of(new TesterDemographicCount(null, null, null, 1L)));
+
+		// when
+		int first = demographicCubeService.getCounts(surveyUuid, null, null, null).count();
+		int second = demographicCubeService.getCounts(surveyUuid, null, null, null).count();
+		demographicCubeService.recordCompletion(SURVEY_ID, null);
+		int third = demographicCubeService.getCounts(surveyUuid, null, null, null).count();
+
+		// then: 두 번째 조회에서 재적재 후 캐시되고, 이후 완료는 증분 반영
+		assertThat(first).isZero();
+		assertThat(second).isEqualTo(1);
+		assertThat(third).isEqualTo(2);
+		verify(surveySessionRepository, times(2))
+			.countDemographicsBySurveyIdAndStatus(SURVEY_ID, SessionStatus.COMPLETED);
+	}
+}
@@ -0,0 +1,251 @@
+package com.playprobie.api.domain.analytics.application;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.playprobie.api.domain.analytics.dao.QuestionAnalysisAggregateRepository;
+import com.playprobie.api.domain.analytics.dao.QuestionResponseAnalysisRepository;
+import com.playprobie.api.domain.analytics.domain.QuestionAnalysisAggregate;
+import com.playprobie.api.domain.analytics.domain.QuestionResponseAnalysis;
+import com.playprobie.api.domain.analytics.dto.VersionComparisonResponse;
+import com.playprobie.api.domain.analytics.dto.VersionComparisonResponse.Delta;
+import com.playprobie.api.domain.analytics.dto.VersionComparisonResponse.QuestionVersion;
+import com.playprobie.api.domain.survey.dao.FixedQuestionRepository;
+import com.playprobie.api.domain.survey.dao.SurveyRepository;
+import com.playprobie.api.domain.survey.domain.FixedQuestion;
+import com.playprobie.api.domain.survey.domain.Survey;
+
+/**
+ * VersionComparisonService 단위 테스트
+ * 분석 결과 → 비교용 집계 변환, 같은 순서 질문의 버전 간 변화량(키워드 Jaccard), 집계 없는 설문의 result_json 백필 검증
+ */
+class VersionComparisonServiceTest {
+
+	private static final UUID GAME_UUID = UUID.randomUUID();
+	private static final Long V1_SURVEY_ID = 1L;
+	private static final Long V2_SURVEY_ID = 2L;
+
+	private final Map<Long, QuestionAnalysisAggregate> aggregates = new HashMap<>();
+	private final Survey v1 = survey(V1_SURVEY_ID, "v1.0");
+	private final Survey v2 = survey(V2_SURVEY_ID, "v1.1");
+
+	private FixedQuestionRepository fixedQuestionRepository;
+	private QuestionResponseAnalysisRepository questionResponseAnalysisRepository;
+	private QuestionAnalysisAggregateRepository questionAnalysisAggregateRepository;
+	private VersionComparisonService service;
+
+	@BeforeEach
+	void setUp() {
+		SurveyRepository surveyRepository = mock(SurveyRepository.class);
+		// 생성 순서와 다르게 반환되어도 ID 순으로 비교
+		when(surveyRepository.findByGameUuid(GAME_UUID)).thenReturn(List.of(v2, v1));
+		fixedQuestionRepository = mock(FixedQuestionRepository.class);
+		questionResponseAnalysisRepository = mock(QuestionResponseAnalysisRepository.class);
+
+		// 집계 테이블은 메모리 맵으로 대체
+		questionAnalysisAggregateRepository = mock(QuestionAnalysisAggregateRepository.class);
+		when(questionAnalysisAggregateRepository.findById(any()))
+			.thenAnswer(invocation -> Optional.ofNullable(aggregates.get(invocation.<Long>getArgument(0))));
+		when(questionAnalysisAggregateRepository.save(any())).thenAnswer(invocation -> {
+			QuestionAnalysisAggregate aggregate = invocation.getArgument(0);
+			aggregates.put(aggregate.getFixedQuestionId(), aggregate);
+			return aggregate;
+		});
+		when(questionAnalysisAggregateRepository.findAllBySurveyIdIn(any())).thenAnswer(invocation -> {
+			Collection<Long> surveyIds = invocation.getArgument(0);
+			return aggregates.values().stream()
+				.filter(aggregate -> surveyIds.contains(aggregate.getSurveyId()))
+				.toList();
+		});
+
+		service = new VersionComparisonService(surveyRepository, fixedQuestionRepository,
+			questionResponseAnalysisRepository, questionAnalysisAggregateRepository, new ObjectMapper(),
+			new TransactionTemplate(mock(PlatformTransactionManager.class)));
+	}
+
+	@Nested
+	@DisplayName("버전 비교")
+	class Compare {
+
+		@Test
+		@DisplayName("클러스터 응답 수로 GEQ를 가중 평균하고, 키워드는 정규화해 직전 버전과 Jaccard 유사도로 비교한다")
+		void comparesWithPreviousVersion() {
+			// given: v1 = (4점 3명 + 0점 1명), v2 = 2점
+			service.refreshAggregate(question(11L, V1_SURVEY_ID, 1), analysis(4, 60,
+				cluster(3, 4, "보스", "Sound"), cluster(1, 0, "난이도")));
+			service.refreshAggregate(question(21L, V2_SURVEY_ID, 1), analysis(5, 70,
+				cluster(5, 2, "보스", "sound ", "그래픽, 색감")));
+
+			// when
+			VersionComparisonResponse response = service.compare(GAME_UUID);
+
+			// then
+			assertThat(response.surveys()).extracting(VersionComparisonResponse.SurveyVersion::surveyName)
+				.containsExactly("v1.0", "v1.1");
+			List<QuestionVersion> versions = response.questions().get(0).versions();
+			assertThat(versions).extracting(QuestionVersion::surveyUuid).containsExactly(v1.getUuid(), v2.getUuid());
+
+			QuestionVersion first = versions.get(0);
+			assertThat(first.geq().competence()).isEqualTo(3.0);
+			assertThat(first.keywords()).containsExactly("보스", "sound", "난이도");
+			assertThat(first.delta()).isNull();
+
+			QuestionVersion second = versions.get(1);
+			assertThat(second.answerCount()).isEqualTo(5);
+			assertThat(second.keywords()).containsExactly("보스", "sound", "그래픽  색감");
+			Delta delta = second.delta();
+			assertThat(delta.sharedKeywords()).containsExactly("보스", "sound");
+			assertThat(delta.addedKeywords()).containsExactly("그래픽  색감");
+			assertThat(delta.removedKeywords()).containsExactly("난이도");
+			assertThat(delta.keywordOverlap()).isEqualTo(0.5);
+			assertThat(delta.geq().competence()).isEqualTo(-1.0);
+			assertThat(delta.sentiment().score()).isEqualTo(10.0);
+			assertThat(delta.sentiment().positive()).isCloseTo(0.0, within(1e-9));
+		}
+
+		@Test
+		@DisplayName("질문 순서가 다르면 별도 비교 항목이 되고, 키워드가 모두 없으면 유사도는 0이다")
+		void groupsByQuestionOrder() {
+			// given
+			service.refreshAggregate(question(11L, V1_SURVEY_ID, 1), analysis(1, 50, cluster(1, 3)));
+			service.refreshAggregate(question(12L, V1_SURVEY_ID, 2), analysis(1, 50, cluster(1, 3)));
+			service.refreshAggregate(question(21L, V2_SURVEY_ID, 1), analysis(1, 50, cluster(1, 3)));
+
+			// when
+			VersionComparisonResponse response = service.compare(GAME_UUID);
+
+			// then
+			assertThat(response.questions()).extracting(VersionComparisonResponse.QuestionComparison::questionOrder)
+				.containsExactly(1, 2);
+			assertThat(response.questions().get(0).versions().get(1).delta().keywordOverlap()).isZero();
+			assertThat(response.questions().get(1).versions()).hasSize(1);
+		}
+
+		@Test
+		@DisplayName("파싱할 수 없는 분석 결과는 집계하지 않는다")
+		void ignoresMalformedResult() {
+			// when
+			service.refreshAggregate(question(11L, V1_SURVEY_ID, 1), "{not json");
+
+			// then
+			verify(questionAnalysisAggregateRepository, never()).save(any());
+		}
+	}
+
+	@Nested
+	@DisplayName("result_json 백필")
+	class Backfill {
+
+		@Test
+		@DisplayName("집계가 없는 설문만 완료된 분석 결과로 한 번 백필하고, 미완료/삭제된 질문의 결과는 건너뛴다")
+		void backfillsMissingSurveysOnce() {
+			// given: v1은 이미 집계됨, v2는 분석 결과만 있음
+			service.refreshAggregate(question(11L, V1_SURVEY_ID, 1), analysis(4, 60, cluster(4, 4, "보스")));
+			QuestionResponseAnalysis completed = new QuestionResponseAnalysis(21L, V2_SURVEY_ID, null, 0);
+			completed.updateResult(analysis(6, 80, cluster(6, 5, "보스", "그래픽")), 6);
+			QuestionResponseAnalysis pending = new QuestionResponseAnalysis(22L, V2_SURVEY_ID,
+				analysis(2, 10, cluster(2, 1)), 2);
+			QuestionResponseAnalysis removedQuestion = new QuestionResponseAnalysis(99L, V2_SURVEY_ID, null, 0);
+			removedQuestion.updateResult(analysis(1, 10, cluster(1, 1)), 1);
+			when(questionResponseAnalysisRepository.findAllBySurveyId(V2_SURVEY_ID))
+				.thenReturn(List.of(completed, pending, removedQuestion));
+			List<FixedQuestion> v2Questions = List.of(question(21L, V2_SURVEY_ID, 1), question(22L, V2_SURVEY_ID, 2));
+			when(fixedQuestionRepository.findBySurveyIdOrderByOrderAsc(V2_SURVEY_ID)).thenReturn(v2Questions);
+
+			// when
+			VersionComparisonResponse first = service.compare(GAME_UUID);
+			VersionComparisonResponse second = service.compare(GAME_UUID);
+
+			// then
+			assertThat(aggregates.keySet()).containsExactlyInAnyOrder(11L, 21L);
+			assertThat(first.questions()).hasSize(1);
+			QuestionVersion backfilled = first.questions().get(0).versions().get(1);
+			assertThat(backfilled.fixedQuestionId()).isEqualTo(21L);
+			assertThat(backfilled.answerCount()).isEqualTo(6);
+			assertThat(backfilled.delta().addedKeywords()).containsExactly("그래픽");
+			assertThat(second).isEqualTo(first);
+			verify(questionResponseAnalysisRepository, times(1)).findAllBySurveyId(V2_SURVEY_ID);
+			verify(questionResponseAnalysisRepository, never()).findAllBySurveyId(V1_SURVEY_ID);
+		}
+
+		@Test
+		@DisplayName("분석 결과가 없는 설문은 비교 버전 목록에는 있지만 질문 비교에서는 빠진다")
+		void skipsSurveyWithoutAnalyses() {
+			// given
+			service.refreshAggregate(question(11L, V1_SURVEY_ID, 1), analysis(4, 60, cluster(4, 4, "보스")));
+			when(questionResponseAnalysisRepository.findAllBySurveyId(V2_SURVEY_ID)).thenReturn(List.of());
+
+			// when
+			VersionComparisonResponse response = service.compare(GAME_UUID);
+
+			// then
+			assertThat(response.surveys()).hasSize(2);
+			assertThat(response.questions().get(0).versions()).extracting(QuestionVersion::surveyUuid)
+				.containsExactly(v1.getUuid());
+			verify(fixedQuestionRepository, never()).findBySurveyIdOrderByOrderAsc(V2_SURVEY_ID);
+		}
+	}
+
+	// === Helper Methods ===
+
+	private static Survey survey(Long id, String name) {
+		Survey survey = mock(Survey.class);
+		when(survey.getId()).thenReturn(id);
+		when(survey.getName()).thenReturn(name);
+		when(survey.getUuid()).thenReturn(UUID.randomUUID());
+		return survey;
+	}
+
+	private static FixedQuestion question(Long id, Long surveyId, int order) {
+		FixedQuestion question = mock(FixedQuestion.class);
+		when(question.getId()).thenReturn(id);
+		when(question.getSurveyId()).thenReturn(surveyId);
+		when(question.getOrder()).thenReturn(order);
+		return question;
+	}
+
+	/**
+	 * AI 서버 질문 분석 결과(result_json) 형식
+	 */
+	private static String analysis(int totalAnswers, int sentimentScore, String... clusters) {
+		return """
+			{"question_id": 1, "total_answers": %d, "clusters": [%s],
+			 "sentiment": {"score": %d, "label": "positive",
+			  "distribution": {"positive": 0.6, "neutral": 0.3, "negative": 0.1}}}
+			""".formatted(totalAnswers, String.join(",", clusters), sentimentScore);
+	}
+
+	private static String cluster(int count, int competence, String... keywords) {
+		String keywordJson = Arrays.stream(keywords)
+			.map(keyword -> "\"" + keyword + "\"")
+			.collect(Collectors.joining(","));
+		return """
+			{"summary": "요약", "count": %d, "keywords": [%s],
+			 "geq_scores": {"competence": %d, "immersion": 3, "flow": 3, "tension": 2, "challenge": 4,
+			  "positive_affect": 3, "negative_affect": 1}}
+			""".formatted(count, keywordJson, competence);
+	}
+}
@@ -0,0 +1,84 @@
+package com.playprobie.api.domain.analytics.domain;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class DemographicCubeTest {
+
+	@Test
+	@DisplayName("필터 없이 조회하면 전체 롤업을 반환한다")
+	void sliceWithoutFilter() {
+		// Given
+		DemographicCube cube = new DemographicCube();
+		cube.increment("20s", "MALE", "RPG");
+		cube.increment("20s", "FEMALE", "RPG");
+		cube.add("30s", "MALE", "FPS", 3);
+
+		// When
+		DemographicCube.Slice slice = cube.slice(null, null, null);
+
+		// Then
+		assertThat(slice.count()).isEqualTo(5);
+		assertThat(slice.total()).isEqualTo(5);
+		assertThat(slice.ageGroups()).containsEntry("20s", 2).containsEntry("30s", 3);
+		assertThat(slice.genders()).containsEntry("MALE", 4).containsEntry("FEMALE", 1);
+		assertThat(slice.genres()).containsEntry("RPG", 2).containsEntry("FPS", 3);
+	}
+
+	@Test
+	@DisplayName("패싯 카운트는 자기 차원을 제외한 필터만 적용한다")
+	void sliceWithFilter() {
+		// Given
+		DemographicCube cube = new DemographicCube();
+		cube.increment("20s", "MALE", "RPG");
+		cube.increment("20s", "FEMALE", "RPG");
+		cube.add("30s", "MALE", "FPS", 3);
+
+		// When
+		DemographicCube.Slice slice = cube.slice(null, "MALE", null);
+
+		// Then
+		assertThat(slice.count()).isEqualTo(4);
+		assertThat(slice.ageGroups()).containsEntry("20s", 1).containsEntry("30s", 3);
+		assertThat(slice.genders()).containsEntry("MALE", 4).containsEntry("FEMALE", 1);
+		assertThat(slice.genres()).containsEntry("RPG", 1).containsEntry("FPS", 3);
+	}
+
+	@Test
+	@DisplayName("사전에 없는 값으로 필터링하면 0을 반환하고, 빈 값은 Unknown으로 집계한다")
+	void unknownValues() {
+		// Given
+		DemographicCube cube = new DemographicCube();
+		cube.increment(null, "MALE", " ");
+
+		// When
+		DemographicCube.Slice missing = cube.slice("50s", null, null);
+		DemographicCube.Slice unknown = cube.slice(DemographicCube.UNKNOWN, null, null);
+
+		// Then
+		assertThat(missing.count()).isZero();
+		assertThat(missing.total()).isEqualTo(1);
+		assertThat(unknown.count()).isEqualTo(1);
+		assertThat(unknown.genres()).containsEntry(DemographicCube.UNKNOWN, 1);
+	}
+
+	@Test
+	@DisplayName("차원 카디널리티가 초기 용량을 넘어도 기존 카운트가 보존된다")
+	void growPreservesCounts() {
+		// Given
+		DemographicCube cube = new DemographicCube();
+		for (int i = 0; i < 20; i++) {
+			cube.increment("age" + i, "g" + (i % 3), "genre" + i);
+		}
+
+		// When
+		DemographicCube.Slice slice = cube.slice("age5", null, null);
+
+		// Then
+		assertThat(slice.count()).isEqualTo(1);
+		assertThat(slice.genders()).containsEntry("g2", 1);
+		assertThat(cube.slice(null, null, null).ageGroups()).hasSize(20);
+	}
+}
@@ -0,0 +1,80 @@
+package com.playprobie.api.domain.interview.application;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Optional;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.playprobie.api.domain.interview.domain.AnswerValidity;
+import com.playprobie.api.domain.interview.dto.AnswerPrefilterVerdict;
+import com.playprobie.api.domain.interview.dto.AnswerPrefilterVerdict.Reason;
+
+class AnswerPrefilterServiceTest {
+
+	private static final String QUESTION = "이번 플레이에서 가장 기억에 남는 순간은 무엇이었나요?";
+
+	private final AnswerPrefilterService prefilter = new AnswerPrefilterService();
+
+	@DisplayName("자음만 있거나 같은 글자만 반복된 답변은 로컬에서 판정한다")
+	@Test
+	void lowContent() {
+		assertThat(prefilter.evaluate("s1", 1L, 1, QUESTION, "ㅇㅇ"))
+			.hasValueSatisfying(verdict -> {
+				assertThat(verdict.reason()).isEqualTo(Reason.LOW_CONTENT);
+				assertThat(verdict.validity()).isEqualTo(AnswerValidity.UNINTELLIGIBLE);
+				assertThat(verdict.retryMessage()).isNotBlank();
+			});
+		assertThat(prefilter.evaluate("s1", 1L, 1, QUESTION, "...")).isPresent();
+		assertThat(prefilter.evaluate("s1", 1L, 1, QUESTION, "아아아아")).isPresent();
+		assertThat(prefilter.evaluate("s1", 1L, 1, QUESTION, "보스전이 재밌었어요")).isEmpty();
+	}
+
+	@DisplayName("질문 문구를 그대로 복사한 답변은 OFF_TOPIC으로 판정한다")
+	@Test
+	void questionEcho() {
+		Optional<AnswerPrefilterVerdict> verdict = prefilter.evaluate("s1", 1L, 1, QUESTION,
+			"이번 플레이에서 가장 기억에 남는 순간은 무엇이었나요");
+
+		assertThat(verdict).map(AnswerPrefilterVerdict::reason).hasValue(Reason.QUESTION_ECHO);
+	}
+
+	@DisplayName("같은 세션이 다른 턴에서 같은 답변을 반복하면 판정하고, 같은 턴 재전송은 통과시킨다")
+	@Test
+	void repeatedInSameSession() {
+		prefilter.evaluate("s1", 1L, 1, QUESTION, "보스전이 정말 재밌었어요");
+
+		assertThat(prefilter.evaluate("s1", 1L, 1, QUESTION, "보스전이 정말 재밌었어요")).isEmpty();
+		assertThat(prefilter.evaluate("s1", 1L, 3, QUESTION, "보스전이 정말 재밌었어요!!"))
+			.map(AnswerPrefilterVerdict::reason).hasValue(Reason.REPEATED);
+		assertThat(prefilter.evaluate("s2", 1L, 1, QUESTION, "보스전이 정말 재밌었어요")).isEmpty();
+	}
+
+	@DisplayName("짧은 답변이나 다른 꼬리 질문에 대한 같은 답변은 다른 턴이어도 반복으로 보지 않는다")
+	@Test
+	void shortOrDifferentQuestionAnswersAreNotRepeated() {
+		String tailQuestion = "보스전에서 특히 어떤 패턴이 기억에 남으셨나요?";
+		prefilter.evaluate("s1", 1L, 1, QUESTION, "좋아요");
+		prefilter.evaluate("s1", 1L, 2, QUESTION, "보스전이 정말 재밌었어요");
+
+		assertThat(prefilter.evaluate("s1", 1L, 3, tailQuestion, "좋아요")).isEmpty();
+		assertThat(prefilter.evaluate("s1", 1L, 4, QUESTION, "좋아요")).isEmpty();
+		assertThat(prefilter.evaluate("s1", 1L, 5, tailQuestion, "보스전이 정말 재밌었어요")).isEmpty();
+	}
+
+	@DisplayName("여러 세션에서 거의 같은 장문 답변이 반복되면 복제 답변으로 판정한다")
+	@Test
+	void crossSessionDuplicate() {
+		String answer = "그래픽이 정말 뛰어나고 스토리가 몰입감 있어서 추천하고 싶은 게임입니다";
+		assertThat(prefilter.evaluate("b1", 1L, 1, QUESTION, answer)).isEmpty();
+		assertThat(prefilter.evaluate("b2", 1L, 1, QUESTION, answer)).isEmpty();
+
+		assertThat(prefilter.evaluate("b3", 1L, 1, QUESTION,
+			"그래픽이 정말 뛰어나고 스토리가 몰입감 있어서 추천하고 싶은 게임이에요"))
+			.map(AnswerPrefilterVerdict::reason).hasValue(Reason.CROSS_SESSION_DUPLICATE);
+		assertThat(prefilter.evaluate("c1", 1L, 1, QUESTION, "타격감은 좋았는데 카메라 시점이 자주 흔들려서 멀미가 났어요"))
+			.isEmpty();
+		assertThat(prefilter.evaluate("b4", 2L, 1, QUESTION, answer)).isEmpty();
+	}
+}
@@ -0,0 +1,280 @@
+package com.playprobie.api.domain.interview.application;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.playprobie.api.domain.game.dao.GameRepository;
+import com.playprobie.api.domain.game.domain.Game;
+import com.playprobie.api.domain.interview.dao.AnswerIdempotencyRecordRepository;
+import com.playprobie.api.domain.interview.dao.InterviewLogRepository;
+import com.playprobie.api.domain.interview.dao.SurveySessionRepository;
+import com.playprobie.api.domain.interview.domain.InterviewLog;
+import com.playprobie.api.domain.interview.domain.SurveySession;
+import com.playprobie.api.domain.interview.dto.AnswerSubmitResult;
+import com.playprobie.api.domain.interview.dto.UserAnswerRequest;
+import com.playprobie.api.domain.survey.dao.FixedQuestionRepository;
+import com.playprobie.api.domain.survey.dao.SurveyRepository;
+import com.playprobie.api.domain.survey.domain.FixedQuestion;
+import com.playprobie.api.domain.survey.domain.Survey;
+import com.playprobie.api.domain.survey.dto.FixedQuestionResponse;
+import com.playprobie.api.domain.workspace.dao.WorkspaceRepository;
+import com.playprobie.api.domain.workspace.domain.Workspace;
+import com.playprobie.api.global.error.exception.SessionStateConflictException;
+
+/**
+ * SurveySession 인터뷰 상태 전이 동시성 스트레스 테스트.
+ *
+ * <p>
+ * 같은 노드의 경합은 스트라이프 락으로 직렬화되고, 다른 노드의 경합(락 미사용)은 CAS 갱신과 @Version으로
+ * 정확히 하나만 반영되는지 검증합니다.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@TestPropertySource(properties = "spring.jpa.properties.hibernate.show_sql=false")
+class SurveySessionStateConcurrencyTest {
+
+	private static final int THREADS = 16;
+
+	@Autowired
+	private InterviewService interviewService;
+
+	@Autowired
+	private SurveySessionRepository surveySessionRepository;
+
+	@Autowired
+	private InterviewLogRepository interviewLogRepository;
+
+	@Autowired
+	private AnswerIdempotencyRecordRepository answerIdempotencyRecordRepository;
+
+	@Autowired
+	private FixedQuestionRepository fixedQuestionRepository;
+
+	@Autowired
+	private SurveyRepository surveyRepository;
+
+	@Autowired
+	private GameRepository gameRepository;
+
+	@Autowired
+	private WorkspaceRepository workspaceRepository;
+
+	@Autowired
+	private PlatformTransactionManager transactionManager;
+
+	private TransactionTemplate transactionTemplate;
+
+	private String sessionId;
+	private Long sessionPk;
+	private FixedQuestionResponse firstQuestion;
+
+	@BeforeEach
+	void setUp() {
+		transactionTemplate = new TransactionTemplate(transactionManager);
+
+		SurveySession session = transactionTemplate.execute(status -> {
+			Workspace workspace = workspaceRepository.save(Workspace.create("ConcurrencyWS", "Description"));
+			Game game = gameRepository.save(Game.builder()
+				.workspace(workspace)
+				.name("ConcurrencyGame")
+				.context("GameContext")
+				.build());
+			Survey survey = surveyRepository.save(Survey.builder().game(game).name("Concurrency Survey").build());
+			for (int order = 1; order <= 3; order++) {
+				fixedQuestionRepository.save(FixedQuestion.builder()
+					.surveyId(survey.getId())
+					.content("질문 " + order)
+					.order(order)
+					.build());
+			}
+			return surveySessionRepository.save(SurveySession.builder().survey(survey).build());
+		});
+
+		sessionId = session.getUuid().toString();
+		sessionPk = session.getId();
+		firstQuestion = interviewService.getFirstQuestion(sessionId);
+	}
+
+	@AfterEach
+	void tearDown() {
+		answerIdempotencyRecordRepository.deleteAllInBatch();
+		interviewLogRepository.deleteAllInBatch();
+		surveySessionRepository.deleteAllInBatch();
+		fixedQuestionRepository.deleteAllInBatch();
+		surveyRepository.deleteAllInBatch();
+		gameRepository.deleteAllInBatch();
+		workspaceRepository.deleteAllInBatch();
+	}
+
+	@Test
+	@DisplayName("같은 턴의 답변이 동시에 제출되면 한 번만 저장되고 턴은 한 번만 증가하며 나머지는 충돌로 거부된다")
+	void concurrentAnswersForSameTurnSaveOnce() throws Exception {
+		// Given
+		UserAnswerRequest request = UserAnswerRequest.builder()
+			.fixedQId(firstQuestion.fixedQId())
+			.turnNum(1)
+			.questionText(firstQuestion.qContent())
+			.answerText("재미있었어요")
+			.build();
+
+		// When
+		List<Result> results = runConcurrently(() -> interviewService.saveInterviewLog(sessionId, request,
+			firstQuestion));
+
+		// Then
+		assertThat(results).filteredOn(Result::succeeded).hasSize(1);
+		assertThat(results).filteredOn(result -> !result.succeeded())
+			.allMatch(result -> result.error() instanceof SessionStateConflictException);
+
+		SurveySession session = surveySessionRepository.findById(sessionPk).orElseThrow();
+		assertThat(session.getCurrentFixedQId()).isEqualTo(firstQuestion.fixedQId());
+		assertThat(session.getCurrentTurnNum()).isEqualTo(2);
+		assertThat(interviewLogRepository.findBySessionUuidOrderByTurnNumAsc(session.getUuid()))
+			.extracting(InterviewLog::getTurnNum)
+			.containsExactly(1);
+	}
+
+	@Test
+	@DisplayName("같은 Idempotency-Key로 동시에 재전송하면 한 번만 저장되고 나머지는 최초 응답을 그대로 돌려받는다")
+	void concurrentRetriesWithSameKeySaveOnce() throws Exception {
+		// Given
+		UserAnswerRequest request = UserAnswerRequest.builder()
+			.fixedQId(firstQuestion.fixedQId())
+			.turnNum(1)
+			.questionText(firstQuestion.qContent())
+			.answerText("재미있었어요")
+			.build();
+
+		// When
+		List<Result> results = runConcurrently(() -> interviewService.submitAnswer(sessionId, request,
+			firstQuestion, "retry-key-1"));
+
+		// Then
+		assertThat(results).allMatch(Result::succeeded);
+		List<AnswerSubmitResult> submits = results.stream().map(result -> (AnswerSubmitResult)result.value()).toList();
+		assertThat(submits).filteredOn(submit -> !submit.replayed()).hasSize(1);
+		assertThat(submits).extracting(AnswerSubmitResult::response).containsOnly(submits.get(0).response());
+
+		SurveySession session = surveySessionRepository.findById(sessionPk).orElseThrow();
+		assertThat(session.getCurrentTurnNum()).isEqualTo(2);
+		assertThat(interviewLogRepository.findBySessionUuidOrderByTurnNumAsc(session.getUuid())).hasSize(1);
+	}
+
+	@Test
+	@DisplayName("같은 질문에 대한 다음 질문 전이가 동시에 요청되면 한 번만 전이되고 나머지는 충돌로 거부된다")
+	void concurrentPassToNextMovesOnce() throws Exception {
+		// When
+		List<Result> results = runConcurrently(() -> interviewService.getNextQuestion(sessionId,
+			firstQuestion.qOrder()));
+
+		// Then
+		assertThat(results).filteredOn(Result::succeeded).hasSize(1);
+		assertThat(results).filteredOn(result -> !result.succeeded())
+			.allMatch(result -> result.error() instanceof SessionStateConflictException);
+
+		SurveySession session = surveySessionRepository.findById(sessionPk).orElseThrow();
+		assertThat(session.getCurrentFixedQOrder()).isEqualTo(2); // 3번 질문으로 건너뛰지 않음
+		assertThat(session.getCurrentTurnNum()).isEqualTo(1);
+	}
+
+	@Test
+	@DisplayName("락 없이(다른 노드) 같은 턴을 동시에 전이하면 CAS 갱신은 정확히 하나만 성공한다")
+	void concurrentCasWithoutLockSucceedsOnce() throws Exception {
+		// When
+		List<Result> results = runConcurrently(() -> transactionTemplate.execute(
+			status -> surveySessionRepository.advanceTurn(sessionPk, firstQuestion.fixedQId(), 1)));
+
+		// Then
+		assertThat(results).filteredOn(result -> Integer.valueOf(1).equals(result.value())).hasSize(1);
+		SurveySession session = surveySessionRepository.findById(sessionPk).orElseThrow();
+		assertThat(session.getCurrentTurnNum()).isEqualTo(2);
+	}
+
+	@Test
+	@DisplayName("CAS 전이 이후 이전 버전의 엔티티를 flush하면 낙관적 락 예외가 발생한다")
+	void staleEntityFlushAfterCasFails() {
+		// Given - 다른 트랜잭션(노드)에서 수행할 CAS 전이
+		TransactionTemplate otherTransaction = new TransactionTemplate(transactionManager);
+		otherTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+
+		// When & Then - 전이 전에 조회한 엔티티를 전이 후 flush
+		assertThatThrownBy(() -> transactionTemplate.execute(status -> {
+			SurveySession stale = surveySessionRepository.findById(sessionPk).orElseThrow();
+			otherTransaction.execute(
+				inner -> surveySessionRepository.advanceTurn(sessionPk, firstQuestion.fixedQId(), 1));
+
+			stale.complete();
+			surveySessionRepository.saveAndFlush(stale);
+			return null;
+		})).isInstanceOf(ObjectOptimisticLockingFailureException.class);
+
+		SurveySession session = surveySessionRepository.findById(sessionPk).orElseThrow();
+		assertThat(session.getCurrentTurnNum()).isEqualTo(2);
+		assertThat(session.getStatus().isFinished()).isFalse();
+	}
+
+	// === Helper Methods ===
+
+	private List<Result> runConcurrently(Callable<?> task) throws InterruptedException, ExecutionException {
+		ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+		CountDownLatch readyLatch = new CountDownLatch(THREADS);
+		CountDownLatch startLatch = new CountDownLatch(1);
+		try {
+			List<Future<Result>> futures = new ArrayList<>();
+			for (int i = 0; i < THREADS; i++) {
+				futures.add(executor.submit(() -> {
+					readyLatch.countDown();
+					startLatch.await();
+					try {
+						return new Result(task.call(), null);
+					} catch (Exception e) {
+						return new Result(null, e);
+					}
+				}));
+			}
+			readyLatch.await();
+			startLatch.countDown();
+
+			List<Result> results = new ArrayList<>();
+			for (Future<Result> future : futures) {
+				results.add(future.get(30, TimeUnit.SECONDS));
+			}
+			return results;
+		} catch (TimeoutException e) {
+			throw new IllegalStateException("동시 실행이 제한 시간 안에 끝나지 않았습니다.", e);
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+
+	private record Result(Object value, Exception error) {
+
+		boolean succeeded() {
+			return error == null;
+		}
+	}
+}
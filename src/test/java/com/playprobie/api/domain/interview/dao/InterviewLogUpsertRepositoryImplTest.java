@@ -0,0 +1,181 @@
+package com.playprobie.api.domain.interview.dao;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.util.Map;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.PreparedStatementCreator;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.support.KeyHolder;
+
+import com.playprobie.api.domain.interview.domain.QuestionType;
+import com.playprobie.api.domain.interview.dto.AnswerUpsertResult;
+
+/**
+ * InterviewLogUpsertRepositoryImpl 단위 테스트
+ * H2 MERGE 경로는 인메모리 DB로, MariaDB ON DUPLICATE KEY 경로는 JDBC 호출을 대신해 신규/갱신 분기를 검증
+ */
+class InterviewLogUpsertRepositoryImplTest {
+
+	private static final long SESSION_ID = 1L;
+	private static final long FIXED_Q_ID = 10L;
+
+	@Nested
+	@DisplayName("H2 MERGE")
+	class H2Merge {
+
+		private JdbcTemplate jdbcTemplate;
+		private InterviewLogUpsertRepositoryImpl repository;
+
+		@BeforeEach
+		void setUp() {
+			jdbcTemplate = new JdbcTemplate(new DriverManagerDataSource(
+				"jdbc:h2:mem:upsert-" + UUID.randomUUID() + ";MODE=MySQL;DB_CLOSE_DELAY=-1", "sa", ""));
+			jdbcTemplate.execute("CREATE SEQUENCE interview_log_seq START WITH 1 INCREMENT BY 50");
+			jdbcTemplate.execute("""
+				CREATE TABLE interview_log (
+					log_id BIGINT PRIMARY KEY,
+					session_id BIGINT NOT NULL,
+					fixed_q_id BIGINT NOT NULL,
+					turn_num INTEGER,
+					q_type VARCHAR(20),
+					question_text TEXT,
+					answer_text TEXT,
+					created_at TIMESTAMP(6),
+					updated_at TIMESTAMP(6),
+					CONSTRAINT uk_interview_log_session_fixed_q_turn UNIQUE (session_id, fixed_q_id, turn_num)
+				)
+				""");
+			repository = new InterviewLogUpsertRepositoryImpl(jdbcTemplate);
+		}
+
+		@Test
+		@DisplayName("처음 저장하면 새 로그를 만들고, 같은 턴에 다시 저장하면 같은 로그의 답변만 갱신한다")
+		void insertsThenUpdatesSameRow() throws InterruptedException {
+			// given
+			AnswerUpsertResult first = repository.upsertAnswer(SESSION_ID, FIXED_Q_ID, 1, QuestionType.FIXED,
+				"전투는 어땠나요?", "어려웠어요");
+			// 신규 여부를 created_at = updated_at으로 판단하므로 두 저장 시각을 벌림
+			Thread.sleep(5);
+
+			// when
+			AnswerUpsertResult second = repository.upsertAnswer(SESSION_ID, FIXED_Q_ID, 1, QuestionType.TAIL,
+				"다른 질문", "보스가 너무 어려웠어요");
+
+			// then: 질문 유형/텍스트는 처음 저장한 값 유지
+			assertThat(first.inserted()).isTrue();
+			assertThat(second).isEqualTo(new AnswerUpsertResult(first.logId(), false, QuestionType.FIXED,
+				"전투는 어땠나요?"));
+			assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM interview_log", Integer.class)).isEqualTo(1);
+			assertThat(jdbcTemplate.queryForObject("SELECT answer_text FROM interview_log", String.class))
+				.isEqualTo("보스가 너무 어려웠어요");
+		}
+
+		@Test
+		@DisplayName("턴이 다르면 시퀀스에서 새 ID를 받아 별도 로그로 저장한다")
+		void insertsSeparateRowPerTurn() {
+			// when
+			AnswerUpsertResult first = repository.upsertAnswer(SESSION_ID, FIXED_Q_ID, 1, QuestionType.FIXED,
+				"전투는 어땠나요?", "어려웠어요");
+			AnswerUpsertResult second = repository.upsertAnswer(SESSION_ID, FIXED_Q_ID, 2, QuestionType.TAIL,
+				"어떤 보스였나요?", "마지막 보스요");
+
+			// then
+			assertThat(first.inserted()).isTrue();
+			assertThat(second.inserted()).isTrue();
+			assertThat(second.logId()).isNotEqualTo(first.logId());
+			assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM interview_log", Integer.class)).isEqualTo(2);
+		}
+	}
+
+	@Nested
+	@DisplayName("MariaDB ON DUPLICATE KEY UPDATE")
+	class MySqlUpsert {
+
+		private JdbcTemplate jdbcTemplate;
+		private InterviewLogUpsertRepositoryImpl repository;
+
+		@BeforeEach
+		@SuppressWarnings("unchecked")
+		void setUp() {
+			jdbcTemplate = mock(JdbcTemplate.class);
+			when(jdbcTemplate.execute(any(ConnectionCallback.class))).thenReturn("MariaDB");
+			repository = new InterviewLogUpsertRepositoryImpl(jdbcTemplate);
+		}
+
+		@Test
+		@DisplayName("영향 행 1이면 새 로그로 보고 생성된 ID와 요청한 질문을 반환한다")
+		void returnsInsertedRow() throws Exception {
+			// given
+			PreparedStatement statement = givenUpsert(1, 7L);
+
+			// when
+			AnswerUpsertResult result = repository.upsertAnswer(SESSION_ID, FIXED_Q_ID, 1, QuestionType.FIXED,
+				"전투는 어땠나요?", "어려웠어요");
+
+			// then
+			assertThat(result).isEqualTo(new AnswerUpsertResult(7L, true, QuestionType.FIXED, "전투는 어땠나요?"));
+			verify(statement).setLong(1, SESSION_ID);
+			verify(statement).setLong(2, FIXED_Q_ID);
+			verify(statement).setInt(3, 1);
+			verify(statement).setString(4, "FIXED");
+			verify(statement).setString(5, "전투는 어땠나요?");
+			verify(statement).setString(6, "어려웠어요");
+		}
+
+		@Test
+		@DisplayName("영향 행 2면 기존 로그 갱신으로 보고 기존 행의 질문 유형/텍스트를 다시 읽는다")
+		@SuppressWarnings("unchecked")
+		void readsExistingRowOnUpdate() throws Exception {
+			// given
+			givenUpsert(2, 7L);
+			ResultSet existing = mock(ResultSet.class);
+			when(existing.getString(1)).thenReturn("TAIL");
+			when(existing.getString(2)).thenReturn("어떤 보스였나요?");
+			when(jdbcTemplate.queryForObject(anyString(), any(RowMapper.class), eq(7L)))
+				.thenAnswer(invocation -> invocation.<RowMapper<AnswerUpsertResult>>getArgument(1)
+					.mapRow(existing, 0));
+
+			// when
+			AnswerUpsertResult result = repository.upsertAnswer(SESSION_ID, FIXED_Q_ID, 2, QuestionType.FIXED,
+				"다른 질문", "마지막 보스요");
+
+			// then
+			assertThat(result).isEqualTo(new AnswerUpsertResult(7L, false, QuestionType.TAIL, "어떤 보스였나요?"));
+		}
+
+		/**
+		 * upsert 실행 시 주어진 영향 행 수와 LAST_INSERT_ID 값을 돌려주고, 바인딩된 PreparedStatement를 반환
+		 */
+		private PreparedStatement givenUpsert(int affected, long logId) throws Exception {
+			PreparedStatement statement = mock(PreparedStatement.class);
+			Connection connection = mock(Connection.class);
+			when(connection.prepareStatement(anyString(), eq(Statement.RETURN_GENERATED_KEYS))).thenReturn(statement);
+			when(jdbcTemplate.update(any(PreparedStatementCreator.class), any(KeyHolder.class)))
+				.thenAnswer(invocation -> {
+					invocation.<PreparedStatementCreator>getArgument(0).createPreparedStatement(connection);
+					invocation.<KeyHolder>getArgument(1).getKeyList().add(Map.of("GENERATED_KEY", logId));
+					return affected;
+				});
+			return statement;
+		}
+	}
+}
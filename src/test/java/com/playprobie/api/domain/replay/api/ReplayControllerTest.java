@@ -28,6 +28,8 @@ import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.PropertyNamingStrategies;
 import com.playprobie.api.domain.replay.application.ReplayService;
+import com.playprobie.api.domain.replay.dto.BatchPresignedUrlRequest;
+import com.playprobie.api.domain.replay.dto.BatchPresignedUrlResponse;
 import com.playprobie.api.domain.replay.dto.InputLogDto;
 import com.playprobie.api.domain.replay.dto.PresignedUrlRequest;
 import com.playprobie.api.domain.replay.dto.PresignedUrlResponse;
@@ -102,6 +104,21 @@ class ReplayControllerTest {
 				.content(objectMapper.writeValueAsString(request)))
 				.andExpect(status().isAccepted());
 		}
+
+		@Test
+		@DisplayName("바이너리 로그 배치는 바이너리 처리 경로로 전달되고 202 반환")
+		void returns202_whenBinaryLogs() throws Exception {
+			// given: version=1, flags=0, eventCount=0, keyCount=0
+			byte[] payload = {1, 0, 0, 0};
+
+			// when & then
+			mockMvc.perform(post("/sessions/{sessionId}/replay/logs", sessionId)
+				.contentType(ReplayController.INPUT_LOG_BINARY_VALUE)
+				.content(payload))
+				.andExpect(status().isAccepted());
+
+			verify(replayService).processBinaryInputLogs(sessionId.toString(), payload);
+		}
 	}
 
 	@Nested
@@ -134,6 +151,53 @@ class ReplayControllerTest {
 		}
 	}
 
+	@Nested
+	@DisplayName("POST /sessions/{sessionId}/replay/presigned-urls")
+	class GeneratePresignedUrls {
+
+		@Test
+		@DisplayName("유효한 요청 시 201과 예약된 슬롯, 다음 요청 시점 반환")
+		void returns201_withReservedSlots() throws Exception {
+			// given
+			BatchPresignedUrlRequest request = new BatchPresignedUrlRequest(4, 2, 120_000L, 30_000L, "video/webm");
+
+			BatchPresignedUrlResponse response = new BatchPresignedUrlResponse(List.of(
+				new BatchPresignedUrlResponse.SegmentSlot(4, "seg_4", "https://s3.example.com/4", 300, 120_000L,
+					150_000L),
+				new BatchPresignedUrlResponse.SegmentSlot(5, "seg_5", "https://s3.example.com/5", 330, 150_000L,
+					180_000L)),
+				6, 5);
+
+			when(replayService.generatePresignedUrls(anyString(), any()))
+				.thenReturn(response);
+
+			// when & then
+			mockMvc.perform(post("/sessions/{sessionId}/replay/presigned-urls", sessionId)
+				.contentType(MediaType.APPLICATION_JSON)
+				.content(objectMapper.writeValueAsString(request)))
+				.andExpect(status().isCreated())
+				.andExpect(jsonPath("$.result.segments.length()").value(2))
+				.andExpect(jsonPath("$.result.segments[1].segment_id").value("seg_5"))
+				.andExpect(jsonPath("$.result.segments[1].expires_in").value(330))
+				.andExpect(jsonPath("$.result.next_sequence").value(6))
+				.andExpect(jsonPath("$.result.refill_at_sequence").value(5));
+		}
+
+		@Test
+		@DisplayName("한 번에 예약할 수 있는 슬롯 수를 넘으면 400 반환")
+		void returns400_whenCountExceedsLimit() throws Exception {
+			// given
+			BatchPresignedUrlRequest request = new BatchPresignedUrlRequest(0, BatchPresignedUrlRequest.MAX_COUNT + 1,
+				0L, 30_000L, "video/webm");
+
+			// when & then
+			mockMvc.perform(post("/sessions/{sessionId}/replay/presigned-urls", sessionId)
+				.contentType(MediaType.APPLICATION_JSON)
+				.content(objectMapper.writeValueAsString(request)))
+				.andExpect(status().isBadRequest());
+		}
+	}
+
 	@Nested
 	@DisplayName("POST /sessions/{sessionId}/replay/upload-complete")
 	class CompleteUpload {
@@ -142,7 +206,7 @@ class ReplayControllerTest {
 		@DisplayName("유효한 요청 시 200 반환")
 		void returns200_onSuccess() throws Exception {
 			// given
-			UploadCompleteRequest request = new UploadCompleteRequest("seg_abc123");
+			UploadCompleteRequest request = new UploadCompleteRequest("seg_abc123", 0L, 30000L);
 
 			doNothing().when(replayService).completeUpload(anyString(), any());
 
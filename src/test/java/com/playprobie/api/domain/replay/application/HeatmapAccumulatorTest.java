@@ -0,0 +1,151 @@
+package com.playprobie.api.domain.replay.application;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.groups.Tuple.tuple;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import com.playprobie.api.domain.replay.application.HeatmapAccumulator.Delta;
+import com.playprobie.api.domain.replay.domain.HeatmapGrid;
+import com.playprobie.api.domain.replay.domain.HeatmapLayer;
+import com.playprobie.api.domain.replay.dto.InputLogDto;
+import com.playprobie.api.global.config.properties.ReplayHeatmapProperties;
+
+/**
+ * HeatmapAccumulator / HeatmapGridCodec 단위 테스트
+ * 10×10 기준 화면을 5×5 격자, 1초 구간으로 집계
+ */
+class HeatmapAccumulatorTest {
+
+	private static final long SURVEY_ID = 1L;
+
+	private final HeatmapAccumulator accumulator = new HeatmapAccumulator(
+		new ReplayHeatmapProperties(10, 10, 5, 5, Duration.ofSeconds(1), 2));
+
+	@Nested
+	@DisplayName("증분 누적")
+	class Accumulate {
+
+		@Test
+		@DisplayName("클릭은 전체/구간 격자에 더해지고, 마지막 구간 이후와 화면 밖 좌표는 구간 격자/전체에서 빠진다")
+		void accumulatesClicksPerBucket() {
+			// given
+			InputLogColumns columns = InputLogColumns.decode(List.of(
+				mouse("MOUSE_DOWN", 100L, 0, 0),
+				mouse("MOUSE_DOWN", 200L, 1, 1),
+				mouse("MOUSE_UP", 250L, 1, 1),
+				mouse("MOUSE_DOWN", 1_500L, 9, 9),
+				mouse("MOUSE_DOWN", 5_000L, 4, 4),
+				mouse("MOUSE_DOWN", 5_100L, 10, 3)));
+
+			// when
+			accumulator.accumulate(SURVEY_ID, columns, Long.MIN_VALUE);
+			List<Delta> deltas = drainSorted();
+
+			// then: (ALL, 0, 1) 구간 격자, 5초는 구간 상한(2) 밖이라 전체 격자에만 집계
+			assertThat(deltas).extracting(delta -> delta.key().bucket(), Delta::total)
+				.containsExactly(
+					tuple(HeatmapGrid.ALL_BUCKETS, 4L),
+					tuple(0, 2L),
+					tuple(1, 1L));
+			int[] all = deltas.get(0).counts();
+			assertThat(all[0]).isEqualTo(2);
+			assertThat(all[24]).isEqualTo(1);
+			assertThat(all[2 * 5 + 2]).isEqualTo(1);
+			assertThat(accumulator.pendingGrids()).isZero();
+		}
+
+		@Test
+		@DisplayName("워터마크 이하의 재전송 로그는 건너뛰고, 이동은 MOVE 격자에 집계된다")
+		void skipsReplayedLogsAndSeparatesMoves() {
+			// given
+			InputLogColumns columns = InputLogColumns.decode(List.of(
+				mouse("MOUSE_MOVE", 100L, 3, 3),
+				mouse("MOUSE_DOWN", 200L, 3, 3),
+				mouse("MOUSE_MOVE", 300L, 5, 5)));
+
+			// when
+			accumulator.accumulate(SURVEY_ID, columns, 200L);
+
+			// then
+			List<Delta> deltas = drainSorted();
+			assertThat(deltas).extracting(delta -> delta.key().layer(), Delta::total)
+				.containsOnly(tuple(HeatmapLayer.MOVE, 1L));
+		}
+
+		@Test
+		@DisplayName("병합에 실패해 되돌린 증분은 다음 증분과 합쳐진다")
+		void restoresFailedDelta() {
+			// given
+			accumulator.accumulate(SURVEY_ID, InputLogColumns.decode(List.of(mouse("MOUSE_DOWN", 100L, 0, 0))),
+				Long.MIN_VALUE);
+			List<Delta> failed = accumulator.drain();
+
+			// when
+			failed.forEach(accumulator::restore);
+			accumulator.accumulate(SURVEY_ID, InputLogColumns.decode(List.of(mouse("MOUSE_DOWN", 200L, 0, 0))),
+				Long.MIN_VALUE);
+
+			// then
+			Delta all = drainSorted().get(0);
+			assertThat(all.total()).isEqualTo(2L);
+			assertThat(all.counts()[0]).isEqualTo(2);
+		}
+	}
+
+	@Nested
+	@DisplayName("압축 격자")
+	class Codec {
+
+		@Test
+		@DisplayName("희소 격자를 압축했다가 그대로 복원한다")
+		void roundTripsSparseGrid() {
+			// given
+			long[] counts = new long[96 * 54];
+			counts[0] = 3;
+			counts[1_000] = 70_000;
+			counts[counts.length - 1] = 1;
+
+			// when
+			byte[] encoded = HeatmapGridCodec.encode(96, 54, counts);
+
+			// then
+			assertThat(encoded.length).isLessThan(64);
+			assertThat(HeatmapGridCodec.decode(encoded, 96, 54)).containsExactly(counts);
+			assertThat(HeatmapGridCodec.decode(new byte[0], 96, 54)).containsOnly(0L);
+		}
+
+		@Test
+		@DisplayName("해상도가 다른 격자는 복원하지 않는다")
+		void rejectsResolutionMismatch() {
+			byte[] encoded = HeatmapGridCodec.encode(5, 5, new long[25]);
+
+			assertThatThrownBy(() -> HeatmapGridCodec.decode(encoded, 6, 5))
+				.isInstanceOf(IllegalArgumentException.class);
+			assertThatThrownBy(() -> HeatmapGridCodec.decode(Arrays.copyOf(encoded, 3), 5, 5))
+				.isInstanceOf(IllegalArgumentException.class);
+		}
+	}
+
+	// === Helper Methods ===
+
+	private List<Delta> drainSorted() {
+		return accumulator.drain().stream()
+			.sorted(Comparator.comparing((Delta delta) -> delta.key().layer())
+				.thenComparingInt(delta -> delta.key().bucket()))
+			.toList();
+	}
+
+	private static InputLogDto mouse(String type, long mediaTime, int x, int y) {
+		return new InputLogDto(type, mediaTime, 1_700_000_000_000L + mediaTime, null, null,
+			"MOUSE_MOVE".equals(type) ? null : 0, x, y, null, null, "MOUSE_MOVE".equals(type) ? Boolean.TRUE : null);
+	}
+}
@@ -0,0 +1,214 @@
+package com.playprobie.api.domain.replay.application;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.playprobie.api.domain.interview.domain.SurveySession;
+import com.playprobie.api.domain.replay.domain.AnalysisTag;
+import com.playprobie.api.domain.replay.domain.InsightType;
+import com.playprobie.api.domain.replay.dto.InputLogDto;
+
+/**
+ * 입력 로그 분석 단일 순회(컬럼형) 엔진 벤치마크.
+ *
+ * <p>
+ * 기존 방식(정렬된 리스트 복사 → 이벤트별 필터 → Deque 윈도우 + 스트림 비교)을 기준 구현으로 두고,
+ * 같은 합성 로그에 대해 처리 시간과 감지 결과(타입/시각/길이/메타데이터)가 동일한지 비교합니다.
+ * 기본 test 태스크에서는 제외되며 {@code ./gradlew benchmark}로 실행합니다.
+ * 감지 결과 동일성은 작은 로그로 {@link InputLogAnalyzerTest}에서도 검증합니다.
+ */
+@Tag("benchmark")
+class InputLogAnalyzerBenchmarkTest {
+
+	private static final Logger log = LoggerFactory.getLogger(InputLogAnalyzerBenchmarkTest.class);
+
+	private static final int WARMUP_ITERATIONS = 20;
+	private static final int MEASURE_ITERATIONS = 20;
+	private static final String[] KEYS = {"Space", "KeyW", "KeyA", "KeyS", "KeyD", "ShiftLeft"};
+
+	private InputLogAnalyzer inputLogAnalyzer;
+	private SurveySession mockSession;
+	private UUID sessionUuid;
+
+	@BeforeEach
+	void setUp() {
+		inputLogAnalyzer = InputLogAnalyzer.withDefaultDetectors();
+		mockSession = mock(SurveySession.class);
+		sessionUuid = UUID.randomUUID();
+		when(mockSession.getUuid()).thenReturn(sessionUuid);
+	}
+
+	@ParameterizedTest(name = "{0} events")
+	@ValueSource(ints = {1_000, 10_000, 100_000})
+	@DisplayName("단일 순회 엔진은 기존 다중 순회 구현과 같은 Insight를 감지한다")
+	void fusedPassMatchesBaseline(int events) {
+		// Given
+		List<InputLogDto> logs = generateLogs(events, 42L + events);
+
+		// When - 워밍업
+		for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+			BaselineAnalyzer.analyze(logs);
+			analyzeFused(logs);
+		}
+
+		long baselineNanos = 0;
+		long fusedNanos = 0;
+		List<Detection> expected = null;
+		List<Detection> actual = null;
+		for (int i = 0; i < MEASURE_ITERATIONS; i++) {
+			long startedAt = System.nanoTime();
+			expected = BaselineAnalyzer.analyze(logs);
+			baselineNanos += System.nanoTime() - startedAt;
+
+			startedAt = System.nanoTime();
+			actual = analyzeFused(logs);
+			fusedNanos += System.nanoTime() - startedAt;
+		}
+
+		// Then
+		log.info("analyze {} events - baseline: {} ms/op, fused: {} ms/op, insights={}", events,
+			String.format("%.3f", baselineNanos / 1e6 / MEASURE_ITERATIONS),
+			String.format("%.3f", fusedNanos / 1e6 / MEASURE_ITERATIONS), actual.size());
+		assertThat(expected).isNotEmpty();
+		assertThat(actual).containsExactlyElementsOf(expected);
+	}
+
+	private List<Detection> analyzeFused(List<InputLogDto> logs) {
+		// 기준 구현에는 Panic/Idle만 있으므로 나머지 탐지기 결과는 비교에서 제외
+		List<Detection> detections = inputLogAnalyzer.analyze(mockSession, logs).stream()
+			.filter(tag -> tag.getInsightType() == InsightType.PANIC || tag.getInsightType() == InsightType.IDLE)
+			.map(Detection::of)
+			.toList();
+		inputLogAnalyzer.release(sessionUuid);
+		return detections;
+	}
+
+	/**
+	 * 연타 구간, 긴 공백, 마우스 이동(분석 제외), 약간의 순서 뒤바뀜이 섞인 합성 로그
+	 */
+	static List<InputLogDto> generateLogs(int events, long seed) {
+		Random random = new Random(seed);
+		List<InputLogDto> logs = new ArrayList<>(events);
+		long time = 0;
+		while (logs.size() < events) {
+			int pattern = random.nextInt(100);
+			if (pattern < 5) {
+				// 연타 구간
+				String key = KEYS[random.nextInt(KEYS.length)];
+				for (int i = 0; i < 6 && logs.size() < events; i++) {
+					time += 40 + random.nextInt(60);
+					logs.add(inputLog("KEY_DOWN", key, time));
+				}
+			} else if (pattern < 7) {
+				// 공백 구간
+				time += 10_000 + random.nextInt(5_000);
+			} else if (pattern < 40) {
+				time += random.nextInt(300);
+				logs.add(inputLog("MOUSE_MOVE", null, time));
+			} else if (pattern < 70) {
+				time += random.nextInt(300);
+				logs.add(inputLog("KEY_DOWN", KEYS[random.nextInt(KEYS.length)], time));
+			} else if (pattern < 85) {
+				time += random.nextInt(300);
+				logs.add(inputLog("KEY_UP", KEYS[random.nextInt(KEYS.length)], time));
+			} else {
+				time += random.nextInt(300);
+				logs.add(inputLog(random.nextBoolean() ? "MOUSE_DOWN" : "MOUSE_UP", null, time));
+			}
+		}
+		// 클라이언트 버퍼링으로 인한 순서 뒤바뀜
+		for (int i = 1; i < logs.size(); i += 97) {
+			InputLogDto previous = logs.get(i - 1);
+			logs.set(i - 1, logs.get(i));
+			logs.set(i, previous);
+		}
+		return logs;
+	}
+
+	private static InputLogDto inputLog(String type, String code, long mediaTime) {
+		return new InputLogDto(type, mediaTime, System.currentTimeMillis(), code, null, null, null, null, null,
+			null, null);
+	}
+
+	record Detection(InsightType insightType, Long videoTimeMs, Integer durationMs, String metadata) {
+
+		static Detection of(AnalysisTag tag) {
+			return new Detection(tag.getInsightType(), tag.getVideoTimeMs(), tag.getDurationMs(), tag.getMetadata());
+		}
+	}
+
+	/**
+	 * 기존 구현 (비교 기준)
+	 */
+	static final class BaselineAnalyzer {
+
+		private static final int PANIC_THRESHOLD_MS = 500;
+		private static final int PANIC_KEY_COUNT = 5;
+		private static final int IDLE_START_THRESHOLD_MS = 30_000;
+		private static final int IDLE_THRESHOLD_MS = 10_000;
+		private static final int PANIC_DURATION_MS = 3_000;
+
+		static List<Detection> analyze(List<InputLogDto> logs) {
+			List<InputLogDto> sortedLogs = logs.stream()
+				.filter(inputLog -> inputLog.mediaTime() != null)
+				.sorted(Comparator.comparing(InputLogDto::mediaTime))
+				.toList();
+			List<Detection> detections = new ArrayList<>();
+			Deque<InputLogDto> window = new ArrayDeque<>();
+			Long lastInputTime = null;
+			long watermark = Long.MIN_VALUE;
+
+			for (InputLogDto inputLog : sortedLogs) {
+				// 같은 media_time의 입력은 처음 것만 분석 (워터마크)
+				if (!inputLog.isInputEvent() || inputLog.mediaTime() <= watermark) {
+					continue;
+				}
+				watermark = inputLog.mediaTime();
+				if ("KEY_DOWN".equals(inputLog.type())) {
+					window.addLast(inputLog);
+					if (window.size() == PANIC_KEY_COUNT) {
+						InputLogDto first = window.peekFirst();
+						boolean sameKey = first.code() != null
+							&& window.stream().allMatch(press -> first.code().equals(press.code()));
+						if (inputLog.mediaTime() - first.mediaTime() <= PANIC_THRESHOLD_MS && sameKey) {
+							detections.add(new Detection(InsightType.PANIC, first.mediaTime(), PANIC_DURATION_MS,
+								String.format("{\"key\":\"%s\",\"count\":%d}", first.code(), PANIC_KEY_COUNT)));
+							window.clear();
+						} else {
+							window.removeFirst();
+						}
+					}
+				}
+
+				long currentTime = inputLog.mediaTime();
+				if (currentTime < IDLE_START_THRESHOLD_MS) {
+					continue;
+				}
+				if (lastInputTime != null && currentTime - lastInputTime >= IDLE_THRESHOLD_MS) {
+					long gap = currentTime - lastInputTime;
+					detections.add(new Detection(InsightType.IDLE, lastInputTime, (int)gap,
+						String.format("{\"gap_ms\":%d}", gap)));
+				}
+				lastInputTime = currentTime;
+			}
+			return detections;
+		}
+	}
+}
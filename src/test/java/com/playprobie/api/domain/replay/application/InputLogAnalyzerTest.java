@@ -1,11 +1,13 @@
 package com.playprobie.api.domain.replay.application;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -17,10 +19,15 @@ import com.playprobie.api.domain.interview.domain.SurveySession;
 import com.playprobie.api.domain.replay.domain.AnalysisTag;
 import com.playprobie.api.domain.replay.domain.InsightType;
 import com.playprobie.api.domain.replay.dto.InputLogDto;
+import com.playprobie.api.domain.survey.domain.Survey;
+import com.playprobie.api.global.config.properties.ReplayDetectionProperties;
+import com.playprobie.api.global.error.exception.InvalidValueException;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 
 /**
  * InputLogAnalyzer 단위 테스트
- * Panic/Idle 감지 로직 검증
+ * Panic/Idle 및 추가 탐지기(분노 클릭, 휠 요동, 방향키 진동, 메뉴 체류) 감지 로직 검증
  */
 class InputLogAnalyzerTest {
 
@@ -29,7 +36,7 @@ class InputLogAnalyzerTest {
 
 	@BeforeEach
 	void setUp() {
-		inputLogAnalyzer = new InputLogAnalyzer();
+		inputLogAnalyzer = InputLogAnalyzer.withDefaultDetectors();
 		mockSession = mock(SurveySession.class);
 		when(mockSession.getUuid()).thenReturn(UUID.randomUUID());
 	}
@@ -105,6 +112,29 @@ class InputLogAnalyzerTest {
 			// then
 			assertThat(tags).isEmpty();
 		}
+
+		@Test
+		@DisplayName("비표준 키 코드가 대량으로 들어와도 표준 키의 Panic 감지는 유지된다")
+		void detectPanic_afterManyUnknownKeyCodes() {
+			// given: 비표준 코드 5,000종 이후 Space 5회 연타
+			List<InputLogDto> logs = new ArrayList<>();
+			for (int i = 0; i < 5_000; i++) {
+				logs.add(createKeyDownLog("Junk" + i, null, i * 1_000L));
+			}
+			for (int i = 0; i < 5; i++) {
+				logs.add(createKeyDownLog("Space", " ", 10_000_000L + i * 100L));
+			}
+
+			// when
+			List<AnalysisTag> tags = inputLogAnalyzer.analyze(mockSession, logs);
+
+			// then: 비표준 코드는 키 없음으로 처리되어 연타로 묶이지 않음
+			assertThat(tags).filteredOn(tag -> tag.getInsightType() == InsightType.PANIC)
+				.extracting(AnalysisTag::getVideoTimeMs)
+				.containsExactly(10_000_000L);
+			assertThat(InputLogColumns.internKeyCode("Junk0")).isEqualTo(InputLogColumns.NO_KEY);
+			assertThat(InputLogColumns.keyCode(InputLogColumns.internKeyCode("Space"))).isEqualTo("Space");
+		}
 	}
 
 	@Nested
@@ -186,9 +216,9 @@ class InputLogAnalyzerTest {
 		}
 
 		@Test
-		@DisplayName("MOUSE_DOWN 이벤트도 Panic 감지 대상")
-		void detectPanic_withMouseEvents() {
-			// given: 마우스 클릭 5회 연타
+		@DisplayName("MOUSE_DOWN 연타는 Panic이 아닌 분노 클릭으로 감지")
+		void detectRageClick_withMouseEvents() {
+			// given: 같은 위치 마우스 클릭 5회 연타
 			List<InputLogDto> logs = new ArrayList<>();
 			for (int i = 0; i < 5; i++) {
 				logs.add(createMouseDownLog(0, 100, 100, i * 50L));
@@ -197,11 +227,46 @@ class InputLogAnalyzerTest {
 			// when
 			List<AnalysisTag> tags = inputLogAnalyzer.analyze(mockSession, logs);
 
-			// then: MOUSE_DOWN은 KEY_DOWN처럼 code가 없어서 동일 키 체크에서 제외됨
-			// 현재 구현은 KEY_DOWN만 Panic 감지
+			// then: Panic은 KEY_DOWN만 대상, 클릭 4회에서 분노 클릭 감지 후 윈도우 소비
+			assertThat(tags).extracting(AnalysisTag::getInsightType).containsExactly(InsightType.RAGE_CLICK);
+			assertThat(tags.get(0).getMetadata()).isEqualTo("{\"button\":0,\"count\":4}");
+		}
+
+		@Test
+		@DisplayName("떨어진 위치의 클릭 연타는 분노 클릭 미감지")
+		void noRageClick_whenClicksSpreadOut() {
+			// given
+			List<InputLogDto> logs = new ArrayList<>();
+			for (int i = 0; i < 5; i++) {
+				logs.add(createMouseDownLog(0, 100 + i * 100, 100, i * 50L));
+			}
+
+			// when
+			List<AnalysisTag> tags = inputLogAnalyzer.analyze(mockSession, logs);
+
+			// then
 			assertThat(tags).isEmpty();
 		}
 
+		@Test
+		@DisplayName("순서가 뒤섞인 합성 로그에서 기존 다중 순회 구현과 같은 Panic/Idle을 감지")
+		void matchBaselineOnSyntheticLogs() {
+			// given: 연타/공백/마우스 이동/순서 뒤바뀜이 섞인 1,000건
+			List<InputLogDto> logs = InputLogAnalyzerBenchmarkTest.generateLogs(1_000, 1_042L);
+
+			// when
+			List<InputLogAnalyzerBenchmarkTest.Detection> expected =
+				InputLogAnalyzerBenchmarkTest.BaselineAnalyzer.analyze(logs);
+			List<InputLogAnalyzerBenchmarkTest.Detection> actual = inputLogAnalyzer.analyze(mockSession, logs).stream()
+				.filter(tag -> tag.getInsightType() == InsightType.PANIC || tag.getInsightType() == InsightType.IDLE)
+				.map(InputLogAnalyzerBenchmarkTest.Detection::of)
+				.toList();
+
+			// then
+			assertThat(expected).isNotEmpty();
+			assertThat(actual).containsExactlyElementsOf(expected);
+		}
+
 		@Test
 		@DisplayName("Panic과 Idle 동시 감지")
 		void detectBothPanicAndIdle() {
@@ -225,6 +290,194 @@ class InputLogAnalyzerTest {
 		}
 	}
 
+	@Nested
+	@DisplayName("배치 경계 테스트")
+	class BatchBoundary {
+
+		@Test
+		@DisplayName("두 배치에 걸친 연타도 Panic으로 한 번 감지")
+		void detectPanic_acrossBatches() {
+			// given: 3회 + 2회로 나뉘어 업로드된 Space 연타 (0ms ~ 400ms)
+			List<InputLogDto> firstBatch = new ArrayList<>();
+			for (int i = 0; i < 3; i++) {
+				firstBatch.add(createKeyDownLog("Space", " ", i * 100L));
+			}
+			List<InputLogDto> secondBatch = List.of(
+				createKeyDownLog("Space", " ", 300L),
+				createKeyDownLog("Space", " ", 400L));
+
+			// when
+			List<AnalysisTag> firstTags = inputLogAnalyzer.analyze(mockSession, firstBatch);
+			List<AnalysisTag> secondTags = inputLogAnalyzer.analyze(mockSession, secondBatch);
+
+			// then
+			assertThat(firstTags).isEmpty();
+			assertThat(secondTags).hasSize(1);
+			assertThat(secondTags.get(0).getInsightType()).isEqualTo(InsightType.PANIC);
+			assertThat(secondTags.get(0).getVideoTimeMs()).isEqualTo(0L);
+		}
+
+		@Test
+		@DisplayName("배치 사이의 공백도 Idle로 감지")
+		void detectIdle_acrossBatches() {
+			// given: 첫 배치의 마지막 입력 31초, 다음 배치의 첫 입력 44초 (13초 gap)
+			List<InputLogDto> firstBatch = List.of(
+				createKeyDownLog("KeyW", "w", 30000L),
+				createKeyDownLog("KeyW", "w", 31000L));
+			List<InputLogDto> secondBatch = List.of(createKeyDownLog("KeyW", "w", 44000L));
+
+			// when
+			inputLogAnalyzer.analyze(mockSession, firstBatch);
+			List<AnalysisTag> tags = inputLogAnalyzer.analyze(mockSession, secondBatch);
+
+			// then
+			assertThat(tags).hasSize(1);
+			assertThat(tags.get(0).getInsightType()).isEqualTo(InsightType.IDLE);
+			assertThat(tags.get(0).getVideoTimeMs()).isEqualTo(31000L);
+			assertThat(tags.get(0).getDurationMs()).isEqualTo(13000);
+		}
+
+		@Test
+		@DisplayName("재전송된 배치는 다시 감지하지 않음")
+		void ignoreRetriedBatch() {
+			// given
+			List<InputLogDto> batch = new ArrayList<>();
+			for (int i = 0; i < 5; i++) {
+				batch.add(createKeyDownLog("Space", " ", i * 100L));
+			}
+			inputLogAnalyzer.analyze(mockSession, batch);
+
+			// when
+			List<AnalysisTag> tags = inputLogAnalyzer.analyze(mockSession, batch);
+
+			// then
+			assertThat(tags).isEmpty();
+		}
+
+		@Test
+		@DisplayName("세션 상태를 해제하면 이전 배치와 이어서 분석하지 않음")
+		void releaseState() {
+			// given
+			inputLogAnalyzer.analyze(mockSession, List.of(createKeyDownLog("KeyW", "w", 30000L)));
+
+			// when
+			inputLogAnalyzer.release(mockSession.getUuid());
+			List<AnalysisTag> tags = inputLogAnalyzer.analyze(mockSession,
+				List.of(createKeyDownLog("KeyW", "w", 50000L)));
+
+			// then
+			assertThat(tags).isEmpty();
+		}
+	}
+
+	@Nested
+	@DisplayName("추가 탐지기 테스트")
+	class AdditionalDetectors {
+
+		@Test
+		@DisplayName("휠 방향을 짧은 시간에 4회 바꾸면 휠 요동 감지")
+		void detectWheelThrash() {
+			// given: 200ms 간격으로 위/아래 반복 (전환 4회: 200~800ms)
+			List<InputLogDto> logs = new ArrayList<>();
+			for (int i = 0; i < 5; i++) {
+				logs.add(createWheelLog(i % 2 == 0 ? 120 : -120, i * 200L));
+			}
+
+			// when
+			List<AnalysisTag> tags = inputLogAnalyzer.analyze(mockSession, logs);
+
+			// then
+			assertThat(tags).extracting(AnalysisTag::getInsightType).containsExactly(InsightType.WHEEL_THRASH);
+			assertThat(tags.get(0).getVideoTimeMs()).isEqualTo(200L);
+		}
+
+		@Test
+		@DisplayName("좌우 방향키를 번갈아 6회 전환하면 방향키 진동 감지")
+		void detectOscillation() {
+			// given: KeyA/KeyD 교대 7회 (전환 6회: 200~1200ms)
+			List<InputLogDto> logs = new ArrayList<>();
+			for (int i = 0; i < 7; i++) {
+				logs.add(createKeyDownLog(i % 2 == 0 ? "KeyA" : "KeyD", null, i * 200L));
+			}
+
+			// when
+			List<AnalysisTag> tags = inputLogAnalyzer.analyze(mockSession, logs);
+
+			// then
+			assertThat(tags).extracting(AnalysisTag::getInsightType).containsExactly(InsightType.OSCILLATION);
+			assertThat(tags.get(0).getMetadata()).isEqualTo("{\"axis\":\"horizontal\",\"reversals\":6}");
+		}
+
+		@Test
+		@DisplayName("메뉴를 15초 이상 열어 두면 메뉴 체류 감지")
+		void detectMenuDwell() {
+			// given: 10초에 Escape로 메뉴 열고 30초에 닫음
+			List<InputLogDto> logs = List.of(
+				createKeyDownLog("Escape", null, 10000L),
+				createKeyDownLog("Escape", null, 30000L));
+
+			// when
+			List<AnalysisTag> tags = inputLogAnalyzer.analyze(mockSession, logs);
+
+			// then
+			assertThat(tags).extracting(AnalysisTag::getInsightType).containsExactly(InsightType.MENU_DWELL);
+			assertThat(tags.get(0).getVideoTimeMs()).isEqualTo(10000L);
+			assertThat(tags.get(0).getDurationMs()).isEqualTo(20000);
+		}
+
+		@Test
+		@DisplayName("설문별 임계값으로 탐지 기준을 바꿀 수 있다")
+		void appliesSurveyThresholds() {
+			// given: Panic 연타 기준 3회
+			Survey survey = mock(Survey.class);
+			when(survey.getInsightThresholds()).thenReturn(Map.of(PanicDetector.KEY_COUNT, 3));
+			when(mockSession.getSurvey()).thenReturn(survey);
+			List<InputLogDto> logs = new ArrayList<>();
+			for (int i = 0; i < 3; i++) {
+				logs.add(createKeyDownLog("Space", " ", i * 100L));
+			}
+
+			// when
+			List<AnalysisTag> tags = inputLogAnalyzer.analyze(mockSession, logs);
+
+			// then
+			assertThat(tags).extracting(AnalysisTag::getInsightType).containsExactly(InsightType.PANIC);
+			assertThat(tags.get(0).getMetadata()).isEqualTo("{\"key\":\"Space\",\"count\":3}");
+		}
+
+		@Test
+		@DisplayName("선언되지 않았거나 범위를 벗어난 임계값은 거부한다")
+		void rejectsInvalidThresholds() {
+			assertThatThrownBy(() -> inputLogAnalyzer.validateThresholds(Map.of("panic.unknown", 1)))
+				.isInstanceOf(InvalidValueException.class);
+			assertThatThrownBy(() -> inputLogAnalyzer.validateThresholds(Map.of(PanicDetector.KEY_COUNT, 1)))
+				.isInstanceOf(InvalidValueException.class);
+		}
+
+		@Test
+		@DisplayName("예산을 넘은 이벤트는 해당 탐지기만 건너뛰고 메트릭으로 남긴다")
+		void skipsEventsOverBudget() {
+			// given: Panic 탐지기 예산 배치당 3개
+			SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+			InputLogAnalyzer analyzer = new InputLogAnalyzer(List.of(new PanicDetector(), new IdleDetector()),
+				new ReplayDetectionProperties(null, Map.of("PANIC", 3)), meterRegistry);
+			List<InputLogDto> logs = new ArrayList<>();
+			for (int i = 0; i < 5; i++) {
+				logs.add(createKeyDownLog("Space", " ", i * 100L));
+			}
+
+			// when
+			List<AnalysisTag> tags = analyzer.analyze(mockSession, logs);
+
+			// then
+			assertThat(tags).isEmpty();
+			assertThat(meterRegistry.counter("replay.insight.detector.skipped", "detector", "PANIC").count())
+				.isEqualTo(2.0);
+			assertThat(meterRegistry.counter("replay.insight.detector.events", "detector", "IDLE").count())
+				.isEqualTo(5.0);
+		}
+	}
+
 	// Helper methods
 	private InputLogDto createKeyDownLog(String code, String key, Long mediaTime) {
 		return new InputLogDto(
@@ -232,6 +485,12 @@ class InputLogAnalyzerTest {
 			code, key, null, null, null, null, null, null);
 	}
 
+	private InputLogDto createWheelLog(Integer deltaY, Long mediaTime) {
+		return new InputLogDto(
+			"WHEEL", mediaTime, System.currentTimeMillis(),
+			null, null, null, null, null, 0, deltaY, null);
+	}
+
 	private InputLogDto createMouseDownLog(Integer button, Integer x, Integer y, Long mediaTime) {
 		return new InputLogDto(
 			"MOUSE_DOWN", mediaTime, System.currentTimeMillis(),
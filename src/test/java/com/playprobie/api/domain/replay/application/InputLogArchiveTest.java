@@ -0,0 +1,141 @@
+package com.playprobie.api.domain.replay.application;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.groups.Tuple.tuple;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.util.unit.DataSize;
+
+import com.playprobie.api.domain.interview.domain.SurveySession;
+import com.playprobie.api.domain.replay.domain.AnalysisTag;
+import com.playprobie.api.domain.replay.dto.InputLogDto;
+import com.playprobie.api.global.config.properties.ReplayArchiveProperties;
+
+/**
+ * InputLogArchive 단위 테스트
+ * 로컬 디렉터리에 기록한 세션을 다시 읽어 라이브 분석과 같은 결과를 내는지 검증
+ */
+class InputLogArchiveTest {
+
+	@TempDir
+	private Path directory;
+
+	private final UUID sessionUuid = UUID.randomUUID();
+	private SurveySession mockSession;
+
+	@BeforeEach
+	void setUp() {
+		mockSession = mock(SurveySession.class);
+		when(mockSession.getUuid()).thenReturn(sessionUuid);
+	}
+
+	@Test
+	@DisplayName("아카이브를 다시 분석하면 라이브 분석과 같은 태그가 나오고, 세그먼트는 크기 기준으로 나뉜다")
+	void reanalyzeMatchesLiveAnalysis() throws IOException {
+		// given: 작은 세그먼트 크기로 여러 세그먼트에 걸쳐 기록
+		InputLogArchive archive = archive(DataSize.ofBytes(256));
+		InputLogAnalyzer liveAnalyzer = InputLogAnalyzer.withDefaultDetectors();
+		List<AnalysisTag> liveTags = new ArrayList<>();
+		for (List<InputLogDto> batch : batches()) {
+			InputLogColumns columns = InputLogColumns.decode(batch);
+			liveTags.addAll(liveAnalyzer.analyze(mockSession, columns));
+			archive.append(sessionUuid, columns);
+		}
+		archive.closeAll();
+
+		// when
+		List<AnalysisTag> replayed = archive.reanalyze(mockSession);
+
+		// then
+		assertThat(liveTags).isNotEmpty();
+		assertThat(replayed).extracting(AnalysisTag::getInsightType, AnalysisTag::getVideoTimeMs,
+				AnalysisTag::getDurationMs, AnalysisTag::getMetadata)
+			.containsExactlyElementsOf(liveTags.stream()
+				.map(tag -> tuple(tag.getInsightType(), tag.getVideoTimeMs(), tag.getDurationMs(), tag.getMetadata()))
+				.toList());
+		try (var files = Files.list(directory.resolve(sessionUuid.toString()))) {
+			assertThat(files.filter(file -> file.toString().endsWith(".seg")).count()).isGreaterThan(1);
+		}
+	}
+
+	@Test
+	@DisplayName("재시작 후에도 인덱스 뒤에 이어서 기록하고, 재전송된 구간은 다시 기록하지 않는다")
+	void resumesAfterRestartWithoutDuplicates() {
+		// given
+		InputLogArchive first = archive(DataSize.ofMegabytes(1));
+		first.append(sessionUuid, InputLogColumns.decode(burst(0L)));
+		first.closeAll();
+
+		// when: 새 인스턴스(재시작)에서 재전송 배치 + 새 배치 기록
+		InputLogArchive restarted = archive(DataSize.ofMegabytes(1));
+		restarted.append(sessionUuid, InputLogColumns.decode(burst(0L)));
+		restarted.append(sessionUuid, InputLogColumns.decode(burst(60_000L)));
+		restarted.closeAll();
+
+		// then: 재전송된 0초 배치는 한 번만 기록되어 Panic(0초), Panic(60초)만 나옴
+		List<AnalysisTag> replayed = restarted.reanalyze(mockSession);
+		assertThat(replayed).extracting(AnalysisTag::getVideoTimeMs).containsExactly(0L, 60_000L);
+	}
+
+	@Test
+	@DisplayName("구간 재분석은 희소 인덱스로 겹치는 블록만 읽는다")
+	void reanalyzeRangeReadsOverlappingBlocks() {
+		// given
+		InputLogArchive archive = archive(DataSize.ofMegabytes(1));
+		for (long start = 0; start < 100_000L; start += 20_000L) {
+			archive.append(sessionUuid, InputLogColumns.decode(burst(start)));
+		}
+		archive.closeAll();
+
+		// when
+		List<AnalysisTag> replayed = archive.reanalyze(mockSession, 40_000L, 60_000L);
+
+		// then: 40초, 60초 블록만 분석
+		assertThat(replayed).extracting(AnalysisTag::getVideoTimeMs).contains(40_000L, 60_000L)
+			.doesNotContain(0L, 20_000L, 80_000L);
+	}
+
+	private InputLogArchive archive(DataSize segmentSize) {
+		return new InputLogArchive(new ReplayArchiveProperties(true, directory.toString(), segmentSize, null, null),
+			null, InputLogAnalyzer.withDefaultDetectors());
+	}
+
+	private static List<List<InputLogDto>> batches() {
+		List<List<InputLogDto>> batches = new ArrayList<>();
+		for (long start = 0; start < 300_000L; start += 15_000L) {
+			batches.add(burst(start));
+		}
+		return batches;
+	}
+
+	/**
+	 * start부터 Space 5회 연타 후 1초 간격 입력 (다음 배치와의 간격이 길면 Idle도 감지됨)
+	 */
+	private static List<InputLogDto> burst(long start) {
+		List<InputLogDto> logs = new ArrayList<>();
+		for (int i = 0; i < 5; i++) {
+			logs.add(keyDown("Space", start + i * 100L));
+		}
+		for (int i = 1; i <= 3; i++) {
+			logs.add(keyDown("KeyW", start + i * 1_000L));
+		}
+		return logs;
+	}
+
+	private static InputLogDto keyDown(String code, long mediaTime) {
+		return new InputLogDto("KEY_DOWN", mediaTime, System.currentTimeMillis(), code, code, null, null, null, null,
+			null, null);
+	}
+}
@@ -0,0 +1,306 @@
+package com.playprobie.api.domain.replay.application;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.zip.Deflater;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.playprobie.api.domain.replay.dto.InputLogDto;
+import com.playprobie.api.domain.replay.dto.ReplayLogRequest;
+import com.playprobie.api.global.error.ErrorCode;
+import com.playprobie.api.global.error.exception.InvalidValueException;
+
+/**
+ * InputLogBinaryDecoder 단위 테스트
+ * JSON 배치와 같은 컬럼으로 풀리는지, 잘못된 형식을 거부하는지, 크기/파싱 시간 절감 측정
+ */
+class InputLogBinaryDecoderTest {
+
+	private static final Logger log = LoggerFactory.getLogger(InputLogBinaryDecoderTest.class);
+
+	private static final String[] KEYS = {"Space", "KeyW", "KeyA", "KeyS", "KeyD", "ShiftLeft"};
+
+	private final ObjectMapper objectMapper = new ObjectMapper();
+
+	@Nested
+	@DisplayName("디코딩")
+	class Decoding {
+
+		@Test
+		@DisplayName("바이너리 배치는 같은 JSON 배치와 동일한 컬럼으로 풀린다")
+		void decodesSameColumnsAsJson() {
+			// given
+			List<InputLogDto> logs = generateLogs(2_000, 7L);
+			Snapshot expected = Snapshot.of(InputLogColumns.decode(logs));
+
+			// when
+			Snapshot plain = Snapshot.of(InputLogBinaryDecoder.decode(encode(logs, false)));
+			Snapshot deflated = Snapshot.of(InputLogBinaryDecoder.decode(encode(logs, true)));
+
+			// then
+			assertThat(plain).isEqualTo(expected);
+			assertThat(deflated).isEqualTo(expected);
+		}
+
+		@Test
+		@DisplayName("순서가 뒤바뀐 이벤트는 media_time 순으로 정렬된다")
+		void sortsOutOfOrderEvents() {
+			// given
+			List<InputLogDto> logs = List.of(
+				inputLog("KEY_DOWN", "Space", 300L),
+				inputLog("MOUSE_MOVE", null, 100L),
+				inputLog("KEY_DOWN", "KeyW", 200L));
+
+			// when
+			InputLogColumns columns = InputLogBinaryDecoder.decode(encode(logs, false));
+
+			// then
+			assertThat(columns.size).isEqualTo(3);
+			assertThat(Arrays.copyOf(columns.mediaTime, columns.size)).containsExactly(100L, 200L, 300L);
+			assertThat(columns.typeCode[0]).isEqualTo(InputLogColumns.TYPE_MOUSE_MOVE);
+			assertThat(InputLogColumns.keyCode(columns.keyCodeId[1])).isEqualTo("KeyW");
+		}
+
+		@Test
+		@DisplayName("버전 1 배치는 마우스 값 없이 계속 받는다")
+		void decodesLegacyVersion() {
+			// given: version=1, flags=0, eventCount=1, keyCount=0, MOUSE_DOWN @ 10ms
+			byte[] payload = {1, 0, 1, 0, (byte)InputLogColumns.TYPE_MOUSE_DOWN, 20};
+
+			// when
+			InputLogColumns columns = InputLogBinaryDecoder.decode(payload);
+
+			// then
+			assertThat(columns.size).isEqualTo(1);
+			assertThat(columns.mediaTime[0]).isEqualTo(10L);
+			assertThat(columns.button[0]).isEqualTo(InputLogColumns.NO_BUTTON);
+		}
+	}
+
+	@Nested
+	@DisplayName("형식 검증")
+	class Validation {
+
+		@Test
+		@DisplayName("지원하지 않는 버전은 거부한다")
+		void rejectsUnknownVersion() {
+			byte[] payload = encode(generateLogs(10, 1L), false);
+			payload[0] = 3;
+
+			assertInvalid(payload);
+		}
+
+		@Test
+		@DisplayName("잘린 배치는 거부한다")
+		void rejectsTruncatedPayload() {
+			byte[] payload = encode(generateLogs(100, 1L), false);
+
+			assertInvalid(Arrays.copyOf(payload, payload.length - 1));
+			assertInvalid(Arrays.copyOf(payload, payload.length + 1)); // 남는 바이트
+		}
+
+		@Test
+		@DisplayName("본문 길이보다 큰 이벤트 수는 버퍼 할당 전에 거부한다")
+		void rejectsEventCountBeyondPayload() {
+			// version=1, flags=0, eventCount=100_000(varint), keyCount=0
+			byte[] payload = {1, 0, (byte)0xA0, (byte)0x8D, 0x06, 0};
+
+			assertInvalid(payload);
+		}
+
+		private void assertInvalid(byte[] payload) {
+			assertThatThrownBy(() -> InputLogBinaryDecoder.decode(payload))
+				.isInstanceOf(InvalidValueException.class)
+				.extracting("errorCode")
+				.isEqualTo(ErrorCode.INVALID_INPUT_LOG_FORMAT);
+		}
+	}
+
+	@Test
+	@DisplayName("바이너리 배치는 JSON보다 이벤트당 바이트 수와 파싱 시간이 작다")
+	void measuresSizeAndParseTime() throws Exception {
+		// given
+		int events = 10_000;
+		int iterations = 30;
+		ReplayLogRequest request = new ReplayLogRequest("session", "segment", "video", generateLogs(events, 42L));
+		byte[] json = objectMapper.writeValueAsBytes(request);
+		byte[] binary = encode(request.logs(), false);
+		byte[] deflated = encode(request.logs(), true);
+
+		// when - 워밍업 후 측정
+		for (int i = 0; i < iterations; i++) {
+			parseJson(json);
+			InputLogBinaryDecoder.decode(binary);
+			InputLogBinaryDecoder.decode(deflated);
+		}
+		long jsonNanos = 0;
+		long binaryNanos = 0;
+		long deflatedNanos = 0;
+		for (int i = 0; i < iterations; i++) {
+			long startedAt = System.nanoTime();
+			parseJson(json);
+			jsonNanos += System.nanoTime() - startedAt;
+
+			startedAt = System.nanoTime();
+			InputLogBinaryDecoder.decode(binary);
+			binaryNanos += System.nanoTime() - startedAt;
+
+			startedAt = System.nanoTime();
+			InputLogBinaryDecoder.decode(deflated);
+			deflatedNanos += System.nanoTime() - startedAt;
+		}
+
+		// then
+		log.info("{} events - bytes/event json: {}, binary: {}, deflated: {}", events,
+			String.format("%.2f", (double)json.length / events), String.format("%.2f", (double)binary.length / events),
+			String.format("%.2f", (double)deflated.length / events));
+		log.info("{} events - parse ms/op json: {}, binary: {}, deflated: {}", events,
+			String.format("%.3f", jsonNanos / 1e6 / iterations), String.format("%.3f", binaryNanos / 1e6 / iterations),
+			String.format("%.3f", deflatedNanos / 1e6 / iterations));
+		assertThat(binary.length).isLessThan(json.length / 5);
+		assertThat(deflated.length).isLessThanOrEqualTo(binary.length);
+	}
+
+	// === Helper Methods ===
+
+	private InputLogColumns parseJson(byte[] json) throws Exception {
+		return InputLogColumns.decode(objectMapper.readValue(json, ReplayLogRequest.class).logs());
+	}
+
+	/**
+	 * 클라이언트 인코더와 같은 규칙으로 바이너리 배치 생성
+	 */
+	private static byte[] encode(List<InputLogDto> logs, boolean deflate) {
+		Map<String, Integer> keyTable = new LinkedHashMap<>();
+		ByteArrayOutputStream events = new ByteArrayOutputStream();
+		long previousTime = 0;
+		for (InputLogDto inputLog : logs) {
+			int type = switch (inputLog.type()) {
+				case "KEY_DOWN" -> InputLogColumns.TYPE_KEY_DOWN;
+				case "KEY_UP" -> InputLogColumns.TYPE_KEY_UP;
+				case "MOUSE_DOWN" -> InputLogColumns.TYPE_MOUSE_DOWN;
+				case "MOUSE_UP" -> InputLogColumns.TYPE_MOUSE_UP;
+				case "WHEEL" -> InputLogColumns.TYPE_WHEEL;
+				case "MOUSE_MOVE" -> InputLogColumns.TYPE_MOUSE_MOVE;
+				default -> InputLogColumns.TYPE_OTHER;
+			};
+			events.write(type);
+			writeZigZag(events, inputLog.mediaTime() - previousTime);
+			previousTime = inputLog.mediaTime();
+			if (type == InputLogColumns.TYPE_KEY_DOWN || type == InputLogColumns.TYPE_KEY_UP) {
+				writeVarLong(events, inputLog.code() == null ? 0
+					: keyTable.computeIfAbsent(inputLog.code(), code -> keyTable.size() + 1));
+			} else if (type == InputLogColumns.TYPE_MOUSE_DOWN || type == InputLogColumns.TYPE_MOUSE_UP) {
+				writeZigZag(events, inputLog.button() != null ? inputLog.button() : InputLogColumns.NO_BUTTON);
+				writeZigZag(events, inputLog.x() != null ? inputLog.x() : 0);
+				writeZigZag(events, inputLog.y() != null ? inputLog.y() : 0);
+			} else if (type == InputLogColumns.TYPE_WHEEL) {
+				writeZigZag(events, inputLog.deltaY() != null ? inputLog.deltaY() : 0);
+			} else if (type == InputLogColumns.TYPE_MOUSE_MOVE) {
+				writeZigZag(events, inputLog.x() != null ? inputLog.x() : 0);
+				writeZigZag(events, inputLog.y() != null ? inputLog.y() : 0);
+			}
+		}
+
+		ByteArrayOutputStream body = new ByteArrayOutputStream();
+		writeVarLong(body, logs.size());
+		writeVarLong(body, keyTable.size());
+		for (String code : keyTable.keySet()) {
+			byte[] bytes = code.getBytes(StandardCharsets.UTF_8);
+			writeVarLong(body, bytes.length);
+			body.writeBytes(bytes);
+		}
+		body.writeBytes(events.toByteArray());
+
+		ByteArrayOutputStream payload = new ByteArrayOutputStream();
+		payload.write(InputLogBinaryDecoder.VERSION);
+		payload.write(deflate ? InputLogBinaryDecoder.FLAG_DEFLATE : 0);
+		payload.writeBytes(deflate ? deflate(body.toByteArray()) : body.toByteArray());
+		return payload.toByteArray();
+	}
+
+	private static void writeZigZag(ByteArrayOutputStream out, long value) {
+		writeVarLong(out, (value << 1) ^ (value >> 63));
+	}
+
+	private static void writeVarLong(ByteArrayOutputStream out, long value) {
+		while ((value & ~0x7FL) != 0) {
+			out.write((int)(value & 0x7F) | 0x80);
+			value >>>= 7;
+		}
+		out.write((int)value);
+	}
+
+	private static byte[] deflate(byte[] bytes) {
+		Deflater deflater = new Deflater();
+		deflater.setInput(bytes);
+		deflater.finish();
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		byte[] chunk = new byte[8192];
+		while (!deflater.finished()) {
+			out.write(chunk, 0, deflater.deflate(chunk));
+		}
+		deflater.end();
+		return out.toByteArray();
+	}
+
+	private static List<InputLogDto> generateLogs(int events, long seed) {
+		Random random = new Random(seed);
+		String[] types = {"KEY_DOWN", "KEY_UP", "MOUSE_DOWN", "MOUSE_UP", "MOUSE_MOVE", "MOUSE_MOVE", "WHEEL"};
+		List<InputLogDto> logs = new ArrayList<>(events);
+		long time = 0;
+		for (int i = 0; i < events; i++) {
+			time += random.nextInt(10) == 0 ? -random.nextInt(50) : random.nextInt(200);
+			String type = types[random.nextInt(types.length)];
+			String code = type.startsWith("KEY") ? KEYS[random.nextInt(KEYS.length)] : null;
+			logs.add(inputLog(type, code, Math.max(0, time)));
+		}
+		return logs;
+	}
+
+	private static InputLogDto inputLog(String type, String code, long mediaTime) {
+		boolean mouse = type.startsWith("MOUSE");
+		boolean wheel = "WHEEL".equals(type);
+		return new InputLogDto(type, mediaTime, 1_700_000_000_000L + mediaTime, code, code,
+			"MOUSE_DOWN".equals(type) ? (int)(mediaTime % 3) : null, mouse ? 640 : null, mouse ? 360 : null,
+			wheel ? 0 : null, wheel ? (mediaTime % 2 == 0 ? 120 : -120) : null,
+			"MOUSE_MOVE".equals(type) || wheel ? Boolean.TRUE : null);
+	}
+
+	/**
+	 * 재사용 버퍼 내용을 비교할 수 있도록 복사한 컬럼
+	 */
+	private record Snapshot(List<Long> mediaTime, List<Integer> typeCode, List<String> keyCode,
+		List<List<Integer>> pointer) {
+
+		static Snapshot of(InputLogColumns columns) {
+			List<Long> times = new ArrayList<>();
+			List<Integer> types = new ArrayList<>();
+			List<String> keys = new ArrayList<>();
+			List<List<Integer>> pointer = new ArrayList<>();
+			for (int i = 0; i < columns.size; i++) {
+				times.add(columns.mediaTime[i]);
+				types.add(columns.typeCode[i]);
+				keys.add(InputLogColumns.keyCode(columns.keyCodeId[i]));
+				pointer.add(List.of(columns.button[i], columns.pointerX[i], columns.pointerY[i],
+					columns.wheelDeltaY[i]));
+			}
+			return new Snapshot(times, types, keys, pointer);
+		}
+	}
+}
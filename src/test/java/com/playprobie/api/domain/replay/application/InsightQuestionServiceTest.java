@@ -0,0 +1,203 @@
+package com.playprobie.api.domain.replay.application;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.playprobie.api.domain.interview.domain.SurveySession;
+import com.playprobie.api.domain.replay.dao.AnalysisTagRepository;
+import com.playprobie.api.domain.replay.domain.AnalysisTag;
+import com.playprobie.api.domain.replay.domain.InsightType;
+import com.playprobie.api.domain.replay.dto.InsightCompletePayload;
+import com.playprobie.api.domain.replay.dto.InsightQuestionPayload;
+import com.playprobie.api.domain.replay.event.InsightPhaseCompleteEvent;
+import com.playprobie.api.infra.sse.service.SseEmitterService;
+
+/**
+ * InsightQuestionService 단위 테스트
+ * 최신 태그 선택과 나머지 태그 일괄 스킵, 태그 요약 힌트가 없을 때 exists 조회 대체, 개수 조회 기반 완료 이벤트 검증
+ */
+class InsightQuestionServiceTest {
+
+	private static final Long SESSION_ID = 1L;
+
+	private final UUID sessionUuid = UUID.randomUUID();
+
+	private SurveySession session;
+	private AnalysisTagRepository analysisTagRepository;
+	private InsightTagSummary insightTagSummary;
+	private SseEmitterService sseEmitterService;
+	private ApplicationEventPublisher eventPublisher;
+	private InsightQuestionService service;
+
+	@BeforeEach
+	void setUp() {
+		session = mock(SurveySession.class);
+		when(session.getId()).thenReturn(SESSION_ID);
+		analysisTagRepository = mock(AnalysisTagRepository.class);
+		ReplayLogIngestionQueue replayLogIngestionQueue = mock(ReplayLogIngestionQueue.class);
+		when(replayLogIngestionQueue.awaitIdle(eq(sessionUuid), any())).thenReturn(true);
+		insightTagSummary = new InsightTagSummary();
+		sseEmitterService = mock(SseEmitterService.class);
+		eventPublisher = mock(ApplicationEventPublisher.class);
+
+		service = new InsightQuestionService(analysisTagRepository, replayLogIngestionQueue, insightTagSummary,
+			new InsightQuestionGenerator(), sseEmitterService, eventPublisher);
+	}
+
+	@Nested
+	@DisplayName("인사이트 Phase 진입 판단")
+	class HasUnaskedInsights {
+
+		@Test
+		@DisplayName("이 서버의 태그 요약에 기록이 있으면 DB를 조회하지 않고 진입한다")
+		void usesSummaryHint() {
+			// given
+			insightTagSummary.recordDetected(sessionUuid, 2);
+
+			// when & then
+			assertThat(service.hasUnaskedInsights(sessionUuid.toString())).isTrue();
+			verify(analysisTagRepository, never()).existsBySessionUuidAndIsAskedFalse(any());
+		}
+
+		@Test
+		@DisplayName("힌트가 없으면(다른 서버 수집, 재시작) exists 조회 결과로 판단한다")
+		void fallsBackToExistsQueryWithoutHint() {
+			// given
+			when(analysisTagRepository.existsBySessionUuidAndIsAskedFalse(sessionUuid))
+				.thenReturn(true)
+				.thenReturn(false);
+
+			// when & then
+			assertThat(service.hasUnaskedInsights(sessionUuid.toString())).isTrue();
+			assertThat(service.hasUnaskedInsights(sessionUuid.toString())).isFalse();
+			verify(analysisTagRepository, never()).findBySessionId(anyLong());
+		}
+
+		@Test
+		@DisplayName("Phase를 시작하면 힌트를 비워 이후 판단은 exists 조회로 한다")
+		void clearsHintOnPhaseStart() {
+			// given
+			insightTagSummary.recordDetected(sessionUuid, 1);
+			when(analysisTagRepository.findFirstBySessionUuidAndIsAskedFalseOrderByIdDesc(sessionUuid))
+				.thenReturn(Optional.empty());
+			service.startInsightQuestionPhase(sessionUuid.toString());
+
+			// when
+			boolean hasUnasked = service.hasUnaskedInsights(sessionUuid.toString());
+
+			// then
+			assertThat(hasUnasked).isFalse();
+			verify(analysisTagRepository).existsBySessionUuidAndIsAskedFalse(sessionUuid);
+		}
+	}
+
+	@Nested
+	@DisplayName("인사이트 Phase 시작")
+	class StartPhase {
+
+		@Test
+		@DisplayName("가장 최근 미질문 태그만 선택해 첫 질문으로 보내고, 나머지 미질문 태그는 한 번의 UPDATE로 스킵한다")
+		void selectsLatestTagAndSkipsRest() {
+			// given
+			AnalysisTag latest = tag(30L, InsightType.IDLE);
+			when(analysisTagRepository.findFirstBySessionUuidAndIsAskedFalseOrderByIdDesc(sessionUuid))
+				.thenReturn(Optional.of(latest));
+			when(analysisTagRepository.skipUnaskedExcept(SESSION_ID, 30L)).thenReturn(2);
+
+			// when
+			boolean started = service.startInsightQuestionPhase(sessionUuid.toString());
+
+			// then
+			assertThat(started).isTrue();
+			assertThat(latest.getIsSelected()).isTrue();
+			assertThat(latest.getIsAsked()).isFalse();
+			verify(analysisTagRepository).skipUnaskedExcept(SESSION_ID, 30L);
+			verify(analysisTagRepository, never()).findBySessionId(anyLong());
+
+			ArgumentCaptor<Object> payload = ArgumentCaptor.forClass(Object.class);
+			verify(sseEmitterService).send(eq(sessionUuid.toString()), eq("insight_question"), payload.capture());
+			InsightQuestionPayload question = (InsightQuestionPayload)payload.getValue();
+			assertThat(question.tagId()).isEqualTo(30L);
+			assertThat(question.insightType()).isEqualTo(InsightType.IDLE);
+			assertThat(question.turnNum()).isEqualTo(1);
+			assertThat(question.remainingInsights()).isZero();
+		}
+
+		@Test
+		@DisplayName("미질문 태그가 없으면 스킵/전송 없이 false를 반환한다")
+		void returnsFalseWithoutTags() {
+			// given
+			when(analysisTagRepository.findFirstBySessionUuidAndIsAskedFalseOrderByIdDesc(sessionUuid))
+				.thenReturn(Optional.empty());
+
+			// when
+			boolean started = service.startInsightQuestionPhase(sessionUuid.toString());
+
+			// then
+			assertThat(started).isFalse();
+			verify(analysisTagRepository, never()).skipUnaskedExcept(anyLong(), anyLong());
+			verify(sseEmitterService, never()).send(anyString(), anyString(), any());
+		}
+	}
+
+	@Nested
+	@DisplayName("인사이트 Phase 완료")
+	class CompletePhase {
+
+		@Test
+		@DisplayName("마지막 답변이면 개수 조회로 전체/답변 수를 집계해 완료 이벤트를 보내고 클로징 이벤트를 발행한다")
+		void sendsCompleteWithCounts() {
+			// given: 태그 3개 중 선택 1개 답변, 2개 스킵
+			AnalysisTag selected = tag(30L, InsightType.PANIC);
+			selected.markAsSelected();
+			when(analysisTagRepository.findById(30L)).thenReturn(Optional.of(selected));
+			when(analysisTagRepository.findBySessionUuidAndIsSelectedTrueAndIsAskedFalse(sessionUuid))
+				.thenReturn(List.of());
+			when(analysisTagRepository.countBySessionUuid(sessionUuid)).thenReturn(3L);
+			when(analysisTagRepository.countBySessionUuidAndIsAskedTrue(sessionUuid)).thenReturn(3L);
+
+			// when
+			boolean completed = service.processInsightAnswer(sessionUuid.toString(), 30L, "보스 패턴을 피하려고 했어요");
+
+			// then
+			assertThat(completed).isTrue();
+			assertThat(selected.getAnswerText()).isEqualTo("보스 패턴을 피하려고 했어요");
+			verify(sseEmitterService).send(sessionUuid.toString(), "insight_complete",
+				new InsightCompletePayload(3, 3));
+			verify(eventPublisher).publishEvent(new InsightPhaseCompleteEvent(sessionUuid.toString()));
+			verify(analysisTagRepository, never()).findBySessionId(anyLong());
+		}
+	}
+
+	// === Helper Methods ===
+
+	private AnalysisTag tag(Long id, InsightType type) {
+		AnalysisTag tag = AnalysisTag.builder()
+			.session(session)
+			.insightType(type)
+			.videoTimeMs(12_000L)
+			.durationMs(3_000)
+			.build();
+		ReflectionTestUtils.setField(tag, "id", id);
+		return tag;
+	}
+}
@@ -0,0 +1,56 @@
+package com.playprobie.api.domain.replay.application;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.playprobie.api.domain.interview.domain.SurveySession;
+import com.playprobie.api.domain.replay.domain.AnalysisTag;
+import com.playprobie.api.domain.replay.domain.InsightType;
+import com.playprobie.api.domain.replay.dto.ReplayManifestResponse.Insight;
+
+/**
+ * InsightTrack 단위 테스트
+ * 시작 시각 정렬과 구간 겹침 조회 검증
+ */
+class InsightTrackTest {
+
+	private final SurveySession session = mock(SurveySession.class);
+
+	@Test
+	@DisplayName("구간과 겹치는 인사이트만 시작 시각 순으로 돌려주고, 앞에서 길게 이어진 인사이트도 포함한다")
+	void returnsOverlappingInsightsInStartOrder() {
+		// given: 0~10초 장기 패닉, 2초/12초/30초 단발 인사이트
+		InsightTrack track = InsightTrack.of(List.of(
+			tag(InsightType.RAGE_CLICK, 30_000L, null),
+			tag(InsightType.PANIC, 0L, 10_000),
+			tag(InsightType.RAGE_CLICK, 2_000L, 500),
+			tag(InsightType.IDLE, 12_000L, 3_000)));
+
+		// when
+		List<Insight> range = track.range(5_000L, 13_000L);
+
+		// then
+		assertThat(range).extracting(Insight::videoTimeMs).containsExactly(0L, 12_000L);
+		assertThat(track.range(30_000L, 30_000L)).extracting(Insight::videoTimeMs).containsExactly(30_000L);
+		assertThat(track.range(Long.MIN_VALUE, Long.MAX_VALUE)).extracting(Insight::videoTimeMs)
+			.containsExactly(0L, 2_000L, 12_000L, 30_000L);
+		assertThat(track.range(15_001L, 29_999L)).isEmpty();
+		assertThat(track.range(10L, 5L)).isEmpty();
+	}
+
+	// === Helper Methods ===
+
+	private AnalysisTag tag(InsightType type, long videoTimeMs, Integer durationMs) {
+		return AnalysisTag.builder()
+			.session(session)
+			.insightType(type)
+			.videoTimeMs(videoTimeMs)
+			.durationMs(durationMs)
+			.build();
+	}
+}
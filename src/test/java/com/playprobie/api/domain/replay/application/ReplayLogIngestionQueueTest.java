@@ -0,0 +1,222 @@
+package com.playprobie.api.domain.replay.application;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.groups.Tuple.tuple;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentCaptor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.playprobie.api.domain.interview.dao.SurveySessionRepository;
+import com.playprobie.api.domain.interview.domain.SurveySession;
+import com.playprobie.api.domain.replay.application.HeatmapAccumulator.Delta;
+import com.playprobie.api.domain.replay.dao.AnalysisTagRepository;
+import com.playprobie.api.domain.replay.domain.AnalysisTag;
+import com.playprobie.api.domain.replay.domain.HeatmapGrid;
+import com.playprobie.api.domain.replay.domain.HeatmapLayer;
+import com.playprobie.api.domain.replay.dto.InputLogDto;
+import com.playprobie.api.domain.replay.event.ReplayManifestChangedEvent;
+import com.playprobie.api.domain.survey.domain.Survey;
+import com.playprobie.api.global.config.properties.ReplayArchiveProperties;
+import com.playprobie.api.global.config.properties.ReplayHeatmapProperties;
+import com.playprobie.api.global.error.exception.ReplayIngestionBusyException;
+
+/**
+ * ReplayLogIngestionQueue 단위 테스트
+ * 워커 실행을 직접 제어하여 세션별 순서, 묶음 저장, 배압(429), 커밋 후 히트맵/아카이브 반영 검증
+ */
+class ReplayLogIngestionQueueTest {
+
+	@TempDir
+	private Path directory;
+
+	private final UUID sessionUuid = UUID.randomUUID();
+	private final List<Runnable> workers = new ArrayList<>();
+
+	private SurveySessionRepository surveySessionRepository;
+	private AnalysisTagRepository analysisTagRepository;
+	private ApplicationEventPublisher eventPublisher;
+	private InsightTagSummary insightTagSummary;
+	private HeatmapAccumulator heatmapAccumulator;
+	private InputLogArchive archive;
+	private ReplayLogIngestionQueue queue;
+
+	@BeforeEach
+	void setUp() {
+		Survey survey = mock(Survey.class);
+		when(survey.getId()).thenReturn(1L);
+		SurveySession session = mock(SurveySession.class);
+		when(session.getUuid()).thenReturn(sessionUuid);
+		when(session.getSurvey()).thenReturn(survey);
+		surveySessionRepository = mock(SurveySessionRepository.class);
+		when(surveySessionRepository.findByUuid(sessionUuid)).thenReturn(Optional.of(session));
+		analysisTagRepository = mock(AnalysisTagRepository.class);
+		eventPublisher = mock(ApplicationEventPublisher.class);
+		insightTagSummary = new InsightTagSummary();
+
+		InputLogAnalyzer analyzer = InputLogAnalyzer.withDefaultDetectors();
+		archive = new InputLogArchive(new ReplayArchiveProperties(true, directory.toString(), null, null, null), null,
+			analyzer);
+		// 10×10 기준 화면을 5×5 격자로 집계
+		heatmapAccumulator = new HeatmapAccumulator(new ReplayHeatmapProperties(10, 10, 5, 5, null, null));
+		queue = new ReplayLogIngestionQueue(analyzer, archive, heatmapAccumulator, insightTagSummary,
+			surveySessionRepository, analysisTagRepository,
+			new TransactionTemplate(mock(PlatformTransactionManager.class)), workers::add, eventPublisher);
+	}
+
+	@Test
+	@DisplayName("요청 스레드에서는 적재만 하고, 워커가 같은 세션의 배치를 순서대로 묶어 한 번에 저장한다")
+	void drainsSessionBatchesInOrderWithSingleWrite() {
+		// given: 배치 경계에 걸친 연타 (앞 배치 3회 + 뒤 배치 2회)
+		queue.submit(sessionUuid, List.of(keyDown(0L), keyDown(100L), keyDown(200L)));
+		queue.submit(sessionUuid, List.of(keyDown(300L), keyDown(400L)));
+
+		// then: 아직 분석/저장 전이며 워커는 하나만 예약됨
+		assertThat(workers).hasSize(1);
+		verify(analysisTagRepository, times(0)).saveAll(anyList());
+		assertThat(queue.awaitIdle(sessionUuid, Duration.ZERO)).isFalse();
+
+		// when
+		workers.remove(0).run();
+
+		// then
+		@SuppressWarnings("unchecked")
+		ArgumentCaptor<List<AnalysisTag>> captor = ArgumentCaptor.forClass(List.class);
+		verify(analysisTagRepository, times(1)).saveAll(captor.capture());
+		assertThat(captor.getValue()).hasSize(1);
+		assertThat(captor.getValue().get(0).getVideoTimeMs()).isZero();
+		verify(eventPublisher, times(1)).publishEvent(new ReplayManifestChangedEvent(sessionUuid));
+		assertThat(insightTagSummary.hasPendingTags(sessionUuid)).isTrue();
+		assertThat(queue.awaitIdle(sessionUuid, Duration.ZERO)).isTrue();
+	}
+
+	@Test
+	@DisplayName("세션 대기열이 가득 차면 Retry-After와 함께 거부하고, 비워진 뒤에는 다시 받는다")
+	void rejectsWhenSessionLaneFull() {
+		// given
+		for (int i = 0; i < 32; i++) {
+			queue.submit(sessionUuid, List.of(keyDown(i * 1_000L)));
+		}
+
+		// when & then
+		assertThatThrownBy(() -> queue.submit(sessionUuid, List.of(keyDown(99_000L))))
+			.isInstanceOf(ReplayIngestionBusyException.class)
+			.extracting("retryAfter")
+			.isEqualTo(Duration.ofSeconds(1));
+
+		workers.remove(0).run();
+		queue.submit(sessionUuid, List.of(keyDown(100_000L)));
+		assertThat(workers).hasSize(1); // 닫힌 레인 대신 새 워커 예약
+	}
+
+	@Test
+	@DisplayName("태그 저장이 롤백되면 분석 상태를 되돌려, 다시 보낸 배치에서 같은 인사이트를 다시 감지한다")
+	void reanalyzesResentBatchAfterRollback() {
+		// given: 첫 저장은 실패 (트랜잭션 롤백)
+		when(analysisTagRepository.saveAll(anyList()))
+			.thenThrow(new IllegalStateException("DB unavailable"))
+			.thenAnswer(invocation -> invocation.getArgument(0));
+		List<InputLogDto> batch = List.of(keyDown(0L), keyDown(100L), keyDown(200L), keyDown(300L), keyDown(400L));
+		queue.submit(sessionUuid, batch);
+		workers.remove(0).run();
+		assertThat(insightTagSummary.hasPendingTags(sessionUuid)).isFalse();
+
+		// when: 클라이언트가 같은 배치를 재전송
+		queue.submit(sessionUuid, batch);
+		workers.remove(0).run();
+
+		// then
+		@SuppressWarnings("unchecked")
+		ArgumentCaptor<List<AnalysisTag>> captor = ArgumentCaptor.forClass(List.class);
+		verify(analysisTagRepository, times(2)).saveAll(captor.capture());
+		assertThat(captor.getAllValues().get(1)).hasSize(1);
+		assertThat(insightTagSummary.hasPendingTags(sessionUuid)).isTrue();
+	}
+
+	@Test
+	@DisplayName("한 번에 비운 여러 배치는 각각의 좌표로 히트맵에 더해지고, 배치마다 아카이브 블록이 기록된다")
+	void accumulatesEachBatchOfFlush() throws IOException {
+		// given: 서로 다른 셀을 클릭한 배치 3개가 한 워커 실행에서 처리됨
+		queue.submit(sessionUuid, List.of(click(100L, 0, 0)));
+		queue.submit(sessionUuid, List.of(click(200L, 4, 4)));
+		queue.submit(sessionUuid, List.of(click(300L, 8, 8)));
+
+		// when
+		workers.remove(0).run();
+		archive.closeAll();
+
+		// then: 셀 0, 12, 24에 한 번씩 (마지막 배치만 반복 집계되지 않음)
+		Delta all = heatmapAccumulator.drain().stream()
+			.filter(delta -> delta.key().layer() == HeatmapLayer.CLICK)
+			.filter(delta -> delta.key().bucket() == HeatmapGrid.ALL_BUCKETS)
+			.findFirst()
+			.orElseThrow();
+		assertThat(all.total()).isEqualTo(3);
+		assertThat(all.counts()[0]).isEqualTo(1);
+		assertThat(all.counts()[12]).isEqualTo(1);
+		assertThat(all.counts()[24]).isEqualTo(1);
+		Path index = directory.resolve(sessionUuid.toString()).resolve("index");
+		assertThat(Files.size(index) / InputLogArchive.INDEX_ENTRY_BYTES).isEqualTo(3);
+	}
+
+	@Test
+	@DisplayName("이동으로 끝나는 배치나 이동만 담긴 배치를 재전송해도 히트맵에 한 번만 집계된다")
+	void skipsResentMoveBatches() {
+		// given: 이동은 탐지기가 구독하지 않아 분석 워터마크를 올리지 않음
+		List<InputLogDto> endsWithMoves = List.of(click(100L, 0, 0), move(200L, 4, 4), move(300L, 8, 8));
+		List<InputLogDto> movesOnly = List.of(move(400L, 8, 8));
+		queue.submit(sessionUuid, endsWithMoves);
+		queue.submit(sessionUuid, movesOnly);
+		workers.remove(0).run();
+
+		// when: 클라이언트가 두 배치를 재전송
+		queue.submit(sessionUuid, endsWithMoves);
+		queue.submit(sessionUuid, movesOnly);
+		workers.remove(0).run();
+
+		// then
+		List<Delta> all = heatmapAccumulator.drain().stream()
+			.filter(delta -> delta.key().bucket() == HeatmapGrid.ALL_BUCKETS)
+			.toList();
+		assertThat(all).extracting(delta -> delta.key().layer(), Delta::total)
+			.containsExactlyInAnyOrder(tuple(HeatmapLayer.CLICK, 1L), tuple(HeatmapLayer.MOVE, 3L));
+		Delta moves = all.stream().filter(delta -> delta.key().layer() == HeatmapLayer.MOVE).findFirst().orElseThrow();
+		assertThat(moves.counts()[12]).isEqualTo(1);
+		assertThat(moves.counts()[24]).isEqualTo(2);
+	}
+
+	private static InputLogDto keyDown(long mediaTime) {
+		return new InputLogDto("KEY_DOWN", mediaTime, System.currentTimeMillis(), "Space", " ", null, null, null, null,
+			null, null);
+	}
+
+	private static InputLogDto click(long mediaTime, int x, int y) {
+		return new InputLogDto("MOUSE_DOWN", mediaTime, System.currentTimeMillis(), null, null, 0, x, y, null, null,
+			null);
+	}
+
+	private static InputLogDto move(long mediaTime, int x, int y) {
+		return new InputLogDto("MOUSE_MOVE", mediaTime, System.currentTimeMillis(), null, null, null, x, y, null, null,
+			Boolean.TRUE);
+	}
+}
@@ -0,0 +1,179 @@
+package com.playprobie.api.domain.replay.application;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.playprobie.api.domain.interview.dao.SurveySessionRepository;
+import com.playprobie.api.domain.interview.domain.SurveySession;
+import com.playprobie.api.domain.replay.dao.VideoSegmentRepository;
+import com.playprobie.api.domain.replay.domain.VideoSegment;
+import com.playprobie.api.domain.replay.dto.BatchPresignedUrlRequest;
+import com.playprobie.api.domain.replay.dto.BatchPresignedUrlResponse;
+import com.playprobie.api.domain.replay.dto.BatchPresignedUrlResponse.SegmentSlot;
+import com.playprobie.api.global.config.properties.AwsProperties;
+
+import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
+import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.s3.presigner.S3Presigner;
+
+/**
+ * ReplayService Presigned URL 일괄 발급 단위 테스트
+ * 서명은 네트워크 없이 로컬에서 계산되므로 실제 S3Presigner로 URL의 Key/유효 시간까지 검증
+ */
+class ReplayServiceTest {
+
+	private static final Long SESSION_ID = 1L;
+	private static final long SEGMENT_MS = 30_000L;
+
+	private final UUID sessionUuid = UUID.randomUUID();
+	private final S3Presigner presigner = S3Presigner.builder()
+		.region(Region.AP_NORTHEAST_2)
+		.credentialsProvider(StaticCredentialsProvider.create(AwsBasicCredentials.create("test-key", "test-secret")))
+		.build();
+
+	private SurveySession session;
+	private VideoSegmentRepository videoSegmentRepository;
+	private ReplayService replayService;
+
+	@BeforeEach
+	void setUp() {
+		session = mock(SurveySession.class);
+		when(session.getId()).thenReturn(SESSION_ID);
+		SurveySessionRepository surveySessionRepository = mock(SurveySessionRepository.class);
+		when(surveySessionRepository.findByUuid(sessionUuid)).thenReturn(Optional.of(session));
+
+		videoSegmentRepository = mock(VideoSegmentRepository.class);
+		// 저장 시 Hibernate가 부여하는 UUID 대신 임의 UUID 부여
+		when(videoSegmentRepository.saveAll(anyList())).thenAnswer(invocation -> {
+			List<VideoSegment> segments = invocation.getArgument(0);
+			segments.forEach(segment -> ReflectionTestUtils.setField(segment, "uuid", UUID.randomUUID()));
+			return segments;
+		});
+
+		AwsProperties awsProperties = new AwsProperties("ap-northeast-2", "test-key", "test-secret",
+			new AwsProperties.S3("ap-northeast-2", "playprobie", Duration.ofHours(1), "arn:aws:iam::0:role/test",
+				"playprobie-replay", null),
+			null);
+		replayService = new ReplayService(mock(ReplayLogIngestionQueue.class), surveySessionRepository,
+			videoSegmentRepository, presigner, awsProperties, mock(ApplicationEventPublisher.class));
+	}
+
+	@AfterEach
+	void tearDown() {
+		presigner.close();
+	}
+
+	@Nested
+	@DisplayName("슬롯 예약")
+	class Reservation {
+
+		@Test
+		@DisplayName("이미 예약된 sequence는 같은 세그먼트/Key로 다시 서명하고, 업로드가 끝난 sequence는 제외하며 나머지만 새로 만든다")
+		void resignsReservedAndSkipsUploaded() {
+			// given: 5 예약(PENDING), 6은 PENDING/UPLOADED 중복 행
+			VideoSegment reserved = segment(5, "replays/" + sessionUuid + "/5_100.webm", false);
+			VideoSegment duplicatePending = segment(6, "replays/" + sessionUuid + "/6_100.webm", false);
+			VideoSegment uploaded = segment(6, "replays/" + sessionUuid + "/6_200.webm", true);
+			when(videoSegmentRepository.findBySessionIdAndSequenceBetween(SESSION_ID, 5, 8))
+				.thenReturn(List.of(reserved, duplicatePending, uploaded));
+
+			// when
+			BatchPresignedUrlResponse response = replayService.generatePresignedUrls(sessionUuid.toString(),
+				request(5, 4));
+
+			// then
+			assertThat(response.segments()).extracting(SegmentSlot::sequence).containsExactly(5, 7, 8);
+			SegmentSlot resigned = response.segments().get(0);
+			assertThat(resigned.segmentId()).isEqualTo(reserved.getUuid().toString());
+			assertThat(resigned.s3Url()).contains("/replays/" + sessionUuid + "/5_100.webm?");
+
+			@SuppressWarnings("unchecked")
+			ArgumentCaptor<List<VideoSegment>> captor = ArgumentCaptor.forClass(List.class);
+			verify(videoSegmentRepository).saveAll(captor.capture());
+			assertThat(captor.getValue()).extracting(VideoSegment::getSequence).containsExactly(7, 8);
+			assertThat(captor.getValue()).extracting(VideoSegment::getVideoStartMs)
+				.containsExactly(10_000L + 2 * SEGMENT_MS, 10_000L + 3 * SEGMENT_MS);
+			assertThat(response.segments().get(1).s3Url()).contains("/replays/" + sessionUuid + "/7_");
+		}
+
+		@Test
+		@DisplayName("다음 묶음은 예약 구간 끝에서 시작하고, 풀의 절반을 쓰면(최소 1개 남김) 다시 요청하도록 안내한다")
+		void returnsNextAndRefillSequence() {
+			// when
+			BatchPresignedUrlResponse half = replayService.generatePresignedUrls(sessionUuid.toString(),
+				request(5, 4));
+			BatchPresignedUrlResponse single = replayService.generatePresignedUrls(sessionUuid.toString(),
+				request(9, 1));
+
+			// then
+			assertThat(half.nextSequence()).isEqualTo(9);
+			assertThat(half.refillAtSequence()).isEqualTo(7);
+			assertThat(single.nextSequence()).isEqualTo(10);
+			assertThat(single.refillAtSequence()).isEqualTo(9);
+		}
+	}
+
+	@Nested
+	@DisplayName("URL 유효 시간")
+	class Expiration {
+
+		@Test
+		@DisplayName("뒤 슬롯일수록 예상 녹화 시점만큼 길게 발급하되 1시간을 넘지 않는다")
+		void growsPerSlotUpToCap() {
+			// given: 5분 세그먼트 20개 (슬롯 i = 300초 + i × 300초)
+			BatchPresignedUrlRequest request = new BatchPresignedUrlRequest(0, 20, 0L, 300_000L, "video/webm");
+
+			// when
+			List<SegmentSlot> slots = replayService.generatePresignedUrls(sessionUuid.toString(), request)
+				.segments();
+
+			// then
+			assertThat(slots).extracting(SegmentSlot::expiresIn)
+				.startsWith(300, 600, 900)
+				.endsWith(3600, 3600, 3600);
+			assertThat(slots.get(10).expiresIn()).isEqualTo(3300);
+			assertThat(slots.get(11).expiresIn()).isEqualTo(3600);
+			assertThat(slots).allSatisfy(slot -> assertThat(slot.s3Url())
+				.contains("X-Amz-Expires=" + slot.expiresIn()));
+		}
+	}
+
+	// === Helper Methods ===
+
+	private static BatchPresignedUrlRequest request(int startSequence, int count) {
+		return new BatchPresignedUrlRequest(startSequence, count, 10_000L, SEGMENT_MS, "video/webm");
+	}
+
+	private VideoSegment segment(int sequence, String s3Key, boolean uploaded) {
+		VideoSegment segment = VideoSegment.builder()
+			.session(session)
+			.s3Key(s3Key)
+			.sequence(sequence)
+			.videoStartMs(0L)
+			.videoEndMs(SEGMENT_MS)
+			.build();
+		ReflectionTestUtils.setField(segment, "uuid", UUID.randomUUID());
+		if (uploaded) {
+			segment.markUploaded();
+		}
+		return segment;
+	}
+}
@@ -0,0 +1,68 @@
+package com.playprobie.api.domain.search.application;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.Optional;
+import java.util.UUID;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.PreparedStatementCreator;
+import org.springframework.jdbc.core.RowCallbackHandler;
+
+import com.playprobie.api.domain.interview.dao.InterviewLogRepository;
+import com.playprobie.api.domain.interview.domain.QuestionType;
+import com.playprobie.api.domain.interview.domain.SurveySession;
+import com.playprobie.api.domain.search.domain.SearchFilter;
+import com.playprobie.api.domain.survey.dao.SurveyRepository;
+import com.playprobie.api.domain.survey.domain.Survey;
+import com.playprobie.api.domain.user.domain.User;
+import com.playprobie.api.domain.workspace.application.WorkspaceSecurityManager;
+
+/**
+ * InterviewSearchService 단위 테스트
+ * 색인 적재 중에 커밋된 답변이 유실되지 않는지 검증
+ */
+class InterviewSearchServiceTest {
+
+	private static final Long SURVEY_ID = 1L;
+
+	@Test
+	@DisplayName("색인 적재 도중 커밋된 답변은 적재가 끝난 뒤 새 색인에 반영된다")
+	void replaysAnswersCommittedDuringLoad() {
+		// given
+		UUID surveyUuid = UUID.randomUUID();
+		Survey survey = mock(Survey.class, RETURNS_DEEP_STUBS);
+		when(survey.getId()).thenReturn(SURVEY_ID);
+		SurveyRepository surveyRepository = mock(SurveyRepository.class);
+		when(surveyRepository.findByUuid(surveyUuid)).thenReturn(Optional.of(survey));
+		SurveySession session = mock(SurveySession.class);
+		when(session.getSurvey()).thenReturn(survey);
+		JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+		InterviewSearchService service = new InterviewSearchService(surveyRepository,
+			mock(InterviewLogRepository.class), mock(WorkspaceSecurityManager.class), jdbcTemplate);
+
+		// 적재 쿼리가 도는 동안 답변 1건이 커밋됨 (스냅샷에는 미포함)
+		doAnswer(invocation -> {
+			service.indexAnswer(session, 10L, 100L, QuestionType.FIXED, "전투는 어땠나요?", "보스 전투가 어려웠어요");
+			return null;
+		}).when(jdbcTemplate).query(any(PreparedStatementCreator.class), any(RowCallbackHandler.class));
+
+		// when
+		int first = service.search(surveyUuid, mock(User.class), "", SearchFilter.none(), null).total();
+		int second = service.search(surveyUuid, mock(User.class), "", SearchFilter.none(), null).total();
+
+		// then
+		assertThat(first).isEqualTo(1);
+		assertThat(second).isEqualTo(1);
+		verify(jdbcTemplate, times(1)).query(any(PreparedStatementCreator.class), any(RowCallbackHandler.class));
+	}
+}
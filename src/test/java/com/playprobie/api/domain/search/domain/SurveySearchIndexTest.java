@@ -0,0 +1,90 @@
+package com.playprobie.api.domain.search.domain;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.playprobie.api.domain.interview.domain.AnswerQuality;
+import com.playprobie.api.domain.interview.domain.AnswerValidity;
+import com.playprobie.api.domain.interview.domain.QuestionType;
+
+class SurveySearchIndexTest {
+
+	@Test
+	@DisplayName("한글 부분 문자열과 영문 단어로 검색하면 최신순으로 반환한다")
+	void searchByText() {
+		// Given
+		SurveySearchIndex index = new SurveySearchIndex();
+		index.index(document(1L, "보스 전투가 너무 어려웠어요", "20s"));
+		index.index(document(2L, "그래픽은 좋은데 UI가 불편해요", "30s"));
+		index.index(document(3L, "전투 타격감이 좋았어요", "20s"));
+
+		// When
+		SurveySearchIndex.SearchResult battle = index.search("전투", SearchFilter.none(), 10);
+		SurveySearchIndex.SearchResult ui = index.search("ui", SearchFilter.none(), 10);
+		SurveySearchIndex.SearchResult none = index.search("사운드", SearchFilter.none(), 10);
+
+		// Then
+		assertThat(battle.logIds()).containsExactly(3L, 1L);
+		assertThat(ui.logIds()).containsExactly(2L);
+		assertThat(none.total()).isZero();
+	}
+
+	@Test
+	@DisplayName("필터와 limit를 적용해도 total은 전체 일치 건수를 반환한다")
+	void searchWithFilter() {
+		// Given
+		SurveySearchIndex index = new SurveySearchIndex();
+		index.index(document(1L, "전투가 재밌어요", "20s"));
+		index.index(document(2L, "전투가 지루해요", "30s"));
+		index.index(document(3L, "전투 밸런스가 아쉬워요", "20s"));
+		SearchFilter twenties = new SearchFilter(null, null, null, null, "20s", null, null);
+
+		// When
+		SurveySearchIndex.SearchResult result = index.search("전투", twenties, 1);
+
+		// Then
+		assertThat(result.total()).isEqualTo(2);
+		assertThat(result.logIds()).containsExactly(3L);
+		assertThat(index.search(null, new SearchFilter(null, null, null, null, "40s", null, null), 10).total())
+			.isZero();
+	}
+
+	@Test
+	@DisplayName("재색인과 평가 갱신이 검색 결과에 반영된다")
+	void reindexAndUpdateEvaluation() {
+		// Given
+		SurveySearchIndex index = new SurveySearchIndex();
+		index.index(document(1L, "조작이 불편해요", "20s"));
+		index.index(document(1L, "사운드가 좋아요", "20s"));
+		index.updateEvaluation(1L, AnswerValidity.VALID, AnswerQuality.FULL);
+		SearchFilter valid = new SearchFilter(null, null, AnswerValidity.VALID, null, null, null, null);
+
+		// When & Then
+		assertThat(index.search("조작", SearchFilter.none(), 10).total()).isZero();
+		assertThat(index.search("사운드", valid, 10).logIds()).containsExactly(1L);
+		assertThat(index.size()).isEqualTo(1);
+	}
+
+	@Test
+	@DisplayName("토큰이 남지 않는 검색어는 결과가 없고, 비어 있는 검색어만 전체 문서를 반환한다")
+	void searchWithoutTokens() {
+		// Given
+		SurveySearchIndex index = new SurveySearchIndex();
+		index.index(document(1L, "보스 전투가 너무 어려웠어요", "20s"));
+		index.index(document(2L, "a 버튼이 안 눌려요", "30s"));
+
+		// When & Then
+		assertThat(index.search("?", SearchFilter.none(), 10).total()).isZero();
+		assertThat(index.search("!!", SearchFilter.none(), 10).total()).isZero();
+		assertThat(index.search("a", SearchFilter.none(), 10).total()).isZero();
+		assertThat(index.search("  ", SearchFilter.none(), 10).logIds()).containsExactly(2L, 1L);
+		assertThat(index.search(null, SearchFilter.none(), 10).total()).isEqualTo(2);
+	}
+
+	private static SearchDocument document(long logId, String answer, String ageGroup) {
+		return new SearchDocument(logId, 10L, QuestionType.FIXED, "게임은 어땠나요?", answer, null, null, ageGroup,
+			"MALE", "RPG");
+	}
+}
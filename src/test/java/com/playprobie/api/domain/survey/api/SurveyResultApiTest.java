@@ -0,0 +1,130 @@
+package com.playprobie.api.domain.survey.api;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.web.method.annotation.AuthenticationPrincipalArgumentResolver;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import com.playprobie.api.domain.interview.domain.SessionStatus;
+import com.playprobie.api.domain.survey.application.SurveyResultExportService;
+import com.playprobie.api.domain.survey.application.SurveyResultService;
+import com.playprobie.api.domain.survey.domain.Survey;
+import com.playprobie.api.domain.survey.dto.SurveyResultExportFormat;
+import com.playprobie.api.global.error.ErrorCode;
+import com.playprobie.api.global.error.GlobalExceptionHandler;
+import com.playprobie.api.global.error.exception.BusinessException;
+
+/**
+ * SurveyResultApi 내보내기 엔드포인트 단위 테스트
+ * Spring Context 없이 MockMvc Standalone으로 권한 검증 시점과 스트리밍 응답 헤더 검증
+ */
+class SurveyResultApiTest {
+
+	private final UUID surveyUuid = UUID.randomUUID();
+
+	private SurveyResultExportService surveyResultExportService;
+	private MockMvc mockMvc;
+
+	@BeforeEach
+	void setUp() {
+		surveyResultExportService = mock(SurveyResultExportService.class);
+		mockMvc = MockMvcBuilders
+			.standaloneSetup(new SurveyResultApi(mock(SurveyResultService.class), surveyResultExportService))
+			.setCustomArgumentResolvers(new AuthenticationPrincipalArgumentResolver())
+			.setControllerAdvice(new GlobalExceptionHandler())
+			.build();
+	}
+
+	@Test
+	@DisplayName("권한 검증에 실패하면 스트리밍을 시작하지 않고 일반 오류 응답을 반환한다")
+	void rejectsBeforeStreaming() throws Exception {
+		// given
+		when(surveyResultExportService.getExportableSurvey(eq(surveyUuid), any()))
+			.thenThrow(new BusinessException(ErrorCode.WORKSPACE_MEMBER_NOT_FOUND));
+
+		// when & then
+		mockMvc.perform(get("/surveys/results/{surveyUuid}/export", surveyUuid))
+			.andExpect(request().asyncNotStarted())
+			.andExpect(status().isForbidden())
+			.andExpect(jsonPath("$.code").value("W002"));
+		verify(surveyResultExportService, never()).export(any(), any(), any(), anyBoolean(), any());
+	}
+
+	@Test
+	@DisplayName("검증을 통과하면 형식/압축에 맞는 헤더로 응답하고 본문은 비동기로 스트리밍한다")
+	void streamsWithAttachmentHeaders() throws Exception {
+		// given
+		Survey survey = mock(Survey.class);
+		when(survey.getId()).thenReturn(7L);
+		when(surveyResultExportService.getExportableSurvey(eq(surveyUuid), any())).thenReturn(survey);
+		doAnswer(invocation -> {
+			invocation.<OutputStream>getArgument(4).write("{}\n".getBytes(StandardCharsets.UTF_8));
+			return null;
+		}).when(surveyResultExportService).export(eq(7L), isNull(), eq(SurveyResultExportFormat.NDJSON), eq(true),
+			any());
+
+		// when
+		MvcResult result = mockMvc.perform(get("/surveys/results/{surveyUuid}/export", surveyUuid)
+				.param("format", "NDJSON")
+				.param("gzip", "true"))
+			.andExpect(request().asyncStarted())
+			.andReturn();
+
+		// then
+		mockMvc.perform(asyncDispatch(result))
+			.andExpect(status().isOk())
+			.andExpect(header().string("Content-Type", "application/gzip"))
+			.andExpect(header().string("Content-Disposition",
+				"attachment; filename=\"survey-" + surveyUuid + ".ndjson.gz\""))
+			.andExpect(content().string("{}\n"));
+		verify(surveyResultExportService).export(eq(7L), isNull(), eq(SurveyResultExportFormat.NDJSON), eq(true),
+			any());
+	}
+
+	@Test
+	@DisplayName("상태 필터는 내보내기에 그대로 전달된다")
+	void passesStatusFilter() throws Exception {
+		// given
+		Survey survey = mock(Survey.class);
+		when(survey.getId()).thenReturn(7L);
+		when(surveyResultExportService.getExportableSurvey(eq(surveyUuid), any())).thenReturn(survey);
+
+		// when
+		MvcResult result = mockMvc.perform(get("/surveys/results/{surveyUuid}/export", surveyUuid)
+				.param("status", "COMPLETED"))
+			.andExpect(request().asyncStarted())
+			.andReturn();
+		mockMvc.perform(asyncDispatch(result))
+			.andExpect(status().isOk())
+			.andExpect(header().string("Content-Disposition",
+				"attachment; filename=\"survey-" + surveyUuid + ".csv\""));
+
+		// then
+		verify(surveyResultExportService).export(eq(7L), eq(SessionStatus.COMPLETED), eq(SurveyResultExportFormat.CSV),
+			eq(false), any());
+	}
+}
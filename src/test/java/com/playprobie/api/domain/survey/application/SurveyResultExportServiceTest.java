@@ -0,0 +1,249 @@
+package com.playprobie.api.domain.survey.application;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.zip.GZIPInputStream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.playprobie.api.domain.game.domain.Game;
+import com.playprobie.api.domain.interview.domain.SessionStatus;
+import com.playprobie.api.domain.survey.dao.SurveyRepository;
+import com.playprobie.api.domain.survey.domain.Survey;
+import com.playprobie.api.domain.survey.dto.SurveyResultExportFormat;
+import com.playprobie.api.domain.user.domain.User;
+import com.playprobie.api.domain.workspace.application.WorkspaceSecurityManager;
+import com.playprobie.api.domain.workspace.domain.Workspace;
+import com.playprobie.api.global.error.ErrorCode;
+import com.playprobie.api.global.error.exception.BusinessException;
+import com.playprobie.api.global.error.exception.EntityNotFoundException;
+
+/**
+ * SurveyResultExportService 단위 테스트
+ * 인메모리 H2에서 CSV(BOM/RFC 4180 이스케이프), NDJSON, gzip 출력과 내보내기 전 권한 검증 확인
+ */
+class SurveyResultExportServiceTest {
+
+	private static final long SURVEY_ID = 1L;
+	private static final UUID COMPLETED_SESSION = UUID.fromString("00000000-0000-0000-0000-000000000001");
+	private static final UUID IN_PROGRESS_SESSION = UUID.fromString("00000000-0000-0000-0000-000000000002");
+	private static final String STARTED_AT = "2026-01-02T03:04:05";
+	private static final String ANSWERED_AT = "2026-01-02T03:05:06";
+
+	private final ObjectMapper objectMapper = new ObjectMapper();
+
+	private SurveyRepository surveyRepository;
+	private WorkspaceSecurityManager securityManager;
+	private SurveyResultExportService service;
+
+	@BeforeEach
+	void setUp() {
+		JdbcTemplate jdbcTemplate = new JdbcTemplate(new DriverManagerDataSource(
+			"jdbc:h2:mem:export-" + UUID.randomUUID() + ";MODE=MySQL;DB_CLOSE_DELAY=-1", "sa", ""));
+		jdbcTemplate.execute("""
+			CREATE TABLE survey_session (
+				session_id BIGINT PRIMARY KEY,
+				session_uuid BINARY(16) NOT NULL,
+				survey_id BIGINT NOT NULL,
+				status VARCHAR(20) NOT NULL,
+				started_at TIMESTAMP(6),
+				ended_at TIMESTAMP(6),
+				tester_id VARCHAR(50),
+				tester_age_group VARCHAR(20),
+				tester_gender VARCHAR(20),
+				tester_prefer_genre VARCHAR(50)
+			)
+			""");
+		jdbcTemplate.execute("""
+			CREATE TABLE interview_log (
+				log_id BIGINT PRIMARY KEY,
+				session_id BIGINT NOT NULL,
+				fixed_q_id BIGINT NOT NULL,
+				turn_num INTEGER,
+				q_type VARCHAR(20),
+				question_text TEXT,
+				answer_text TEXT,
+				validity VARCHAR(20),
+				quality VARCHAR(20),
+				created_at TIMESTAMP(6)
+			)
+			""");
+		String insertSession = "INSERT INTO survey_session VALUES (?, ?, ?, ?, ?, NULL, ?, '20s', 'MALE', 'RPG')";
+		Timestamp startedAt = Timestamp.valueOf("2026-01-02 03:04:05");
+		jdbcTemplate.update(insertSession, 1L, bytes(COMPLETED_SESSION), SURVEY_ID, "COMPLETED", startedAt, "t-1");
+		jdbcTemplate.update(insertSession, 2L, bytes(IN_PROGRESS_SESSION), SURVEY_ID, "IN_PROGRESS", startedAt, "t-2");
+		jdbcTemplate.update(insertSession, 3L, bytes(UUID.randomUUID()), 2L, "COMPLETED", startedAt, "t-3");
+
+		String insertLog = "INSERT INTO interview_log VALUES (?, ?, 10, ?, ?, ?, ?, ?, ?, ?)";
+		Timestamp answeredAt = Timestamp.valueOf("2026-01-02 03:05:06");
+		jdbcTemplate.update(insertLog, 2L, 1L, 2, "TAIL", "어떤 보스였나요?", "마지막 보스\n두 번째 페이즈", null, null,
+			answeredAt);
+		jdbcTemplate.update(insertLog, 1L, 1L, 1, "FIXED", "전투는 어땠나요?", "보스가 \"너무\" 어려웠어요, 정말", "VALID",
+			"FULL", answeredAt);
+		jdbcTemplate.update(insertLog, 3L, 2L, 1, "FIXED", "전투는 어땠나요?", "재밌어요", null, null, answeredAt);
+		jdbcTemplate.update(insertLog, 4L, 3L, 1, "FIXED", "다른 설문", "제외", null, null, answeredAt);
+
+		surveyRepository = mock(SurveyRepository.class);
+		securityManager = mock(WorkspaceSecurityManager.class);
+		service = new SurveyResultExportService(surveyRepository, securityManager, jdbcTemplate, objectMapper);
+	}
+
+	@Nested
+	@DisplayName("CSV")
+	class Csv {
+
+		@Test
+		@DisplayName("BOM과 헤더 뒤에 세션/질문/턴 순으로 기록하고, 쉼표/따옴표/줄바꿈이 있는 값만 따옴표로 감싼다")
+		void writesEscapedRowsAfterBom() throws IOException {
+			// when
+			byte[] output = export(SessionStatus.COMPLETED, SurveyResultExportFormat.CSV, false);
+
+			// then
+			assertThat(Arrays.copyOf(output, 3)).containsExactly(0xEF, 0xBB, 0xBF);
+			String csv = new String(output, 3, output.length - 3, StandardCharsets.UTF_8);
+			assertThat(csv.split("\r\n")).containsExactly(
+				"session_uuid,status,started_at,ended_at,tester_id,age_group,gender,prefer_genre,"
+					+ "fixed_question_id,turn_num,q_type,question_text,answer_text,validity,quality,answered_at",
+				COMPLETED_SESSION + ",COMPLETED," + STARTED_AT + ",,t-1,20s,MALE,RPG,10,1,FIXED,전투는 어땠나요?,"
+					+ "\"보스가 \"\"너무\"\" 어려웠어요, 정말\",VALID,FULL," + ANSWERED_AT,
+				COMPLETED_SESSION + ",COMPLETED," + STARTED_AT + ",,t-1,20s,MALE,RPG,10,2,TAIL,어떤 보스였나요?,"
+					+ "\"마지막 보스\n두 번째 페이즈\",,," + ANSWERED_AT);
+		}
+
+		@Test
+		@DisplayName("상태 필터가 없으면 설문의 모든 세션 응답을 내보낸다")
+		void exportsAllSessionsWithoutStatus() throws IOException {
+			// when
+			String csv = new String(export(null, SurveyResultExportFormat.CSV, false), StandardCharsets.UTF_8);
+
+			// then: 헤더 + 설문 1의 로그 3행 (다른 설문 제외)
+			assertThat(csv.split("\r\n")).hasSize(4);
+			assertThat(csv).contains(IN_PROGRESS_SESSION + ",IN_PROGRESS,").doesNotContain("제외");
+		}
+	}
+
+	@Nested
+	@DisplayName("NDJSON / gzip")
+	class NdjsonAndGzip {
+
+		@Test
+		@DisplayName("NDJSON은 줄마다 JSON 객체 하나를 기록하고 질문 ID/턴은 숫자, 빈 값은 null로 쓴다")
+		void writesOneObjectPerLine() throws IOException {
+			// when
+			String ndjson = new String(export(SessionStatus.COMPLETED, SurveyResultExportFormat.NDJSON, false),
+				StandardCharsets.UTF_8);
+
+			// then
+			assertThat(ndjson).endsWith("\n");
+			List<JsonNode> rows = ndjson.lines().map(SurveyResultExportServiceTest.this::readTree).toList();
+			assertThat(rows).hasSize(2);
+			JsonNode first = rows.get(0);
+			assertThat(first.get("session_uuid").asText()).isEqualTo(COMPLETED_SESSION.toString());
+			assertThat(first.get("fixed_question_id").isNumber()).isTrue();
+			assertThat(first.get("turn_num").asInt()).isEqualTo(1);
+			assertThat(first.get("answer_text").asText()).isEqualTo("보스가 \"너무\" 어려웠어요, 정말");
+			assertThat(first.get("ended_at").isNull()).isTrue();
+			JsonNode second = rows.get(1);
+			assertThat(second.get("answer_text").asText()).isEqualTo("마지막 보스\n두 번째 페이즈");
+			assertThat(second.get("validity").isNull()).isTrue();
+		}
+
+		@Test
+		@DisplayName("gzip을 켜면 BOM을 포함한 같은 출력을 압축해 기록한다")
+		void compressesSameOutput() throws IOException {
+			// given
+			byte[] plain = export(SessionStatus.COMPLETED, SurveyResultExportFormat.CSV, false);
+
+			// when
+			byte[] compressed = export(SessionStatus.COMPLETED, SurveyResultExportFormat.CSV, true);
+
+			// then
+			try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(compressed))) {
+				assertThat(in.readAllBytes()).containsExactly(plain);
+			}
+		}
+	}
+
+	@Nested
+	@DisplayName("내보내기 대상 검증")
+	class ExportableSurvey {
+
+		@Test
+		@DisplayName("워크스페이스 멤버가 아니면 스트리밍 전에 예외로 거부한다")
+		void rejectsNonMember() {
+			// given
+			User user = mock(User.class);
+			Workspace workspace = mock(Workspace.class);
+			givenSurvey(workspace);
+			doThrow(new BusinessException(ErrorCode.WORKSPACE_MEMBER_NOT_FOUND))
+				.when(securityManager).validateReadAccess(workspace, user);
+
+			// when & then
+			assertThatThrownBy(() -> service.getExportableSurvey(COMPLETED_SESSION, user))
+				.isInstanceOf(BusinessException.class);
+		}
+
+		@Test
+		@DisplayName("없는 설문은 EntityNotFoundException")
+		void rejectsUnknownSurvey() {
+			// given
+			when(surveyRepository.findByUuid(COMPLETED_SESSION)).thenReturn(Optional.empty());
+
+			// when & then
+			assertThatThrownBy(() -> service.getExportableSurvey(COMPLETED_SESSION, mock(User.class)))
+				.isInstanceOf(EntityNotFoundException.class);
+		}
+	}
+
+	// === Helper Methods ===
+
+	private byte[] export(SessionStatus status, SurveyResultExportFormat format, boolean gzip) throws IOException {
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		service.export(SURVEY_ID, status, format, gzip, out);
+		return out.toByteArray();
+	}
+
+	private void givenSurvey(Workspace workspace) {
+		Game game = mock(Game.class);
+		when(game.getWorkspace()).thenReturn(workspace);
+		Survey survey = mock(Survey.class);
+		when(survey.getGame()).thenReturn(game);
+		when(surveyRepository.findByUuid(COMPLETED_SESSION)).thenReturn(Optional.of(survey));
+	}
+
+	private JsonNode readTree(String line) {
+		try {
+			return objectMapper.readTree(line);
+		} catch (IOException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+
+	private static byte[] bytes(UUID uuid) {
+		return ByteBuffer.allocate(16)
+			.putLong(uuid.getMostSignificantBits())
+			.putLong(uuid.getLeastSignificantBits())
+			.array();
+	}
+}
@@ -0,0 +1,102 @@
+package com.playprobie.api.global.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.hibernate.Session;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.playprobie.api.domain.streaming.dao.SelfHealingLogRepository;
+import com.playprobie.api.domain.streaming.domain.SelfHealingLog;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+
+/**
+ * 시퀀스 ID 기반 JDBC 배치 insert 처리량 벤치마크.
+ *
+ * <p>
+ * IDENTITY 전략은 insert마다 생성 키를 받아야 하므로 배치 크기 1과 동일하게 동작합니다.
+ * 같은 엔티티 10,000건을 배치 크기 1(IDENTITY 상당)과 50(hibernate.jdbc.batch_size)으로 저장하여 비교합니다.
+ *
+ * <p>
+ * 측정값은 실행 환경에 따라 달라 대소를 단정하지 않고 로그로만 남깁니다.
+ * 기본 test 태스크에서는 제외되며 {@code ./gradlew benchmark}로 실행합니다.
+ */
+@Tag("benchmark")
+@SpringBootTest
+@ActiveProfiles("test")
+@TestPropertySource(properties = "spring.jpa.properties.hibernate.show_sql=false")
+class BatchInsertBenchmarkTest {
+
+	private static final Logger log = LoggerFactory.getLogger(BatchInsertBenchmarkTest.class);
+
+	private static final int ROWS = 10_000;
+	private static final int FLUSH_INTERVAL = 1_000;
+
+	@PersistenceContext
+	private EntityManager entityManager;
+
+	@Autowired
+	private SelfHealingLogRepository selfHealingLogRepository;
+
+	@Autowired
+	private PlatformTransactionManager transactionManager;
+
+	@AfterEach
+	void tearDown() {
+		selfHealingLogRepository.deleteAllInBatch();
+	}
+
+	@Test
+	@DisplayName("10,000건 insert 처리량을 배치 크기 1과 50으로 측정한다")
+	void measuresBatchInsertThroughput() {
+		// Given - 워밍업 (커넥션/구문 캐시)
+		insert(1, -ROWS, ROWS / 10);
+		insert(50, -ROWS / 2, ROWS / 10);
+		selfHealingLogRepository.deleteAllInBatch();
+
+		// When
+		long singleNanos = insert(1, 0, ROWS);
+		long batchedNanos = insert(50, ROWS, ROWS);
+
+		// Then
+		log.info("insert {} rows - batch_size=1: {} ms ({} rows/s), batch_size=50: {} ms ({} rows/s)",
+			ROWS, singleNanos / 1_000_000, throughput(singleNanos), batchedNanos / 1_000_000,
+			throughput(batchedNanos));
+		assertThat(selfHealingLogRepository.count()).isEqualTo(2L * ROWS);
+	}
+
+	private long insert(int batchSize, int resourceIdOffset, int rows) {
+		TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+		Long elapsed = transactionTemplate.execute(status -> {
+			entityManager.unwrap(Session.class).setJdbcBatchSize(batchSize);
+			long startedAt = System.nanoTime();
+			for (int i = 0; i < rows; i++) {
+				entityManager.persist(SelfHealingLog.builder().resourceId((long)(resourceIdOffset + i)).build());
+				if ((i + 1) % FLUSH_INTERVAL == 0) {
+					entityManager.flush();
+					entityManager.clear();
+				}
+			}
+			entityManager.flush();
+			entityManager.clear();
+			return System.nanoTime() - startedAt;
+		});
+		return elapsed != null ? elapsed : 0L;
+	}
+
+	private static long throughput(long nanos) {
+		return nanos == 0 ? 0 : ROWS * 1_000_000_000L / nanos;
+	}
+}
@@ -0,0 +1,97 @@
+package com.playprobie.api.global.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import com.playprobie.api.global.config.properties.InterviewLogIndexProperties;
+
+/**
+ * InterviewLogUniqueIndexInitializer 단위 테스트
+ * 유니크 인덱스가 없는 기존 테이블에서 중복 행 처리(기본 기동 중단, 설정 시 정리)와 인덱스 생성 검증
+ */
+class InterviewLogUniqueIndexInitializerTest {
+
+	private static final String INSERT_SQL =
+		"INSERT INTO interview_log (log_id, session_id, fixed_q_id, turn_num, answer_text) VALUES (?, ?, ?, ?, ?)";
+
+	private JdbcTemplate jdbcTemplate;
+
+	@BeforeEach
+	void setUp() {
+		jdbcTemplate = new JdbcTemplate(new DriverManagerDataSource(
+			"jdbc:h2:mem:unique-index-" + UUID.randomUUID() + ";MODE=MySQL;DB_CLOSE_DELAY=-1", "sa", ""));
+		jdbcTemplate.execute("""
+			CREATE TABLE interview_log (
+				log_id BIGINT PRIMARY KEY,
+				session_id BIGINT NOT NULL,
+				fixed_q_id BIGINT NOT NULL,
+				turn_num INTEGER,
+				answer_text TEXT
+			)
+			""");
+	}
+
+	@Test
+	@DisplayName("중복 행이 없으면 인덱스만 생성한다")
+	void createsIndexWhenNoDuplicates() {
+		// given
+		jdbcTemplate.update(INSERT_SQL, 1L, 1L, 10L, 1, "어려웠어요");
+
+		// when
+		initializer(false).afterSingletonsInstantiated();
+
+		// then
+		assertThatThrownBy(() -> jdbcTemplate.update(INSERT_SQL, 2L, 1L, 10L, 1, "중복"))
+			.isInstanceOf(DuplicateKeyException.class);
+	}
+
+	@Test
+	@DisplayName("중복 행이 있으면 기본적으로 건수를 알리고 기동을 중단하며 행을 지우지 않는다")
+	void failsFastWithDuplicateCount() {
+		// given: 같은 턴 3행(중복 2) + 다른 턴 1행
+		givenDuplicates();
+
+		// when & then
+		assertThatThrownBy(() -> initializer(false).afterSingletonsInstantiated())
+			.isInstanceOf(IllegalStateException.class)
+			.hasMessageContaining("has 2 duplicate answer rows")
+			.hasMessageContaining("interview-log.unique-index.remove-duplicates");
+		assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM interview_log", Integer.class)).isEqualTo(4);
+	}
+
+	@Test
+	@DisplayName("remove-duplicates를 켜면 키별 최신 행만 남기고 인덱스를 생성한다")
+	void removesDuplicatesWhenEnabled() {
+		// given
+		givenDuplicates();
+
+		// when
+		initializer(true).afterSingletonsInstantiated();
+
+		// then
+		assertThat(jdbcTemplate.queryForList("SELECT log_id FROM interview_log ORDER BY log_id", Long.class))
+			.containsExactly(3L, 4L);
+		assertThatThrownBy(() -> jdbcTemplate.update(INSERT_SQL, 5L, 1L, 10L, 1, "중복"))
+			.isInstanceOf(DuplicateKeyException.class);
+	}
+
+	private InterviewLogUniqueIndexInitializer initializer(boolean removeDuplicates) {
+		return new InterviewLogUniqueIndexInitializer(jdbcTemplate, new InterviewLogIndexProperties(removeDuplicates));
+	}
+
+	private void givenDuplicates() {
+		jdbcTemplate.update(INSERT_SQL, 1L, 1L, 10L, 1, "첫 답변");
+		jdbcTemplate.update(INSERT_SQL, 2L, 1L, 10L, 1, "두번째 답변");
+		jdbcTemplate.update(INSERT_SQL, 3L, 1L, 10L, 1, "마지막 답변");
+		jdbcTemplate.update(INSERT_SQL, 4L, 1L, 10L, 2, "다음 턴 답변");
+	}
+}
@@ -0,0 +1,197 @@
+package com.playprobie.api.infra.ai.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.codec.ServerSentEvent;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.playprobie.api.domain.interview.dto.SessionAiContext;
+import com.playprobie.api.infra.ai.dto.request.AiInteractionRequest;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+/**
+ * 컨텍스트 핸들 프로토콜을 로컬 AI 서버 스텁에 대해 검증합니다.
+ *
+ * <p>
+ * 스텁은 등록된 context_id만 기억하며, 모르는 context_id로 요청하면 410 Gone을 응답합니다.
+ */
+class AiContextClientTest {
+
+	private static final String SESSION_ID = "3f1c2a4e-0000-4000-8000-000000000001";
+	private static final Long FIXED_QUESTION_ID = 10L;
+	private static final String DONE_EVENT = "data: {\"event\":\"done\",\"data\":{}}\n\n";
+
+	private final ObjectMapper objectMapper = new ObjectMapper();
+	private final List<RecordedRequest> requests = new CopyOnWriteArrayList<>();
+	private final Set<String> liveContexts = ConcurrentHashMap.newKeySet();
+	private final AtomicInteger contextSequence = new AtomicInteger();
+	private final AtomicInteger contextLoads = new AtomicInteger();
+
+	private HttpServer server;
+	private AiContextClient aiContextClient;
+
+	@BeforeEach
+	void setUp() throws IOException {
+		server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+		server.createContext("/surveys/context", exchange -> {
+			record(exchange);
+			String contextId = "ctx_" + contextSequence.incrementAndGet();
+			liveContexts.add(contextId);
+			respond(exchange, 200, "application/json", "{\"context_id\":\"" + contextId + "\"}");
+		});
+		server.createContext("/surveys/interaction", exchange -> {
+			JsonNode body = record(exchange);
+			String contextId = body.path("context_id").asText(null);
+			if (contextId != null && !liveContexts.contains(contextId)) {
+				respond(exchange, 410, "application/json", "{\"detail\":\"context not found\"}");
+				return;
+			}
+			respond(exchange, 200, "text/event-stream", DONE_EVENT);
+		});
+		server.start();
+
+		aiContextClient = new AiContextClient(
+			WebClient.create("http://localhost:" + server.getAddress().getPort()));
+	}
+
+	@AfterEach
+	void tearDown() {
+		server.stop(0);
+	}
+
+	@Test
+	@DisplayName("첫 답변은 컨텍스트를 등록한 뒤 전체 내역을 보내고, 이후 답변은 context_id와 변경분만 보낸다")
+	void sendsDeltaAfterRegistration() {
+		// When
+		List<ServerSentEvent<String>> first = interact(1, history(1));
+		List<ServerSentEvent<String>> second = interact(2, history(2));
+
+		// Then
+		assertThat(first).hasSize(1);
+		assertThat(second).hasSize(1);
+		assertThat(requests).extracting(RecordedRequest::path)
+			.containsExactly("/surveys/context", "/surveys/interaction", "/surveys/interaction");
+
+		JsonNode registration = requests.get(0).body();
+		assertThat(registration.path("game_info").path("game_name").asText()).isEqualTo("Test Game");
+
+		JsonNode full = requests.get(1).body();
+		assertThat(full.path("context_id").asText()).isEqualTo("ctx_1");
+		assertThat(full.path("history_offset").asInt()).isZero();
+		assertThat(full.path("conversation_history")).hasSize(1);
+		assertThat(full.has("game_info")).isFalse();
+
+		JsonNode delta = requests.get(2).body();
+		assertThat(delta.path("context_id").asText()).isEqualTo("ctx_1");
+		assertThat(delta.path("history_offset").asInt()).isEqualTo(1);
+		assertThat(delta.path("conversation_history")).hasSize(1);
+		assertThat(delta.path("conversation_history").get(0).path("question").asText()).isEqualTo("질문 2");
+		assertThat(contextLoads).hasValue(1);
+	}
+
+	@Test
+	@DisplayName("AI 서버에서 컨텍스트가 사라지면 재등록 후 전체 내역을 다시 보낸다")
+	void resendsFullPayloadWhenContextMissing() {
+		// Given - 등록 후 AI 서버 재시작으로 컨텍스트 유실
+		interact(1, history(1));
+		liveContexts.clear();
+
+		// When
+		List<ServerSentEvent<String>> events = interact(2, history(2));
+
+		// Then
+		assertThat(events).hasSize(1);
+		assertThat(requests).extracting(RecordedRequest::path).containsExactly("/surveys/context",
+			"/surveys/interaction", "/surveys/interaction", "/surveys/context", "/surveys/interaction");
+
+		JsonNode resent = requests.get(4).body();
+		assertThat(resent.path("context_id").asText()).isEqualTo("ctx_2");
+		assertThat(resent.path("history_offset").asInt()).isZero();
+		assertThat(resent.path("conversation_history")).hasSize(2);
+		assertThat(contextLoads).hasValue(2);
+	}
+
+	@Test
+	@DisplayName("컨텍스트 등록 API가 없으면 기존 방식대로 전체 payload를 보낸다")
+	void fallsBackToFullPayloadWhenRegistrationUnsupported() {
+		// Given
+		server.removeContext("/surveys/context");
+
+		// When
+		List<ServerSentEvent<String>> first = interact(1, history(1));
+		List<ServerSentEvent<String>> second = interact(2, history(2));
+
+		// Then
+		assertThat(first).hasSize(1);
+		assertThat(second).hasSize(1);
+		assertThat(requests).extracting(RecordedRequest::path)
+			.containsExactly("/surveys/interaction", "/surveys/interaction"); // 미지원 응답 후 재등록 시도 안 함
+
+		JsonNode legacy = requests.get(1).body();
+		assertThat(legacy.has("context_id")).isFalse();
+		assertThat(legacy.path("conversation_history")).hasSize(2);
+		assertThat(contextLoads).hasValue(1); // 백오프 중에는 정적 컨텍스트 조회도 생략
+	}
+
+	// === Helper Methods ===
+
+	private List<ServerSentEvent<String>> interact(int turnNum, List<Map<String, String>> history) {
+		AiInteractionRequest request = AiInteractionRequest.of(SESSION_ID, "답변 " + turnNum, "질문 " + turnNum,
+			null, history, 1L, 1, 3, FIXED_QUESTION_ID, turnNum, turnNum - 1, 2, 0);
+		Supplier<SessionAiContext> contextLoader = () -> {
+			contextLoads.incrementAndGet();
+			return SessionAiContext.builder().gameInfo(Map.of("game_name", "Test Game")).build();
+		};
+		return aiContextClient.streamInteraction(request, contextLoader)
+			.collectList()
+			.block(Duration.ofSeconds(5));
+	}
+
+	private static List<Map<String, String>> history(int turns) {
+		List<Map<String, String>> history = new ArrayList<>();
+		for (int turn = 1; turn <= turns; turn++) {
+			history.add(Map.of("question", "질문 " + turn, "answer", "답변 " + turn));
+		}
+		return history;
+	}
+
+	private JsonNode record(HttpExchange exchange) throws IOException {
+		JsonNode body = objectMapper.readTree(exchange.getRequestBody().readAllBytes());
+		requests.add(new RecordedRequest(exchange.getRequestURI().getPath(), body));
+		return body;
+	}
+
+	private static void respond(HttpExchange exchange, int status, String contentType, String body)
+		throws IOException {
+		byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+		exchange.getResponseHeaders().add("Content-Type", contentType);
+		exchange.sendResponseHeaders(status, bytes.length);
+		try (OutputStream out = exchange.getResponseBody()) {
+			out.write(bytes);
+		}
+	}
+
+	private record RecordedRequest(String path, JsonNode body) {
+	}
+}
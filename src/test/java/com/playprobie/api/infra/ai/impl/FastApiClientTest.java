@@ -0,0 +1,430 @@
+package com.playprobie.api.infra.ai.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.codec.ServerSentEvent;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.playprobie.api.domain.interview.application.AnswerPrefilterService;
+import com.playprobie.api.domain.interview.application.InterviewService;
+import com.playprobie.api.domain.interview.dao.SurveySessionRepository;
+import com.playprobie.api.domain.interview.domain.AnswerQuality;
+import com.playprobie.api.domain.interview.domain.AnswerValidity;
+import com.playprobie.api.domain.interview.dto.UserAnswerRequest;
+import com.playprobie.api.domain.replay.application.InsightQuestionService;
+import com.playprobie.api.domain.survey.dao.SurveyRepository;
+import com.playprobie.api.domain.survey.dto.FixedQuestionResponse;
+import com.playprobie.api.global.config.properties.AiProperties;
+import com.playprobie.api.global.constants.AiConstants;
+import com.playprobie.api.global.error.exception.SessionStateConflictException;
+import com.playprobie.api.infra.sse.dto.QuestionPayload;
+import com.playprobie.api.infra.sse.dto.payload.StatusPayload;
+import com.playprobie.api.infra.sse.service.SseEmitterService;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+/**
+ * FastApiClient 단위 테스트
+ * 다음 고정 질문 선조회(prefetch) 사용과 조회 실패 시 즉시 조회, 상태 전이 충돌 처리 검증
+ * 단계별 지연 예산 초과 시 폴백 이벤트 순서와 세션 상태 전이 검증
+ */
+class FastApiClientTest {
+
+	private static final String SESSION_ID = "00000000-0000-0000-0000-000000000001";
+	private static final Long SURVEY_ID = 1L;
+	private static final Long FIXED_Q_ID = 10L;
+	private static final int TOTAL_QUESTIONS = 3;
+	// 지연 예산 테스트용 짧은 예산 (첫 이벤트 100ms, 전체 300ms)
+	private static final AiProperties.Budget SHORT_BUDGET = new AiProperties.Budget(Duration.ofMillis(100),
+		Duration.ofMillis(300));
+	private static final AiProperties.Latency SHORT_LATENCY = new AiProperties.Latency(SHORT_BUDGET, SHORT_BUDGET,
+		SHORT_BUDGET);
+	private static final Duration FALLBACK_WAIT = Duration.ofSeconds(5);
+
+	private final FixedQuestionResponse currentQuestion = new FixedQuestionResponse(FIXED_Q_ID, SURVEY_ID,
+		"전투는 어땠나요?", 1, null);
+	private final FixedQuestionResponse nextQuestion = new FixedQuestionResponse(11L, SURVEY_ID,
+		"가장 기억에 남는 장면은?", 2, null);
+
+	/** 클라이언트로 전송된 이벤트 (done은 상태 포함) */
+	private final List<String> events = new CopyOnWriteArrayList<>();
+	/** 클라이언트로 전송된 질문/인사말/멘트 내용 */
+	private final List<String> texts = new CopyOnWriteArrayList<>();
+
+	private InterviewService interviewService;
+	private SseEmitterService sseEmitterService;
+	private AiContextClient aiContextClient;
+	private InsightQuestionService insightQuestionService;
+
+	@BeforeEach
+	void setUp() {
+		interviewService = mock(InterviewService.class);
+		when(interviewService.getQuestionById(FIXED_Q_ID)).thenReturn(currentQuestion);
+		when(interviewService.getSurveyIdBySession(SESSION_ID)).thenReturn(SURVEY_ID);
+		when(interviewService.getTotalQuestionCount(SURVEY_ID)).thenReturn(TOTAL_QUESTIONS);
+		aiContextClient = mock(AiContextClient.class);
+		insightQuestionService = mock(InsightQuestionService.class);
+		sseEmitterService = mock(SseEmitterService.class);
+		when(sseEmitterService.send(anyString(), anyString(), any())).thenAnswer(invocation -> {
+			String eventName = invocation.getArgument(1);
+			Object payload = invocation.getArgument(2);
+			events.add(payload instanceof StatusPayload status ? done(status.getStatus()) : eventName);
+			if (payload instanceof QuestionPayload question) {
+				texts.add(question.getQuestionText());
+			}
+			return true;
+		});
+	}
+
+	@Nested
+	@DisplayName("다음 질문 선조회")
+	class Prefetch {
+
+		@Test
+		@DisplayName("AI 분석이 끝나기 전에 준비된 다음 질문을 다시 조회하지 않고 전송한다")
+		void usesPrefetchedQuestion() {
+			// given
+			when(interviewService.findNextQuestion(SURVEY_ID, 1)).thenReturn(Optional.of(nextQuestion));
+			Sinks.Many<ServerSentEvent<String>> aiStream = givenAiStream();
+			FastApiClient fastApiClient = fastApiClient(new AiProperties.Latency(null, null, null));
+
+			// when: 선조회가 끝난 뒤 AI가 PASS_TO_NEXT로 턴을 마침
+			fastApiClient.streamNextQuestion(SESSION_ID, answer());
+			passToNext(aiStream);
+
+			// then
+			verify(interviewService, times(1)).findNextQuestion(SURVEY_ID, 1);
+			verify(interviewService, times(1)).getSurveyIdBySession(SESSION_ID);
+			verify(interviewService).moveToNextQuestion(SESSION_ID, 1, nextQuestion);
+			assertThat(events).containsExactly(done("completed"), AiConstants.EVENT_QUESTION, done("completed"));
+		}
+
+		@Test
+		@DisplayName("선조회 전에 턴이 끝나면 다음 질문을 즉시 조회한다")
+		void resolvesSynchronouslyOnMiss() {
+			// given: 구독 중에 스트림이 모두 처리되어 선조회보다 done이 먼저 도착
+			when(interviewService.findNextQuestion(SURVEY_ID, 1)).thenReturn(Optional.of(nextQuestion));
+			when(aiContextClient.streamInteraction(any(), any())).thenReturn(Flux.just(
+				aiEvent(AiConstants.EVENT_ANALYZE_ANSWER, "{\"action\":\"PASS_TO_NEXT\"}"),
+				aiEvent(AiConstants.EVENT_DONE, "{}")));
+			FastApiClient fastApiClient = fastApiClient(new AiProperties.Latency(null, null, null));
+
+			// when
+			fastApiClient.streamNextQuestion(SESSION_ID, answer());
+
+			// then: 즉시 조회 1회 + 이후 선조회 1회
+			verify(interviewService, times(2)).findNextQuestion(SURVEY_ID, 1);
+			verify(interviewService, times(2)).getSurveyIdBySession(SESSION_ID);
+			verify(interviewService, times(1)).moveToNextQuestion(SESSION_ID, 1, nextQuestion);
+			assertThat(events).containsExactly(done("completed"), AiConstants.EVENT_QUESTION, done("completed"));
+		}
+
+		@Test
+		@DisplayName("선조회가 실패하면 다음 질문을 즉시 다시 조회한다")
+		void resolvesSynchronouslyOnPrefetchFailure() {
+			// given
+			when(interviewService.findNextQuestion(SURVEY_ID, 1))
+				.thenThrow(new IllegalStateException("connection reset"))
+				.thenReturn(Optional.of(nextQuestion));
+			Sinks.Many<ServerSentEvent<String>> aiStream = givenAiStream();
+			FastApiClient fastApiClient = fastApiClient(new AiProperties.Latency(null, null, null));
+
+			// when
+			fastApiClient.streamNextQuestion(SESSION_ID, answer());
+			passToNext(aiStream);
+
+			// then
+			verify(interviewService, times(2)).findNextQuestion(SURVEY_ID, 1);
+			verify(interviewService, times(1)).moveToNextQuestion(SESSION_ID, 1, nextQuestion);
+			assertThat(events).containsExactly(done("completed"), AiConstants.EVENT_QUESTION, done("completed"));
+		}
+
+		@Test
+		@DisplayName("다른 요청이 이미 다음 질문으로 전이했으면 질문을 보내지 않는다")
+		void sendsNothingOnStateConflict() {
+			// given
+			when(interviewService.findNextQuestion(SURVEY_ID, 1)).thenReturn(Optional.of(nextQuestion));
+			doThrow(new SessionStateConflictException())
+				.when(interviewService).moveToNextQuestion(SESSION_ID, 1, nextQuestion);
+			Sinks.Many<ServerSentEvent<String>> aiStream = givenAiStream();
+			FastApiClient fastApiClient = fastApiClient(new AiProperties.Latency(null, null, null));
+
+			// when
+			fastApiClient.streamNextQuestion(SESSION_ID, answer());
+			passToNext(aiStream);
+
+			// then: 턴 종료(done)만 전송되고 질문/클로징은 없음
+			assertThat(events).containsExactly(done("completed"));
+			verify(insightQuestionService, never()).hasUnaskedInsights(anyString());
+		}
+	}
+
+	@Nested
+	@DisplayName("답변 분석 지연 예산")
+	class InteractionBudget {
+
+		@Test
+		@DisplayName("첫 이벤트 전에 멈추면 템플릿 리액션과 함께 다음 고정 질문으로 진행한다")
+		void fallsBackWhenStalledBeforeFirstEvent() {
+			// given
+			when(interviewService.findNextQuestion(SURVEY_ID, 1)).thenReturn(Optional.of(nextQuestion));
+			when(aiContextClient.streamInteraction(any(), any())).thenReturn(Flux.never());
+			FastApiClient fastApiClient = fastApiClient(SHORT_LATENCY);
+
+			// when
+			fastApiClient.streamNextQuestion(SESSION_ID, answer());
+
+			// then
+			await().atMost(FALLBACK_WAIT).until(() -> events.size() == 4);
+			assertThat(events).containsExactly(AiConstants.EVENT_REACTION, done("deadline_exceeded"),
+				AiConstants.EVENT_QUESTION, done("completed"));
+			verify(interviewService, times(1)).moveToNextQuestion(SESSION_ID, 1, nextQuestion);
+			verify(interviewService, never()).updateLogValidityQuality(any(), any(), anyInt(), any(), any());
+		}
+
+		@Test
+		@DisplayName("일부 스트리밍 후 멈추면 받은 판정을 답변 로그에 기록하고 다음 고정 질문으로 진행한다")
+		void fallsBackAndRecordsVerdictWhenStalledMidStream() {
+			// given
+			when(interviewService.findNextQuestion(SURVEY_ID, 1)).thenReturn(Optional.of(nextQuestion));
+			Sinks.Many<ServerSentEvent<String>> aiStream = givenAiStream();
+			FastApiClient fastApiClient = fastApiClient(SHORT_LATENCY);
+
+			// when: 판정과 꼬리질문 토큰 일부만 받고 스트림이 멈춤
+			fastApiClient.streamNextQuestion(SESSION_ID, answer());
+			aiStream.tryEmitNext(aiEvent(AiConstants.EVENT_VALIDITY_RESULT, "{\"validity\":\"VALID\"}"));
+			aiStream.tryEmitNext(aiEvent(AiConstants.EVENT_QUALITY_RESULT, "{\"quality\":\"GROUNDED\"}"));
+			aiStream.tryEmitNext(aiEvent(AiConstants.EVENT_ANALYZE_ANSWER, "{\"action\":\"TAIL_QUESTION\"}"));
+			aiStream.tryEmitNext(aiEvent(AiConstants.EVENT_CONTINUE, "{\"content\":\"어떤 보스가\"}"));
+
+			// then
+			await().atMost(FALLBACK_WAIT).until(() -> events.size() == 5);
+			assertThat(events).containsExactly(AiConstants.EVENT_CONTINUE, AiConstants.EVENT_REACTION,
+				done("deadline_exceeded"), AiConstants.EVENT_QUESTION, done("completed"));
+			verify(interviewService, times(1)).updateLogValidityQuality(SESSION_ID, FIXED_Q_ID, 1,
+				AnswerValidity.VALID, AnswerQuality.GROUNDED);
+			verify(interviewService, times(1)).moveToNextQuestion(SESSION_ID, 1, nextQuestion);
+		}
+
+		@Test
+		@DisplayName("꼬리질문을 저장하고 보낸 뒤 멈추면 다음 질문으로 넘어가지 않고 done만 보내 답변을 기다린다")
+		void waitsForAnswerWhenStalledAfterTailQuestion() {
+			// given
+			when(interviewService.findNextQuestion(SURVEY_ID, 1)).thenReturn(Optional.of(nextQuestion));
+			Sinks.Many<ServerSentEvent<String>> aiStream = givenAiStream();
+			FastApiClient fastApiClient = fastApiClient(SHORT_LATENCY);
+
+			// when: 꼬리질문 완료까지 받고 done 전에 스트림이 멈춤
+			fastApiClient.streamNextQuestion(SESSION_ID, answer());
+			aiStream.tryEmitNext(aiEvent(AiConstants.EVENT_ANALYZE_ANSWER, "{\"action\":\"TAIL_QUESTION\"}"));
+			aiStream.tryEmitNext(aiEvent(AiConstants.EVENT_GENERATE_TAIL_COMPLETE,
+				"{\"message\":\"어떤 보스가 어려웠나요?\",\"tail_question_count\":1}"));
+
+			// then
+			await().atMost(FALLBACK_WAIT).until(() -> events.size() == 2);
+			await().during(Duration.ofMillis(300)).atMost(FALLBACK_WAIT).until(() -> events.size() == 2);
+			assertThat(events).containsExactly(AiConstants.EVENT_GENERATE_TAIL_COMPLETE, done("completed"));
+			assertThat(texts).containsExactly("어떤 보스가 어려웠나요?");
+			verify(interviewService, times(1)).saveTailQuestionLog(SESSION_ID, FIXED_Q_ID, "어떤 보스가 어려웠나요?", 1);
+			verify(interviewService, never()).moveToNextQuestion(any(), anyInt(), any());
+		}
+
+		@Test
+		@DisplayName("done 이후 늦게 발생한 예산 초과는 무시한다")
+		void ignoresLateTimeoutAfterDone() {
+			// given
+			when(interviewService.findNextQuestion(SURVEY_ID, 1)).thenReturn(Optional.of(nextQuestion));
+			Sinks.Many<ServerSentEvent<String>> aiStream = givenAiStream();
+			FastApiClient fastApiClient = fastApiClient(SHORT_LATENCY);
+
+			// when: done까지 받았지만 스트림이 끝나지 않아 전체 예산을 넘김
+			fastApiClient.streamNextQuestion(SESSION_ID, answer());
+			aiStream.tryEmitNext(aiEvent(AiConstants.EVENT_ANALYZE_ANSWER, "{\"action\":\"PASS_TO_NEXT\"}"));
+			aiStream.tryEmitNext(aiEvent(AiConstants.EVENT_DONE, "{}"));
+
+			// then: 전체 예산(300ms)이 지나도 추가 이벤트/전이 없음
+			await().during(Duration.ofMillis(600)).atMost(FALLBACK_WAIT).until(() -> events.size() == 3);
+			assertThat(events).containsExactly(done("completed"), AiConstants.EVENT_QUESTION, done("completed"));
+			verify(interviewService, times(1)).moveToNextQuestion(SESSION_ID, 1, nextQuestion);
+		}
+	}
+
+	@Nested
+	@DisplayName("오프닝/클로징 지연 예산")
+	class OpeningClosingBudget {
+
+		private final FixedQuestionResponse firstQuestion = new FixedQuestionResponse(FIXED_Q_ID, SURVEY_ID,
+			"전투는 어땠나요?", 1, null);
+
+		@Test
+		@DisplayName("오프닝 첫 이벤트 전에 멈추면 기본 인사말 후 첫번째 고정 질문을 보낸다")
+		void openingFallsBackToDefaultGreeting() {
+			// given
+			when(interviewService.getFirstQuestion(SESSION_ID)).thenReturn(firstQuestion);
+			when(aiContextClient.register(eq(SESSION_ID), any(), any())).thenReturn(Mono.just(Optional.empty()));
+			FastApiClient fastApiClient = fastApiClient(SHORT_LATENCY, aiServer(Flux.never()));
+
+			// when
+			fastApiClient.streamOpening(SESSION_ID, Map.of(), null);
+
+			// then
+			await().atMost(FALLBACK_WAIT).until(() -> events.size() == 3);
+			assertThat(events).containsExactly(AiConstants.EVENT_GREETING_CONTINUE, AiConstants.EVENT_QUESTION,
+				done("completed"));
+			assertThat(texts).hasSize(2).last().isEqualTo("전투는 어땠나요?");
+			verify(interviewService, times(1)).getFirstQuestion(SESSION_ID);
+		}
+
+		@Test
+		@DisplayName("인사말 스트리밍 중 멈추면 기본 인사말 없이 첫번째 고정 질문을 보낸다")
+		void openingKeepsStreamedGreeting() {
+			// given
+			when(interviewService.getFirstQuestion(SESSION_ID)).thenReturn(firstQuestion);
+			when(aiContextClient.register(eq(SESSION_ID), any(), any())).thenReturn(Mono.just(Optional.empty()));
+			Flux<String> body = Flux.concat(
+				Flux.just(sseChunk(AiConstants.EVENT_GREETING_CONTINUE, "{\"content\":\"반가워요!\"}")),
+				Flux.never());
+			FastApiClient fastApiClient = fastApiClient(SHORT_LATENCY, aiServer(body));
+
+			// when
+			fastApiClient.streamOpening(SESSION_ID, Map.of(), null);
+
+			// then
+			await().atMost(FALLBACK_WAIT).until(() -> events.size() == 3);
+			assertThat(events).containsExactly(AiConstants.EVENT_GREETING_CONTINUE, AiConstants.EVENT_QUESTION,
+				done("completed"));
+			assertThat(texts).containsExactly("반가워요!", "전투는 어땠나요?");
+			verify(interviewService, times(1)).getFirstQuestion(SESSION_ID);
+		}
+
+		@Test
+		@DisplayName("클로징 첫 이벤트 전에 멈추면 기본 마무리 멘트 후 인터뷰를 완료한다")
+		void closingFallsBackToDefaultRemarks() {
+			// given
+			FastApiClient fastApiClient = fastApiClient(SHORT_LATENCY, aiServer(Flux.never()));
+
+			// when
+			fastApiClient.streamClosing(SESSION_ID, AiConstants.REASON_ALL_DONE);
+
+			// then
+			await().atMost(FALLBACK_WAIT).until(() -> events.size() == 2);
+			assertThat(events).containsExactly(AiConstants.EVENT_CONTINUE, AiConstants.EVENT_INTERVIEW_COMPLETE);
+			verify(interviewService, times(1)).completeSession(SESSION_ID);
+			await().atMost(FALLBACK_WAIT).untilAsserted(() -> verify(sseEmitterService).complete(SESSION_ID));
+		}
+
+		@Test
+		@DisplayName("클로징 done 이후 늦게 발생한 예산 초과는 무시한다")
+		void closingIgnoresLateTimeoutAfterDone() {
+			// given
+			Flux<String> body = Flux.concat(
+				Flux.just(sseChunk(AiConstants.EVENT_CONTINUE, "{\"content\":\"감사해요!\"}"),
+					sseChunk(AiConstants.EVENT_DONE, "{}")),
+				Flux.never());
+			FastApiClient fastApiClient = fastApiClient(SHORT_LATENCY, aiServer(body));
+
+			// when
+			fastApiClient.streamClosing(SESSION_ID, AiConstants.REASON_ALL_DONE);
+
+			// then
+			await().during(Duration.ofMillis(600)).atMost(FALLBACK_WAIT).until(() -> events.size() == 2);
+			assertThat(events).containsExactly(AiConstants.EVENT_CONTINUE, AiConstants.EVENT_INTERVIEW_COMPLETE);
+			assertThat(texts).containsExactly("감사해요!");
+			verify(interviewService, times(1)).completeSession(SESSION_ID);
+		}
+	}
+
+	// === Helper Methods ===
+
+	private FastApiClient fastApiClient(AiProperties.Latency latency) {
+		return fastApiClient(latency, mock(WebClient.class));
+	}
+
+	private FastApiClient fastApiClient(AiProperties.Latency latency, WebClient aiWebClient) {
+		AnswerPrefilterService answerPrefilterService = mock(AnswerPrefilterService.class);
+		when(answerPrefilterService.evaluate(any(), any(), anyInt(), any(), any())).thenReturn(Optional.empty());
+		AiProperties aiProperties = new AiProperties(new AiProperties.Server("http://localhost"),
+			new AiProperties.Client(Duration.ofSeconds(1), Duration.ofSeconds(1)), new AiProperties.Interview(3),
+			new AiProperties.Sse(Duration.ofMinutes(5)), latency);
+		return new FastApiClient(aiWebClient, sseEmitterService, new ObjectMapper(), interviewService,
+			aiProperties, mock(SurveyRepository.class), mock(SurveySessionRepository.class),
+			mock(ApplicationEventPublisher.class), insightQuestionService, answerPrefilterService, aiContextClient);
+	}
+
+	private Sinks.Many<ServerSentEvent<String>> givenAiStream() {
+		Sinks.Many<ServerSentEvent<String>> aiStream = Sinks.many().unicast().onBackpressureBuffer();
+		when(aiContextClient.streamInteraction(any(), any())).thenReturn(aiStream.asFlux());
+		return aiStream;
+	}
+
+	private static void passToNext(Sinks.Many<ServerSentEvent<String>> aiStream) {
+		aiStream.tryEmitNext(aiEvent(AiConstants.EVENT_ANALYZE_ANSWER, "{\"action\":\"PASS_TO_NEXT\"}"));
+		aiStream.tryEmitNext(aiEvent(AiConstants.EVENT_DONE, "{}"));
+		aiStream.tryEmitComplete();
+	}
+
+	/**
+	 * 요청마다 주어진 SSE 본문을 응답하는 AI 서버
+	 */
+	private static WebClient aiServer(Flux<String> sseBody) {
+		return WebClient.builder()
+			.exchangeFunction(request -> Mono.just(ClientResponse.create(HttpStatus.OK)
+				.header(HttpHeaders.CONTENT_TYPE, MediaType.TEXT_EVENT_STREAM_VALUE)
+				.body(sseBody.map(chunk -> DefaultDataBufferFactory.sharedInstance
+					.wrap(chunk.getBytes(StandardCharsets.UTF_8))))
+				.build()))
+			.build();
+	}
+
+	private static String sseChunk(String event, String dataJson) {
+		return "data:{\"event\":\"" + event + "\",\"data\":" + dataJson + "}\n\n";
+	}
+
+	private static UserAnswerRequest answer() {
+		return UserAnswerRequest.builder()
+			.fixedQId(FIXED_Q_ID)
+			.turnNum(1)
+			.answerText("보스 전투가 너무 어려웠어요")
+			.questionText("전투는 어땠나요?")
+			.build();
+	}
+
+	private static ServerSentEvent<String> aiEvent(String event, String dataJson) {
+		return ServerSentEvent.builder("{\"event\":\"" + event + "\",\"data\":" + dataJson + "}").build();
+	}
+
+	private static String done(String status) {
+		return AiConstants.EVENT_DONE + ":" + status;
+	}
+}
@@ -0,0 +1,206 @@
+package com.playprobie.api.infra.sse.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.playprobie.api.global.config.properties.AiProperties;
+import com.playprobie.api.infra.sse.repository.SseEmitterRepository;
+
+/**
+ * SseEmitterService 단위 테스트
+ * SSE 연결 전 선행 스트림 버퍼의 전달 순서, 초과, 만료, 만료 후 재연결 검증
+ */
+class SseEmitterServiceTest {
+
+	private static final String CONNECTED = event("connect", "connected");
+	// PENDING_TIMEOUT(60초)을 넘긴 시각
+	private static final long AFTER_TIMEOUT = Duration.ofSeconds(61).toMillis();
+
+	private final UUID sessionUuid = UUID.randomUUID();
+	private final String sessionId = sessionUuid.toString();
+	private final List<String> delivered = new CopyOnWriteArrayList<>();
+	private final AtomicInteger expirations = new AtomicInteger();
+	private final AtomicInteger openings = new AtomicInteger();
+
+	private SseEmitterService sseEmitterService;
+	private Runnable onFirstDelivery;
+
+	@BeforeEach
+	void setUp() {
+		// 연결 시 생성되는 emitter 대신 전송 내용을 기록하는 emitter 저장
+		SseEmitterRepository emitterRepository = new SseEmitterRepository() {
+			@Override
+			public SseEmitter save(String id, SseEmitter emitter) {
+				return super.save(id, new RecordingEmitter());
+			}
+		};
+		AiProperties aiProperties = new AiProperties(new AiProperties.Server("http://localhost"),
+			new AiProperties.Client(Duration.ofSeconds(1), Duration.ofSeconds(1)), new AiProperties.Interview(3),
+			new AiProperties.Sse(Duration.ofMinutes(5)), null);
+		sseEmitterService = new SseEmitterService(emitterRepository, aiProperties);
+	}
+
+	@Nested
+	@DisplayName("연결 시 버퍼 전달")
+	class Attach {
+
+		@Test
+		@DisplayName("연결 전에 보낸 이벤트는 connect 이후 순서대로 전달되고, flush 중 도착한 send는 그 뒤에 전달된다")
+		void flushesInOrderBeforeConcurrentSend() throws InterruptedException {
+			// given
+			assertThat(sseEmitterService.openPendingBuffer(sessionId, expirations::incrementAndGet)).isTrue();
+			sseEmitterService.send(sessionId, "token", "1");
+			sseEmitterService.send(sessionId, "token", "2");
+
+			// flush가 첫 이벤트를 보내는 순간 다른 스레드(스트림)가 다음 이벤트를 보냄
+			Thread streamThread = new Thread(() -> sseEmitterService.send(sessionId, "token", "3"));
+			onFirstDelivery = () -> {
+				streamThread.start();
+				await().atMost(Duration.ofSeconds(5))
+					.until(() -> streamThread.getState() == Thread.State.BLOCKED);
+			};
+
+			// when
+			sseEmitterService.connect(sessionUuid, openings::incrementAndGet);
+			streamThread.join(5_000);
+
+			// then
+			assertThat(delivered).containsExactly(CONNECTED, event("token", "1"), event("token", "2"),
+				event("token", "3"));
+			assertThat(openings).hasValue(0);
+			assertThat(expirations).hasValue(0);
+		}
+
+		@Test
+		@DisplayName("연결 후에는 버퍼를 거치지 않고 바로 전송한다")
+		void sendsDirectlyAfterAttach() {
+			// given
+			sseEmitterService.openPendingBuffer(sessionId, expirations::incrementAndGet);
+			sseEmitterService.connect(sessionUuid, openings::incrementAndGet);
+
+			// when
+			boolean sent = sseEmitterService.send(sessionId, "token", "1");
+
+			// then
+			assertThat(sent).isTrue();
+			assertThat(delivered).containsExactly(CONNECTED, event("token", "1"));
+			assertThat(sseEmitterService.openPendingBuffer(sessionId, expirations::incrementAndGet)).isFalse();
+		}
+	}
+
+	@Nested
+	@DisplayName("버퍼 초과와 만료")
+	class Expiry {
+
+		@Test
+		@DisplayName("버퍼가 넘치면 연결 시 선행 스트림을 취소하고 인사말을 새로 시작한다")
+		void overflowCancelsPendingStreamOnConnect() {
+			// given: MAX_PENDING_EVENTS(1024)를 넘김
+			sseEmitterService.openPendingBuffer(sessionId, expirations::incrementAndGet);
+			for (int i = 0; i <= 1024; i++) {
+				sseEmitterService.send(sessionId, "token", String.valueOf(i));
+			}
+
+			// when
+			sseEmitterService.connect(sessionUuid, openings::incrementAndGet);
+
+			// then
+			assertThat(delivered).containsExactly(CONNECTED);
+			assertThat(expirations).hasValue(1);
+			assertThat(openings).hasValue(1);
+		}
+
+		@Test
+		@DisplayName("넘친 버퍼는 제한 시간 전이라도 정리 작업에서 한 번만 취소된다")
+		void overflowExpiresOnSweep() {
+			// given
+			sseEmitterService.openPendingBuffer(sessionId, expirations::incrementAndGet);
+			for (int i = 0; i <= 1024; i++) {
+				sseEmitterService.send(sessionId, "token", String.valueOf(i));
+			}
+
+			// when
+			sseEmitterService.expirePendingBuffers(System.currentTimeMillis());
+			sseEmitterService.expirePendingBuffers(System.currentTimeMillis());
+
+			// then
+			assertThat(expirations).hasValue(1);
+		}
+
+		@Test
+		@DisplayName("제한 시간 안에 연결되지 않으면 버퍼를 버리고 선행 스트림을 취소하며, 이후 이벤트는 보관하지 않는다")
+		void expiresAndDisposesUnattachedBuffer() {
+			// given
+			sseEmitterService.openPendingBuffer(sessionId, expirations::incrementAndGet);
+			sseEmitterService.send(sessionId, "token", "1");
+
+			// when
+			sseEmitterService.expirePendingBuffers(System.currentTimeMillis());
+			int beforeTimeout = expirations.get();
+			sseEmitterService.expirePendingBuffers(System.currentTimeMillis() + AFTER_TIMEOUT);
+			boolean sentAfterExpiry = sseEmitterService.send(sessionId, "token", "2");
+
+			// then
+			assertThat(beforeTimeout).isZero();
+			assertThat(expirations).hasValue(1);
+			assertThat(sentAfterExpiry).isFalse(); // 버퍼도 연결도 없음
+		}
+
+		@Test
+		@DisplayName("만료 후 다시 연결하면 버퍼 내용 없이 인사말 스트림을 새로 시작한다")
+		void reconnectAfterExpiryRestartsOpening() {
+			// given
+			sseEmitterService.openPendingBuffer(sessionId, expirations::incrementAndGet);
+			sseEmitterService.send(sessionId, "token", "stale");
+			sseEmitterService.expirePendingBuffers(System.currentTimeMillis() + AFTER_TIMEOUT);
+
+			// when
+			sseEmitterService.connect(sessionUuid, () -> {
+				openings.incrementAndGet();
+				sseEmitterService.send(sessionId, "token", "fresh");
+			});
+
+			// then
+			assertThat(expirations).hasValue(1);
+			assertThat(openings).hasValue(1);
+			assertThat(delivered).containsExactly(CONNECTED, event("token", "fresh"));
+		}
+	}
+
+	// === Helper Methods ===
+
+	private static String event(String name, String data) {
+		return "event:" + name + "\ndata:" + data + "\n\n";
+	}
+
+	/**
+	 * 전송된 이벤트를 SSE 텍스트 형식으로 기록하는 emitter
+	 */
+	private final class RecordingEmitter extends SseEmitter {
+
+		@Override
+		public void send(SseEventBuilder builder) {
+			delivered.add(builder.build().stream()
+				.map(part -> String.valueOf(part.getData()))
+				.collect(Collectors.joining()));
+			Runnable hook = onFirstDelivery;
+			if (hook != null && delivered.size() == 2) {
+				onFirstDelivery = null;
+				hook.run();
+			}
+		}
+	}
+}